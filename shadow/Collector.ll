@@ -0,0 +1,1136 @@
+; Garbage collector and allocator for all Shadow objects
+
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+
+; standard definitions
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+%shadow.standard..AddressMap_methods = type opaque
+%shadow.standard..AddressMap = type opaque
+%shadow.standard..System = type opaque
+
+; Objects and arrays are allocated from 64 KB chunks, each divided into blocks
+; of a single size class.  Every block starts with a header holding the class
+; of the object (or of the array elements), the number of array elements, and
+; flags.  Objects larger than the largest size class get a chunk of their own.
+; A hash table maps each 64 KB page to the chunk covering it, so that any
+; pointer into a block, including pointers to array elements, can be traced
+; back to the block.
+;
+; Each size class hands out the untouched blocks of its newest chunk by bumping
+; a pointer, and reuses blocks freed by collection through a free list.  When
+; the size of an object is known at compile time, the compiler calls
+; __shadow_allocateObject, which is inlined so that only the bump remains on
+; the common path.
+;
+; Collection marks objects reachable from registered roots (singleton
+; instances, class sets, and exceptions being thrown) and from every word on
+; the stack between the collector and the frame of main.  Marked objects are
+; traced precisely: fields holding references are listed in the layout of
+; each class, and arrays of references are scanned element by element.
+; Unmarked blocks are then returned to the free lists of their chunks.
+%Chunk = type { %Chunk*, i8*, i64, i32, i32, i32 }	; next, memory, bytes, block size, block count, size class
+%Header = type { i8*, i32, i32 }	; class or next free block, count, flags
+%Page = type { i64, %Chunk* }
+
+declare noalias i8* @calloc(i32, i32) nounwind
+declare i8* @realloc(i8*, i32) nounwind
+declare void @free(i8*) nounwind
+declare void @abort() noreturn nounwind
+declare void @llvm.memset.p0i8.i32(i8*, i8, i32, i32, i1) nounwind
+declare i32 @llvm.ctlz.i32(i32, i1) nounwind readnone
+declare void @llvm.eh.unwind.init() nounwind
+declare %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare i64 @shadow.standard..System_MnanoTime(%shadow.standard..System*)
+declare %int @shadow.standard..Class_Mwidth(%shadow.standard..Class*)
+
+; size classes are 32 to 256 bytes in steps of 16, then four per power of two up to 8 KB
+@_chunks = private global [35 x %Chunk*] zeroinitializer
+@_freeLists = private global [35 x i8*] zeroinitializer
+; unused blocks at the end of the newest chunk of each size class
+@_bumpNext = private global [35 x i8*] zeroinitializer
+@_bumpEnd = private global [35 x i8*] zeroinitializer
+@_emptyChunks = private global %Chunk* null
+@_largeChunks = private global %Chunk* null
+
+@_pages = private global %Page* null
+@_pageCapacity = private global i32 0
+@_pageUsed = private global i32 0
+
+@_markStack = private global i8** null
+@_markSize = private global i32 0
+@_markCapacity = private global i32 0
+
+@_roots = private global i8*** null
+@_rootCount = private global i32 0
+@_rootCapacity = private global i32 0
+@_stackBase = private global i8* null
+
+@_heapSize = private global i64 0
+@_liveSize = private global i64 0
+; objects and arrays kept and freed by the last collection
+@_survivors = private global i64 0
+@_freed = private global i64 0
+@_allocated = private global i64 0
+@_threshold = private global i64 4194304
+@_collections = private global i32 0
+@_pauseTime = private global i64 0
+@_maxPause = private global i64 0
+
+define void @__shadow_initializeCollector(i8* %stackBase) nounwind {
+	store i8* %stackBase, i8** @_stackBase
+	ret void
+}
+
+; adds a location holding a reference that is always reachable
+define void @__shadow_addRoot(i8** %root) nounwind {
+entry:
+	%count = load i32, i32* @_rootCount
+	%roots = load i8***, i8**** @_roots
+	%empty = icmp eq i32 %count, 0
+	br i1 %empty, label %_add, label %_search
+_search:
+	%index = phi i32 [ 0, %entry ], [ %next, %_continue ]
+	%slot = getelementptr inbounds i8**, i8*** %roots, i32 %index
+	%current = load i8**, i8*** %slot
+	%found = icmp eq i8** %current, %root
+	br i1 %found, label %_done, label %_continue
+_continue:
+	%next = add i32 %index, 1
+	%more = icmp ult i32 %next, %count
+	br i1 %more, label %_search, label %_add
+_add:
+	%capacity = load i32, i32* @_rootCapacity
+	%full = icmp eq i32 %count, %capacity
+	br i1 %full, label %_grow, label %_store
+_grow:
+	%none = icmp eq i32 %capacity, 0
+	%doubled = shl i32 %capacity, 1
+	%newCapacity = select i1 %none, i32 64, i32 %doubled
+	%width = ptrtoint i8*** getelementptr (i8**, i8*** null, i32 1) to i32
+	%bytes = mul i32 %newCapacity, %width
+	%oldMemory = bitcast i8*** %roots to i8*
+	%memory = call i8* @realloc(i8* %oldMemory, i32 %bytes) nounwind
+	%failed = icmp eq i8* %memory, null
+	br i1 %failed, label %_abort, label %_grown
+_abort:
+	call void @abort() noreturn nounwind
+	unreachable
+_grown:
+	%grownRoots = bitcast i8* %memory to i8***
+	store i8*** %grownRoots, i8**** @_roots
+	store i32 %newCapacity, i32* @_rootCapacity
+	br label %_store
+_store:
+	%allRoots = load i8***, i8**** @_roots
+	%last = getelementptr inbounds i8**, i8*** %allRoots, i32 %count
+	store i8** %root, i8*** %last
+	%newCount = add i32 %count, 1
+	store i32 %newCount, i32* @_rootCount
+	br label %_done
+_done:
+	ret void
+}
+
+define void @__shadow_removeRoot(i8** %root) nounwind {
+entry:
+	%count = load i32, i32* @_rootCount
+	%roots = load i8***, i8**** @_roots
+	br label %_test
+_test:
+	%index = phi i32 [ %count, %entry ], [ %previous, %_search ]
+	%more = icmp ugt i32 %index, 0
+	br i1 %more, label %_search, label %_done
+_search:
+	%previous = sub i32 %index, 1
+	%slot = getelementptr inbounds i8**, i8*** %roots, i32 %previous
+	%current = load i8**, i8*** %slot
+	%found = icmp eq i8** %current, %root
+	br i1 %found, label %_remove, label %_test
+_remove:
+	; roots are unordered, so the last one fills the gap
+	%newCount = sub i32 %count, 1
+	%lastSlot = getelementptr inbounds i8**, i8*** %roots, i32 %newCount
+	%last = load i8**, i8*** %lastSlot
+	store i8** %last, i8*** %slot
+	store i32 %newCount, i32* @_rootCount
+	br label %_done
+_done:
+	ret void
+}
+
+define private i32 @sizeClass(i32 %size) alwaysinline nounwind readnone {
+entry:
+	%small = icmp ule i32 %size, 256
+	br i1 %small, label %_small, label %_large
+_small:
+	%units = lshr i32 %size, 4
+	%smallClass = sub i32 %units, 2
+	ret i32 %smallClass
+_large:
+	%last = sub i32 %size, 1
+	%zeros = call i32 @llvm.ctlz.i32(i32 %last, i1 true)
+	%bit = sub i32 31, %zeros
+	%shift = sub i32 %bit, 2
+	%quarters = lshr i32 %last, %shift
+	%quarter = sub i32 %quarters, 4
+	%octave = sub i32 %bit, 8
+	%octaves = shl i32 %octave, 2
+	%base = add i32 %octaves, 15
+	%largeClass = add i32 %base, %quarter
+	ret i32 %largeClass
+}
+
+define private i32 @classSize(i32 %class) alwaysinline nounwind readnone {
+entry:
+	%small = icmp ult i32 %class, 15
+	br i1 %small, label %_small, label %_large
+_small:
+	%units = add i32 %class, 2
+	%smallSize = shl i32 %units, 4
+	ret i32 %smallSize
+_large:
+	%index = sub i32 %class, 15
+	%octave = lshr i32 %index, 2
+	%quarter = and i32 %index, 3
+	%steps = add i32 %quarter, 5
+	%shift = add i32 %octave, 6
+	%largeSize = shl i32 %steps, %shift
+	ret i32 %largeSize
+}
+
+; Fibonacci hashing of page numbers
+define private i32 @pageSlot(i64 %page) nounwind readnone {
+	%product = mul i64 %page, -7046029254386353131
+	%high = lshr i64 %product, 32
+	%slot = trunc i64 %high to i32
+	ret i32 %slot
+}
+
+; empty slots hold page 0 and removed slots hold page -1, neither of which is ever used
+define private void @placePage(i64 %page, %Chunk* %chunk) nounwind {
+entry:
+	%pages = load %Page*, %Page** @_pages
+	%capacity = load i32, i32* @_pageCapacity
+	%mask = sub i32 %capacity, 1
+	%hash = call i32 @pageSlot(i64 %page)
+	%first = and i32 %hash, %mask
+	br label %_probe
+_probe:
+	%index = phi i32 [ %first, %entry ], [ %next, %_taken ]
+	%pageRef = getelementptr inbounds %Page, %Page* %pages, i32 %index, i32 0
+	%current = load i64, i64* %pageRef
+	%empty = icmp eq i64 %current, 0
+	br i1 %empty, label %_empty, label %_checkRemoved
+_checkRemoved:
+	%removed = icmp eq i64 %current, -1
+	br i1 %removed, label %_place, label %_taken
+_taken:
+	%following = add i32 %index, 1
+	%next = and i32 %following, %mask
+	br label %_probe
+_empty:
+	%used = load i32, i32* @_pageUsed
+	%moreUsed = add i32 %used, 1
+	store i32 %moreUsed, i32* @_pageUsed
+	br label %_place
+_place:
+	store i64 %page, i64* %pageRef
+	%chunkRef = getelementptr inbounds %Page, %Page* %pages, i32 %index, i32 1
+	store %Chunk* %chunk, %Chunk** %chunkRef
+	ret void
+}
+
+define private void @growPages() nounwind {
+entry:
+	%old = load %Page*, %Page** @_pages
+	%oldCapacity = load i32, i32* @_pageCapacity
+	%first = icmp eq i32 %oldCapacity, 0
+	%doubled = shl i32 %oldCapacity, 1
+	%capacity = select i1 %first, i32 256, i32 %doubled
+	%width = ptrtoint %Page* getelementptr (%Page, %Page* null, i32 1) to i32
+	%memory = call noalias i8* @calloc(i32 %capacity, i32 %width) nounwind
+	%failed = icmp eq i8* %memory, null
+	br i1 %failed, label %_abort, label %_replace
+_abort:
+	call void @abort() noreturn nounwind
+	unreachable
+_replace:
+	%pages = bitcast i8* %memory to %Page*
+	store %Page* %pages, %Page** @_pages
+	store i32 %capacity, i32* @_pageCapacity
+	store i32 0, i32* @_pageUsed
+	br i1 %first, label %_done, label %_move
+_move:
+	%index = phi i32 [ 0, %_replace ], [ %next, %_continue ]
+	%pageRef = getelementptr inbounds %Page, %Page* %old, i32 %index, i32 0
+	%page = load i64, i64* %pageRef
+	%empty = icmp eq i64 %page, 0
+	%removed = icmp eq i64 %page, -1
+	%skip = or i1 %empty, %removed
+	br i1 %skip, label %_continue, label %_place
+_place:
+	%chunkRef = getelementptr inbounds %Page, %Page* %old, i32 %index, i32 1
+	%chunk = load %Chunk*, %Chunk** %chunkRef
+	call void @placePage(i64 %page, %Chunk* %chunk)
+	br label %_continue
+_continue:
+	%next = add i32 %index, 1
+	%more = icmp ult i32 %next, %oldCapacity
+	br i1 %more, label %_move, label %_free
+_free:
+	%oldMemory = bitcast %Page* %old to i8*
+	call void @free(i8* %oldMemory) nounwind
+	br label %_done
+_done:
+	ret void
+}
+
+define private void @addPage(i64 %page, %Chunk* %chunk) nounwind {
+entry:
+	%used = load i32, i32* @_pageUsed
+	%capacity = load i32, i32* @_pageCapacity
+	%moreUsed = add i32 %used, 1
+	%twice = shl i32 %moreUsed, 1
+	%full = icmp ugt i32 %twice, %capacity
+	br i1 %full, label %_grow, label %_place
+_grow:
+	call void @growPages()
+	br label %_place
+_place:
+	call void @placePage(i64 %page, %Chunk* %chunk)
+	ret void
+}
+
+define private void @removePage(i64 %page) nounwind {
+entry:
+	%pages = load %Page*, %Page** @_pages
+	%capacity = load i32, i32* @_pageCapacity
+	%mask = sub i32 %capacity, 1
+	%hash = call i32 @pageSlot(i64 %page)
+	%first = and i32 %hash, %mask
+	br label %_probe
+_probe:
+	%index = phi i32 [ %first, %entry ], [ %next, %_continue ]
+	%pageRef = getelementptr inbounds %Page, %Page* %pages, i32 %index, i32 0
+	%current = load i64, i64* %pageRef
+	%found = icmp eq i64 %current, %page
+	br i1 %found, label %_found, label %_checkEmpty
+_checkEmpty:
+	%empty = icmp eq i64 %current, 0
+	br i1 %empty, label %_done, label %_continue
+_continue:
+	%following = add i32 %index, 1
+	%next = and i32 %following, %mask
+	br label %_probe
+_found:
+	store i64 -1, i64* %pageRef
+	br label %_done
+_done:
+	ret void
+}
+
+; finds the chunk covering an address, or null if the address is not in the heap
+define private %Chunk* @findChunk(i8* %address) nounwind readonly {
+entry:
+	%value = ptrtoint i8* %address to i64
+	%page = lshr i64 %value, 16
+	%capacity = load i32, i32* @_pageCapacity
+	%none = icmp eq i32 %capacity, 0
+	%low = icmp eq i64 %page, 0
+	%skip = or i1 %none, %low
+	br i1 %skip, label %_missing, label %_start
+_start:
+	%pages = load %Page*, %Page** @_pages
+	%mask = sub i32 %capacity, 1
+	%hash = call i32 @pageSlot(i64 %page)
+	%first = and i32 %hash, %mask
+	br label %_probe
+_probe:
+	%index = phi i32 [ %first, %_start ], [ %next, %_continue ]
+	%pageRef = getelementptr inbounds %Page, %Page* %pages, i32 %index, i32 0
+	%current = load i64, i64* %pageRef
+	%found = icmp eq i64 %current, %page
+	br i1 %found, label %_found, label %_checkEmpty
+_checkEmpty:
+	%empty = icmp eq i64 %current, 0
+	br i1 %empty, label %_missing, label %_continue
+_continue:
+	%following = add i32 %index, 1
+	%next = and i32 %following, %mask
+	br label %_probe
+_found:
+	%chunkRef = getelementptr inbounds %Page, %Page* %pages, i32 %index, i32 1
+	%chunk = load %Chunk*, %Chunk** %chunkRef
+	ret %Chunk* %chunk
+_missing:
+	ret %Chunk* null
+}
+
+; obtains 16 aligned chunks from the system, returning false if there is no memory
+define private i1 @addChunks() nounwind {
+entry:
+	%memory = call noalias i8* @calloc(i32 17, i32 65536) nounwind
+	%failed = icmp eq i8* %memory, null
+	br i1 %failed, label %_failed, label %_align
+_failed:
+	ret i1 false
+_align:
+	%heap = load i64, i64* @_heapSize
+	%moreHeap = add i64 %heap, 1114112
+	store i64 %moreHeap, i64* @_heapSize
+	%address = ptrtoint i8* %memory to i64
+	%rounded = add i64 %address, 65535
+	%start = and i64 %rounded, -65536
+	br label %_chunk
+_chunk:
+	%index = phi i64 [ 0, %_align ], [ %next, %_chunk ]
+	%offset = shl i64 %index, 16
+	%chunkAddress = add i64 %start, %offset
+	%chunk = inttoptr i64 %chunkAddress to %Chunk*
+	%classRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 5
+	store i32 -2, i32* %classRef
+	%nextRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 0
+	%empty = load %Chunk*, %Chunk** @_emptyChunks
+	store %Chunk* %empty, %Chunk** %nextRef
+	store %Chunk* %chunk, %Chunk** @_emptyChunks
+	%page = lshr i64 %chunkAddress, 16
+	call void @addPage(i64 %page, %Chunk* %chunk)
+	%next = add i64 %index, 1
+	%more = icmp ult i64 %next, 16
+	br i1 %more, label %_chunk, label %_done
+_done:
+	ret i1 true
+}
+
+; makes an empty chunk the newest chunk of a size class, whose blocks are then
+; handed out by bumping a pointer, returning false if there is no memory
+define private i1 @refill(i32 %class) nounwind {
+entry:
+	%empty = load %Chunk*, %Chunk** @_emptyChunks
+	%none = icmp eq %Chunk* %empty, null
+	br i1 %none, label %_grow, label %_take
+_grow:
+	%grown = call i1 @addChunks()
+	br i1 %grown, label %_take, label %_failed
+_failed:
+	ret i1 false
+_take:
+	%chunk = load %Chunk*, %Chunk** @_emptyChunks
+	%nextRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 0
+	%rest = load %Chunk*, %Chunk** %nextRef
+	store %Chunk* %rest, %Chunk** @_emptyChunks
+	%size = call i32 @classSize(i32 %class)
+	%count = udiv i32 65472, %size
+	%sizeRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 3
+	store i32 %size, i32* %sizeRef
+	%countRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 4
+	store i32 %count, i32* %countRef
+	%classRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 5
+	store i32 %class, i32* %classRef
+	%listRef = getelementptr inbounds [35 x %Chunk*], [35 x %Chunk*]* @_chunks, i32 0, i32 %class
+	%list = load %Chunk*, %Chunk** %listRef
+	store %Chunk* %list, %Chunk** %nextRef
+	store %Chunk* %chunk, %Chunk** %listRef
+	; released chunks still hold old objects, and blocks must start out zeroed and unallocated
+	%chunkBytes = bitcast %Chunk* %chunk to i8*
+	%start = getelementptr inbounds i8, i8* %chunkBytes, i32 64
+	call void @llvm.memset.p0i8.i32(i8* %start, i8 0, i32 65472, i32 16, i1 false)
+	%bytes = mul i32 %count, %size
+	%end = getelementptr inbounds i8, i8* %start, i32 %bytes
+	%bumpNextRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpNext, i32 0, i32 %class
+	store i8* %start, i8** %bumpNextRef
+	%bumpEndRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpEnd, i32 0, i32 %class
+	store i8* %end, i8** %bumpEndRef
+	; blocks taken by bumping are not counted one at a time
+	%allocated = load i64, i64* @_allocated
+	%extra = zext i32 %bytes to i64
+	%newAllocated = add i64 %allocated, %extra
+	store i64 %newAllocated, i64* @_allocated
+	ret i1 true
+}
+
+; gives an object too large for the size classes a chunk of its own, returning its block or null
+define private i8* @allocateLarge(i32 %size) nounwind {
+entry:
+	%bytes = add i32 %size, 65600
+	%memory = call noalias i8* @calloc(i32 1, i32 %bytes) nounwind
+	%failed = icmp eq i8* %memory, null
+	br i1 %failed, label %_failed, label %_align
+_failed:
+	ret i8* null
+_align:
+	%address = ptrtoint i8* %memory to i64
+	%rounded = add i64 %address, 65535
+	%chunkAddress = and i64 %rounded, -65536
+	%chunk = inttoptr i64 %chunkAddress to %Chunk*
+	%nextRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 0
+	%large = load %Chunk*, %Chunk** @_largeChunks
+	store %Chunk* %large, %Chunk** %nextRef
+	store %Chunk* %chunk, %Chunk** @_largeChunks
+	%memoryRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 1
+	store i8* %memory, i8** %memoryRef
+	%allocation = zext i32 %bytes to i64
+	%bytesRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 2
+	store i64 %allocation, i64* %bytesRef
+	%sizeRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 3
+	store i32 %size, i32* %sizeRef
+	%countRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 4
+	store i32 1, i32* %countRef
+	%classRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 5
+	store i32 -1, i32* %classRef
+	%heap = load i64, i64* @_heapSize
+	%moreHeap = add i64 %heap, %allocation
+	store i64 %moreHeap, i64* @_heapSize
+	%firstPage = lshr i64 %chunkAddress, 16
+	%lastPage = call i64 @lastPage(%Chunk* %chunk)
+	br label %_page
+_page:
+	%page = phi i64 [ %firstPage, %_align ], [ %nextPage, %_page ]
+	call void @addPage(i64 %page, %Chunk* %chunk)
+	%nextPage = add i64 %page, 1
+	%more = icmp ule i64 %nextPage, %lastPage
+	br i1 %more, label %_page, label %_done
+_done:
+	%chunkBytes = bitcast %Chunk* %chunk to i8*
+	%block = getelementptr inbounds i8, i8* %chunkBytes, i32 64
+	ret i8* %block
+}
+
+define private i64 @lastPage(%Chunk* %chunk) nounwind readonly {
+	%address = ptrtoint %Chunk* %chunk to i64
+	%sizeRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 3
+	%size = load i32, i32* %sizeRef
+	%extent = zext i32 %size to i64
+	%end = add i64 %address, %extent
+	%last = add i64 %end, 63
+	%page = lshr i64 %last, 16
+	ret i64 %page
+}
+
+define private void @releaseLarge(%Chunk* %chunk) nounwind {
+entry:
+	%address = ptrtoint %Chunk* %chunk to i64
+	%firstPage = lshr i64 %address, 16
+	%lastPage = call i64 @lastPage(%Chunk* %chunk)
+	br label %_page
+_page:
+	%page = phi i64 [ %firstPage, %entry ], [ %nextPage, %_page ]
+	call void @removePage(i64 %page)
+	%nextPage = add i64 %page, 1
+	%more = icmp ule i64 %nextPage, %lastPage
+	br i1 %more, label %_page, label %_free
+_free:
+	%bytesRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 2
+	%bytes = load i64, i64* %bytesRef
+	%heap = load i64, i64* @_heapSize
+	%lessHeap = sub i64 %heap, %bytes
+	store i64 %lessHeap, i64* @_heapSize
+	%memoryRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 1
+	%memory = load i8*, i8** %memoryRef
+	call void @free(i8* %memory) nounwind
+	ret void
+}
+
+; Allocates a zeroed object or array of the given number of bytes, giving null
+; if there is no memory.  For arrays, the class is that of the elements.
+define noalias i8* @__shadow_allocate(%shadow.standard..Class* %class, i32 %count, i64 %bytes, i1 %isArray) {
+entry:
+	%tooLarge = icmp ugt i64 %bytes, 2147352576
+	br i1 %tooLarge, label %_failed, label %_size
+_size:
+	; header, one extra byte so that pointers just past the end stay inside, and rounding
+	%smallBytes = trunc i64 %bytes to i32
+	%padded = add i32 %smallBytes, 32
+	%rounded = and i32 %padded, -16
+	%allocated = load i64, i64* @_allocated
+	%threshold = load i64, i64* @_threshold
+	%due = icmp uge i64 %allocated, %threshold
+	br i1 %due, label %_collect, label %_allocate
+_collect:
+	call void @__shadow_collect()
+	br label %_allocate
+_allocate:
+	%small = icmp ule i32 %rounded, 8192
+	br i1 %small, label %_small, label %_large
+_small:
+	%sizeClass = call i32 @sizeClass(i32 %rounded)
+	%classSize = call i32 @classSize(i32 %sizeClass)
+	%freeRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_freeLists, i32 0, i32 %sizeClass
+	%free = load i8*, i8** %freeRef
+	%empty = icmp eq i8* %free, null
+	br i1 %empty, label %_bump, label %_take
+_bump:
+	%bumpNextRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpNext, i32 0, i32 %sizeClass
+	%bumpNext = load i8*, i8** %bumpNextRef
+	%bumpAfter = getelementptr i8, i8* %bumpNext, i32 %classSize
+	%bumpEndRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpEnd, i32 0, i32 %sizeClass
+	%bumpEnd = load i8*, i8** %bumpEndRef
+	%fits = icmp ule i8* %bumpAfter, %bumpEnd
+	br i1 %fits, label %_bumped, label %_refill
+_bumped:
+	store i8* %bumpAfter, i8** %bumpNextRef
+	br label %_initialize
+_refill:
+	%refilled = call i1 @refill(i32 %sizeClass)
+	br i1 %refilled, label %_bump, label %_retry
+_retry:
+	call void @__shadow_collect()
+	%freed = load i8*, i8** %freeRef
+	%stillEmpty = icmp eq i8* %freed, null
+	br i1 %stillEmpty, label %_lastRefill, label %_take
+_lastRefill:
+	%lastRefilled = call i1 @refill(i32 %sizeClass)
+	br i1 %lastRefilled, label %_bump, label %_failed
+_take:
+	%block = phi i8* [ %free, %_small ], [ %freed, %_retry ]
+	%blockHeader = bitcast i8* %block to %Header*
+	%linkRef = getelementptr inbounds %Header, %Header* %blockHeader, i32 0, i32 0
+	%next = load i8*, i8** %linkRef
+	store i8* %next, i8** %freeRef
+	call void @llvm.memset.p0i8.i32(i8* %block, i8 0, i32 %classSize, i32 16, i1 false)
+	br label %_initialize
+_large:
+	%largeBlock = call i8* @allocateLarge(i32 %rounded)
+	%largeFailed = icmp eq i8* %largeBlock, null
+	br i1 %largeFailed, label %_largeRetry, label %_initialize
+_largeRetry:
+	call void @__shadow_collect()
+	%lastLarge = call i8* @allocateLarge(i32 %rounded)
+	%lastLargeFailed = icmp eq i8* %lastLarge, null
+	br i1 %lastLargeFailed, label %_failed, label %_initialize
+_initialize:
+	%result = phi i8* [ %bumpNext, %_bumped ], [ %block, %_take ], [ %largeBlock, %_large ], [ %lastLarge, %_largeRetry ]
+	; blocks taken by bumping were counted by refill()
+	%size = phi i32 [ 0, %_bumped ], [ %classSize, %_take ], [ %rounded, %_large ], [ %rounded, %_largeRetry ]
+	%header = bitcast i8* %result to %Header*
+	%classRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 0
+	%classBytes = bitcast %shadow.standard..Class* %class to i8*
+	store i8* %classBytes, i8** %classRef
+	%countRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 1
+	store i32 %count, i32* %countRef
+	%flags = select i1 %isArray, i32 5, i32 1
+	%flagsRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 2
+	store i32 %flags, i32* %flagsRef
+	%total = load i64, i64* @_allocated
+	%extra = zext i32 %size to i64
+	%newTotal = add i64 %total, %extra
+	store i64 %newTotal, i64* @_allocated
+	%object = getelementptr inbounds i8, i8* %result, i32 16
+	ret i8* %object
+_failed:
+	ret i8* null
+}
+
+; Allocates an object whose size is known at compile time, storing its class and
+; method table.  Once inlined, the size class is a constant, and only a bump of
+; the pointer into the newest chunk of that size class is left, with everything
+; else handled by Class.allocate().
+define noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* %class, %shadow.standard..Object_methods* %methods, i32 %size) alwaysinline {
+entry:
+	%padded = add i32 %size, 32
+	%rounded = and i32 %padded, -16
+	%small = icmp ule i32 %rounded, 8192
+	br i1 %small, label %_small, label %_slow
+_small:
+	%sizeClass = call i32 @sizeClass(i32 %rounded)
+	%classSize = call i32 @classSize(i32 %sizeClass)
+	%bumpNextRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpNext, i32 0, i32 %sizeClass
+	%bumpNext = load i8*, i8** %bumpNextRef
+	%bumpAfter = getelementptr i8, i8* %bumpNext, i32 %classSize
+	%bumpEndRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpEnd, i32 0, i32 %sizeClass
+	%bumpEnd = load i8*, i8** %bumpEndRef
+	%fits = icmp ule i8* %bumpAfter, %bumpEnd
+	br i1 %fits, label %_bump, label %_slow
+_bump:
+	store i8* %bumpAfter, i8** %bumpNextRef
+	%header = bitcast i8* %bumpNext to %Header*
+	%headerClassRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 0
+	%classBytes = bitcast %shadow.standard..Class* %class to i8*
+	store i8* %classBytes, i8** %headerClassRef
+	%flagsRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 2
+	store i32 1, i32* %flagsRef
+	%objectBytes = getelementptr inbounds i8, i8* %bumpNext, i32 16
+	%object = bitcast i8* %objectBytes to %shadow.standard..Object*
+	%classRef = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %object, i32 0, i32 0
+	store %shadow.standard..Class* %class, %shadow.standard..Class** %classRef
+	%methodsRef = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %object, i32 0, i32 1
+	store %shadow.standard..Object_methods* %methods, %shadow.standard..Object_methods** %methodsRef
+	ret %shadow.standard..Object* %object
+_slow:
+	%allocated = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* %class, %shadow.standard..Object_methods* %methods)
+	ret %shadow.standard..Object* %allocated
+}
+
+define private void @push(i8* %block) nounwind {
+entry:
+	%size = load i32, i32* @_markSize
+	%capacity = load i32, i32* @_markCapacity
+	%full = icmp eq i32 %size, %capacity
+	br i1 %full, label %_grow, label %_store
+_grow:
+	%empty = icmp eq i32 %capacity, 0
+	%doubled = shl i32 %capacity, 1
+	%newCapacity = select i1 %empty, i32 256, i32 %doubled
+	%width = ptrtoint i8** getelementptr (i8*, i8** null, i32 1) to i32
+	%bytes = mul i32 %newCapacity, %width
+	%old = load i8**, i8*** @_markStack
+	%oldMemory = bitcast i8** %old to i8*
+	%memory = call i8* @realloc(i8* %oldMemory, i32 %bytes) nounwind
+	%failed = icmp eq i8* %memory, null
+	br i1 %failed, label %_abort, label %_grown
+_abort:
+	call void @abort() noreturn nounwind
+	unreachable
+_grown:
+	%stack = bitcast i8* %memory to i8**
+	store i8** %stack, i8*** @_markStack
+	store i32 %newCapacity, i32* @_markCapacity
+	br label %_store
+_store:
+	%markStack = load i8**, i8*** @_markStack
+	%slot = getelementptr inbounds i8*, i8** %markStack, i32 %size
+	store i8* %block, i8** %slot
+	%newSize = add i32 %size, 1
+	store i32 %newSize, i32* @_markSize
+	ret void
+}
+
+; marks the block containing an address, if it holds an unmarked object
+define private void @mark(i8* %address) nounwind {
+entry:
+	%chunk = call %Chunk* @findChunk(i8* %address)
+	%none = icmp eq %Chunk* %chunk, null
+	br i1 %none, label %_done, label %_chunk
+_chunk:
+	%classRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 5
+	%class = load i32, i32* %classRef
+	%unused = icmp eq i32 %class, -2
+	br i1 %unused, label %_done, label %_start
+_start:
+	%chunkBytes = bitcast %Chunk* %chunk to i8*
+	%start = getelementptr inbounds i8, i8* %chunkBytes, i32 64
+	%addressValue = ptrtoint i8* %address to i64
+	%startValue = ptrtoint i8* %start to i64
+	%before = icmp ult i64 %addressValue, %startValue
+	br i1 %before, label %_done, label %_index
+_index:
+	; offsets within a chunk always fit in 32 bits
+	%longOffset = sub i64 %addressValue, %startValue
+	%offset = trunc i64 %longOffset to i32
+	%sizeRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 3
+	%size = load i32, i32* %sizeRef
+	%index = udiv i32 %offset, %size
+	%countRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 4
+	%count = load i32, i32* %countRef
+	%inside = icmp ult i32 %index, %count
+	br i1 %inside, label %_header, label %_done
+_header:
+	%blockOffset = mul i32 %index, %size
+	%block = getelementptr inbounds i8, i8* %start, i32 %blockOffset
+	%header = bitcast i8* %block to %Header*
+	%flagsRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 2
+	%flags = load i32, i32* %flagsRef
+	%state = and i32 %flags, 3
+	%unmarked = icmp eq i32 %state, 1
+	br i1 %unmarked, label %_mark, label %_done
+_mark:
+	%marked = or i32 %flags, 2
+	store i32 %marked, i32* %flagsRef
+	call void @push(i8* %block)
+	br label %_done
+_done:
+	ret void
+}
+
+; marks every aligned word in a range of memory that could be a reference
+define private void @markRange(i8* %start, i8* %end) nounwind {
+entry:
+	%width = ptrtoint i8** getelementptr (i8*, i8** null, i32 1) to i64
+	%mask = sub i64 %width, 1
+	%startValue = ptrtoint i8* %start to i64
+	%rounded = add i64 %startValue, %mask
+	%alignment = xor i64 %mask, -1
+	%aligned = and i64 %rounded, %alignment
+	%endValue = ptrtoint i8* %end to i64
+	%limit = sub i64 %endValue, %width
+	br label %_test
+_test:
+	%address = phi i64 [ %aligned, %entry ], [ %next, %_word ]
+	%more = icmp ule i64 %address, %limit
+	br i1 %more, label %_word, label %_done
+_word:
+	%wordRef = inttoptr i64 %address to i8**
+	%word = load i8*, i8** %wordRef
+	call void @mark(i8* %word)
+	%next = add i64 %address, %width
+	br label %_test
+_done:
+	ret void
+}
+
+; marks the objects referenced by a marked block
+define private void @trace(i8* %block) {
+entry:
+	%header = bitcast i8* %block to %Header*
+	%classRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 0
+	%classBytes = load i8*, i8** %classRef
+	%class = bitcast i8* %classBytes to %shadow.standard..Class*
+	%flagsRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 2
+	%flags = load i32, i32* %flagsRef
+	%object = getelementptr inbounds i8, i8* %block, i32 16
+	%array = and i32 %flags, 4
+	%isArray = icmp ne i32 %array, 0
+	br i1 %isArray, label %_array, label %_object
+_object:
+	%layoutRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %class, i32 0, i32 7
+	%layout = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %layoutRef
+	%offsets = extractvalue { %int*, [1 x %int] } %layout, 0
+	%fields = extractvalue { %int*, [1 x %int] } %layout, 1, 0
+	%hasFields = icmp sgt i32 %fields, 0
+	br i1 %hasFields, label %_field, label %_done
+_field:
+	%field = phi i32 [ 0, %_object ], [ %nextField, %_field ]
+	%offsetRef = getelementptr inbounds %int, %int* %offsets, i32 %field
+	%offset = load %int, %int* %offsetRef
+	%fieldBytes = getelementptr inbounds i8, i8* %object, i32 %offset
+	%fieldRef = bitcast i8* %fieldBytes to i8**
+	%reference = load i8*, i8** %fieldRef
+	call void @mark(i8* %reference)
+	%nextField = add i32 %field, 1
+	%moreFields = icmp slt i32 %nextField, %fields
+	br i1 %moreFields, label %_field, label %_done
+_array:
+	; primitive elements hold no references
+	%countRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 1
+	%count = load i32, i32* %countRef
+	%classFlagsRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %class, i32 0, i32 8
+	%classFlags = load i32, i32* %classFlagsRef
+	%primitive = and i32 %classFlags, 2
+	%isPrimitive = icmp ne i32 %primitive, 0
+	%empty = icmp sle i32 %count, 0
+	%skip = or i1 %isPrimitive, %empty
+	br i1 %skip, label %_done, label %_elements
+_elements:
+	; interface elements hold a method table before the object
+	%width = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* %class)
+	%interface = and i32 %classFlags, 1
+	%isInterface = icmp ne i32 %interface, 0
+	%pointerWidth = ptrtoint i8** getelementptr (i8*, i8** null, i32 1) to i32
+	%start = select i1 %isInterface, i32 %pointerWidth, i32 0
+	%first = getelementptr inbounds i8, i8* %object, i32 %start
+	br label %_element
+_element:
+	%element = phi i32 [ 0, %_elements ], [ %nextElement, %_element ]
+	%elementOffset = mul i32 %element, %width
+	%elementBytes = getelementptr inbounds i8, i8* %first, i32 %elementOffset
+	%elementRef = bitcast i8* %elementBytes to i8**
+	%value = load i8*, i8** %elementRef
+	call void @mark(i8* %value)
+	%nextElement = add i32 %element, 1
+	%moreElements = icmp slt i32 %nextElement, %count
+	br i1 %moreElements, label %_element, label %_done
+_done:
+	ret void
+}
+
+; Frees the unmarked blocks of a chunk and clears the marks of the others.
+; Free blocks are only added to the free list if some block is still in use,
+; since otherwise the whole chunk is released.  Gives the number of live blocks.
+; Blocks whose flags are already zero were never allocated or were freed before.
+define private i32 @sweepChunk(%Chunk* %chunk, i8** %freeList) nounwind {
+entry:
+	%sizeRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 3
+	%size = load i32, i32* %sizeRef
+	%countRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 4
+	%count = load i32, i32* %countRef
+	%chunkBytes = bitcast %Chunk* %chunk to i8*
+	%start = getelementptr inbounds i8, i8* %chunkBytes, i32 64
+	br label %_block
+_block:
+	%index = phi i32 [ 0, %entry ], [ %nextIndex, %_next ]
+	%live = phi i32 [ 0, %entry ], [ %newLive, %_next ]
+	%dead = phi i32 [ 0, %entry ], [ %newDead, %_next ]
+	%offset = mul i32 %index, %size
+	%block = getelementptr inbounds i8, i8* %start, i32 %offset
+	%header = bitcast i8* %block to %Header*
+	%flagsRef = getelementptr inbounds %Header, %Header* %header, i32 0, i32 2
+	%flags = load i32, i32* %flagsRef
+	%marked = and i32 %flags, 2
+	%isMarked = icmp ne i32 %marked, 0
+	br i1 %isMarked, label %_live, label %_dead
+_live:
+	%unmarked = and i32 %flags, -3
+	store i32 %unmarked, i32* %flagsRef
+	%moreLive = add i32 %live, 1
+	br label %_next
+_dead:
+	store i32 0, i32* %flagsRef
+	%wasAllocated = icmp ne i32 %flags, 0
+	%deadBlock = zext i1 %wasAllocated to i32
+	%moreDead = add i32 %dead, %deadBlock
+	br label %_next
+_next:
+	%newLive = phi i32 [ %moreLive, %_live ], [ %live, %_dead ]
+	%newDead = phi i32 [ %dead, %_live ], [ %moreDead, %_dead ]
+	%nextIndex = add i32 %index, 1
+	%moreBlocks = icmp ult i32 %nextIndex, %count
+	br i1 %moreBlocks, label %_block, label %_counted
+_counted:
+	%survivors = zext i32 %newLive to i64
+	%freed = zext i32 %newDead to i64
+	call void @count(i64 %survivors, i64 %freed)
+	%anyLive = icmp ne i32 %newLive, 0
+	br i1 %anyLive, label %_link, label %_done
+_link:
+	%liveBlocks = zext i32 %newLive to i64
+	%blockSize = zext i32 %size to i64
+	%liveBytes = mul i64 %liveBlocks, %blockSize
+	%liveSize = load i64, i64* @_liveSize
+	%newLiveSize = add i64 %liveSize, %liveBytes
+	store i64 %newLiveSize, i64* @_liveSize
+	%head = load i8*, i8** %freeList
+	br label %_free
+_free:
+	%freeIndex = phi i32 [ %count, %_link ], [ %previous, %_freeNext ]
+	%list = phi i8* [ %head, %_link ], [ %newList, %_freeNext ]
+	%previous = sub i32 %freeIndex, 1
+	%freeOffset = mul i32 %previous, %size
+	%freeBlock = getelementptr inbounds i8, i8* %start, i32 %freeOffset
+	%freeHeader = bitcast i8* %freeBlock to %Header*
+	%freeFlagsRef = getelementptr inbounds %Header, %Header* %freeHeader, i32 0, i32 2
+	%freeFlags = load i32, i32* %freeFlagsRef
+	%isFree = icmp eq i32 %freeFlags, 0
+	br i1 %isFree, label %_add, label %_freeNext
+_add:
+	%linkRef = getelementptr inbounds %Header, %Header* %freeHeader, i32 0, i32 0
+	store i8* %list, i8** %linkRef
+	br label %_freeNext
+_freeNext:
+	%newList = phi i8* [ %freeBlock, %_add ], [ %list, %_free ]
+	%moreFree = icmp ugt i32 %previous, 0
+	br i1 %moreFree, label %_free, label %_linked
+_linked:
+	store i8* %newList, i8** %freeList
+	br label %_done
+_done:
+	ret i32 %newLive
+}
+
+define private void @count(i64 %survivors, i64 %freed) alwaysinline nounwind {
+	%oldSurvivors = load i64, i64* @_survivors
+	%newSurvivors = add i64 %oldSurvivors, %survivors
+	store i64 %newSurvivors, i64* @_survivors
+	%oldFreed = load i64, i64* @_freed
+	%newFreed = add i64 %oldFreed, %freed
+	store i64 %newFreed, i64* @_freed
+	ret void
+}
+
+define private void @sweep() nounwind {
+entry:
+	store i64 0, i64* @_liveSize
+	store i64 0, i64* @_survivors
+	store i64 0, i64* @_freed
+	br label %_class
+_class:
+	%class = phi i32 [ 0, %entry ], [ %nextClass, %_classDone ]
+	%listRef = getelementptr inbounds [35 x %Chunk*], [35 x %Chunk*]* @_chunks, i32 0, i32 %class
+	%freeRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_freeLists, i32 0, i32 %class
+	store i8* null, i8** %freeRef
+	; blocks not yet reached by bumping are unallocated, so the sweep puts them on the free list
+	%bumpNextRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpNext, i32 0, i32 %class
+	store i8* null, i8** %bumpNextRef
+	%bumpEndRef = getelementptr inbounds [35 x i8*], [35 x i8*]* @_bumpEnd, i32 0, i32 %class
+	store i8* null, i8** %bumpEndRef
+	%first = load %Chunk*, %Chunk** %listRef
+	store %Chunk* null, %Chunk** %listRef
+	br label %_chunkTest
+_chunkTest:
+	%chunk = phi %Chunk* [ %first, %_class ], [ %following, %_release ], [ %following, %_keep ]
+	%noChunk = icmp eq %Chunk* %chunk, null
+	br i1 %noChunk, label %_classDone, label %_chunk
+_chunk:
+	%nextRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 0
+	%following = load %Chunk*, %Chunk** %nextRef
+	%live = call i32 @sweepChunk(%Chunk* %chunk, i8** %freeRef)
+	%empty = icmp eq i32 %live, 0
+	br i1 %empty, label %_release, label %_keep
+_release:
+	%classRef = getelementptr inbounds %Chunk, %Chunk* %chunk, i32 0, i32 5
+	store i32 -2, i32* %classRef
+	%emptyChunks = load %Chunk*, %Chunk** @_emptyChunks
+	store %Chunk* %emptyChunks, %Chunk** %nextRef
+	store %Chunk* %chunk, %Chunk** @_emptyChunks
+	br label %_chunkTest
+_keep:
+	%kept = load %Chunk*, %Chunk** %listRef
+	store %Chunk* %kept, %Chunk** %nextRef
+	store %Chunk* %chunk, %Chunk** %listRef
+	br label %_chunkTest
+_classDone:
+	%nextClass = add i32 %class, 1
+	%moreClasses = icmp ult i32 %nextClass, 35
+	br i1 %moreClasses, label %_class, label %_large
+_large:
+	%firstLarge = load %Chunk*, %Chunk** @_largeChunks
+	store %Chunk* null, %Chunk** @_largeChunks
+	br label %_largeTest
+_largeTest:
+	%large = phi %Chunk* [ %firstLarge, %_large ], [ %nextLarge, %_largeFree ], [ %nextLarge, %_largeKeep ]
+	%noLarge = icmp eq %Chunk* %large, null
+	br i1 %noLarge, label %_done, label %_largeChunk
+_largeChunk:
+	%largeNextRef = getelementptr inbounds %Chunk, %Chunk* %large, i32 0, i32 0
+	%nextLarge = load %Chunk*, %Chunk** %largeNextRef
+	%largeBytes = bitcast %Chunk* %large to i8*
+	%largeBlock = getelementptr inbounds i8, i8* %largeBytes, i32 64
+	%largeHeader = bitcast i8* %largeBlock to %Header*
+	%largeFlagsRef = getelementptr inbounds %Header, %Header* %largeHeader, i32 0, i32 2
+	%largeFlags = load i32, i32* %largeFlagsRef
+	%largeMarked = and i32 %largeFlags, 2
+	%isLargeMarked = icmp ne i32 %largeMarked, 0
+	br i1 %isLargeMarked, label %_largeKeep, label %_largeFree
+_largeKeep:
+	%largeUnmarked = and i32 %largeFlags, -3
+	store i32 %largeUnmarked, i32* %largeFlagsRef
+	%largeSizeRef = getelementptr inbounds %Chunk, %Chunk* %large, i32 0, i32 3
+	%largeSize = load i32, i32* %largeSizeRef
+	%largeLiveBytes = zext i32 %largeSize to i64
+	%liveSize = load i64, i64* @_liveSize
+	%newLiveSize = add i64 %liveSize, %largeLiveBytes
+	store i64 %newLiveSize, i64* @_liveSize
+	call void @count(i64 1, i64 0)
+	%keptLarge = load %Chunk*, %Chunk** @_largeChunks
+	store %Chunk* %keptLarge, %Chunk** %largeNextRef
+	store %Chunk* %large, %Chunk** @_largeChunks
+	br label %_largeTest
+_largeFree:
+	call void @count(i64 0, i64 1)
+	call void @releaseLarge(%Chunk* %large)
+	br label %_largeTest
+_done:
+	ret void
+}
+
+; Collects garbage.  Callee-saved registers are spilled onto the stack first
+; so that references held only in registers are found by the stack scan.
+define void @__shadow_collect() noinline {
+entry:
+	%marker = alloca i8*
+	call void @llvm.eh.unwind.init()
+	%base = load i8*, i8** @_stackBase
+	%started = icmp ne i8* %base, null
+	br i1 %started, label %_start, label %_done
+_start:
+	%startTime = call i64 @shadow.standard..System_MnanoTime(%shadow.standard..System* null)
+	%rootCount = load i32, i32* @_rootCount
+	%hasRoots = icmp ne i32 %rootCount, 0
+	br i1 %hasRoots, label %_root, label %_stack
+_root:
+	%rootIndex = phi i32 [ 0, %_start ], [ %nextRoot, %_root ]
+	%roots = load i8***, i8**** @_roots
+	%rootRef = getelementptr inbounds i8**, i8*** %roots, i32 %rootIndex
+	%root = load i8**, i8*** %rootRef
+	%reference = load i8*, i8** %root
+	call void @mark(i8* %reference)
+	%nextRoot = add i32 %rootIndex, 1
+	%moreRoots = icmp ult i32 %nextRoot, %rootCount
+	br i1 %moreRoots, label %_root, label %_stack
+_stack:
+	store i8* null, i8** %marker
+	%low = bitcast i8** %marker to i8*
+	call void @markRange(i8* %low, i8* %base)
+	br label %_trace
+_trace:
+	%markSize = load i32, i32* @_markSize
+	%marked = icmp eq i32 %markSize, 0
+	br i1 %marked, label %_sweep, label %_pop
+_pop:
+	%top = sub i32 %markSize, 1
+	store i32 %top, i32* @_markSize
+	%markStack = load i8**, i8*** @_markStack
+	%slot = getelementptr inbounds i8*, i8** %markStack, i32 %top
+	%block = load i8*, i8** %slot
+	call void @trace(i8* %block)
+	br label %_trace
+_sweep:
+	call void @sweep()
+	; the next collection happens once as much has been allocated as survived this one
+	%live = load i64, i64* @_liveSize
+	%low4MB = icmp ult i64 %live, 4194304
+	%threshold = select i1 %low4MB, i64 4194304, i64 %live
+	store i64 %threshold, i64* @_threshold
+	store i64 0, i64* @_allocated
+	%collections = load i32, i32* @_collections
+	%moreCollections = add i32 %collections, 1
+	store i32 %moreCollections, i32* @_collections
+	%endTime = call i64 @shadow.standard..System_MnanoTime(%shadow.standard..System* null)
+	%pause = sub i64 %endTime, %startTime
+	%pauseTime = load i64, i64* @_pauseTime
+	%newPauseTime = add i64 %pauseTime, %pause
+	store i64 %newPauseTime, i64* @_pauseTime
+	%maxPause = load i64, i64* @_maxPause
+	%longer = icmp ugt i64 %pause, %maxPause
+	%newMaxPause = select i1 %longer, i64 %pause, i64 %maxPause
+	store i64 %newMaxPause, i64* @_maxPause
+	br label %_done
+_done:
+	ret void
+}
+
+define void @shadow.standard..System_Mcollect(%shadow.standard..System*) {
+	call void @__shadow_collect()
+	ret void
+}
+
+define i64 @shadow.standard..System_MheapSize(%shadow.standard..System*) {
+	%2 = load i64, i64* @_heapSize
+	ret i64 %2
+}
+
+define i64 @shadow.standard..System_MliveSize(%shadow.standard..System*) {
+	%2 = load i64, i64* @_liveSize
+	ret i64 %2
+}
+
+define i64 @shadow.standard..System_Msurvivors(%shadow.standard..System*) {
+	%2 = load i64, i64* @_survivors
+	ret i64 %2
+}
+
+define i64 @shadow.standard..System_Mfreed(%shadow.standard..System*) {
+	%2 = load i64, i64* @_freed
+	ret i64 %2
+}
+
+define i32 @shadow.standard..System_Mcollections(%shadow.standard..System*) {
+	%2 = load i32, i32* @_collections
+	ret i32 %2
+}
+
+define i64 @shadow.standard..System_MpauseTime(%shadow.standard..System*) {
+	%2 = load i64, i64* @_pauseTime
+	ret i64 %2
+}
+
+define i64 @shadow.standard..System_MmaxPause(%shadow.standard..System*) {
+	%2 = load i64, i64* @_maxPause
+	ret i64 %2
+}
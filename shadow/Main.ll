@@ -17,9 +17,9 @@
 %shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
 %shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
 %shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
-%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, %int, %int }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
 %shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..GenericClass*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
-%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
 %shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
 %shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
 %shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
@@ -27,13 +27,13 @@
 %shadow.standard..AddressMap = type opaque
 
 %shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, void (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %int)*, %int (%shadow.standard..ClassSet*)* }
-%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..ClassSet.Node**, [1 x %int] }, %float, %int, %int, %int }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
 %shadow.standard..ClassSet.Node_methods = type { %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %int (%shadow.standard..ClassSet.Node*)*, %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*)*, void (%shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node*)*, %shadow.standard..Class* (%shadow.standard..ClassSet.Node*)* }
 %shadow.standard..ClassSet.Node = type { %shadow.standard..Class*, %shadow.standard..ClassSet.Node_methods* , %shadow.standard..ClassSet*, %shadow.standard..ClassSet.Node*, %shadow.standard..Class*, %int }
 @shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
 @shadow.standard..ClassSet_class = external constant %shadow.standard..Class
 declare %boolean @shadow.standard..ClassSet_Madd_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*)
-declare %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int(%shadow.standard..Object* returned, %int)
+declare %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_shadow.standard..Class_A1_int_A1_uint_A1(%shadow.standard..Object* returned, %int, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] })
 
 %shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*)*, %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
 %shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
@@ -75,12 +75,21 @@ declare void @shadow.test..Test_Mmain_shadow.standard..String_A1(%shadow.test..T
 
 declare i32 @__shadow_personality_v0(...)
 declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i8* @llvm.frameaddress(i32) nounwind readnone
+declare void @__shadow_initializeCollector(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
 
 @_genericSet = global %shadow.standard..ClassSet* null
 @_arraySet = global %shadow.standard..ClassSet* null
 
 define i32 @main(i32 %argc, i8** %argv) personality i32 (...)* @__shadow_personality_v0 {
 _start:	
+	; objects are found by scanning the stack up to the frame of main and from registered roots
+	%stackBase = call i8* @llvm.frameaddress(i32 0)
+	call void @__shadow_initializeCollector(i8* %stackBase)
+	call void @__shadow_addRoot(i8** bitcast (%shadow.io..Console** @shadow.io..Console_instance to i8**))
+	call void @__shadow_addRoot(i8** bitcast (%shadow.standard..ClassSet** @_genericSet to i8**))
+	call void @__shadow_addRoot(i8** bitcast (%shadow.standard..ClassSet** @_arraySet to i8**))
 	%uninitializedConsole = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* bitcast(%shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*) )
     %console = call %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* %uninitializedConsole)
     store %shadow.io..Console* %console, %shadow.io..Console** @shadow.io..Console_instance	
@@ -110,10 +119,10 @@ _loopEnd:
 	%undefinedArgs = insertvalue { %shadow.standard..String**, [1 x i32] } undef, %shadow.standard..String** %stringArray, 0
 	%args = insertvalue { %shadow.standard..String**, [1 x i32] } %undefinedArgs, i32 %count, 1, 0	
 	%uninitializedGenericSet = call %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* @shadow.standard..ClassSet_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..ClassSet_methods* @shadow.standard..ClassSet_methods to %shadow.standard..Object_methods*))		
-	%genericSet = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int(%shadow.standard..Object* %uninitializedGenericSet, %int %genericSize) ; %genericSize is replaced by compiler
+	%genericSet = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_shadow.standard..Class_A1_int_A1_uint_A1(%shadow.standard..Object* %uninitializedGenericSet, %int %genericSize, { %shadow.standard..Class**, [1 x %int] } %genericClasses, { %int*, [1 x %int] } %genericHashes, { %uint*, [1 x %int] } %genericSeeds) ; compiler fills in the generic table
 	store %shadow.standard..ClassSet* %genericSet, %shadow.standard..ClassSet** @_genericSet	
 	%uninitializedArraySet = call %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* @shadow.standard..ClassSet_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..ClassSet_methods* @shadow.standard..ClassSet_methods to %shadow.standard..Object_methods*))		
-	%arraySet = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int(%shadow.standard..Object* %uninitializedArraySet, %int %arraySize) ; %arraySize is replaced by compiler
+	%arraySet = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_shadow.standard..Class_A1_int_A1_uint_A1(%shadow.standard..Object* %uninitializedArraySet, %int %arraySize, { %shadow.standard..Class**, [1 x %int] } %arrayClasses, { %int*, [1 x %int] } %arrayHashes, { %uint*, [1 x %int] } %arraySeeds) ; compiler fills in the array table
 	store %shadow.standard..ClassSet* %arraySet, %shadow.standard..ClassSet** @_arraySet	
 	invoke void @shadow.test..Test_Mmain_shadow.standard..String_A1(%shadow.test..Test* %initialized, { %shadow.standard..String**, [1 x i32] } %args)
 			to label %_success unwind label %_exception
@@ -0,0 +1,1040 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..AddressMap_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap_methods = external constant %shadow.standard..AddressMap_methods
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..ClassSet_class = external constant %shadow.standard..Class
+@shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString_methods = type { %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %int (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %boolean (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %uint (%shadow.standard..MutableString*)*, %byte (%shadow.standard..MutableString*, %int)*, void (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*)*, %shadow.standard..String* (%shadow.standard..MutableString*, %int, %int)* }
+%shadow.standard..MutableString = type { %shadow.standard..Class*, %shadow.standard..MutableString_methods* , { %byte*, [1 x %int] }, %int }
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+@shadow.standard..MutableString_methods = external constant %shadow.standard..MutableString_methods
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@shadow.standard..Class_class = external constant %shadow.standard..Class
+@shadow.standard..Class_methods = external constant %shadow.standard..Class_methods
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.io..Console_methods = type { %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..String*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..String*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)*, %shadow.io..Console* (%shadow.io..Console*)*, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)*, %shadow.io..Console* (%shadow.io..Console*)*, { %byte, %boolean } (%shadow.io..Console*)*, { %code, %boolean } (%shadow.io..Console*)*, { %shadow.standard..String*, %boolean } (%shadow.io..Console*)*, { %shadow.standard..String*, %boolean } (%shadow.io..Console*)* }
+%shadow.io..Console = type { %shadow.standard..Class*, %shadow.io..Console_methods* , %boolean }
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@shadow.standard..byte_class = external constant %shadow.standard..Class
+@shadow.standard..byte_methods = external constant %shadow.standard..byte_methods
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.Node = type opaque
+@shadow.standard..AddressMap.Node_class = external constant %shadow.standard..Class
+%shadow.standard..uint = type opaque
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+%shadow.standard..ubyte = type opaque
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+%shadow.standard..ushort = type opaque
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+%shadow.standard..ClassSet.Node = type opaque
+@shadow.standard..ClassSet.Node_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..CanIndexStore_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1215355697
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..CanCompare_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1481796433
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanEqual_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2085673093
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; shadow:io@Console
+
+; 0: class (Class)
+; 1: _methods
+; 2: wasLF (boolean)
+
+@_interfaceDatashadow.io..Console = unnamed_addr constant [0 x %shadow.standard..Object*] []
+@_interfacesshadow.io..Console = private unnamed_addr constant [0 x %shadow.standard..Class*] []
+@_displayshadow.io..Console = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.io..Console_class]
+@shadow.io..Console_methods = constant %shadow.io..Console_methods { %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..AddressMap*)* @shadow.io..Console_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)* @shadow.io..Console_Mprint_shadow.standard..Object, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..String*)* @shadow.io..Console_Mprint_shadow.standard..String, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)* @shadow.io..Console_MprintError_shadow.standard..Object, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..String*)* @shadow.io..Console_MprintError_shadow.standard..String, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)* @shadow.io..Console_MprintErrorLine_shadow.standard..Object, %shadow.io..Console* (%shadow.io..Console*)* @shadow.io..Console_MprintErrorLine, %shadow.io..Console* (%shadow.io..Console*, %shadow.standard..Object*)* @shadow.io..Console_MprintLine_shadow.standard..Object, %shadow.io..Console* (%shadow.io..Console*)* @shadow.io..Console_MprintLine, { %byte, %boolean } (%shadow.io..Console*)* @shadow.io..Console_MreadByte, { %code, %boolean } (%shadow.io..Console*)* @shadow.io..Console_MreadCode, { %shadow.standard..String*, %boolean } (%shadow.io..Console*)* @shadow.io..Console_MreadLine, { %shadow.standard..String*, %boolean } (%shadow.io..Console*)* @shadow.io..Console_MreadString }
+@shadow.io..Console_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([0 x %shadow.standard..Object*], [0 x %shadow.standard..Object*]* @_interfaceDatashadow.io..Console, i32 0, i32 0), [1 x %int] [%int 0] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.io..Console, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([0 x %shadow.standard..Class*], [0 x %shadow.standard..Class*]* @_interfacesshadow.io..Console, i32 0, i32 0), [1 x %int] [%int 0] }, { %int*, [1 x %int] } zeroinitializer, %int 16, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32) }
+@shadow.io..Console_instance = global %shadow.io..Console* null
+
+declare void @shadow.io..Console_Minit(%shadow.io..Console*)
+
+define %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* returned) {
+    %this = alloca %shadow.io..Console*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.io..Console*
+    store %shadow.io..Console* %this.0, %shadow.io..Console** %this
+    %2 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %3 = bitcast %shadow.io..Console* %2 to %shadow.standard..Object*
+    %4 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %3)
+    %5 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %6 = getelementptr inbounds %shadow.io..Console, %shadow.io..Console* %5, i32 0, i32 2
+    store %boolean false, %boolean* %6
+    %7 = load %shadow.io..Console*, %shadow.io..Console** %this
+    call void @shadow.io..Console_Minit(%shadow.io..Console* %7)
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = bitcast %shadow.standard..Object* %0 to %shadow.io..Console*
+    ret %shadow.io..Console* %9
+}
+
+define %shadow.io..Console* @shadow.io..Console_Mcopy_shadow.standard..AddressMap(%shadow.io..Console*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.io..Console*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %4 = ptrtoint %shadow.io..Console* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.io..Console_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.io..Console* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.io..Console*
+    ret %shadow.io..Console* %14
+_label2:
+    %15 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %16 = bitcast %shadow.standard..ulong* %15 to %shadow.standard..ulong*
+    %17 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %16, i32 0, i32 2
+    %18 = load %ulong, %ulong* %17
+    %19 = inttoptr %ulong %18 to %shadow.io..Console*
+    ret %shadow.io..Console* %19
+}
+
+define %shadow.io..Console* @shadow.io..Console_Mprint_shadow.standard..Object(%shadow.io..Console*, %shadow.standard..Object*) {
+    %_temp = alloca %shadow.standard..String*
+    %this = alloca %shadow.io..Console*
+    %value = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %value
+    %3 = load %shadow.io..Console*, %shadow.io..Console** @shadow.io..Console_instance
+    %4 = icmp eq %shadow.io..Console* %3, null
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    %5 = bitcast %shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*
+    %6 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* %5, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32))
+    %7 = call %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* %6)
+    store %shadow.io..Console* %7, %shadow.io..Console** @shadow.io..Console_instance
+    call void @__shadow_addRoot(i8** bitcast (%shadow.io..Console** @shadow.io..Console_instance to i8**)) nounwind
+    br label %_label2
+_label2:
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %10 = icmp eq %shadow.standard..Object* %9, null
+    br %boolean %10, label %_label3, label %_label4
+_label3:
+    store %shadow.standard..String* @_string100, %shadow.standard..String** %_temp
+    br label %_label5
+_label4:
+    %11 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %9, i32 0, i32 1
+    %12 = load %shadow.standard..Object_methods*, %shadow.standard..Object_methods** %11
+    %13 = getelementptr inbounds %shadow.standard..Object_methods, %shadow.standard..Object_methods* %12, i32 0, i32 2
+    %14 = load %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)** %13
+    %_temp.4 = call %shadow.standard..String* %14(%shadow.standard..Object* %9)
+    store %shadow.standard..String* %_temp.4, %shadow.standard..String** %_temp
+    br label %_label5
+_label5:
+    %15 = load %shadow.standard..String*, %shadow.standard..String** %_temp
+    %16 = call %shadow.io..Console* @shadow.io..Console_Mprint_shadow.standard..String(%shadow.io..Console* %8, %shadow.standard..String* %15)
+    ret %shadow.io..Console* %16
+}
+
+declare %shadow.io..Console* @shadow.io..Console_Mprint_shadow.standard..String(%shadow.io..Console*, %shadow.standard..String*)
+
+define %shadow.io..Console* @shadow.io..Console_MprintError_shadow.standard..Object(%shadow.io..Console*, %shadow.standard..Object*) {
+    %_temp = alloca %shadow.standard..String*
+    %this = alloca %shadow.io..Console*
+    %value = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %value
+    %3 = load %shadow.io..Console*, %shadow.io..Console** @shadow.io..Console_instance
+    %4 = icmp eq %shadow.io..Console* %3, null
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    %5 = bitcast %shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*
+    %6 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* %5, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32))
+    %7 = call %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* %6)
+    store %shadow.io..Console* %7, %shadow.io..Console** @shadow.io..Console_instance
+    call void @__shadow_addRoot(i8** bitcast (%shadow.io..Console** @shadow.io..Console_instance to i8**)) nounwind
+    br label %_label2
+_label2:
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %10 = icmp eq %shadow.standard..Object* %9, null
+    br %boolean %10, label %_label3, label %_label4
+_label3:
+    store %shadow.standard..String* @_string100, %shadow.standard..String** %_temp
+    br label %_label5
+_label4:
+    %11 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %9, i32 0, i32 1
+    %12 = load %shadow.standard..Object_methods*, %shadow.standard..Object_methods** %11
+    %13 = getelementptr inbounds %shadow.standard..Object_methods, %shadow.standard..Object_methods* %12, i32 0, i32 2
+    %14 = load %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)** %13
+    %_temp.4 = call %shadow.standard..String* %14(%shadow.standard..Object* %9)
+    store %shadow.standard..String* %_temp.4, %shadow.standard..String** %_temp
+    br label %_label5
+_label5:
+    %15 = load %shadow.standard..String*, %shadow.standard..String** %_temp
+    %16 = call %shadow.io..Console* @shadow.io..Console_MprintError_shadow.standard..String(%shadow.io..Console* %8, %shadow.standard..String* %15)
+    ret %shadow.io..Console* %16
+}
+
+declare %shadow.io..Console* @shadow.io..Console_MprintError_shadow.standard..String(%shadow.io..Console*, %shadow.standard..String*)
+
+define %shadow.io..Console* @shadow.io..Console_MprintErrorLine_shadow.standard..Object(%shadow.io..Console*, %shadow.standard..Object*) {
+    %this = alloca %shadow.io..Console*
+    %value = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %value
+    %3 = load %shadow.io..Console*, %shadow.io..Console** @shadow.io..Console_instance
+    %4 = icmp eq %shadow.io..Console* %3, null
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    %5 = bitcast %shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*
+    %6 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* %5, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32))
+    %7 = call %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* %6)
+    store %shadow.io..Console* %7, %shadow.io..Console** @shadow.io..Console_instance
+    call void @__shadow_addRoot(i8** bitcast (%shadow.io..Console** @shadow.io..Console_instance to i8**)) nounwind
+    br label %_label2
+_label2:
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %10 = call %shadow.io..Console* @shadow.io..Console_MprintError_shadow.standard..Object(%shadow.io..Console* %8, %shadow.standard..Object* %9)
+    %11 = call %shadow.io..Console* @shadow.io..Console_MprintErrorLine(%shadow.io..Console* %10)
+    ret %shadow.io..Console* %11
+}
+
+declare %shadow.io..Console* @shadow.io..Console_MprintErrorLine(%shadow.io..Console*)
+
+define %shadow.io..Console* @shadow.io..Console_MprintLine_shadow.standard..Object(%shadow.io..Console*, %shadow.standard..Object*) {
+    %this = alloca %shadow.io..Console*
+    %value = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %value
+    %3 = load %shadow.io..Console*, %shadow.io..Console** @shadow.io..Console_instance
+    %4 = icmp eq %shadow.io..Console* %3, null
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    %5 = bitcast %shadow.io..Console_methods* @shadow.io..Console_methods to %shadow.standard..Object_methods*
+    %6 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.io..Console_class, %shadow.standard..Object_methods* %5, %int ptrtoint (%shadow.io..Console* getelementptr (%shadow.io..Console, %shadow.io..Console* null, i32 1) to i32))
+    %7 = call %shadow.io..Console* @shadow.io..Console_Mcreate(%shadow.standard..Object* %6)
+    store %shadow.io..Console* %7, %shadow.io..Console** @shadow.io..Console_instance
+    call void @__shadow_addRoot(i8** bitcast (%shadow.io..Console** @shadow.io..Console_instance to i8**)) nounwind
+    br label %_label2
+_label2:
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %10 = call %shadow.io..Console* @shadow.io..Console_Mprint_shadow.standard..Object(%shadow.io..Console* %8, %shadow.standard..Object* %9)
+    %11 = call %shadow.io..Console* @shadow.io..Console_MprintLine(%shadow.io..Console* %10)
+    ret %shadow.io..Console* %11
+}
+
+declare %shadow.io..Console* @shadow.io..Console_MprintLine(%shadow.io..Console*)
+
+declare { %byte, %boolean } @shadow.io..Console_MreadByte(%shadow.io..Console*)
+
+define { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console*) {
+    %this = alloca %shadow.io..Console*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    %2 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %3 = call { %byte, %boolean } @shadow.io..Console_MreadByte(%shadow.io..Console* %2)
+    %4 = extractvalue { %byte, %boolean } %3, 0
+    %value.4 = sext %byte %4 to %int
+    %eof.5 = extractvalue { %byte, %boolean } %3, 1
+    %5 = icmp slt %int %value.4, 0
+    br %boolean %5, label %_label7, label %_label8
+_label7:
+    %6 = call %byte @shadow.standard..byte_MbitShiftLeft_int(%byte 1, %int 7)
+    %mask.7 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %6, %int 1)
+    br label %_label2
+_label3:
+    %bytes.8 = add %int %bytes.20, 1
+    %_temp.9 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %mask.22, %int 1)
+    br label %_label2
+_label2:
+    %eof.45 = phi %boolean [ %eof.5, %_label7 ],[ %eof.45, %_label3 ]
+    %value.23 = phi %int [ %value.4, %_label7 ],[ %value.23, %_label3 ]
+    %mask.22 = phi %byte [ %mask.7, %_label7 ],[ %_temp.9, %_label3 ]
+    %bytes.20 = phi %int [ 0, %_label7 ],[ %bytes.8, %_label3 ]
+    %7 = sext %byte %mask.22 to %int
+    %8 = icmp sge %int %value.23, %7
+    br %boolean %8, label %_label3, label %_label1
+_label1:
+    %9 = xor %byte -1, %mask.22
+    %10 = sext %byte %9 to %int
+    %value.11 = and %int %value.23, %10
+    br label %_label5
+_label6:
+    %_temp1.12 = call %int @shadow.standard..int_MbitShiftLeft_int(%int %value.29, %int 6)
+    %11 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %12 = call { %byte, %boolean } @shadow.io..Console_MreadByte(%shadow.io..Console* %11)
+    %b.15 = extractvalue { %byte, %boolean } %12, 0
+    %eof.16 = extractvalue { %byte, %boolean } %12, 1
+    %13 = and %byte %b.15, 63
+    %14 = sext %byte %13 to %int
+    %value.17 = or %int %_temp1.12, %14
+    %bytes.18 = sub %int %bytes.37, 1
+    br label %_label5
+_label5:
+    %eof.43 = phi %boolean [ %eof.16, %_label6 ],[ %eof.45, %_label1 ]
+    %bytes.37 = phi %int [ %bytes.18, %_label6 ],[ %bytes.20, %_label1 ]
+    %value.29 = phi %int [ %value.17, %_label6 ],[ %value.11, %_label1 ]
+    %15 = icmp sgt %int %bytes.37, 0
+    br %boolean %15, label %_label6, label %_label4
+_label4:
+    br label %_label8
+_label8:
+    %eof.41 = phi %boolean [ %eof.43, %_label4 ],[ %eof.5, %_label0 ]
+    %value.39 = phi %int [ %value.29, %_label4 ],[ %value.4, %_label0 ]
+    %16 = bitcast %int %value.39 to %code
+    %17 = insertvalue { %code, %boolean } undef, %code %16, 0
+    %18 = insertvalue { %code, %boolean } %17, %boolean %eof.41, 1
+    ret { %code, %boolean } %18
+}
+
+define { %shadow.standard..String*, %boolean } @shadow.io..Console_MreadLine(%shadow.io..Console*) {
+    %string = alloca %shadow.standard..MutableString*
+    %this = alloca %shadow.io..Console*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    %2 = bitcast %shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object_methods*
+    %3 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..MutableString_class, %shadow.standard..Object_methods* %2, %int ptrtoint (%shadow.standard..MutableString* getelementptr (%shadow.standard..MutableString, %shadow.standard..MutableString* null, i32 1) to i32))
+    %string.2 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate(%shadow.standard..Object* %3)
+    store %shadow.standard..MutableString* %string.2, %shadow.standard..MutableString** %string
+    %4 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %5 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %4)
+    %c.5 = extractvalue { %code, %boolean } %5, 0
+    %eof.6 = extractvalue { %code, %boolean } %5, 1
+    %6 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %7 = getelementptr inbounds %shadow.io..Console, %shadow.io..Console* %6, i32 0, i32 2
+    %_temp.7 = load %boolean, %boolean* %7
+    br %boolean %_temp.7, label %_label2, label %_label1
+_label2:
+    %_temp.8 = icmp eq %code %c.5, 10
+    br label %_label1
+_label1:
+    %_temp.17 = phi %boolean [ %_temp.7, %_label0 ],[ %_temp.8, %_label2 ]
+    br %boolean %_temp.17, label %_label3, label %_label4
+_label3:
+    %8 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %9 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %8)
+    %c.9 = extractvalue { %code, %boolean } %9, 0
+    %eof.10 = extractvalue { %code, %boolean } %9, 1
+    br label %_label4
+_label4:
+    %eof.46 = phi %boolean [ %eof.10, %_label3 ],[ %eof.6, %_label1 ]
+    %c.33 = phi %code [ %c.9, %_label3 ],[ %c.5, %_label1 ]
+    br label %_label6
+_label10:
+    %10 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %string
+    %11 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..code_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..code* getelementptr (%shadow.standard..code, %shadow.standard..code* null, i32 1) to i32))
+    %12 = bitcast %shadow.standard..Object* %11 to %shadow.standard..code*
+    %13 = getelementptr inbounds %shadow.standard..code, %shadow.standard..code* %12, i32 0, i32 2
+    store %code %c.32, %code* %13
+    %14 = bitcast %shadow.standard..code* %12 to %shadow.standard..Object*
+    %15 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %10, %shadow.standard..Object* %14)
+    %16 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %17 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %16)
+    %c.14 = extractvalue { %code, %boolean } %17, 0
+    %eof.15 = extractvalue { %code, %boolean } %17, 1
+    br label %_label6
+_label6:
+    %eof.45 = phi %boolean [ %eof.15, %_label10 ],[ %eof.46, %_label4 ]
+    %c.32 = phi %code [ %c.14, %_label10 ],[ %c.33, %_label4 ]
+    %18 = icmp eq %code %c.32, 10
+    %_temp1.11 = xor %boolean -1, %18
+    br %boolean %_temp1.11, label %_label8, label %_label7
+_label8:
+    %19 = icmp eq %code %c.32, 13
+    %_temp1.12 = xor %boolean -1, %19
+    br %boolean %_temp1.12, label %_label9, label %_label7
+_label9:
+    %_temp1.13 = xor %boolean -1, %eof.45
+    br label %_label7
+_label7:
+    %_temp1.49 = phi %boolean [ %_temp1.12, %_label8 ],[ %_temp1.13, %_label9 ],[ %_temp1.11, %_label6 ]
+    br %boolean %_temp1.49, label %_label10, label %_label5
+_label5:
+    %20 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %21 = icmp eq %code %c.32, 13
+    %22 = getelementptr inbounds %shadow.io..Console, %shadow.io..Console* %20, i32 0, i32 2
+    store %boolean %21, %boolean* %22
+    %23 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %string
+    %24 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %23)
+    %25 = insertvalue { %shadow.standard..String*, %boolean } undef, %shadow.standard..String* %24, 0
+    %26 = insertvalue { %shadow.standard..String*, %boolean } %25, %boolean %eof.45, 1
+    ret { %shadow.standard..String*, %boolean } %26
+}
+
+define { %shadow.standard..String*, %boolean } @shadow.io..Console_MreadString(%shadow.io..Console*) {
+    %string = alloca %shadow.standard..MutableString*
+    %this = alloca %shadow.io..Console*
+    br label %_label0
+_label0:
+    store %shadow.io..Console* %0, %shadow.io..Console** %this
+    %2 = bitcast %shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object_methods*
+    %3 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..MutableString_class, %shadow.standard..Object_methods* %2, %int ptrtoint (%shadow.standard..MutableString* getelementptr (%shadow.standard..MutableString, %shadow.standard..MutableString* null, i32 1) to i32))
+    %string.2 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate(%shadow.standard..Object* %3)
+    store %shadow.standard..MutableString* %string.2, %shadow.standard..MutableString** %string
+    %4 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %5 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %4)
+    %c.5 = extractvalue { %code, %boolean } %5, 0
+    %eof.6 = extractvalue { %code, %boolean } %5, 1
+    br label %_label2
+_label9:
+    %6 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %7 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %6)
+    %c.13 = extractvalue { %code, %boolean } %7, 0
+    %eof.14 = extractvalue { %code, %boolean } %7, 1
+    br label %_label2
+_label2:
+    %c.32 = phi %code [ %c.13, %_label9 ],[ %c.5, %_label0 ]
+    %eof.30 = phi %boolean [ %eof.14, %_label9 ],[ %eof.6, %_label0 ]
+    %_temp1.11 = xor %boolean -1, %eof.30
+    br %boolean %_temp1.11, label %_label8, label %_label7
+_label8:
+    %_temp.7 = icmp eq %code %c.32, 10
+    br %boolean %_temp.7, label %_label3, label %_label4
+_label4:
+    %_temp.8 = icmp eq %code %c.32, 13
+    br %boolean %_temp.8, label %_label3, label %_label5
+_label5:
+    %_temp.9 = icmp eq %code %c.32, 32
+    br %boolean %_temp.9, label %_label3, label %_label6
+_label6:
+    %_temp.10 = icmp eq %code %c.32, 9
+    br label %_label3
+_label3:
+    %_temp.36 = phi %boolean [ %_temp.7, %_label8 ],[ %_temp.10, %_label6 ],[ %_temp.8, %_label4 ],[ %_temp.9, %_label5 ]
+    br label %_label7
+_label7:
+    %_temp1.37 = phi %boolean [ %_temp.36, %_label3 ],[ %_temp1.11, %_label2 ]
+    br %boolean %_temp1.37, label %_label9, label %_label1
+_label1:
+    br label %_label11
+_label17:
+    %8 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %string
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..code_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..code* getelementptr (%shadow.standard..code, %shadow.standard..code* null, i32 1) to i32))
+    %10 = bitcast %shadow.standard..Object* %9 to %shadow.standard..code*
+    %11 = getelementptr inbounds %shadow.standard..code, %shadow.standard..code* %10, i32 0, i32 2
+    store %code %c.60, %code* %11
+    %12 = bitcast %shadow.standard..code* %10 to %shadow.standard..Object*
+    %13 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %8, %shadow.standard..Object* %12)
+    %14 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %15 = call { %code, %boolean } @shadow.io..Console_MreadCode(%shadow.io..Console* %14)
+    %c.20 = extractvalue { %code, %boolean } %15, 0
+    %eof.21 = extractvalue { %code, %boolean } %15, 1
+    br label %_label11
+_label11:
+    %eof.72 = phi %boolean [ %eof.30, %_label1 ],[ %eof.21, %_label17 ]
+    %c.60 = phi %code [ %c.32, %_label1 ],[ %c.20, %_label17 ]
+    %_temp2.15 = xor %boolean -1, %eof.72
+    br %boolean %_temp2.15, label %_label13, label %_label12
+_label13:
+    %16 = icmp eq %code %c.60, 10
+    %_temp2.16 = xor %boolean -1, %16
+    br %boolean %_temp2.16, label %_label14, label %_label12
+_label14:
+    %17 = icmp eq %code %c.60, 13
+    %_temp2.17 = xor %boolean -1, %17
+    br %boolean %_temp2.17, label %_label15, label %_label12
+_label15:
+    %18 = icmp eq %code %c.60, 32
+    %_temp2.18 = xor %boolean -1, %18
+    br %boolean %_temp2.18, label %_label16, label %_label12
+_label16:
+    %19 = icmp eq %code %c.60, 9
+    %_temp2.19 = xor %boolean -1, %19
+    br label %_label12
+_label12:
+    %_temp2.80 = phi %boolean [ %_temp2.19, %_label16 ],[ %_temp2.17, %_label14 ],[ %_temp2.18, %_label15 ],[ %_temp2.15, %_label11 ],[ %_temp2.16, %_label13 ]
+    br %boolean %_temp2.80, label %_label17, label %_label10
+_label10:
+    %20 = load %shadow.io..Console*, %shadow.io..Console** %this
+    %21 = icmp eq %code %c.60, 13
+    %22 = getelementptr inbounds %shadow.io..Console, %shadow.io..Console* %20, i32 0, i32 2
+    store %boolean %21, %boolean* %22
+    %23 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %string
+    %24 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %23)
+    %25 = insertvalue { %shadow.standard..String*, %boolean } undef, %shadow.standard..String* %24, 0
+    %26 = insertvalue { %shadow.standard..String*, %boolean } %25, %boolean %eof.72, 1
+    ret { %shadow.standard..String*, %boolean } %26
+}
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %int @shadow.standard..int_MbitShiftLeft_int(%int, %int)
+declare void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap*, %ulong, %ulong)
+declare %byte @shadow.standard..byte_MbitShiftLeft_int(%byte, %int)
+declare %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap*, %ulong)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString*, %shadow.standard..Object*)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate(%shadow.standard..Object* returned)
+declare %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString*)
+declare %byte @shadow.standard..byte_MbitShiftRight_int(%byte, %int)
+declare %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap*, %ulong)
+declare %shadow.standard..String* @shadow.standard..Object_MtoString(%shadow.standard..Object*)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array2 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array3 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array4 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array5 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array6 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array7 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array8 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array9 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array10 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array11 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array12 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array13 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array14 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array15 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array16 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array17 = private unnamed_addr constant [39 x %ubyte] c"shadow:standard@CanIndexStore<int,byte>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([39 x %byte], [39 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 39] }, %boolean true }
+@_array18 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array19 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array20 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array21 = private unnamed_addr constant [57 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@MutableString>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([57 x %byte], [57 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 57] }, %boolean true }
+@_array22 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array23 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array24 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array25 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array26 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array27 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array28 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array29 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array30 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array31 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array32 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array33 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array34 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array35 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array36 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array37 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array38 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array39 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array40 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array41 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array42 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array43 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array44 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array45 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array46 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array47 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array48 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array49 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array50 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array51 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array52 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array53 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array54 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array55 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array56 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array57 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array58 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array59 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array60 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array61 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array62 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array63 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array64 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array65 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array66 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array67 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array68 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array69 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array70 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array71 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array72 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array73 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array74 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array75 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array76 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array77 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array78 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array79 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array80 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array81 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array82 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array83 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array84 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array85 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array86 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array87 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array88 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array89 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array90 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array91 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array92 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array93 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array94 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@MutableString>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array95 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array96 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array97 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array98 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array99 = private unnamed_addr constant [17 x %ubyte] c"shadow:io@Console"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([17 x %byte], [17 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 17] }, %boolean true }
+@_array100 = private unnamed_addr constant [4 x %ubyte] c"null"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([4 x %byte], [4 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 4] }, %boolean true }
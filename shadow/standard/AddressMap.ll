@@ -0,0 +1,2213 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..uint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %int (%uint, %uint)*, %int (%uint, %ulong)*, %int (%uint, %long)*, %int (%uint, %float)*, %int (%uint, %double)*, %uint (%uint, %shadow.standard..AddressMap*)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %boolean (%uint, %uint)*, %boolean (%uint, %ulong)*, %boolean (%uint, %long)*, %boolean (%uint, %float)*, %boolean (%uint, %double)*, %uint (%uint)*, %uint (%uint)*, %uint (%uint)*, %double (%uint)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint)*, %double (%uint, %int)*, %double (%uint, %double)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %byte (%uint)*, %code (%uint)*, %double (%uint)*, %float (%uint)*, %int (%uint)*, %long (%uint)*, %short (%uint)*, %int (%uint)*, %shadow.standard..String* (%uint)*, %shadow.standard..String* (%uint, %uint)*, %ubyte (%uint)*, %uint (%uint)*, %ulong (%uint)*, %ushort (%uint)*, %uint (%uint)* }
+%shadow.standard..uint = type { %shadow.standard..Class*, %shadow.standard..uint_methods* , %uint }
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+@shadow.standard..uint_methods = external constant %shadow.standard..uint_methods
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Iterator_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..Number_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.utility..IllegalModificationException_methods = type { %shadow.utility..IllegalModificationException* (%shadow.utility..IllegalModificationException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.utility..IllegalModificationException = type { %shadow.standard..Class*, %shadow.utility..IllegalModificationException_methods* , %shadow.standard..String* }
+@shadow.utility..IllegalModificationException_class = external constant %shadow.standard..Class
+@shadow.utility..IllegalModificationException_methods = external constant %shadow.utility..IllegalModificationException_methods
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.AddressMapIterator_methods = type { %shadow.standard..AddressMap.AddressMapIterator* (%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..AddressMap.AddressMapIterator*)*, %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.Node*)*, %ulong (%shadow.standard..AddressMap.AddressMapIterator*)* }
+%shadow.standard..AddressMap.AddressMapIterator = type { %shadow.standard..Class*, %shadow.standard..AddressMap.AddressMapIterator_methods* , %shadow.standard..AddressMap*, %shadow.standard..AddressMap.Node*, %int, %int }
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..ClassSet_class = external constant %shadow.standard..Class
+@shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@shadow.standard..Class_class = external constant %shadow.standard..Class
+@shadow.standard..Class_methods = external constant %shadow.standard..Class_methods
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+%shadow.utility..NoSuchElementException_methods = type { %shadow.utility..NoSuchElementException* (%shadow.utility..NoSuchElementException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.utility..NoSuchElementException = type { %shadow.standard..Class*, %shadow.utility..NoSuchElementException_methods* , %shadow.standard..String* }
+@shadow.utility..NoSuchElementException_class = external constant %shadow.standard..Class
+@shadow.utility..NoSuchElementException_methods = external constant %shadow.utility..NoSuchElementException_methods
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanModulus_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.Node_methods = type { %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %int (%shadow.standard..AddressMap.Node*)*, %ulong (%shadow.standard..AddressMap.Node*)*, %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*)*, void (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node*)*, %ulong (%shadow.standard..AddressMap.Node*)*, void (%shadow.standard..AddressMap.Node*, %ulong)* }
+%shadow.standard..AddressMap.Node = type { %shadow.standard..Class*, %shadow.standard..AddressMap.Node_methods* , %ulong, %ulong, %shadow.standard..AddressMap*, %shadow.standard..AddressMap.Node*, %int }
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@shadow.standard..byte_class = external constant %shadow.standard..Class
+@shadow.standard..byte_methods = external constant %shadow.standard..byte_methods
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString = type opaque
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+%shadow.standard..ubyte = type opaque
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+%shadow.standard..ushort = type opaque
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+%shadow.standard..ClassSet.Node = type opaque
+@shadow.standard..ClassSet.Node_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1478687623
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1207185102
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..Array_L_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -856997366
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..Iterator_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Iterator_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1927245953
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..Number_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 116531371
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..CanAdd_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1818559871
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..CanMultiply_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 430741970
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -386520900
+@shadow.standard..CanCompare_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 633898395
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..Integer_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1887298000
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..CanEqual_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1625286646
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanDivide_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 369394583
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanSubtract_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1237327183
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanModulus_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2056213396
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string100, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string101, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string102, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string103, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string104, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string105, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string106, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string107, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string108, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string109, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; shadow:standard@AddressMap
+
+; 0: class (Class)
+; 1: _methods
+; 2: table (shadow:standard@AddressMap:Node[])
+; 3: loadFactor (float)
+; 4: modifications (int)
+; 5: size (int)
+; 6: threshold (int)
+
+@shadow.standard..AddressMap_CDEFAULT_INITIAL_CAPACITY = constant %int 16
+@shadow.standard..AddressMap_CMAXIMUM_CAPACITY = constant %int 1073741824
+@shadow.standard..AddressMap_CDEFAULT_LOAD_FACTOR = constant %float 0x3fe8000000000000
+@_class0 = private unnamed_addr constant { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* } { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Miterator }
+@_class2 = private unnamed_addr constant { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* } { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..AddressMap_Mindex_ulong_ulong_W_shadow.standard..CanIndexStore_L_ulong_ulong_R }
+@_class10 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..AddressMap_Mindex_ulong_W_shadow.standard..CanIndexNullable_L_ulong_ulong_R }
+@_class13 = private unnamed_addr constant { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..AddressMap*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..AddressMap*)* } { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* @shadow.standard..AddressMap_Mclear_W_shadow.utility..Map_L_ulong_ulong_R, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..AddressMap_McontainsKey_ulong_W_shadow.utility..Map_L_ulong_ulong_R, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..AddressMap_McontainsValue_ulong_W_shadow.utility..Map_L_ulong_ulong_R, %boolean (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_MisEmpty, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..AddressMap_Mremove_ulong_W_shadow.utility..Map_L_ulong_ulong_R, %int (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Msize }
+@_interfaceDatashadow.standard..AddressMap = unnamed_addr constant [16 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }* @_class2 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class10 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..AddressMap*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..AddressMap*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* }* @_class0 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..AddressMap = private unnamed_addr constant [16 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_ulong_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexNullable_L_ulong_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.utility..Map_L_ulong_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_ulong_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..AddressMap = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..AddressMap_class]
+@_layoutshadow.standard..AddressMap = unnamed_addr constant [1 x %int] [%int ptrtoint ({ %shadow.standard..AddressMap.Node**, [1 x %int] }* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 0, i32 2) to %int)]
+@shadow.standard..AddressMap_methods = constant %shadow.standard..AddressMap_methods { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Mclear, %boolean (%shadow.standard..AddressMap*, %ulong)* @shadow.standard..AddressMap_McontainsKey_ulong, %boolean (%shadow.standard..AddressMap*, %ulong)* @shadow.standard..AddressMap_McontainsValue_ulong, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)* @shadow.standard..AddressMap_Mindex_ulong, void (%shadow.standard..AddressMap*, %ulong, %ulong)* @shadow.standard..AddressMap_Mindex_ulong_ulong, %boolean (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_MisEmpty, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Miterator, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)* @shadow.standard..AddressMap_Mremove_ulong, %int (%shadow.standard..AddressMap*)* @shadow.standard..AddressMap_Msize }
+@shadow.standard..AddressMap_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string110, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([16 x %shadow.standard..Object*], [16 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..AddressMap, i32 0, i32 0), [1 x %int] [%int 16] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..AddressMap, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([16 x %shadow.standard..Class*], [16 x %shadow.standard..Class*]* @_interfacesshadow.standard..AddressMap, i32 0, i32 0), [1 x %int] [%int 16] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([1 x %int], [1 x %int]* @_layoutshadow.standard..AddressMap, i32 0, i32 0), [1 x %int] [%int 1] }, %int 0, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32) }
+
+; shadow:standard@AddressMap:Node
+
+; 0: class (Class)
+; 1: _methods
+; 2: key (ulong)
+; 3: value (ulong)
+; 4: _outer (shadow:standard@AddressMap)
+; 5: next (shadow:standard@AddressMap:Node)
+; 6: hash (int)
+
+@_interfaceDatashadow.standard..AddressMap.Node = unnamed_addr constant [0 x %shadow.standard..Object*] []
+@_interfacesshadow.standard..AddressMap.Node = private unnamed_addr constant [0 x %shadow.standard..Class*] []
+@_displayshadow.standard..AddressMap.Node = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..AddressMap.Node_class]
+@_layoutshadow.standard..AddressMap.Node = unnamed_addr constant [2 x %int] [%int ptrtoint (%shadow.standard..AddressMap** getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 0, i32 4) to %int), %int ptrtoint (%shadow.standard..AddressMap.Node** getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 0, i32 5) to %int)]
+@shadow.standard..AddressMap.Node_methods = constant %shadow.standard..AddressMap.Node_methods { %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap*)* @shadow.standard..AddressMap.Node_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %int (%shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.Node_Mhash, %ulong (%shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.Node_Mkey, %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.Node_Mnext, void (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.Node_Mnext_shadow.standard..AddressMap.Node, %ulong (%shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.Node_Mvalue, void (%shadow.standard..AddressMap.Node*, %ulong)* @shadow.standard..AddressMap.Node_Mvalue_ulong }
+@shadow.standard..AddressMap.Node_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string111, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([0 x %shadow.standard..Object*], [0 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..AddressMap.Node, i32 0, i32 0), [1 x %int] [%int 0] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..AddressMap.Node, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([0 x %shadow.standard..Class*], [0 x %shadow.standard..Class*]* @_interfacesshadow.standard..AddressMap.Node, i32 0, i32 0), [1 x %int] [%int 0] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..AddressMap.Node, i32 0, i32 0), [1 x %int] [%int 2] }, %int 0, %int ptrtoint (%shadow.standard..AddressMap.Node* getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 1) to i32) }
+
+; shadow:standard@AddressMap:AddressMapIterator
+
+; 0: class (Class)
+; 1: _methods
+; 2: _outer (shadow:standard@AddressMap)
+; 3: current (shadow:standard@AddressMap:Node)
+; 4: expectedModifications (int)
+; 5: index (int)
+
+@_class16 = private unnamed_addr constant { %boolean (%shadow.standard..AddressMap.AddressMapIterator*)*, %shadow.standard..Object* (%shadow.standard..Object*)* } { %boolean (%shadow.standard..AddressMap.AddressMapIterator*)* @shadow.standard..AddressMap.AddressMapIterator_MhasNext, %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..AddressMap.AddressMapIterator_Mnext_W_shadow.standard..Iterator_L_ulong_R }
+@_interfaceDatashadow.standard..AddressMap.AddressMapIterator = unnamed_addr constant [1 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..AddressMap.AddressMapIterator*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }* @_class16 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..AddressMap.AddressMapIterator = private unnamed_addr constant [1 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Iterator_L_ulong_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..AddressMap.AddressMapIterator = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..AddressMap.AddressMapIterator_class]
+@_layoutshadow.standard..AddressMap.AddressMapIterator = unnamed_addr constant [2 x %int] [%int ptrtoint (%shadow.standard..AddressMap** getelementptr (%shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* null, i32 0, i32 2) to %int), %int ptrtoint (%shadow.standard..AddressMap.Node** getelementptr (%shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* null, i32 0, i32 3) to %int)]
+@shadow.standard..AddressMap.AddressMapIterator_methods = constant %shadow.standard..AddressMap.AddressMapIterator_methods { %shadow.standard..AddressMap.AddressMapIterator* (%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap*)* @shadow.standard..AddressMap.AddressMapIterator_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %boolean (%shadow.standard..AddressMap.AddressMapIterator*)* @shadow.standard..AddressMap.AddressMapIterator_MhasNext, %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.Node*)* @shadow.standard..AddressMap.AddressMapIterator_Mnext_shadow.standard..AddressMap.Node, %ulong (%shadow.standard..AddressMap.AddressMapIterator*)* @shadow.standard..AddressMap.AddressMapIterator_Mnext }
+@shadow.standard..AddressMap.AddressMapIterator_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string112, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([1 x %shadow.standard..Object*], [1 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..AddressMap.AddressMapIterator, i32 0, i32 0), [1 x %int] [%int 1] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..AddressMap.AddressMapIterator, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([1 x %shadow.standard..Class*], [1 x %shadow.standard..Class*]* @_interfacesshadow.standard..AddressMap.AddressMapIterator, i32 0, i32 0), [1 x %int] [%int 1] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..AddressMap.AddressMapIterator, i32 0, i32 0), [1 x %int] [%int 2] }, %int 0, %int ptrtoint (%shadow.standard..AddressMap.AddressMapIterator* getelementptr (%shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* null, i32 1) to i32) }
+
+define { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap*, %ulong, %int) {
+    br label %_label0
+_label0:
+    %temp.4 = call %uint @shadow.standard..ulong_Mhash(%ulong %1)
+    %4 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.4, %int 20)
+    %5 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.4, %int 12)
+    %6 = xor %uint %4, %5
+    %temp.5 = xor %uint %temp.4, %6
+    %7 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.5, %int 7)
+    %8 = xor %uint %temp.5, %7
+    %9 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.5, %int 4)
+    %10 = xor %uint %8, %9
+    %hash.6 = bitcast %uint %10 to %int
+    %11 = sub %int %2, 1
+    %12 = and %int %hash.6, %11
+    %13 = insertvalue { %int, %int } undef, %int %12, 0
+    %14 = insertvalue { %int, %int } %13, %int %hash.6, 1
+    ret { %int, %int } %14
+}
+
+define %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* returned) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    store %shadow.standard..AddressMap* %this.0, %shadow.standard..AddressMap** %this
+    %2 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %3 = bitcast %shadow.standard..AddressMap* %2 to %shadow.standard..Object*
+    %4 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate_int(%shadow.standard..Object* %3, %int 16)
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %6 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    ret %shadow.standard..AddressMap* %6
+}
+
+define %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate_int(%shadow.standard..Object* returned, %int) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    store %shadow.standard..AddressMap* %this.0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = bitcast %shadow.standard..AddressMap* %3 to %shadow.standard..Object*
+    %5 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate_int_float(%shadow.standard..Object* %4, %int %1, %float 0x3fe8000000000000)
+    %6 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %7 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    ret %shadow.standard..AddressMap* %7
+}
+
+define %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate_int_float(%shadow.standard..Object* returned, %int, %float) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    store %shadow.standard..AddressMap* %this.0, %shadow.standard..AddressMap** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = bitcast %shadow.standard..AddressMap* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %5)
+    %7 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %8 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %7, i32 0, i32 5
+    store %int 0, %int* %8
+    %9 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %10 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %11 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %12 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %13 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %12, i32 0, i32 4
+    store %int 0, %int* %13
+    br label %_label2
+_label3:
+    %_temp.5 = call %int @shadow.standard..int_MbitShiftLeft_int(%int %capacity.8, %int 1)
+    br label %_label2
+_label2:
+    %loadFactor.16 = phi %float [ %loadFactor.16, %_label3 ],[ %2, %_label0 ]
+    %initialCapacity.9 = phi %int [ %initialCapacity.9, %_label3 ],[ %1, %_label0 ]
+    %capacity.8 = phi %int [ %_temp.5, %_label3 ],[ 1, %_label0 ]
+    %14 = icmp slt %int %capacity.8, %initialCapacity.9
+    br %boolean %14, label %_label3, label %_label1
+_label1:
+    %15 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %16 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %int %capacity.8)
+    %17 = bitcast %shadow.standard..Object* %16 to %shadow.standard..AddressMap.Node**
+    %18 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } zeroinitializer, %shadow.standard..AddressMap.Node** %17, 0
+    %19 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %18, %int %capacity.8, 1, 0
+    %20 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %15, i32 0, i32 2
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %19, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %20
+    %21 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %22 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %21, i32 0, i32 3
+    store %float %loadFactor.16, %float* %22
+    %23 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %24 = call %float @shadow.standard..int_Mmultiply_float(%int %capacity.8, %float %loadFactor.16)
+    %25 = fptosi %float %24 to %int
+    %26 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %23, i32 0, i32 6
+    store %int %25, %int* %26
+    %27 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %28 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap*
+    ret %shadow.standard..AddressMap* %28
+}
+
+define void @shadow.standard..AddressMap_Mresize_int(%shadow.standard..AddressMap*, %int) {
+    %node = alloca %shadow.standard..AddressMap.Node*
+    %this = alloca %shadow.standard..AddressMap*
+    %newTable = alloca { %shadow.standard..AddressMap.Node**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %3, i32 0, i32 2
+    %5 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %4
+    %6 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %5, 1, 0
+    %7 = icmp eq %int %6, 1073741824
+    br %boolean %7, label %_label2, label %_label3
+_label2:
+    %8 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %9 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %8, i32 0, i32 6
+    store %int 2147483647, %int* %9
+    ret void
+_label3:
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %int %1)
+    %11 = bitcast %shadow.standard..Object* %10 to %shadow.standard..AddressMap.Node**
+    %12 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } zeroinitializer, %shadow.standard..AddressMap.Node** %11, 0
+    %newTable.3 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %12, %int %1, 1, 0
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %newTable.3, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %newTable
+    br label %_label23
+_label22:
+    %13 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %14 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %13, i32 0, i32 2
+    %15 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %14
+    %16 = bitcast %int %i.31 to %uint
+    %17 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %15, 1, 0
+    %18 = bitcast %int %17 to %uint
+    %19 = icmp ult %uint %16, %18
+    br %boolean %19, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %20 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %21 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %20, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %22 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %21, %int %i.31)
+    %23 = bitcast %shadow.standard..IndexOutOfBoundsException* %22 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %23) noreturn
+    unreachable
+_label10:
+    %24 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %15, 0
+    %25 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %24, %int %i.31
+    %26 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %25
+    %27 = icmp eq %shadow.standard..AddressMap.Node* %26, null
+    br %boolean %27, label %_label7, label %_label11
+_label11:
+    %node.8 = bitcast %shadow.standard..AddressMap.Node* %26 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %node.8, %shadow.standard..AddressMap.Node** %node
+    br label %_label13
+_label21:
+    %28 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %29 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %node
+    %30 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %29)
+    %31 = call { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap* %28, %ulong %30, %int %newCapacity.35)
+    %index.9 = extractvalue { %int, %int } %31, 0
+    %hash.10 = extractvalue { %int, %int } %31, 1
+    %32 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %newTable
+    %33 = bitcast %int %index.9 to %uint
+    %34 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %32, 1, 0
+    %35 = bitcast %int %34 to %uint
+    %36 = icmp ult %uint %33, %35
+    br %boolean %36, label %_label15, label %_label14
+_label15:
+    br label %_label16
+_label14:
+    %37 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %38 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %37, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %39 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %38, %int %index.9)
+    %40 = bitcast %shadow.standard..IndexOutOfBoundsException* %39 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %40) noreturn
+    unreachable
+_label16:
+    %41 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %node
+    %42 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %41)
+    %43 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %node
+    %44 = call %ulong @shadow.standard..AddressMap.Node_Mvalue(%shadow.standard..AddressMap.Node* %43)
+    %45 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %newTable
+    %46 = bitcast %int %index.9 to %uint
+    %47 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %45, 1, 0
+    %48 = bitcast %int %47 to %uint
+    %49 = icmp ult %uint %46, %48
+    br label %_label18
+_label18:
+    br label %_label19
+_label19:
+    %50 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %45, 0
+    %51 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %50, %int %index.9
+    %52 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %51
+    %53 = bitcast %shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object_methods*
+    %54 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %shadow.standard..Object_methods* %53, %int ptrtoint (%shadow.standard..AddressMap.Node* getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 1) to i32))
+    %55 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %56 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcreate_int_ulong_ulong_shadow.standard..AddressMap.Node(%shadow.standard..Object* %54, %shadow.standard..AddressMap* %55, %int %hash.10, %ulong %42, %ulong %44, %shadow.standard..AddressMap.Node* %52)
+    %57 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %32, 0
+    %58 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %57, %int %index.9
+    store %shadow.standard..AddressMap.Node* %56, %shadow.standard..AddressMap.Node** %58
+    %59 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %node
+    %60 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %59)
+    %61 = icmp eq %shadow.standard..AddressMap.Node* %60, null
+    br %boolean %61, label %_label7, label %_label20
+_label20:
+    %node.11 = bitcast %shadow.standard..AddressMap.Node* %60 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %node.11, %shadow.standard..AddressMap.Node** %node
+    br label %_label13
+_label13:
+    %i.80 = phi %int [ %i.31, %_label11 ],[ %i.80, %_label20 ]
+    %newCapacity.35 = phi %int [ %newCapacity.45, %_label11 ],[ %newCapacity.35, %_label20 ]
+    br label %_label21
+_label7:
+    %i.74 = phi %int [ %i.80, %_label19 ],[ %i.31, %_label10 ]
+    %newCapacity.48 = phi %int [ %newCapacity.35, %_label19 ],[ %newCapacity.45, %_label10 ]
+    br label %_label6
+_label6:
+    br label %_label5
+_label5:
+    %i.7 = add %int %i.74, 1
+    br label %_label23
+_label23:
+    %newCapacity.45 = phi %int [ %newCapacity.48, %_label5 ],[ %1, %_label3 ]
+    %i.31 = phi %int [ %i.7, %_label5 ],[ 0, %_label3 ]
+    %62 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %63 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %62, i32 0, i32 2
+    %64 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %63
+    %65 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %64, 1, 0
+    %66 = icmp slt %int %i.31, %65
+    br %boolean %66, label %_label22, label %_label4
+_label4:
+    %67 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %68 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %newTable
+    %69 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %67, i32 0, i32 2
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %68, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %69
+    %70 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %71 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %72 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %71, i32 0, i32 3
+    %73 = load %float, %float* %72
+    %74 = call %float @shadow.standard..int_Mmultiply_float(%int %newCapacity.45, %float %73)
+    %75 = fptosi %float %74 to %int
+    %76 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %70, i32 0, i32 6
+    store %int %75, %int* %76
+    ret void
+}
+
+define private %shadow.standard..Object* @shadow.standard..AddressMap_Mindex_ulong_W_shadow.standard..CanIndexNullable_L_ulong_ulong_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..AddressMap*
+    %5 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..ulong*
+    %7 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %6, i32 0, i32 2
+    %8 = load %ulong, %ulong* %7
+    %9 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %4, %ulong %8)
+    %10 = bitcast %shadow.standard..ulong* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private void @shadow.standard..AddressMap_Mindex_ulong_ulong_W_shadow.standard..CanIndexStore_L_ulong_ulong_R(%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %value = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    store %shadow.standard..Object* %2, %shadow.standard..Object** %value
+    %4 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %5 = bitcast %shadow.standard..Object* %4 to %shadow.standard..AddressMap*
+    %6 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %7 = bitcast %shadow.standard..Object* %6 to %shadow.standard..ulong*
+    %8 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %7, i32 0, i32 2
+    %9 = load %ulong, %ulong* %8
+    %10 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %11 = bitcast %shadow.standard..Object* %10 to %shadow.standard..ulong*
+    %12 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %11, i32 0, i32 2
+    %13 = load %ulong, %ulong* %12
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %9, %ulong %13)
+    ret void
+}
+
+define private { %shadow.utility..Map_methods*, %shadow.standard..Object* } @shadow.standard..AddressMap_Mclear_W_shadow.utility..Map_L_ulong_ulong_R(%shadow.standard..Object*) unnamed_addr {
+    %_temp = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..AddressMap*
+    %4 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mclear(%shadow.standard..AddressMap* %3)
+    %5 = bitcast %shadow.standard..AddressMap* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %5)
+    %7 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Object_class, %int 4)
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..Object**
+    %9 = insertvalue { %shadow.standard..Object**, [1 x %int] } zeroinitializer, %shadow.standard..Object** %8, 0
+    %10 = insertvalue { %shadow.standard..Object**, [1 x %int] } %9, %int 4, 1, 0
+    %11 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %12 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %11, i32 0, i32 0
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %12
+    %14 = bitcast %shadow.standard..Class* %13 to %shadow.standard..GenericClass*
+    %15 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %14, i32 0, i32 10
+    %16 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %15
+    %17 = extractvalue { %shadow.standard..Object**, [1 x %int] } %16, 0
+    %18 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %17, %int 0
+    %19 = load %shadow.standard..Object*, %shadow.standard..Object** %18
+    %20 = bitcast %shadow.standard..Object* %19 to %shadow.standard..Class*
+    %21 = extractvalue { %shadow.standard..Object**, [1 x %int] } %16, 0
+    %22 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %21, %int 1
+    %23 = load %shadow.standard..Object*, %shadow.standard..Object** %22
+    %24 = bitcast %shadow.standard..Class* %20 to %shadow.standard..Object*
+    %25 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %26 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %25, %int 0
+    store %shadow.standard..Object* %24, %shadow.standard..Object** %26
+    %27 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %28 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %27, %int 1
+    store %shadow.standard..Object* %23, %shadow.standard..Object** %28
+    %29 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %30 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %29, i32 0, i32 0
+    %31 = load %shadow.standard..Class*, %shadow.standard..Class** %30
+    %32 = bitcast %shadow.standard..Class* %31 to %shadow.standard..GenericClass*
+    %33 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %32, i32 0, i32 10
+    %34 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %33
+    %35 = extractvalue { %shadow.standard..Object**, [1 x %int] } %34, 0
+    %36 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %35, %int 2
+    %37 = load %shadow.standard..Object*, %shadow.standard..Object** %36
+    %38 = bitcast %shadow.standard..Object* %37 to %shadow.standard..Class*
+    %39 = extractvalue { %shadow.standard..Object**, [1 x %int] } %34, 0
+    %40 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %39, %int 3
+    %41 = load %shadow.standard..Object*, %shadow.standard..Object** %40
+    %42 = bitcast %shadow.standard..Class* %38 to %shadow.standard..Object*
+    %43 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %44 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %43, %int 2
+    store %shadow.standard..Object* %42, %shadow.standard..Object** %44
+    %45 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %46 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %45, %int 3
+    store %shadow.standard..Object* %41, %shadow.standard..Object** %46
+    %47 = call %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class* null, %shadow.standard..String* @_string113, { %shadow.standard..Object**, [1 x %int] } %10, %int 0, %int 4)
+    %48 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** @_genericSet
+    %49 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %48, %shadow.standard..String* %47, { %shadow.standard..Object**, [1 x %int] } %10)
+    %50 = icmp eq %shadow.standard..GenericClass* %49, null
+    br %boolean %50, label %_label1, label %_label2
+_label1:
+    %51 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Class_class, %int 0)
+    %52 = bitcast %shadow.standard..Object* %51 to %shadow.standard..Class**
+    %53 = insertvalue { %shadow.standard..Class**, [1 x %int] } zeroinitializer, %shadow.standard..Class** %52, 0
+    %54 = insertvalue { %shadow.standard..Class**, [1 x %int] } %53, %int 0, 1, 0
+    %55 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %48, %shadow.standard..Class* @shadow.utility..Map_class, %shadow.standard..String* %47, %shadow.standard..Class* null, { %shadow.standard..Class**, [1 x %int] } %54, { %shadow.standard..Object**, [1 x %int] } %10)
+    %_temp.2 = bitcast %shadow.standard..GenericClass* %55 to %shadow.standard..Class*
+    store %shadow.standard..Class* %_temp.2, %shadow.standard..Class** %_temp
+    br label %_label3
+_label2:
+    %_temp.3 = bitcast %shadow.standard..GenericClass* %49 to %shadow.standard..Class*
+    store %shadow.standard..Class* %_temp.3, %shadow.standard..Class** %_temp
+    br label %_label3
+_label3:
+    %56 = load %shadow.standard..Class*, %shadow.standard..Class** %_temp
+    %57 = call %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int(%shadow.standard..Class* %6, %shadow.standard..Class* %56, %int -612131811)
+    %58 = bitcast %shadow.standard..Object* %57 to %shadow.utility..Map_methods*
+    %59 = insertvalue { %shadow.utility..Map_methods*, %shadow.standard..Object* } undef, %shadow.utility..Map_methods* %58, 0
+    %60 = bitcast %shadow.standard..AddressMap* %4 to %shadow.standard..Object*
+    %61 = insertvalue { %shadow.utility..Map_methods*, %shadow.standard..Object* } %59, %shadow.standard..Object* %60, 1
+    ret { %shadow.utility..Map_methods*, %shadow.standard..Object* } %61
+}
+
+define private %boolean @shadow.standard..AddressMap_McontainsKey_ulong_W_shadow.utility..Map_L_ulong_ulong_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..AddressMap*
+    %5 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..ulong*
+    %7 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %6, i32 0, i32 2
+    %8 = load %ulong, %ulong* %7
+    %9 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %4, %ulong %8)
+    ret %boolean %9
+}
+
+define private %boolean @shadow.standard..AddressMap_McontainsValue_ulong_W_shadow.utility..Map_L_ulong_ulong_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %value = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %value
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..AddressMap*
+    %5 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..ulong*
+    %7 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %6, i32 0, i32 2
+    %8 = load %ulong, %ulong* %7
+    %9 = call %boolean @shadow.standard..AddressMap_McontainsValue_ulong(%shadow.standard..AddressMap* %4, %ulong %8)
+    ret %boolean %9
+}
+
+define private %shadow.standard..Object* @shadow.standard..AddressMap_Mremove_ulong_W_shadow.utility..Map_L_ulong_ulong_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..AddressMap*
+    %5 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..ulong*
+    %7 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %6, i32 0, i32 2
+    %8 = load %ulong, %ulong* %7
+    %9 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mremove_ulong(%shadow.standard..AddressMap* %4, %ulong %8)
+    %10 = bitcast %shadow.standard..ulong* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mclear(%shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %2 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %2, i32 0, i32 5
+    store %int 0, %int* %3
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %int 16)
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..AddressMap.Node**
+    %7 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } zeroinitializer, %shadow.standard..AddressMap.Node** %6, 0
+    %8 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %7, %int 16, 1, 0
+    %9 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %4, i32 0, i32 2
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %8, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %9
+    %10 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %11 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %12 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %11, i32 0, i32 2
+    %13 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %12
+    %14 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %13, 1, 0
+    %15 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %16 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %15, i32 0, i32 3
+    %17 = load %float, %float* %16
+    %18 = call %float @shadow.standard..int_Mmultiply_float(%int %14, %float %17)
+    %19 = fptosi %float %18 to %int
+    %20 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %10, i32 0, i32 6
+    store %int %19, %int* %20
+    %21 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %22 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %21, i32 0, i32 4
+    %23 = load %int, %int* %22
+    %24 = add %int %23, 1
+    %25 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %21, i32 0, i32 4
+    store %int %24, %int* %25
+    %26 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    ret %shadow.standard..AddressMap* %26
+}
+
+define %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap*, %ulong) {
+    %current = alloca %shadow.standard..AddressMap.Node*
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %4, i32 0, i32 2
+    %6 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %5
+    %7 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %6, 1, 0
+    %8 = call { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap* %3, %ulong %1, %int %7)
+    %index.5 = extractvalue { %int, %int } %8, 0
+    %hash.6 = extractvalue { %int, %int } %8, 1
+    %9 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %10 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %9, i32 0, i32 2
+    %11 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %10
+    %12 = bitcast %int %index.5 to %uint
+    %13 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint %12, %14
+    br %boolean %15, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %16 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %17 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %16, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %18 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %17, %int %index.5)
+    %19 = bitcast %shadow.standard..IndexOutOfBoundsException* %18 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %19) noreturn
+    unreachable
+_label5:
+    %20 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 0
+    %21 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %20, %int %index.5
+    %22 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %21
+    %23 = icmp eq %shadow.standard..AddressMap.Node* %22, null
+    br %boolean %23, label %_label2, label %_label6
+_label6:
+    %current.7 = bitcast %shadow.standard..AddressMap.Node* %22 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.7, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label12:
+    %24 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %25 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %24)
+    %26 = icmp eq %shadow.standard..AddressMap.Node* %25, null
+    br %boolean %26, label %_label2, label %_label11
+_label11:
+    %current.10 = bitcast %shadow.standard..AddressMap.Node* %25 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.10, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label8:
+    %key.24 = phi %ulong [ %1, %_label6 ],[ %key.24, %_label11 ]
+    %hash.15 = phi %int [ %hash.6, %_label6 ],[ %hash.15, %_label11 ]
+    %27 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %28 = call %int @shadow.standard..AddressMap.Node_Mhash(%shadow.standard..AddressMap.Node* %27)
+    %29 = icmp eq %int %28, %hash.15
+    %_temp.8 = xor %boolean -1, %29
+    br %boolean %_temp.8, label %_label10, label %_label9
+_label10:
+    %30 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %31 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %30)
+    %32 = icmp eq %ulong %31, %key.24
+    %_temp.9 = xor %boolean -1, %32
+    br label %_label9
+_label9:
+    %_temp.31 = phi %boolean [ %_temp.9, %_label10 ],[ %_temp.8, %_label8 ]
+    br %boolean %_temp.31, label %_label12, label %_label7
+_label7:
+    ret %boolean true
+_label2:
+    ret %boolean false
+}
+
+define %boolean @shadow.standard..AddressMap_McontainsValue_ulong(%shadow.standard..AddressMap*, %ulong) {
+    %_temp = alloca { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %_temp.3 = call { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } @shadow.standard..AddressMap_Miterator(%shadow.standard..AddressMap* %3)
+    store { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %_temp.3, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }* %_temp
+    br label %_label2
+_label6:
+    %4 = load { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }* %_temp
+    %5 = extractvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %4, 0
+    %6 = getelementptr %shadow.standard..Iterator_methods, %shadow.standard..Iterator_methods* %5, i32 0, i32 1
+    %7 = load %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)** %6
+    %8 = load { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }* %_temp
+    %9 = extractvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %8, 1
+    %10 = call %shadow.standard..Object* %7(%shadow.standard..Object* %9)
+    %11 = bitcast %shadow.standard..Object* %10 to %shadow.standard..ulong*
+    %12 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %11, i32 0, i32 2
+    %element.4 = load %ulong, %ulong* %12
+    %13 = icmp eq %ulong %element.4, %value.9
+    br %boolean %13, label %_label4, label %_label5
+_label4:
+    ret %boolean true
+_label5:
+    br label %_label2
+_label2:
+    %value.9 = phi %ulong [ %value.9, %_label5 ],[ %1, %_label0 ]
+    %14 = load { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }* %_temp
+    %15 = extractvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %14, 0
+    %16 = getelementptr %shadow.standard..Iterator_methods, %shadow.standard..Iterator_methods* %15, i32 0, i32 0
+    %17 = load %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)** %16
+    %18 = load { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* }* %_temp
+    %19 = extractvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %18, 1
+    %20 = call %boolean %17(%shadow.standard..Object* %19)
+    br %boolean %20, label %_label6, label %_label1
+_label1:
+    ret %boolean false
+}
+
+define %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %_temp = alloca { %shadow.standard..AddressMap.Node**, [1 x %int] }
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = ptrtoint %shadow.standard..AddressMap* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..AddressMap_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..AddressMap* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..AddressMap*
+    %15 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %3, i32 0, i32 2
+    %16 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %15
+    %17 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %16, 1, 0
+    %18 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %int %17)
+    %19 = bitcast %shadow.standard..Object* %18 to %shadow.standard..AddressMap.Node**
+    %20 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } zeroinitializer, %shadow.standard..AddressMap.Node** %19, 0
+    %_temp.3 = insertvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %20, %int %17, 1, 0
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %_temp.3, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %_temp
+    %21 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %_temp
+    br label %_label6
+_label6:
+    %_temp1.6 = phi %int [ %_temp1.5, %_label7 ],[ -1, %_label1 ],[ %_temp1.5, %_label8 ]
+    %_temp1.5 = add %int %_temp1.6, 1
+    %22 = icmp slt %int %_temp1.5, %17
+    br %boolean %22, label %_label7, label %_label5
+_label7:
+    %23 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %16, 0
+    %24 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %23, %int %_temp1.5
+    %25 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %24
+    %26 = icmp eq %shadow.standard..AddressMap.Node* %25, null
+    br %boolean %26, label %_label6, label %_label8
+_label8:
+    %27 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap.Node* %25, %shadow.standard..AddressMap* %5)
+    %28 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %_temp
+    %29 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %28, 0
+    %30 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %29, %int %_temp1.5
+    store %shadow.standard..AddressMap.Node* %27, %shadow.standard..AddressMap.Node** %30
+    br label %_label6
+_label5:
+    %31 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %14, i32 0, i32 2
+    store { %shadow.standard..AddressMap.Node**, [1 x %int] } %21, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %31
+    br label %_label4
+_label4:
+    ret %shadow.standard..AddressMap* %14
+_label2:
+    %32 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %33 = bitcast %shadow.standard..ulong* %32 to %shadow.standard..ulong*
+    %34 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %33, i32 0, i32 2
+    %35 = load %ulong, %ulong* %34
+    %36 = inttoptr %ulong %35 to %shadow.standard..AddressMap*
+    ret %shadow.standard..AddressMap* %36
+}
+
+define %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap*, %ulong) {
+    %current = alloca %shadow.standard..AddressMap.Node*
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %4, i32 0, i32 2
+    %6 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %5
+    %7 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %6, 1, 0
+    %8 = call { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap* %3, %ulong %1, %int %7)
+    %index.5 = extractvalue { %int, %int } %8, 0
+    %hash.6 = extractvalue { %int, %int } %8, 1
+    %9 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %10 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %9, i32 0, i32 2
+    %11 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %10
+    %12 = bitcast %int %index.5 to %uint
+    %13 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint %12, %14
+    br %boolean %15, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %16 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %17 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %16, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %18 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %17, %int %index.5)
+    %19 = bitcast %shadow.standard..IndexOutOfBoundsException* %18 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %19) noreturn
+    unreachable
+_label5:
+    %20 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 0
+    %21 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %20, %int %index.5
+    %22 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %21
+    %23 = icmp eq %shadow.standard..AddressMap.Node* %22, null
+    br %boolean %23, label %_label2, label %_label6
+_label6:
+    %current.7 = bitcast %shadow.standard..AddressMap.Node* %22 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.7, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label12:
+    %24 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %25 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %24)
+    %26 = icmp eq %shadow.standard..AddressMap.Node* %25, null
+    br %boolean %26, label %_label2, label %_label11
+_label11:
+    %current.10 = bitcast %shadow.standard..AddressMap.Node* %25 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.10, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label8:
+    %key.24 = phi %ulong [ %1, %_label6 ],[ %key.24, %_label11 ]
+    %hash.15 = phi %int [ %hash.6, %_label6 ],[ %hash.15, %_label11 ]
+    %27 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %28 = call %int @shadow.standard..AddressMap.Node_Mhash(%shadow.standard..AddressMap.Node* %27)
+    %29 = icmp eq %int %28, %hash.15
+    %_temp.8 = xor %boolean -1, %29
+    br %boolean %_temp.8, label %_label10, label %_label9
+_label10:
+    %30 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %31 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %30)
+    %32 = icmp eq %ulong %31, %key.24
+    %_temp.9 = xor %boolean -1, %32
+    br label %_label9
+_label9:
+    %_temp.31 = phi %boolean [ %_temp.9, %_label10 ],[ %_temp.8, %_label8 ]
+    br %boolean %_temp.31, label %_label12, label %_label7
+_label7:
+    %33 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %34 = call %ulong @shadow.standard..AddressMap.Node_Mvalue(%shadow.standard..AddressMap.Node* %33)
+    %35 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ulong_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..ulong* getelementptr (%shadow.standard..ulong, %shadow.standard..ulong* null, i32 1) to i32))
+    %36 = bitcast %shadow.standard..Object* %35 to %shadow.standard..ulong*
+    %37 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %36, i32 0, i32 2
+    store %ulong %34, %ulong* %37
+    ret %shadow.standard..ulong* %36
+_label2:
+    br label %_label1
+_label1:
+    %38 = bitcast %shadow.standard..Object* null to %shadow.standard..ulong*
+    ret %shadow.standard..ulong* %38
+}
+
+define void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap*, %ulong, %ulong) {
+    %current = alloca %shadow.standard..AddressMap.Node*
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %6 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %5, i32 0, i32 2
+    %7 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %6
+    %8 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %7, 1, 0
+    %9 = call { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap* %4, %ulong %1, %int %8)
+    %index.6 = extractvalue { %int, %int } %9, 0
+    %hash.7 = extractvalue { %int, %int } %9, 1
+    %10 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %11 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %10, i32 0, i32 2
+    %12 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %11
+    %13 = bitcast %int %index.6 to %uint
+    %14 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %12, 1, 0
+    %15 = bitcast %int %14 to %uint
+    %16 = icmp ult %uint %13, %15
+    br %boolean %16, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %17 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %18 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %17, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %19 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %18, %int %index.6)
+    %20 = bitcast %shadow.standard..IndexOutOfBoundsException* %19 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %20) noreturn
+    unreachable
+_label5:
+    %21 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %12, 0
+    %22 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %21, %int %index.6
+    %23 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %22
+    %24 = icmp eq %shadow.standard..AddressMap.Node* %23, null
+    br %boolean %24, label %_label2, label %_label6
+_label6:
+    %current.8 = bitcast %shadow.standard..AddressMap.Node* %23 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.8, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label12:
+    %25 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %26 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %25)
+    %27 = icmp eq %shadow.standard..AddressMap.Node* %26, null
+    br %boolean %27, label %_label2, label %_label11
+_label11:
+    %current.11 = bitcast %shadow.standard..AddressMap.Node* %26 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.11, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label8:
+    %index.57 = phi %int [ %index.57, %_label11 ],[ %index.6, %_label6 ]
+    %value.36 = phi %ulong [ %value.36, %_label11 ],[ %2, %_label6 ]
+    %key.25 = phi %ulong [ %key.25, %_label11 ],[ %1, %_label6 ]
+    %hash.16 = phi %int [ %hash.16, %_label11 ],[ %hash.7, %_label6 ]
+    %28 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %29 = call %int @shadow.standard..AddressMap.Node_Mhash(%shadow.standard..AddressMap.Node* %28)
+    %30 = icmp eq %int %29, %hash.16
+    %_temp.9 = xor %boolean -1, %30
+    br %boolean %_temp.9, label %_label10, label %_label9
+_label10:
+    %31 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %32 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %31)
+    %33 = icmp eq %ulong %32, %key.25
+    %_temp.10 = xor %boolean -1, %33
+    br label %_label9
+_label9:
+    %_temp.32 = phi %boolean [ %_temp.9, %_label8 ],[ %_temp.10, %_label10 ]
+    br %boolean %_temp.32, label %_label12, label %_label7
+_label7:
+    %34 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    call void @shadow.standard..AddressMap.Node_Mvalue_ulong(%shadow.standard..AddressMap.Node* %34, %ulong %value.36)
+    br label %_label1
+_label2:
+    %value.69 = phi %ulong [ %value.36, %_label12 ],[ %2, %_label5 ]
+    %key.66 = phi %ulong [ %key.25, %_label12 ],[ %1, %_label5 ]
+    %hash.63 = phi %int [ %hash.16, %_label12 ],[ %hash.7, %_label5 ]
+    %index.52 = phi %int [ %index.57, %_label12 ],[ %index.6, %_label5 ]
+    %35 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %36 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %35, i32 0, i32 2
+    %37 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %36
+    %38 = bitcast %int %index.52 to %uint
+    %39 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br %boolean %41, label %_label14, label %_label13
+_label14:
+    br label %_label15
+_label13:
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %43 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %42, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %44 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %43, %int %index.52)
+    %45 = bitcast %shadow.standard..IndexOutOfBoundsException* %44 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %45) noreturn
+    unreachable
+_label15:
+    %46 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %47 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %46, i32 0, i32 2
+    %48 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %47
+    %49 = bitcast %int %index.52 to %uint
+    %50 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %48, 1, 0
+    %51 = bitcast %int %50 to %uint
+    %52 = icmp ult %uint %49, %51
+    br %boolean %52, label %_label17, label %_label16
+_label17:
+    br label %_label18
+_label16:
+    %53 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %54 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %53, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %55 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %54, %int %index.52)
+    %56 = bitcast %shadow.standard..IndexOutOfBoundsException* %55 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %56) noreturn
+    unreachable
+_label18:
+    %57 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %48, 0
+    %58 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %57, %int %index.52
+    %59 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %58
+    %60 = bitcast %shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object_methods*
+    %61 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %shadow.standard..Object_methods* %60, %int ptrtoint (%shadow.standard..AddressMap.Node* getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 1) to i32))
+    %62 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %63 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcreate_int_ulong_ulong_shadow.standard..AddressMap.Node(%shadow.standard..Object* %61, %shadow.standard..AddressMap* %62, %int %hash.63, %ulong %key.66, %ulong %value.69, %shadow.standard..AddressMap.Node* %59)
+    %64 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %37, 0
+    %65 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %64, %int %index.52
+    store %shadow.standard..AddressMap.Node* %63, %shadow.standard..AddressMap.Node** %65
+    %66 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %67 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %66, i32 0, i32 4
+    %68 = load %int, %int* %67
+    %69 = add %int %68, 1
+    %70 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %66, i32 0, i32 4
+    store %int %69, %int* %70
+    %71 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %72 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %71, i32 0, i32 5
+    %73 = load %int, %int* %72
+    %74 = add %int %73, 1
+    %75 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %71, i32 0, i32 5
+    store %int %74, %int* %75
+    %76 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %77 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %76, i32 0, i32 5
+    %78 = load %int, %int* %77
+    %79 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %80 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %79, i32 0, i32 6
+    %81 = load %int, %int* %80
+    %82 = icmp sgt %int %78, %81
+    br %boolean %82, label %_label19, label %_label20
+_label19:
+    %83 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %84 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %85 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %84, i32 0, i32 2
+    %86 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %85
+    %87 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %86, 1, 0
+    %88 = mul %int 2, %87
+    call void @shadow.standard..AddressMap_Mresize_int(%shadow.standard..AddressMap* %83, %int %88)
+    br label %_label20
+_label20:
+    br label %_label1
+_label1:
+    ret void
+}
+
+define %boolean @shadow.standard..AddressMap_MisEmpty(%shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %2 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %2, i32 0, i32 5
+    %4 = load %int, %int* %3
+    %5 = icmp eq %int %4, 0
+    ret %boolean %5
+}
+
+define { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } @shadow.standard..AddressMap_Miterator(%shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %2 = bitcast %shadow.standard..AddressMap.AddressMapIterator_methods* @shadow.standard..AddressMap.AddressMapIterator_methods to %shadow.standard..Object_methods*
+    %3 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap.AddressMapIterator_class, %shadow.standard..Object_methods* %2, %int ptrtoint (%shadow.standard..AddressMap.AddressMapIterator* getelementptr (%shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* null, i32 1) to i32))
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = call %shadow.standard..AddressMap.AddressMapIterator* @shadow.standard..AddressMap.AddressMapIterator_Mcreate(%shadow.standard..Object* %3, %shadow.standard..AddressMap* %4)
+    %6 = load %shadow.standard..Object*, %shadow.standard..Object** getelementptr inbounds ([1 x %shadow.standard..Object*], [1 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..AddressMap.AddressMapIterator, i32 0, i32 0)
+    %7 = bitcast %shadow.standard..Object* %6 to %shadow.standard..Iterator_methods*
+    %8 = insertvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } undef, %shadow.standard..Iterator_methods* %7, 0
+    %9 = bitcast %shadow.standard..AddressMap.AddressMapIterator* %5 to %shadow.standard..Object*
+    %10 = insertvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %8, %shadow.standard..Object* %9, 1
+    ret { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %10
+}
+
+define %shadow.standard..ulong* @shadow.standard..AddressMap_Mremove_ulong(%shadow.standard..AddressMap*, %ulong) {
+    %current = alloca %shadow.standard..AddressMap.Node*
+    %last = alloca %shadow.standard..AddressMap.Node*
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %3 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %5 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %4, i32 0, i32 2
+    %6 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %5
+    %7 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %6, 1, 0
+    %8 = call { %int, %int } @shadow.standard..AddressMap_MfindIndex_ulong_int(%shadow.standard..AddressMap* %3, %ulong %1, %int %7)
+    %index.5 = extractvalue { %int, %int } %8, 0
+    %hash.6 = extractvalue { %int, %int } %8, 1
+    %last.7 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %last.7, %shadow.standard..AddressMap.Node** %last
+    %9 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %10 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %9, i32 0, i32 2
+    %11 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %10
+    %12 = bitcast %int %index.5 to %uint
+    %13 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint %12, %14
+    br %boolean %15, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %16 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %17 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %16, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %18 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %17, %int %index.5)
+    %19 = bitcast %shadow.standard..IndexOutOfBoundsException* %18 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %19) noreturn
+    unreachable
+_label5:
+    %20 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %11, 0
+    %21 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %20, %int %index.5
+    %22 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %21
+    %23 = icmp eq %shadow.standard..AddressMap.Node* %22, null
+    br %boolean %23, label %_label2, label %_label6
+_label6:
+    %current.8 = bitcast %shadow.standard..AddressMap.Node* %22 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %current.8, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label12:
+    %last.11 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %24 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %25 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %24)
+    %26 = icmp eq %shadow.standard..AddressMap.Node* %25, null
+    br %boolean %26, label %_label2, label %_label11
+_label11:
+    %current.12 = bitcast %shadow.standard..AddressMap.Node* %25 to %shadow.standard..AddressMap.Node*
+    %27 = insertvalue { %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node* } undef, %shadow.standard..AddressMap.Node* %last.11, 0
+    %28 = insertvalue { %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node* } %27, %shadow.standard..AddressMap.Node* %current.12, 1
+    store %shadow.standard..AddressMap.Node* %last.11, %shadow.standard..AddressMap.Node** %last
+    store %shadow.standard..AddressMap.Node* %current.12, %shadow.standard..AddressMap.Node** %current
+    br label %_label8
+_label8:
+    %index.56 = phi %int [ %index.5, %_label6 ],[ %index.56, %_label11 ]
+    %key.26 = phi %ulong [ %1, %_label6 ],[ %key.26, %_label11 ]
+    %hash.17 = phi %int [ %hash.6, %_label6 ],[ %hash.17, %_label11 ]
+    %29 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %30 = call %int @shadow.standard..AddressMap.Node_Mhash(%shadow.standard..AddressMap.Node* %29)
+    %31 = icmp eq %int %30, %hash.17
+    %_temp.9 = xor %boolean -1, %31
+    br %boolean %_temp.9, label %_label10, label %_label9
+_label10:
+    %32 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %33 = call %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node* %32)
+    %34 = icmp eq %ulong %33, %key.26
+    %_temp.10 = xor %boolean -1, %34
+    br label %_label9
+_label9:
+    %_temp.33 = phi %boolean [ %_temp.9, %_label8 ],[ %_temp.10, %_label10 ]
+    br %boolean %_temp.33, label %_label12, label %_label7
+_label7:
+    %35 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %last
+    %36 = icmp eq %shadow.standard..AddressMap.Node* %35, null
+    br %boolean %36, label %_label14, label %_label15
+_label15:
+    %37 = bitcast %shadow.standard..AddressMap.Node* %35 to %shadow.standard..AddressMap.Node*
+    %38 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %39 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %38)
+    call void @shadow.standard..AddressMap.Node_Mnext_shadow.standard..AddressMap.Node(%shadow.standard..AddressMap.Node* %37, %shadow.standard..AddressMap.Node* %39)
+    br label %_label13
+_label14:
+    %40 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %41 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %40, i32 0, i32 2
+    %42 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %41
+    %43 = bitcast %int %index.56 to %uint
+    %44 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %42, 1, 0
+    %45 = bitcast %int %44 to %uint
+    %46 = icmp ult %uint %43, %45
+    br %boolean %46, label %_label17, label %_label16
+_label17:
+    br label %_label18
+_label16:
+    %47 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %48 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %47, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %49 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %48, %int %index.56)
+    %50 = bitcast %shadow.standard..IndexOutOfBoundsException* %49 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %50) noreturn
+    unreachable
+_label18:
+    %51 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %52 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %51)
+    %53 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %42, 0
+    %54 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %53, %int %index.56
+    store %shadow.standard..AddressMap.Node* %52, %shadow.standard..AddressMap.Node** %54
+    br label %_label13
+_label13:
+    %55 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %56 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %55, i32 0, i32 4
+    %57 = load %int, %int* %56
+    %58 = add %int %57, 1
+    %59 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %55, i32 0, i32 4
+    store %int %58, %int* %59
+    %60 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %current
+    %61 = call %ulong @shadow.standard..AddressMap.Node_Mvalue(%shadow.standard..AddressMap.Node* %60)
+    %62 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ulong_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..ulong* getelementptr (%shadow.standard..ulong, %shadow.standard..ulong* null, i32 1) to i32))
+    %63 = bitcast %shadow.standard..Object* %62 to %shadow.standard..ulong*
+    %64 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %63, i32 0, i32 2
+    store %ulong %61, %ulong* %64
+    ret %shadow.standard..ulong* %63
+_label2:
+    %65 = bitcast %shadow.standard..Object* null to %shadow.standard..ulong*
+    ret %shadow.standard..ulong* %65
+}
+
+define %int @shadow.standard..AddressMap_Msize(%shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..AddressMap*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap* %0, %shadow.standard..AddressMap** %this
+    %2 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %2, i32 0, i32 5
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcreate_int_ulong_ulong(%shadow.standard..Object* returned, %shadow.standard..AddressMap*, %int, %ulong, %ulong) {
+    %_outer = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %this.0, %shadow.standard..AddressMap.Node** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %_outer
+    %6 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %7 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %_outer
+    %8 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %6, i32 0, i32 4
+    store %shadow.standard..AddressMap* %7, %shadow.standard..AddressMap** %8
+    %9 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %10 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %_outer
+    %11 = bitcast %shadow.standard..AddressMap.Node* %9 to %shadow.standard..Object*
+    %12 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    %13 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcreate_int_ulong_ulong_shadow.standard..AddressMap.Node(%shadow.standard..Object* %11, %shadow.standard..AddressMap* %10, %int %2, %ulong %3, %ulong %4, %shadow.standard..AddressMap.Node* %12)
+    %14 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %15 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.Node*
+    ret %shadow.standard..AddressMap.Node* %15
+}
+
+define %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcreate_int_ulong_ulong_shadow.standard..AddressMap.Node(%shadow.standard..Object* returned, %shadow.standard..AddressMap*, %int, %ulong, %ulong, %shadow.standard..AddressMap.Node*) {
+    %_outer = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..AddressMap.Node*
+    %after = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.Node*
+    store %shadow.standard..AddressMap.Node* %this.0, %shadow.standard..AddressMap.Node** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %_outer
+    store %shadow.standard..AddressMap.Node* %5, %shadow.standard..AddressMap.Node** %after
+    %7 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %8 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %_outer
+    %9 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %7, i32 0, i32 4
+    store %shadow.standard..AddressMap* %8, %shadow.standard..AddressMap** %9
+    %10 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %11 = bitcast %shadow.standard..AddressMap.Node* %10 to %shadow.standard..Object*
+    %12 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %11)
+    %13 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %14 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %15 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %16 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %17 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    %18 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %16, i32 0, i32 5
+    store %shadow.standard..AddressMap.Node* %17, %shadow.standard..AddressMap.Node** %18
+    %19 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %20 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %19, i32 0, i32 6
+    store %int %2, %int* %20
+    %21 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %22 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %21, i32 0, i32 2
+    store %ulong %3, %ulong* %22
+    %23 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %24 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %23, i32 0, i32 3
+    store %ulong %4, %ulong* %24
+    %25 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %26 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %after
+    %27 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %25, i32 0, i32 5
+    store %shadow.standard..AddressMap.Node* %26, %shadow.standard..AddressMap.Node** %27
+    %28 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %29 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.Node*
+    ret %shadow.standard..AddressMap.Node* %29
+}
+
+define %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %4 = ptrtoint %shadow.standard..AddressMap.Node* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap.Node_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..AddressMap.Node* getelementptr (%shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..AddressMap.Node_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..AddressMap.Node* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..AddressMap.Node*
+    %15 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %3, i32 0, i32 4
+    %16 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %15
+    %17 = icmp eq %shadow.standard..AddressMap* %16, null
+    br %boolean %17, label %_label4, label %_label3
+_label3:
+    %18 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap* %16, %shadow.standard..AddressMap* %5)
+    %19 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %14, i32 0, i32 4
+    store %shadow.standard..AddressMap* %18, %shadow.standard..AddressMap** %19
+    br label %_label4
+_label4:
+    %20 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %3, i32 0, i32 5
+    %21 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %20
+    %22 = icmp eq %shadow.standard..AddressMap.Node* %21, null
+    br %boolean %22, label %_label6, label %_label5
+_label5:
+    %23 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap.Node* %21, %shadow.standard..AddressMap* %5)
+    %24 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %14, i32 0, i32 5
+    store %shadow.standard..AddressMap.Node* %23, %shadow.standard..AddressMap.Node** %24
+    br label %_label6
+_label6:
+    ret %shadow.standard..AddressMap.Node* %14
+_label2:
+    %25 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %26 = bitcast %shadow.standard..ulong* %25 to %shadow.standard..ulong*
+    %27 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %26, i32 0, i32 2
+    %28 = load %ulong, %ulong* %27
+    %29 = inttoptr %ulong %28 to %shadow.standard..AddressMap.Node*
+    ret %shadow.standard..AddressMap.Node* %29
+}
+
+define %int @shadow.standard..AddressMap.Node_Mhash(%shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    %2 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %2, i32 0, i32 6
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %ulong @shadow.standard..AddressMap.Node_Mkey(%shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    %2 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %2, i32 0, i32 2
+    %4 = load %ulong, %ulong* %3
+    ret %ulong %4
+}
+
+define %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    %2 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %2, i32 0, i32 5
+    %4 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %3
+    ret %shadow.standard..AddressMap.Node* %4
+}
+
+define void @shadow.standard..AddressMap.Node_Mnext_shadow.standard..AddressMap.Node(%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    %value = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    store %shadow.standard..AddressMap.Node* %1, %shadow.standard..AddressMap.Node** %value
+    %3 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %4 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %value
+    %5 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %3, i32 0, i32 5
+    store %shadow.standard..AddressMap.Node* %4, %shadow.standard..AddressMap.Node** %5
+    ret void
+}
+
+define %ulong @shadow.standard..AddressMap.Node_Mvalue(%shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    %2 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %2, i32 0, i32 3
+    %4 = load %ulong, %ulong* %3
+    ret %ulong %4
+}
+
+define void @shadow.standard..AddressMap.Node_Mvalue_ulong(%shadow.standard..AddressMap.Node*, %ulong) {
+    %this = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.Node* %0, %shadow.standard..AddressMap.Node** %this
+    %3 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %this
+    %4 = getelementptr inbounds %shadow.standard..AddressMap.Node, %shadow.standard..AddressMap.Node* %3, i32 0, i32 3
+    store %ulong %1, %ulong* %4
+    ret void
+}
+
+define %shadow.standard..AddressMap.AddressMapIterator* @shadow.standard..AddressMap.AddressMapIterator_Mcreate(%shadow.standard..Object* returned, %shadow.standard..AddressMap*) {
+    %_outer = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.AddressMapIterator*
+    store %shadow.standard..AddressMap.AddressMapIterator* %this.0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %_outer
+    %3 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %_outer
+    %5 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %3, i32 0, i32 2
+    store %shadow.standard..AddressMap* %4, %shadow.standard..AddressMap** %5
+    %6 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %7 = bitcast %shadow.standard..AddressMap.AddressMapIterator* %6 to %shadow.standard..Object*
+    %8 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %7)
+    %9 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %10 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %9, i32 0, i32 5
+    store %int 0, %int* %10
+    %11 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %12 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %13 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %14 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %13, i32 0, i32 2
+    %15 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %14
+    %16 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %15, i32 0, i32 4
+    %17 = load %int, %int* %16
+    %18 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %12, i32 0, i32 4
+    store %int %17, %int* %18
+    %19 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %20 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %21 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    %22 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.AddressMapIterator_Mnext_shadow.standard..AddressMap.Node(%shadow.standard..AddressMap.AddressMapIterator* %20, %shadow.standard..AddressMap.Node* %21)
+    %23 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %19, i32 0, i32 3
+    store %shadow.standard..AddressMap.Node* %22, %shadow.standard..AddressMap.Node** %23
+    %24 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %25 = bitcast %shadow.standard..Object* %0 to %shadow.standard..AddressMap.AddressMapIterator*
+    ret %shadow.standard..AddressMap.AddressMapIterator* %25
+}
+
+define void @shadow.standard..AddressMap.AddressMapIterator_McheckForModifications(%shadow.standard..AddressMap.AddressMapIterator*) {
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.AddressMapIterator* %0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %2 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %3 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %2, i32 0, i32 2
+    %4 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %3
+    %5 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %4, i32 0, i32 4
+    %6 = load %int, %int* %5
+    %7 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %8 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %7, i32 0, i32 4
+    %9 = load %int, %int* %8
+    %10 = icmp eq %int %6, %9
+    %11 = xor %boolean -1, %10
+    br %boolean %11, label %_label2, label %_label3
+_label2:
+    %12 = bitcast %shadow.utility..IllegalModificationException_methods* @shadow.utility..IllegalModificationException_methods to %shadow.standard..Object_methods*
+    %13 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.utility..IllegalModificationException_class, %shadow.standard..Object_methods* %12, %int ptrtoint (%shadow.utility..IllegalModificationException* getelementptr (%shadow.utility..IllegalModificationException, %shadow.utility..IllegalModificationException* null, i32 1) to i32))
+    %14 = call %shadow.utility..IllegalModificationException* @shadow.utility..IllegalModificationException_Mcreate(%shadow.standard..Object* %13)
+    %15 = bitcast %shadow.utility..IllegalModificationException* %14 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %15) noreturn
+    unreachable
+_label3:
+    ret void
+}
+
+define private %shadow.standard..Object* @shadow.standard..AddressMap.AddressMapIterator_Mnext_W_shadow.standard..Iterator_L_ulong_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..AddressMap.AddressMapIterator*
+    %4 = call %ulong @shadow.standard..AddressMap.AddressMapIterator_Mnext(%shadow.standard..AddressMap.AddressMapIterator* %3)
+    %5 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ulong_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..ulong* getelementptr (%shadow.standard..ulong, %shadow.standard..ulong* null, i32 1) to i32))
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..ulong*
+    %7 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %6, i32 0, i32 2
+    store %ulong %4, %ulong* %7
+    %8 = bitcast %shadow.standard..ulong* %6 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %8
+}
+
+define %shadow.standard..AddressMap.AddressMapIterator* @shadow.standard..AddressMap.AddressMapIterator_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.AddressMapIterator* %0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %4 = ptrtoint %shadow.standard..AddressMap.AddressMapIterator* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..AddressMap.AddressMapIterator_methods* @shadow.standard..AddressMap.AddressMapIterator_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap.AddressMapIterator_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..AddressMap.AddressMapIterator* getelementptr (%shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..AddressMap.AddressMapIterator_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..AddressMap.AddressMapIterator* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..AddressMap.AddressMapIterator*
+    %15 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %3, i32 0, i32 2
+    %16 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %15
+    %17 = icmp eq %shadow.standard..AddressMap* %16, null
+    br %boolean %17, label %_label4, label %_label3
+_label3:
+    %18 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap* %16, %shadow.standard..AddressMap* %5)
+    %19 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %14, i32 0, i32 2
+    store %shadow.standard..AddressMap* %18, %shadow.standard..AddressMap** %19
+    br label %_label4
+_label4:
+    %20 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %3, i32 0, i32 3
+    %21 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %20
+    %22 = icmp eq %shadow.standard..AddressMap.Node* %21, null
+    br %boolean %22, label %_label6, label %_label5
+_label5:
+    %23 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..AddressMap.Node* %21, %shadow.standard..AddressMap* %5)
+    %24 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %14, i32 0, i32 3
+    store %shadow.standard..AddressMap.Node* %23, %shadow.standard..AddressMap.Node** %24
+    br label %_label6
+_label6:
+    ret %shadow.standard..AddressMap.AddressMapIterator* %14
+_label2:
+    %25 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %26 = bitcast %shadow.standard..ulong* %25 to %shadow.standard..ulong*
+    %27 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %26, i32 0, i32 2
+    %28 = load %ulong, %ulong* %27
+    %29 = inttoptr %ulong %28 to %shadow.standard..AddressMap.AddressMapIterator*
+    ret %shadow.standard..AddressMap.AddressMapIterator* %29
+}
+
+define %boolean @shadow.standard..AddressMap.AddressMapIterator_MhasNext(%shadow.standard..AddressMap.AddressMapIterator*) {
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.AddressMapIterator* %0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %2 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    call void @shadow.standard..AddressMap.AddressMapIterator_McheckForModifications(%shadow.standard..AddressMap.AddressMapIterator* %2)
+    %3 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %4 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %3, i32 0, i32 3
+    %5 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %4
+    %6 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    %7 = icmp eq %shadow.standard..AddressMap.Node* %5, %6
+    %8 = xor %boolean -1, %7
+    ret %boolean %8
+}
+
+define %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.AddressMapIterator_Mnext_shadow.standard..AddressMap.Node(%shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.Node*) {
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    %position = alloca %shadow.standard..AddressMap.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.AddressMapIterator* %0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    store %shadow.standard..AddressMap.Node* %1, %shadow.standard..AddressMap.Node** %position
+    %3 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %position
+    %4 = icmp eq %shadow.standard..AddressMap.Node* %3, null
+    br %boolean %4, label %_label2, label %_label3
+_label3:
+    %5 = bitcast %shadow.standard..AddressMap.Node* %3 to %shadow.standard..AddressMap.Node*
+    %position.3 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.Node_Mnext(%shadow.standard..AddressMap.Node* %5)
+    store %shadow.standard..AddressMap.Node* %position.3, %shadow.standard..AddressMap.Node** %position
+    br label %_label1
+_label2:
+    br label %_label1
+_label1:
+    br label %_label5
+_label11:
+    %6 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %7 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %6, i32 0, i32 2
+    %8 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %7
+    %9 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %8, i32 0, i32 2
+    %10 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %9
+    %11 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %12 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %11, i32 0, i32 5
+    %13 = load %int, %int* %12
+    %14 = bitcast %int %13 to %uint
+    %15 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %10, 1, 0
+    %16 = bitcast %int %15 to %uint
+    %17 = icmp ult %uint %14, %16
+    br %boolean %17, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %18 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %20 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %19, %int %13)
+    %21 = bitcast %shadow.standard..IndexOutOfBoundsException* %20 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %21) noreturn
+    unreachable
+_label10:
+    %22 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %10, 0
+    %23 = getelementptr inbounds %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %22, %int %13
+    %position.6 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %23
+    store %shadow.standard..AddressMap.Node* %position.6, %shadow.standard..AddressMap.Node** %position
+    %24 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %25 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %24, i32 0, i32 5
+    %26 = load %int, %int* %25
+    %27 = add %int %26, 1
+    %28 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %24, i32 0, i32 5
+    store %int %27, %int* %28
+    br label %_label5
+_label5:
+    %29 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %position
+    %30 = bitcast %shadow.standard..Object* null to %shadow.standard..AddressMap.Node*
+    %_temp.4 = icmp eq %shadow.standard..AddressMap.Node* %29, %30
+    br %boolean %_temp.4, label %_label7, label %_label6
+_label7:
+    %31 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %32 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %31, i32 0, i32 5
+    %33 = load %int, %int* %32
+    %34 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %35 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %34, i32 0, i32 2
+    %36 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %35
+    %37 = getelementptr inbounds %shadow.standard..AddressMap, %shadow.standard..AddressMap* %36, i32 0, i32 2
+    %38 = load { %shadow.standard..AddressMap.Node**, [1 x %int] }, { %shadow.standard..AddressMap.Node**, [1 x %int] }* %37
+    %39 = extractvalue { %shadow.standard..AddressMap.Node**, [1 x %int] } %38, 1, 0
+    %_temp.5 = icmp slt %int %33, %39
+    br label %_label6
+_label6:
+    %_temp.19 = phi %boolean [ %_temp.5, %_label7 ],[ %_temp.4, %_label5 ]
+    br %boolean %_temp.19, label %_label11, label %_label4
+_label4:
+    %40 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %position
+    ret %shadow.standard..AddressMap.Node* %40
+}
+
+define %ulong @shadow.standard..AddressMap.AddressMapIterator_Mnext(%shadow.standard..AddressMap.AddressMapIterator*) {
+    %this = alloca %shadow.standard..AddressMap.AddressMapIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..AddressMap.AddressMapIterator* %0, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %2 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    call void @shadow.standard..AddressMap.AddressMapIterator_McheckForModifications(%shadow.standard..AddressMap.AddressMapIterator* %2)
+    %3 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %4 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %5 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %4, i32 0, i32 3
+    %6 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %5
+    %7 = icmp eq %shadow.standard..AddressMap.Node* %6, null
+    br %boolean %7, label %_label2, label %_label3
+_label3:
+    %8 = bitcast %shadow.standard..AddressMap.Node* %6 to %shadow.standard..AddressMap.Node*
+    %value.3 = call %ulong @shadow.standard..AddressMap.Node_Mvalue(%shadow.standard..AddressMap.Node* %8)
+    %9 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %10 = load %shadow.standard..AddressMap.AddressMapIterator*, %shadow.standard..AddressMap.AddressMapIterator** %this
+    %11 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %10, i32 0, i32 3
+    %12 = load %shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node** %11
+    %13 = call %shadow.standard..AddressMap.Node* @shadow.standard..AddressMap.AddressMapIterator_Mnext_shadow.standard..AddressMap.Node(%shadow.standard..AddressMap.AddressMapIterator* %9, %shadow.standard..AddressMap.Node* %12)
+    %14 = insertvalue { %ulong, %shadow.standard..AddressMap.Node* } undef, %ulong %value.3, 0
+    %15 = insertvalue { %ulong, %shadow.standard..AddressMap.Node* } %14, %shadow.standard..AddressMap.Node* %13, 1
+    %16 = getelementptr inbounds %shadow.standard..AddressMap.AddressMapIterator, %shadow.standard..AddressMap.AddressMapIterator* %3, i32 0, i32 3
+    store %shadow.standard..AddressMap.Node* %13, %shadow.standard..AddressMap.Node** %16
+    ret %ulong %value.3
+_label2:
+    %17 = bitcast %shadow.utility..NoSuchElementException_methods* @shadow.utility..NoSuchElementException_methods to %shadow.standard..Object_methods*
+    %18 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.utility..NoSuchElementException_class, %shadow.standard..Object_methods* %17, %int ptrtoint (%shadow.utility..NoSuchElementException* getelementptr (%shadow.utility..NoSuchElementException, %shadow.utility..NoSuchElementException* null, i32 1) to i32))
+    %19 = call %shadow.utility..NoSuchElementException* @shadow.utility..NoSuchElementException_Mcreate(%shadow.standard..Object* %18)
+    %20 = bitcast %shadow.utility..NoSuchElementException* %19 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %20) noreturn
+    unreachable
+}
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %float @shadow.standard..int_Mmultiply_float(%int, %float)
+declare %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int(%shadow.standard..Class*, %shadow.standard..Class*, %int)
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %uint @shadow.standard..ulong_Mhash(%ulong)
+declare %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })
+declare %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)
+declare %shadow.utility..IllegalModificationException* @shadow.utility..IllegalModificationException_Mcreate(%shadow.standard..Object* returned)
+declare %uint @shadow.standard..uint_MbitShiftRight_int(%uint, %int)
+declare %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })
+declare %shadow.standard..String* @shadow.standard..Object_MtoString(%shadow.standard..Object*)
+declare %int @shadow.standard..int_MbitShiftLeft_int(%int, %int)
+declare %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* returned, %int)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+declare %shadow.utility..NoSuchElementException* @shadow.utility..NoSuchElementException_Mcreate(%shadow.standard..Object* returned)
+
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array2 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array3 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array4 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array5 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array6 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array7 = private unnamed_addr constant [63 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@AddressMap:Node>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([63 x %byte], [63 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 63] }, %boolean true }
+@_array8 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array9 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array10 = private unnamed_addr constant [59 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@AddressMap:Node>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([59 x %byte], [59 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 59] }, %boolean true }
+@_array11 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array12 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array13 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array14 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array15 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array16 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array17 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array18 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@Array<shadow:standard@AddressMap:Node>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array19 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array20 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@Iterator<ulong>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array21 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array22 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<uint>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array23 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array24 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array25 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array26 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<uint>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array27 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array28 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array29 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array30 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array31 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array32 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array33 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array34 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<uint>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array35 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array36 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array37 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array38 = private unnamed_addr constant [68 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@AddressMap:Node>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([68 x %byte], [68 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 68] }, %boolean true }
+@_array39 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<uint>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array40 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array41 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array42 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array43 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array44 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array45 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array46 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array47 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array48 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array49 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<uint>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array50 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array51 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array52 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array53 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array54 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array55 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array56 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array57 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array58 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array59 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array60 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array61 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array62 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<uint>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array63 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array64 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array65 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array66 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array67 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array68 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array69 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array70 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array71 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<uint>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array72 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array73 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array74 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array75 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array76 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array77 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array78 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array79 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array80 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array81 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array82 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array83 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<uint>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array84 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array85 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array86 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<uint>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array87 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array88 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array89 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array90 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array91 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array92 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array93 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array94 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array95 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array96 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array97 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array98 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array99 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array100 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array101 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string101 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array101, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array102 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string102 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array102, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array103 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string103 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array103, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array104 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string104 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array104, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array105 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string105 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array105, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array106 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string106 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array106, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array107 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string107 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array107, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array108 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string108 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array108, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array109 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string109 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array109, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array110 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@AddressMap"
+@_string110 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array110, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array111 = private unnamed_addr constant [15 x %ubyte] c"AddressMap:Node"
+@_string111 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([15 x %byte], [15 x %byte]* @_array111, i32 0, i32 0), [1 x %int] [%int 15] }, %boolean true }
+@_array112 = private unnamed_addr constant [29 x %ubyte] c"AddressMap:AddressMapIterator"
+@_string112 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array112, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array113 = private unnamed_addr constant [18 x %ubyte] c"shadow:utility@Map"
+@_string113 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([18 x %byte], [18 x %byte]* @_array113, i32 0, i32 0), [1 x %int] [%int 18] }, %boolean true }
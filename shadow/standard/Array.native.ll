@@ -17,9 +17,9 @@
 %shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
 %shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
 %shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
-%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, %int, %int }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
 %shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..GenericClass*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
-%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
 %shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
 %shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
 %shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
@@ -148,7 +148,7 @@ define %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1(%shadow.s
     %18 = getelementptr inbounds %shadow.standard..Array, %shadow.standard..Array* %17, i32 0, i32 0
     %19 = load %shadow.standard..Class*, %shadow.standard..Class** %18
     %20 = bitcast %shadow.standard..Class* %19 to %shadow.standard..GenericClass*
-	%21 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %20, i32 0, i32 8	
+	%21 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %20, i32 0, i32 10	
 	%22 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %21
 	%23 = extractvalue { %shadow.standard..Object**, [1 x %int] } %22, 0
 	%24 = load %shadow.standard..Object*, %shadow.standard..Object** %23
@@ -167,7 +167,7 @@ define %shadow.standard..Class* @shadow.standard..Array_MgetBaseClass(%shadow.st
     %3 = getelementptr inbounds %shadow.standard..Array, %shadow.standard..Array* %2, i32 0, i32 0
     %4 = load %shadow.standard..Class*, %shadow.standard..Class** %3
     %5 = bitcast %shadow.standard..Class* %4 to %shadow.standard..GenericClass*
-    %6 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %5, i32 0, i32 8	
+    %6 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %5, i32 0, i32 10	
 	%7 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %6	
     %8 = extractvalue { %shadow.standard..Object**, [1 x %int] } %7, 0	
 	; because the class is the first element, we can skip the getelementptr 0 stuff
@@ -188,7 +188,7 @@ define %shadow.standard..Object* @shadow.standard..Array_Mindex_int(%shadow.stan
 	%arrayClass = bitcast %shadow.standard..Class* %class to %shadow.standard..GenericClass*	
 	
 	; get base class
-	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 8	
+	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 10	
 	%typeParametersArray = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %typeParametersArrayRef
 	%typeParameters = extractvalue { %shadow.standard..Object**, [1 x %int] } %typeParametersArray, 0	
 	; because the class is the first element, we can skip the getelementptr 0 stuff
@@ -207,7 +207,7 @@ define %shadow.standard..Object* @shadow.standard..Array_Mindex_int(%shadow.stan
 
 define %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, i32, %shadow.standard..Class*, %shadow.standard..Object*, %boolean) {
 	; get generic class flag
-	%flagRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 6
+	%flagRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
 	%flag = load i32, i32* %flagRef
 	%primitiveFlag = and i32 %flag, 2	
 	%notPrimitive = icmp eq i32 %primitiveFlag, 0
@@ -245,8 +245,27 @@ _primitive:
 	ret %shadow.standard..Object* %wrapper
 
 _array:	
-	; create new Array wrapper
-	; ugh, have to create Array<T> class or ArrayNullable<T>
+	; create new Array wrapper, which needs the Array<T> or ArrayNullable<T> class
+	%nullMethods = bitcast %shadow.standard..ArrayNullable_methods* @shadow.standard..ArrayNullable_methods to %shadow.standard..Object_methods*
+	%notNullMethods = bitcast %shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object_methods*
+	%methods = select i1 %4, %shadow.standard..Object_methods* %nullMethods, %shadow.standard..Object_methods* %notNullMethods
+	
+	; array classes written by the compiler store { Array<T>, ArrayNullable<T> } in their data
+	%genericDataRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 4
+	%genericData = load { %shadow.standard..Object**, [1 x i32] }, { %shadow.standard..Object**, [1 x i32] }* %genericDataRef
+	%genericDataSize = extractvalue { %shadow.standard..Object**, [1 x i32] } %genericData, 1, 0
+	%hasGenericData = icmp eq i32 %genericDataSize, 2
+	br i1 %hasGenericData, label %_known, label %_lookup
+_known:
+	%genericArrays = extractvalue { %shadow.standard..Object**, [1 x i32] } %genericData, 0
+	%genericIndex = select i1 %4, i32 1, i32 0
+	%knownClassRef = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %genericArrays, i32 %genericIndex
+	%knownClassAsObj = load %shadow.standard..Object*, %shadow.standard..Object** %knownClassRef
+	%knownClass = bitcast %shadow.standard..Object* %knownClassAsObj to %shadow.standard..Class*
+	%isUnknown = icmp eq %shadow.standard..Class* %knownClass, null
+	br i1 %isUnknown, label %_lookup, label %_wrap
+_lookup:
+	; ugh, have to look up Array<T> class or ArrayNullable<T> by name
 	%baseClassRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 3
 	%baseClass = load %shadow.standard..Class*, %shadow.standard..Class** %baseClassRef
 	
@@ -254,16 +273,13 @@ _array:
 _null:
 	%nullNameRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..ArrayNullable_class , i32 0, i32 2
 	%nullName = load %shadow.standard..String*, %shadow.standard..String** %nullNameRef
-	%nullMethods = bitcast %shadow.standard..ArrayNullable_methods* @shadow.standard..ArrayNullable_methods to %shadow.standard..Object_methods*
 	br label %_name	
 _notNull:
 	%notNullNameRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..Array_class , i32 0, i32 2
 	%notNullName = load %shadow.standard..String*, %shadow.standard..String** %notNullNameRef
-	%notNullMethods = bitcast %shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object_methods*
 	br label %_name
 _name:
 	%arrayName = phi %shadow.standard..String* [ %nullName, %_null ], [ %notNullName, %_notNull ]
-	%methods = phi %shadow.standard..Object_methods* [%nullMethods, %_null ], [ %notNullMethods, %_notNull ]
 	
 	%parametersArrayAsObj = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Object_class, i32 2)
 	%parametersArrayRef = bitcast %shadow.standard..Object* %parametersArrayAsObj to %shadow.standard..Object**
@@ -281,15 +297,16 @@ _name:
 	%classSet = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** @_genericSet
 	%arrayClass = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MgetGenericArray_shadow.standard..String_shadow.standard..Object_A1_boolean(%shadow.standard..ClassSet* %classSet, %shadow.standard..String* %className, { %shadow.standard..Object**, [1 x i32] } %parameters, %boolean %4)
 	%arrayClassAsClass = bitcast %shadow.standard..GenericClass* %arrayClass to %shadow.standard..Class*
-	%arrayWrapper = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* %arrayClassAsClass, %shadow.standard..Object_methods* %methods)
+	br label %_wrap
+_wrap:
+	; generic code holds every value as an object, so each load still needs its own wrapper
+	%wrapperClass = phi %shadow.standard..Class* [ %knownClass, %_known ], [ %arrayClassAsClass, %_name ]
+	%arrayWrapper = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* %wrapperClass, %shadow.standard..Object_methods* %methods)
 	
 	; get size member of array class, which is equal to dimensions
-	%dimensionsRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 7
+	%dimensionsRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 9
 	%dimensions = load i32, i32* %dimensionsRef
 	
-	; allocate new array for dimensions
-	%dimensionsArrayAsObj = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..int_class, i32 %dimensions)
-	
 	; get element width (which is an array)
 	%arrayWidth = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* %2)		
 	%arrayOffset = mul i32 %1, %arrayWidth	
@@ -303,14 +320,10 @@ _name:
 	%arrayDataRef = load %shadow.standard..Object**, %shadow.standard..Object*** %arrayElementAsBytes
 	%arrayDataAsObj = bitcast %shadow.standard..Object** %arrayDataRef to %shadow.standard..Object*
 	
-	; skip past object pointer to dimensions
+	; skip past object pointer to dimensions, which are immutable and can be shared
 	%arraySizesAsObj = getelementptr inbounds %shadow.standard..Object**, %shadow.standard..Object*** %arrayElementAsBytes, i32 1
 	%arraySizes = bitcast %shadow.standard..Object*** %arraySizesAsObj to i32*
 	
-	; copy dimensions into allocated space
-	%dimensionsArray = bitcast %shadow.standard..Object* %dimensionsArrayAsObj to i32*
-	call void @llvm.memcpy.p0i32.p0i32.i32(i32* %dimensionsArray, i32* %arraySizes, i32 %dimensions, i32 0, i1 0)
-	
 	; make lengths array
 	%lengthsArray1 = insertvalue { i32*, [1 x i32] } undef, i32* %arraySizes, 0
 	%lengthsArray2 = insertvalue { i32*, [1 x i32] } %lengthsArray1, i32 %dimensions, 1, 0
@@ -337,7 +350,7 @@ define void @shadow.standard..Array_Mindex_int_T(%shadow.standard..Array*, i32,
 	%arrayClass = bitcast %shadow.standard..Class* %class to %shadow.standard..GenericClass*		
 	
 	; get base class
-	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 8	
+	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 10	
 	%typeParametersArray = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %typeParametersArrayRef
 	%typeParameters = extractvalue { %shadow.standard..Object**, [1 x %int] } %typeParametersArray, 0	
 	; because the class is the first element, we can skip the getelementptr 0 stuff
@@ -355,7 +368,7 @@ define void @shadow.standard..Array_Mindex_int_T(%shadow.standard..Array*, i32,
 define void @__arrayStore(%shadow.standard..Object**, i32, %shadow.standard..Object*, %shadow.standard..Class*) {
 	
 	; get generic class flag
-	%flagRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %3, i32 0, i32 6	
+	%flagRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %3, i32 0, i32 8	
 	%flag = load i32, i32* %flagRef
 	%primitiveFlag = and i32 %flag, 2	
 	%notPrimitive = icmp eq i32 %primitiveFlag, 0	
@@ -441,7 +454,7 @@ _firstLessThanSecond:
 	
 	; get base class
 	%arrayClass = bitcast %shadow.standard..Class* %class to %shadow.standard..GenericClass*	
-	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 8	
+	%typeParametersArrayRef = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %arrayClass, i32 0, i32 10	
 	%typeParametersArray = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %typeParametersArrayRef
 	%typeParameters = extractvalue { %shadow.standard..Object**, [1 x %int] } %typeParametersArray, 0	
 	; because the class is the first element, we can skip the getelementptr 0 stuff
@@ -0,0 +1,4699 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..AddressMap_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap_methods = external constant %shadow.standard..AddressMap_methods
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+@_parametersshadow.standard..CanCompare_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+%shadow.standard..ushort_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %int (%ushort, %ushort)*, %int (%ushort, %uint)*, %int (%ushort, %int)*, %int (%ushort, %ulong)*, %int (%ushort, %long)*, %int (%ushort, %float)*, %int (%ushort, %double)*, %ushort (%ushort, %shadow.standard..AddressMap*)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %boolean (%ushort, %ushort)*, %boolean (%ushort, %uint)*, %boolean (%ushort, %int)*, %boolean (%ushort, %ulong)*, %boolean (%ushort, %long)*, %boolean (%ushort, %float)*, %boolean (%ushort, %double)*, %ushort (%ushort)*, %uint (%ushort)*, %ushort (%ushort)*, %double (%ushort)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort)*, %double (%ushort, %int)*, %double (%ushort, %double)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %byte (%ushort)*, %code (%ushort)*, %double (%ushort)*, %float (%ushort)*, %int (%ushort)*, %long (%ushort)*, %short (%ushort)*, %short (%ushort)*, %shadow.standard..String* (%ushort)*, %shadow.standard..String* (%ushort, %uint)*, %ubyte (%ushort)*, %uint (%ushort)*, %ulong (%ushort)*, %ushort (%ushort)*, %ushort (%ushort)* }
+%shadow.standard..ushort = type { %shadow.standard..Class*, %shadow.standard..ushort_methods* , %ushort }
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+@shadow.standard..ushort_methods = external constant %shadow.standard..ushort_methods
+@_parametersshadow.standard..Number_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..IllegalArgumentException_methods = type { %shadow.standard..IllegalArgumentException* (%shadow.standard..IllegalArgumentException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IllegalArgumentException = type { %shadow.standard..Class*, %shadow.standard..IllegalArgumentException_methods* , %shadow.standard..String* }
+@shadow.standard..IllegalArgumentException_class = external constant %shadow.standard..Class
+@shadow.standard..IllegalArgumentException_methods = external constant %shadow.standard..IllegalArgumentException_methods
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+%shadow.standard..ubyte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %int (%ubyte, %ubyte)*, %int (%ubyte, %ushort)*, %int (%ubyte, %short)*, %int (%ubyte, %uint)*, %int (%ubyte, %int)*, %int (%ubyte, %ulong)*, %int (%ubyte, %long)*, %int (%ubyte, %float)*, %int (%ubyte, %double)*, %ubyte (%ubyte, %shadow.standard..AddressMap*)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %boolean (%ubyte, %ubyte)*, %boolean (%ubyte, %ushort)*, %boolean (%ubyte, %short)*, %boolean (%ubyte, %uint)*, %boolean (%ubyte, %int)*, %boolean (%ubyte, %ulong)*, %boolean (%ubyte, %long)*, %boolean (%ubyte, %float)*, %boolean (%ubyte, %double)*, %uint (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %double (%ubyte, %int)*, %double (%ubyte, %double)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %byte (%ubyte)*, %code (%ubyte)*, %double (%ubyte)*, %float (%ubyte)*, %int (%ubyte)*, %long (%ubyte)*, %short (%ubyte)*, %byte (%ubyte)*, %shadow.standard..String* (%ubyte)*, %shadow.standard..String* (%ubyte, %uint)*, %ubyte (%ubyte)*, %uint (%ubyte)*, %ulong (%ubyte)*, %ushort (%ubyte)* }
+%shadow.standard..ubyte = type { %shadow.standard..Class*, %shadow.standard..ubyte_methods* , %ubyte }
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+@shadow.standard..ubyte_methods = external constant %shadow.standard..ubyte_methods
+@_parametersshadow.standard..Integer_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..BigInteger_methods = type { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %int)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %int)*, %int (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %boolean (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %uint (%shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)*, %byte (%shadow.standard..BigInteger*)*, %code (%shadow.standard..BigInteger*)*, %double (%shadow.standard..BigInteger*)*, %float (%shadow.standard..BigInteger*)*, %int (%shadow.standard..BigInteger*)*, %long (%shadow.standard..BigInteger*)*, %short (%shadow.standard..BigInteger*)*, %shadow.standard..String* (%shadow.standard..BigInteger*, %uint)*, %ubyte (%shadow.standard..BigInteger*)*, %uint (%shadow.standard..BigInteger*)*, %ulong (%shadow.standard..BigInteger*)*, %ushort (%shadow.standard..BigInteger*)* }
+%shadow.standard..BigInteger = type { %shadow.standard..Class*, %shadow.standard..BigInteger_methods* , { %uint*, [1 x %int] }, %boolean }
+@_parametersshadow.standard..CanSubtract_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanModulus_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+@_parametersshadow.standard..CanMultiply_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..uint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %int (%uint, %uint)*, %int (%uint, %ulong)*, %int (%uint, %long)*, %int (%uint, %float)*, %int (%uint, %double)*, %uint (%uint, %shadow.standard..AddressMap*)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %boolean (%uint, %uint)*, %boolean (%uint, %ulong)*, %boolean (%uint, %long)*, %boolean (%uint, %float)*, %boolean (%uint, %double)*, %uint (%uint)*, %uint (%uint)*, %uint (%uint)*, %double (%uint)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint)*, %double (%uint, %int)*, %double (%uint, %double)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %byte (%uint)*, %code (%uint)*, %double (%uint)*, %float (%uint)*, %int (%uint)*, %long (%uint)*, %short (%uint)*, %int (%uint)*, %shadow.standard..String* (%uint)*, %shadow.standard..String* (%uint, %uint)*, %ubyte (%uint)*, %uint (%uint)*, %ulong (%uint)*, %ushort (%uint)*, %uint (%uint)* }
+%shadow.standard..uint = type { %shadow.standard..Class*, %shadow.standard..uint_methods* , %uint }
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+@shadow.standard..uint_methods = external constant %shadow.standard..uint_methods
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..ClassSet_class = external constant %shadow.standard..Class
+@shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString_methods = type { %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %int (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %boolean (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %uint (%shadow.standard..MutableString*)*, %byte (%shadow.standard..MutableString*, %int)*, void (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*)*, %shadow.standard..String* (%shadow.standard..MutableString*, %int, %int)* }
+%shadow.standard..MutableString = type { %shadow.standard..Class*, %shadow.standard..MutableString_methods* , { %byte*, [1 x %int] }, %int }
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+@shadow.standard..MutableString_methods = external constant %shadow.standard..MutableString_methods
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@shadow.standard..Class_class = external constant %shadow.standard..Class
+@shadow.standard..Class_methods = external constant %shadow.standard..Class_methods
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@shadow.standard..byte_class = external constant %shadow.standard..Class
+@shadow.standard..byte_methods = external constant %shadow.standard..byte_methods
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_uint_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_uint_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_shadow.standard..BigInteger_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..BigInteger_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.Node = type opaque
+@shadow.standard..AddressMap.Node_class = external constant %shadow.standard..Class
+%shadow.standard..ClassSet.Node = type opaque
+@shadow.standard..ClassSet.Node_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.standard..Number_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -957619924
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..CanIndexStore_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1215355697
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..CanCompare_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1481796433
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanMultiply_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 430741970
+@shadow.standard..CanCompare_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 633898395
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..Number_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -992151523
+@shadow.standard..Integer_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1887298000
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanCompare_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 639835931
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..Integer_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1964651914
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanIterate_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -130211660
+@shadow.standard..CanDivide_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 369394583
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..Integer_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1344119110
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanSubtract_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1237327183
+@shadow.standard..CanModulus_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2056213396
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanDivide_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -971516742
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanDivide_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -654431746
+@shadow.standard..CanModulus_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -71181936
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanEqual_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2085673093
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanMultiply_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1658940361
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2114643644
+@shadow.standard..CanCompare_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -633909833
+@shadow.standard..CanModulus_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1006233049
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanSubtract_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 501341025
+@shadow.standard..CanMultiply_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 767927000
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..Number_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 116531371
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Number_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1585110105
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..CanAdd_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1818559871
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..CanMultiply_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -464928704
+@shadow.standard..CanAdd_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 984379952
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1313792084
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanEqual_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1408808133
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string100, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string101, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanSubtract_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string102, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1709766037
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string103, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string104, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string105, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanCompare_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string106, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2088466261
+@shadow.standard..CanEqual_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string107, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1625286646
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string108, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string109, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string110, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string111, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string112, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string113, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string114, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1603494223
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string115, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string116, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string117, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string118, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string119, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string120, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string121, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string122, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string123, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanAdd_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string124, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -892201342
+@shadow.standard..CanEqual_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string125, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -288457541
+@shadow.standard..CanDivide_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string126, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1495424131
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string127, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string128, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..Array_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string129, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_uint_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 936913500
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string130, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string131, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..CanSubtract_L_shadow.standard..BigInteger_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string132, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_shadow.standard..BigInteger_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1166920727
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string133, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanModulus_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string134, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 876595980
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string135, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string136, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2048548118
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string137, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; shadow:standard@BigInteger
+
+; 0: class (Class)
+; 1: _methods
+; 2: data (uint[])
+; 3: negative (boolean)
+
+@shadow.standard..BigInteger_CBASE = constant %ulong 4294967296
+@_class0 = private unnamed_addr constant { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Madd_shadow.standard..BigInteger }
+@_class1 = private unnamed_addr constant { %boolean (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %boolean (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mequal_shadow.standard..BigInteger }
+@_class2 = private unnamed_addr constant { %byte (%shadow.standard..BigInteger*)*, %code (%shadow.standard..BigInteger*)*, %double (%shadow.standard..BigInteger*)*, %float (%shadow.standard..BigInteger*)*, %int (%shadow.standard..BigInteger*)*, %long (%shadow.standard..BigInteger*)*, %short (%shadow.standard..BigInteger*)*, %ubyte (%shadow.standard..BigInteger*)*, %uint (%shadow.standard..BigInteger*)*, %ulong (%shadow.standard..BigInteger*)*, %ushort (%shadow.standard..BigInteger*)* } { %byte (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoByte, %code (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoCode, %double (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoDouble, %float (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoFloat, %int (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoInt, %long (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoLong, %short (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoShort, %ubyte (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUByte, %uint (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUInt, %ulong (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoULong, %ushort (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUShort }
+@_class3 = private unnamed_addr constant { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Msubtract_shadow.standard..BigInteger }
+@_class4 = private unnamed_addr constant { %uint (%shadow.standard..BigInteger*)* } { %uint (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mhash }
+@_class9 = private unnamed_addr constant { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger }
+@_class10 = private unnamed_addr constant { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mdivide_shadow.standard..BigInteger }
+@_class12 = private unnamed_addr constant { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger }
+@_class13 = private unnamed_addr constant { %int (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* } { %int (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger }
+@_interfaceDatashadow.standard..BigInteger = unnamed_addr constant [16 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..BigInteger*)*, %code (%shadow.standard..BigInteger*)*, %double (%shadow.standard..BigInteger*)*, %float (%shadow.standard..BigInteger*)*, %int (%shadow.standard..BigInteger*)*, %long (%shadow.standard..BigInteger*)*, %short (%shadow.standard..BigInteger*)*, %ubyte (%shadow.standard..BigInteger*)*, %uint (%shadow.standard..BigInteger*)*, %ulong (%shadow.standard..BigInteger*)*, %ushort (%shadow.standard..BigInteger*)* }* @_class2 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class3 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %uint (%shadow.standard..BigInteger*)* }* @_class4 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class9 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class10 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class12 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* }* @_class0 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..BigInteger = private unnamed_addr constant [16 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* @shadow.standard..CanHash_class, %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_shadow.standard..BigInteger_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..BigInteger = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..BigInteger_class]
+@_layoutshadow.standard..BigInteger = unnamed_addr constant [1 x %int] [%int ptrtoint ({ %uint*, [1 x %int] }* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 0, i32 2) to %int)]
+@shadow.standard..BigInteger_methods = constant %shadow.standard..BigInteger_methods { %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..AddressMap*)* @shadow.standard..BigInteger_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoString, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mabs, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Madd_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %int)* @shadow.standard..BigInteger_MbitShiftLeft_int, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %int)* @shadow.standard..BigInteger_MbitShiftRight_int, %int (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mdivide_shadow.standard..BigInteger, %boolean (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mequal_shadow.standard..BigInteger, %uint (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mhash, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmax_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmin_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MmodulusPower_shadow.standard..BigInteger_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mnegate, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Mpower_shadow.standard..BigInteger, %shadow.standard..BigInteger* (%shadow.standard..BigInteger*, %shadow.standard..BigInteger*)* @shadow.standard..BigInteger_Msubtract_shadow.standard..BigInteger, %byte (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoByte, %code (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoCode, %double (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoDouble, %float (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoFloat, %int (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoInt, %long (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoLong, %short (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoShort, %shadow.standard..String* (%shadow.standard..BigInteger*, %uint)* @shadow.standard..BigInteger_MtoString_uint, %ubyte (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUByte, %uint (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUInt, %ulong (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoULong, %ushort (%shadow.standard..BigInteger*)* @shadow.standard..BigInteger_MtoUShort }
+@shadow.standard..BigInteger_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string138, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([16 x %shadow.standard..Object*], [16 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..BigInteger, i32 0, i32 0), [1 x %int] [%int 16] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..BigInteger, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([16 x %shadow.standard..Class*], [16 x %shadow.standard..Class*]* @_interfacesshadow.standard..BigInteger, i32 0, i32 0), [1 x %int] [%int 16] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([1 x %int], [1 x %int]* @_layoutshadow.standard..BigInteger, i32 0, i32 0), [1 x %int] [%int 1] }, %int 0, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32) }
+
+define %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %other = alloca { %uint*, [1 x %int] }
+    %data = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %data
+    store { %uint*, [1 x %int] } %2, { %uint*, [1 x %int] }* %other
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %other
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = icmp slt %int %5, %7
+    br %boolean %8, label %_label2, label %_label3
+_label2:
+    ret %int -1
+_label3:
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %10 = extractvalue { %uint*, [1 x %int] } %9, 1, 0
+    %11 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %other
+    %12 = extractvalue { %uint*, [1 x %int] } %11, 1, 0
+    %13 = icmp sgt %int %10, %12
+    br %boolean %13, label %_label5, label %_label6
+_label5:
+    ret %int 1
+_label6:
+    %14 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %15 = extractvalue { %uint*, [1 x %int] } %14, 1, 0
+    %i.4 = sub %int %15, 1
+    br label %_label29
+_label28:
+    %16 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %17 = bitcast %int %i.24 to %uint
+    %18 = extractvalue { %uint*, [1 x %int] } %16, 1, 0
+    %19 = bitcast %int %18 to %uint
+    %20 = icmp ult %uint %17, %19
+    br label %_label10
+_label10:
+    br label %_label11
+_label11:
+    %21 = extractvalue { %uint*, [1 x %int] } %16, 0
+    %22 = getelementptr inbounds %uint, %uint* %21, %int %i.24
+    %23 = load %uint, %uint* %22
+    %24 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %other
+    %25 = bitcast %int %i.24 to %uint
+    %26 = extractvalue { %uint*, [1 x %int] } %24, 1, 0
+    %27 = bitcast %int %26 to %uint
+    %28 = icmp ult %uint %25, %27
+    br %boolean %28, label %_label13, label %_label12
+_label13:
+    br label %_label14
+_label12:
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %30 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %29, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %31 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %30, %int %i.24)
+    %32 = bitcast %shadow.standard..IndexOutOfBoundsException* %31 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %32) noreturn
+    unreachable
+_label14:
+    %33 = extractvalue { %uint*, [1 x %int] } %24, 0
+    %34 = getelementptr inbounds %uint, %uint* %33, %int %i.24
+    %35 = load %uint, %uint* %34
+    %36 = icmp ult %uint %23, %35
+    br %boolean %36, label %_label25, label %_label26
+_label25:
+    ret %int -1
+_label26:
+    %37 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %38 = bitcast %int %i.24 to %uint
+    %39 = extractvalue { %uint*, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br label %_label17
+_label17:
+    br label %_label18
+_label18:
+    %42 = extractvalue { %uint*, [1 x %int] } %37, 0
+    %43 = getelementptr inbounds %uint, %uint* %42, %int %i.24
+    %44 = load %uint, %uint* %43
+    %45 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %other
+    %46 = bitcast %int %i.24 to %uint
+    %47 = extractvalue { %uint*, [1 x %int] } %45, 1, 0
+    %48 = bitcast %int %47 to %uint
+    %49 = icmp ult %uint %46, %48
+    br label %_label20
+_label20:
+    br label %_label21
+_label21:
+    %50 = extractvalue { %uint*, [1 x %int] } %45, 0
+    %51 = getelementptr inbounds %uint, %uint* %50, %int %i.24
+    %52 = load %uint, %uint* %51
+    %53 = icmp ugt %uint %44, %52
+    br %boolean %53, label %_label23, label %_label24
+_label23:
+    ret %int 1
+_label24:
+    br label %_label27
+_label27:
+    br label %_label8
+_label8:
+    %i.5 = sub %int %i.24, 1
+    br label %_label29
+_label29:
+    %i.24 = phi %int [ %i.4, %_label6 ],[ %i.5, %_label8 ]
+    %54 = icmp sge %int %i.24, 0
+    br %boolean %54, label %_label28, label %_label7
+_label7:
+    ret %int 0
+}
+
+define { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } @shadow.standard..BigInteger_MunsignedDivide_uint_A1_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %this = alloca %shadow.standard..BigInteger*
+    %second = alloca { %uint*, [1 x %int] }
+    %quotient = alloca { %uint*, [1 x %int] }
+    %normalizedData = alloca { %uint*, [1 x %int] }
+    %normalizedDivisor = alloca { %uint*, [1 x %int] }
+    %remainder = alloca { %uint*, [1 x %int] }
+    %first = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %first
+    store { %uint*, [1 x %int] } %2, { %uint*, [1 x %int] }* %second
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = sub %int %5, %7
+    %9 = add %int %8, 1
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %9)
+    %11 = bitcast %shadow.standard..Object* %10 to %uint*
+    %12 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %11, 0
+    %quotient.4 = insertvalue { %uint*, [1 x %int] } %12, %int %9, 1, 0
+    store { %uint*, [1 x %int] } %quotient.4, { %uint*, [1 x %int] }* %quotient
+    %13 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %14 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %15 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %13, { %uint*, [1 x %int] } %14)
+    br %boolean %15, label %_label2, label %_label3
+_label2:
+    %16 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %17 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %16, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %18 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %17, %shadow.standard..String* @_string139)
+    %19 = bitcast %shadow.standard..IllegalArgumentException* %18 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %19) noreturn
+    unreachable
+_label3:
+    %20 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %21 = extractvalue { %uint*, [1 x %int] } %20, 1, 0
+    %22 = icmp eq %int %21, 1
+    br %boolean %22, label %_label27, label %_label28
+_label27:
+    %23 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %24 = extractvalue { %uint*, [1 x %int] } %23, 1, 0
+    %25 = bitcast %int %24 to %uint
+    %26 = icmp ult %uint 0, %25
+    br %boolean %26, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %27 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %28 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %27, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %29 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %28, %int 0)
+    %30 = bitcast %shadow.standard..IndexOutOfBoundsException* %29 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %30) noreturn
+    unreachable
+_label6:
+    %31 = extractvalue { %uint*, [1 x %int] } %23, 0
+    %32 = getelementptr inbounds %uint, %uint* %31, %int 0
+    %33 = load %uint, %uint* %32
+    %divisor.7 = zext %uint %33 to %ulong
+    %34 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %35 = extractvalue { %uint*, [1 x %int] } %34, 1, 0
+    %i.8 = sub %int %35, 1
+    br label %_label22
+_label21:
+    %36 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %37 = bitcast %int %i.63 to %uint
+    %38 = extractvalue { %uint*, [1 x %int] } %36, 1, 0
+    %39 = bitcast %int %38 to %uint
+    %40 = icmp ult %uint %37, %39
+    br %boolean %40, label %_label10, label %_label9
+_label10:
+    br label %_label11
+_label9:
+    %41 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %42 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %41, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %43 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %42, %int %i.63)
+    %44 = bitcast %shadow.standard..IndexOutOfBoundsException* %43 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %44) noreturn
+    unreachable
+_label11:
+    %45 = mul %ulong %value.67, 4294967296
+    %46 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %47 = bitcast %int %i.63 to %uint
+    %48 = extractvalue { %uint*, [1 x %int] } %46, 1, 0
+    %49 = bitcast %int %48 to %uint
+    %50 = icmp ult %uint %47, %49
+    br label %_label13
+_label13:
+    br label %_label14
+_label14:
+    %51 = extractvalue { %uint*, [1 x %int] } %46, 0
+    %52 = getelementptr inbounds %uint, %uint* %51, %int %i.63
+    %53 = load %uint, %uint* %52
+    %54 = zext %uint %53 to %ulong
+    %55 = add %ulong %45, %54
+    %56 = udiv %ulong %55, %divisor.89
+    %57 = trunc %ulong %56 to %uint
+    %58 = extractvalue { %uint*, [1 x %int] } %36, 0
+    %59 = getelementptr inbounds %uint, %uint* %58, %int %i.63
+    store %uint %57, %uint* %59
+    %60 = mul %ulong %value.67, 4294967296
+    %61 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %62 = bitcast %int %i.63 to %uint
+    %63 = extractvalue { %uint*, [1 x %int] } %61, 1, 0
+    %64 = bitcast %int %63 to %uint
+    %65 = icmp ult %uint %62, %64
+    br label %_label16
+_label16:
+    br label %_label17
+_label17:
+    %66 = extractvalue { %uint*, [1 x %int] } %61, 0
+    %67 = getelementptr inbounds %uint, %uint* %66, %int %i.63
+    %68 = load %uint, %uint* %67
+    %69 = zext %uint %68 to %ulong
+    %70 = add %ulong %60, %69
+    %71 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %72 = bitcast %int %i.63 to %uint
+    %73 = extractvalue { %uint*, [1 x %int] } %71, 1, 0
+    %74 = bitcast %int %73 to %uint
+    %75 = icmp ult %uint %72, %74
+    br label %_label19
+_label19:
+    br label %_label20
+_label20:
+    %76 = extractvalue { %uint*, [1 x %int] } %71, 0
+    %77 = getelementptr inbounds %uint, %uint* %76, %int %i.63
+    %78 = load %uint, %uint* %77
+    %79 = call %ulong @shadow.standard..uint_Mmultiply_ulong(%uint %78, %ulong %divisor.89)
+    %value.10 = sub %ulong %70, %79
+    br label %_label8
+_label8:
+    %i.9 = sub %int %i.63, 1
+    br label %_label22
+_label22:
+    %divisor.89 = phi %ulong [ %divisor.7, %_label6 ],[ %divisor.89, %_label8 ]
+    %value.67 = phi %ulong [ 0, %_label6 ],[ %value.10, %_label8 ]
+    %i.63 = phi %int [ %i.8, %_label6 ],[ %i.9, %_label8 ]
+    %80 = icmp sge %int %i.63, 0
+    br %boolean %80, label %_label21, label %_label7
+_label7:
+    %81 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %82 = bitcast %shadow.standard..Object* %81 to %uint*
+    %83 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %82, 0
+    %remainder.11 = insertvalue { %uint*, [1 x %int] } %83, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %remainder.11, { %uint*, [1 x %int] }* %remainder
+    %84 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %85 = extractvalue { %uint*, [1 x %int] } %84, 1, 0
+    %86 = bitcast %int %85 to %uint
+    %87 = icmp ult %uint 0, %86
+    br label %_label24
+_label24:
+    br label %_label25
+_label25:
+    %88 = trunc %ulong %value.67 to %uint
+    %89 = extractvalue { %uint*, [1 x %int] } %84, 0
+    %90 = getelementptr inbounds %uint, %uint* %89, %int 0
+    store %uint %88, %uint* %90
+    %91 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %92 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %93 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %91, { %uint*, [1 x %int] } %92)
+    %94 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %95 = insertvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } undef, { %uint*, [1 x %int] } %93, 0
+    %96 = insertvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %95, { %uint*, [1 x %int] } %94, 1
+    ret { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %96
+_label28:
+    %97 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %98 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %99 = extractvalue { %uint*, [1 x %int] } %98, 1, 0
+    %100 = sub %int %99, 1
+    %101 = bitcast %int %100 to %uint
+    %102 = extractvalue { %uint*, [1 x %int] } %97, 1, 0
+    %103 = bitcast %int %102 to %uint
+    %104 = icmp ult %uint %101, %103
+    br %boolean %104, label %_label30, label %_label29
+_label30:
+    br label %_label31
+_label29:
+    %105 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %106 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %105, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %107 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %106, %int %100)
+    %108 = bitcast %shadow.standard..IndexOutOfBoundsException* %107 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %108) noreturn
+    unreachable
+_label31:
+    %109 = extractvalue { %uint*, [1 x %int] } %97, 0
+    %110 = getelementptr inbounds %uint, %uint* %109, %int %100
+    %111 = load %uint, %uint* %110
+    %zeroes.12 = call %uint @shadow.standard..uint_MleadingZeroes(%uint %111)
+    %112 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %113 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %normalizedDivisor.13 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedLeftShift_uint_A1_uint(%shadow.standard..BigInteger* %112, { %uint*, [1 x %int] } %113, %uint %zeroes.12)
+    store { %uint*, [1 x %int] } %normalizedDivisor.13, { %uint*, [1 x %int] }* %normalizedDivisor
+    %114 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %115 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %normalizedData.14 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedLeftShift_uint_A1_uint(%shadow.standard..BigInteger* %114, { %uint*, [1 x %int] } %115, %uint %zeroes.12)
+    store { %uint*, [1 x %int] } %normalizedData.14, { %uint*, [1 x %int] }* %normalizedData
+    %116 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %117 = extractvalue { %uint*, [1 x %int] } %116, 1, 0
+    %118 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %119 = extractvalue { %uint*, [1 x %int] } %118, 1, 0
+    %i1.19 = sub %int %117, %119
+    br label %_label113
+_label112:
+    %120 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %121 = extractvalue { %uint*, [1 x %int] } %120, 1, 0
+    %122 = add %int %i1.140, %121
+    %123 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %124 = extractvalue { %uint*, [1 x %int] } %123, 1, 0
+    %125 = icmp sge %int %122, %124
+    br %boolean %125, label %_label43, label %_label44
+_label43:
+    %126 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %127 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %128 = extractvalue { %uint*, [1 x %int] } %127, 1, 0
+    %129 = add %int %i1.140, %128
+    %130 = sub %int %129, 1
+    %131 = bitcast %int %130 to %uint
+    %132 = extractvalue { %uint*, [1 x %int] } %126, 1, 0
+    %133 = bitcast %int %132 to %uint
+    %134 = icmp ult %uint %131, %133
+    br %boolean %134, label %_label35, label %_label34
+_label35:
+    br label %_label36
+_label34:
+    %135 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %136 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %135, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %137 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %136, %int %130)
+    %138 = bitcast %shadow.standard..IndexOutOfBoundsException* %137 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %138) noreturn
+    unreachable
+_label36:
+    %139 = extractvalue { %uint*, [1 x %int] } %126, 0
+    %140 = getelementptr inbounds %uint, %uint* %139, %int %130
+    %141 = load %uint, %uint* %140
+    %value.21 = zext %uint %141 to %ulong
+    br label %_label45
+_label44:
+    %142 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %143 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %144 = extractvalue { %uint*, [1 x %int] } %143, 1, 0
+    %145 = add %int %i1.140, %144
+    %146 = bitcast %int %145 to %uint
+    %147 = extractvalue { %uint*, [1 x %int] } %142, 1, 0
+    %148 = bitcast %int %147 to %uint
+    %149 = icmp ult %uint %146, %148
+    br %boolean %149, label %_label38, label %_label37
+_label38:
+    br label %_label39
+_label37:
+    %150 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %151 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %150, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %152 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %151, %int %145)
+    %153 = bitcast %shadow.standard..IndexOutOfBoundsException* %152 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %153) noreturn
+    unreachable
+_label39:
+    %154 = extractvalue { %uint*, [1 x %int] } %142, 0
+    %155 = getelementptr inbounds %uint, %uint* %154, %int %145
+    %156 = load %uint, %uint* %155
+    %157 = call %ulong @shadow.standard..uint_Mmultiply_ulong(%uint %156, %ulong 4294967296)
+    %158 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %159 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %160 = extractvalue { %uint*, [1 x %int] } %159, 1, 0
+    %161 = add %int %i1.140, %160
+    %162 = sub %int %161, 1
+    %163 = bitcast %int %162 to %uint
+    %164 = extractvalue { %uint*, [1 x %int] } %158, 1, 0
+    %165 = bitcast %int %164 to %uint
+    %166 = icmp ult %uint %163, %165
+    br %boolean %166, label %_label41, label %_label40
+_label41:
+    br label %_label42
+_label40:
+    %167 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %168 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %167, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %169 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %168, %int %162)
+    %170 = bitcast %shadow.standard..IndexOutOfBoundsException* %169 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %170) noreturn
+    unreachable
+_label42:
+    %171 = extractvalue { %uint*, [1 x %int] } %158, 0
+    %172 = getelementptr inbounds %uint, %uint* %171, %int %162
+    %173 = load %uint, %uint* %172
+    %174 = zext %uint %173 to %ulong
+    %value.22 = add %ulong %157, %174
+    br label %_label45
+_label45:
+    %value.267 = phi %ulong [ %value.21, %_label36 ],[ %value.22, %_label42 ]
+    %175 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %176 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %177 = extractvalue { %uint*, [1 x %int] } %176, 1, 0
+    %178 = sub %int %177, 1
+    %179 = bitcast %int %178 to %uint
+    %180 = extractvalue { %uint*, [1 x %int] } %175, 1, 0
+    %181 = bitcast %int %180 to %uint
+    %182 = icmp ult %uint %179, %181
+    br %boolean %182, label %_label47, label %_label46
+_label47:
+    br label %_label48
+_label46:
+    %183 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %184 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %183, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %185 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %184, %int %178)
+    %186 = bitcast %shadow.standard..IndexOutOfBoundsException* %185 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %186) noreturn
+    unreachable
+_label48:
+    %187 = extractvalue { %uint*, [1 x %int] } %175, 0
+    %188 = getelementptr inbounds %uint, %uint* %187, %int %178
+    %189 = load %uint, %uint* %188
+    %190 = zext %uint %189 to %ulong
+    %quotientEstimate.23 = udiv %ulong %value.267, %190
+    %191 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %192 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %193 = extractvalue { %uint*, [1 x %int] } %192, 1, 0
+    %194 = sub %int %193, 1
+    %195 = bitcast %int %194 to %uint
+    %196 = extractvalue { %uint*, [1 x %int] } %191, 1, 0
+    %197 = bitcast %int %196 to %uint
+    %198 = icmp ult %uint %195, %197
+    br %boolean %198, label %_label50, label %_label49
+_label50:
+    br label %_label51
+_label49:
+    %199 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %200 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %199, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %201 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %200, %int %194)
+    %202 = bitcast %shadow.standard..IndexOutOfBoundsException* %201 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %202) noreturn
+    unreachable
+_label51:
+    %203 = extractvalue { %uint*, [1 x %int] } %191, 0
+    %204 = getelementptr inbounds %uint, %uint* %203, %int %194
+    %205 = load %uint, %uint* %204
+    %206 = zext %uint %205 to %ulong
+    %207 = mul %ulong %quotientEstimate.23, %206
+    %remainderEstimate.24 = sub %ulong %value.267, %207
+    br label %_label53
+_label68:
+    %quotientEstimate.27 = sub %ulong %quotientEstimate.338, 1
+    %208 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %209 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %210 = extractvalue { %uint*, [1 x %int] } %209, 1, 0
+    %211 = sub %int %210, 1
+    %212 = bitcast %int %211 to %uint
+    %213 = extractvalue { %uint*, [1 x %int] } %208, 1, 0
+    %214 = bitcast %int %213 to %uint
+    %215 = icmp ult %uint %212, %214
+    br %boolean %215, label %_label63, label %_label62
+_label63:
+    br label %_label64
+_label62:
+    %216 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %217 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %216, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %218 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %217, %int %211)
+    %219 = bitcast %shadow.standard..IndexOutOfBoundsException* %218 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %219) noreturn
+    unreachable
+_label64:
+    %220 = extractvalue { %uint*, [1 x %int] } %208, 0
+    %221 = getelementptr inbounds %uint, %uint* %220, %int %211
+    %222 = load %uint, %uint* %221
+    %223 = zext %uint %222 to %ulong
+    %remainderEstimate.28 = add %ulong %remainderEstimate.351, %223
+    %224 = icmp uge %ulong %remainderEstimate.28, 4294967296
+    br %boolean %224, label %_label66, label %_label67
+_label66:
+    br label %_label52
+_label67:
+    br label %_label53
+_label53:
+    %zeroes.628 = phi %uint [ %zeroes.628, %_label67 ],[ %zeroes.602, %_label51 ]
+    %i1.356 = phi %int [ %i1.356, %_label67 ],[ %i1.140, %_label51 ]
+    %remainderEstimate.351 = phi %ulong [ %remainderEstimate.28, %_label67 ],[ %remainderEstimate.24, %_label51 ]
+    %quotientEstimate.338 = phi %ulong [ %quotientEstimate.27, %_label67 ],[ %quotientEstimate.23, %_label51 ]
+    %_temp.25 = icmp uge %ulong %quotientEstimate.338, 4294967296
+    br %boolean %_temp.25, label %_label60, label %_label61
+_label61:
+    %225 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %226 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %227 = extractvalue { %uint*, [1 x %int] } %226, 1, 0
+    %228 = sub %int %227, 2
+    %229 = bitcast %int %228 to %uint
+    %230 = extractvalue { %uint*, [1 x %int] } %225, 1, 0
+    %231 = bitcast %int %230 to %uint
+    %232 = icmp ult %uint %229, %231
+    br %boolean %232, label %_label55, label %_label54
+_label55:
+    br label %_label56
+_label54:
+    %233 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %234 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %233, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %235 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %234, %int %228)
+    %236 = bitcast %shadow.standard..IndexOutOfBoundsException* %235 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %236) noreturn
+    unreachable
+_label56:
+    %237 = extractvalue { %uint*, [1 x %int] } %225, 0
+    %238 = getelementptr inbounds %uint, %uint* %237, %int %228
+    %239 = load %uint, %uint* %238
+    %240 = zext %uint %239 to %ulong
+    %241 = mul %ulong %quotientEstimate.338, %240
+    %242 = mul %ulong 4294967296, %remainderEstimate.351
+    %243 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %244 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %245 = extractvalue { %uint*, [1 x %int] } %244, 1, 0
+    %246 = add %int %i1.356, %245
+    %247 = sub %int %246, 2
+    %248 = bitcast %int %247 to %uint
+    %249 = extractvalue { %uint*, [1 x %int] } %243, 1, 0
+    %250 = bitcast %int %249 to %uint
+    %251 = icmp ult %uint %248, %250
+    br %boolean %251, label %_label58, label %_label57
+_label58:
+    br label %_label59
+_label57:
+    %252 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %253 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %252, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %254 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %253, %int %247)
+    %255 = bitcast %shadow.standard..IndexOutOfBoundsException* %254 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %255) noreturn
+    unreachable
+_label59:
+    %256 = extractvalue { %uint*, [1 x %int] } %243, 0
+    %257 = getelementptr inbounds %uint, %uint* %256, %int %247
+    %258 = load %uint, %uint* %257
+    %259 = zext %uint %258 to %ulong
+    %260 = add %ulong %242, %259
+    %_temp.26 = icmp ugt %ulong %241, %260
+    br label %_label60
+_label60:
+    %_temp.373 = phi %boolean [ %_temp.25, %_label53 ],[ %_temp.26, %_label59 ]
+    br %boolean %_temp.373, label %_label68, label %_label52
+_label52:
+    %quotientEstimate.383 = phi %ulong [ %quotientEstimate.27, %_label66 ],[ %quotientEstimate.338, %_label60 ]
+    br label %_label81
+_label80:
+    %261 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %262 = bitcast %int %j.386 to %uint
+    %263 = extractvalue { %uint*, [1 x %int] } %261, 1, 0
+    %264 = bitcast %int %263 to %uint
+    %265 = icmp ult %uint %262, %264
+    br %boolean %265, label %_label72, label %_label71
+_label72:
+    br label %_label73
+_label71:
+    %266 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %267 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %266, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %268 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %267, %int %j.386)
+    %269 = bitcast %shadow.standard..IndexOutOfBoundsException* %268 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %269) noreturn
+    unreachable
+_label73:
+    %270 = extractvalue { %uint*, [1 x %int] } %261, 0
+    %271 = getelementptr inbounds %uint, %uint* %270, %int %j.386
+    %272 = load %uint, %uint* %271
+    %273 = zext %uint %272 to %ulong
+    %value.32 = mul %ulong %quotientEstimate.375, %273
+    %274 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %275 = add %int %i1.390, %j.386
+    %276 = bitcast %int %275 to %uint
+    %277 = extractvalue { %uint*, [1 x %int] } %274, 1, 0
+    %278 = bitcast %int %277 to %uint
+    %279 = icmp ult %uint %276, %278
+    br %boolean %279, label %_label75, label %_label74
+_label75:
+    br label %_label76
+_label74:
+    %280 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %281 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %280, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %282 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %281, %int %275)
+    %283 = bitcast %shadow.standard..IndexOutOfBoundsException* %282 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %283) noreturn
+    unreachable
+_label76:
+    %284 = extractvalue { %uint*, [1 x %int] } %274, 0
+    %285 = getelementptr inbounds %uint, %uint* %284, %int %275
+    %286 = load %uint, %uint* %285
+    %287 = zext %uint %286 to %long
+    %288 = sub %long %287, %carry.405
+    %289 = and %ulong %value.32, 4294967295
+    %290 = bitcast %ulong %289 to %long
+    %test.33 = sub %long %288, %290
+    %291 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %292 = add %int %i1.390, %j.386
+    %293 = bitcast %int %292 to %uint
+    %294 = extractvalue { %uint*, [1 x %int] } %291, 1, 0
+    %295 = bitcast %int %294 to %uint
+    %296 = icmp ult %uint %293, %295
+    br %boolean %296, label %_label78, label %_label77
+_label78:
+    br label %_label79
+_label77:
+    %297 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %298 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %297, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %299 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %298, %int %292)
+    %300 = bitcast %shadow.standard..IndexOutOfBoundsException* %299 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %300) noreturn
+    unreachable
+_label79:
+    %301 = trunc %long %test.33 to %uint
+    %302 = extractvalue { %uint*, [1 x %int] } %291, 0
+    %303 = getelementptr inbounds %uint, %uint* %302, %int %292
+    store %uint %301, %uint* %303
+    %304 = call %ulong @shadow.standard..ulong_MbitShiftRight_int(%ulong %value.32, %int 32)
+    %305 = bitcast %ulong %304 to %long
+    %306 = call %long @shadow.standard..long_MbitShiftRight_int(%long %test.33, %int 32)
+    %carry.34 = sub %long %305, %306
+    br label %_label70
+_label70:
+    %j.31 = add %int %j.386, 1
+    br label %_label81
+_label81:
+    %zeroes.612 = phi %uint [ %zeroes.612, %_label70 ],[ %zeroes.628, %_label52 ]
+    %carry.405 = phi %long [ %carry.34, %_label70 ],[ 0, %_label52 ]
+    %i1.390 = phi %int [ %i1.390, %_label70 ],[ %i1.356, %_label52 ]
+    %j.386 = phi %int [ %j.31, %_label70 ],[ 0, %_label52 ]
+    %quotientEstimate.375 = phi %ulong [ %quotientEstimate.375, %_label70 ],[ %quotientEstimate.383, %_label52 ]
+    %307 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %308 = extractvalue { %uint*, [1 x %int] } %307, 1, 0
+    %309 = icmp slt %int %j.386, %308
+    br %boolean %309, label %_label80, label %_label69
+_label69:
+    %310 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %311 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %312 = extractvalue { %uint*, [1 x %int] } %311, 1, 0
+    %313 = add %int %i1.390, %312
+    %314 = bitcast %int %313 to %uint
+    %315 = extractvalue { %uint*, [1 x %int] } %310, 1, 0
+    %316 = bitcast %int %315 to %uint
+    %317 = icmp ult %uint %314, %316
+    br %boolean %317, label %_label83, label %_label82
+_label83:
+    br label %_label84
+_label82:
+    %318 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %319 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %318, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %320 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %319, %int %313)
+    %321 = bitcast %shadow.standard..IndexOutOfBoundsException* %320 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %321) noreturn
+    unreachable
+_label84:
+    %322 = extractvalue { %uint*, [1 x %int] } %310, 0
+    %323 = getelementptr inbounds %uint, %uint* %322, %int %313
+    %324 = load %uint, %uint* %323
+    %325 = zext %uint %324 to %long
+    %test.35 = sub %long %325, %carry.405
+    %326 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %327 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %328 = extractvalue { %uint*, [1 x %int] } %327, 1, 0
+    %329 = add %int %i1.390, %328
+    %330 = bitcast %int %329 to %uint
+    %331 = extractvalue { %uint*, [1 x %int] } %326, 1, 0
+    %332 = bitcast %int %331 to %uint
+    %333 = icmp ult %uint %330, %332
+    br %boolean %333, label %_label86, label %_label85
+_label86:
+    br label %_label87
+_label85:
+    %334 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %335 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %334, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %336 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %335, %int %329)
+    %337 = bitcast %shadow.standard..IndexOutOfBoundsException* %336 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %337) noreturn
+    unreachable
+_label87:
+    %338 = trunc %long %test.35 to %uint
+    %339 = extractvalue { %uint*, [1 x %int] } %326, 0
+    %340 = getelementptr inbounds %uint, %uint* %339, %int %329
+    store %uint %338, %uint* %340
+    %341 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %342 = bitcast %int %i1.390 to %uint
+    %343 = extractvalue { %uint*, [1 x %int] } %341, 1, 0
+    %344 = bitcast %int %343 to %uint
+    %345 = icmp ult %uint %342, %344
+    br %boolean %345, label %_label89, label %_label88
+_label89:
+    br label %_label90
+_label88:
+    %346 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %347 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %346, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %348 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %347, %int %i1.390)
+    %349 = bitcast %shadow.standard..IndexOutOfBoundsException* %348 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %349) noreturn
+    unreachable
+_label90:
+    %350 = trunc %ulong %quotientEstimate.375 to %uint
+    %351 = extractvalue { %uint*, [1 x %int] } %341, 0
+    %352 = getelementptr inbounds %uint, %uint* %351, %int %i1.390
+    store %uint %350, %uint* %352
+    %353 = icmp slt %long %test.35, 0
+    br %boolean %353, label %_label110, label %_label111
+_label110:
+    %354 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %355 = bitcast %int %i1.390 to %uint
+    %356 = extractvalue { %uint*, [1 x %int] } %354, 1, 0
+    %357 = bitcast %int %356 to %uint
+    %358 = icmp ult %uint %355, %357
+    br label %_label92
+_label92:
+    br label %_label93
+_label93:
+    %359 = extractvalue { %uint*, [1 x %int] } %354, 0
+    %360 = getelementptr inbounds %uint, %uint* %359, %int %i1.390
+    %361 = load %uint, %uint* %360
+    %362 = sub %uint %361, 1
+    %363 = extractvalue { %uint*, [1 x %int] } %354, 0
+    %364 = getelementptr inbounds %uint, %uint* %363, %int %i1.390
+    store %uint %362, %uint* %364
+    br label %_label106
+_label105:
+    %365 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %366 = add %int %i1.508, %j1.519
+    %367 = bitcast %int %366 to %uint
+    %368 = extractvalue { %uint*, [1 x %int] } %365, 1, 0
+    %369 = bitcast %int %368 to %uint
+    %370 = icmp ult %uint %367, %369
+    br %boolean %370, label %_label97, label %_label96
+_label97:
+    br label %_label98
+_label96:
+    %371 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %372 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %371, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %373 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %372, %int %366)
+    %374 = bitcast %shadow.standard..IndexOutOfBoundsException* %373 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %374) noreturn
+    unreachable
+_label98:
+    %375 = extractvalue { %uint*, [1 x %int] } %365, 0
+    %376 = getelementptr inbounds %uint, %uint* %375, %int %366
+    %377 = load %uint, %uint* %376
+    %378 = zext %uint %377 to %long
+    %379 = add %long %carry.505, %378
+    %380 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedDivisor
+    %381 = bitcast %int %j1.519 to %uint
+    %382 = extractvalue { %uint*, [1 x %int] } %380, 1, 0
+    %383 = bitcast %int %382 to %uint
+    %384 = icmp ult %uint %381, %383
+    br %boolean %384, label %_label100, label %_label99
+_label100:
+    br label %_label101
+_label99:
+    %385 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %386 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %385, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %387 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %386, %int %j1.519)
+    %388 = bitcast %shadow.standard..IndexOutOfBoundsException* %387 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %388) noreturn
+    unreachable
+_label101:
+    %389 = extractvalue { %uint*, [1 x %int] } %380, 0
+    %390 = getelementptr inbounds %uint, %uint* %389, %int %j1.519
+    %391 = load %uint, %uint* %390
+    %392 = zext %uint %391 to %long
+    %test.39 = add %long %379, %392
+    %393 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %394 = add %int %i1.508, %j1.519
+    %395 = bitcast %int %394 to %uint
+    %396 = extractvalue { %uint*, [1 x %int] } %393, 1, 0
+    %397 = bitcast %int %396 to %uint
+    %398 = icmp ult %uint %395, %397
+    br %boolean %398, label %_label103, label %_label102
+_label103:
+    br label %_label104
+_label102:
+    %399 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %400 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %399, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %401 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %400, %int %394)
+    %402 = bitcast %shadow.standard..IndexOutOfBoundsException* %401 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %402) noreturn
+    unreachable
+_label104:
+    %403 = trunc %long %test.39 to %uint
+    %404 = extractvalue { %uint*, [1 x %int] } %393, 0
+    %405 = getelementptr inbounds %uint, %uint* %404, %int %394
+    store %uint %403, %uint* %405
+    %carry.40 = sdiv %long %test.39, 4294967296
+    br label %_label95
+_label95:
+    %j1.38 = add %int %j1.519, 1
+    br label %_label106
+_label106:
+    %zeroes.651 = phi %uint [ %zeroes.651, %_label95 ],[ %zeroes.612, %_label93 ]
+    %j1.519 = phi %int [ %j1.38, %_label95 ],[ 0, %_label93 ]
+    %i1.508 = phi %int [ %i1.508, %_label95 ],[ %i1.390, %_label93 ]
+    %carry.505 = phi %long [ %carry.40, %_label95 ],[ 0, %_label93 ]
+    %406 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %407 = extractvalue { %uint*, [1 x %int] } %406, 1, 0
+    %408 = icmp slt %int %j1.519, %407
+    br %boolean %408, label %_label105, label %_label94
+_label94:
+    %409 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %410 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %411 = extractvalue { %uint*, [1 x %int] } %410, 1, 0
+    %412 = add %int %i1.508, %411
+    %413 = bitcast %int %412 to %uint
+    %414 = extractvalue { %uint*, [1 x %int] } %409, 1, 0
+    %415 = bitcast %int %414 to %uint
+    %416 = icmp ult %uint %413, %415
+    br %boolean %416, label %_label108, label %_label107
+_label108:
+    br label %_label109
+_label107:
+    %417 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %418 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %417, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %419 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %418, %int %412)
+    %420 = bitcast %shadow.standard..IndexOutOfBoundsException* %419 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %420) noreturn
+    unreachable
+_label109:
+    %421 = extractvalue { %uint*, [1 x %int] } %409, 0
+    %422 = getelementptr inbounds %uint, %uint* %421, %int %412
+    %423 = load %uint, %uint* %422
+    %424 = trunc %long %carry.505 to %uint
+    %425 = add %uint %423, %424
+    %426 = extractvalue { %uint*, [1 x %int] } %409, 0
+    %427 = getelementptr inbounds %uint, %uint* %426, %int %412
+    store %uint %425, %uint* %427
+    br label %_label111
+_label111:
+    %zeroes.604 = phi %uint [ %zeroes.612, %_label90 ],[ %zeroes.651, %_label109 ]
+    %i1.534 = phi %int [ %i1.390, %_label90 ],[ %i1.508, %_label109 ]
+    br label %_label33
+_label33:
+    %i1.20 = sub %int %i1.534, 1
+    br label %_label113
+_label113:
+    %zeroes.602 = phi %uint [ %zeroes.604, %_label33 ],[ %zeroes.12, %_label31 ]
+    %i1.140 = phi %int [ %i1.20, %_label33 ],[ %i1.19, %_label31 ]
+    %428 = icmp sge %int %i1.140, 0
+    br %boolean %428, label %_label112, label %_label32
+_label32:
+    %429 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %430 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %431 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %429, { %uint*, [1 x %int] } %430)
+    %432 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %433 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %normalizedData
+    %434 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedRightShift_uint_A1_uint(%shadow.standard..BigInteger* %432, { %uint*, [1 x %int] } %433, %uint %zeroes.602)
+    %435 = insertvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } undef, { %uint*, [1 x %int] } %431, 0
+    %436 = insertvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %435, { %uint*, [1 x %int] } %434, 1
+    ret { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %436
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedRightShift_uint_A1_uint(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, %uint) {
+    %result = alloca { %uint*, [1 x %int] }
+    %data = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %data
+    %4 = udiv %uint %2, 32
+    %jump.4 = bitcast %uint %4 to %int
+    %5 = urem %uint %2, 32
+    %shift.5 = bitcast %uint %5 to %int
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = sub %int %7, %jump.4
+    %9 = call %int @shadow.standard..int_Mmax_int(%int %8, %int 1)
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %9)
+    %11 = bitcast %shadow.standard..Object* %10 to %uint*
+    %12 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %11, 0
+    %result.6 = insertvalue { %uint*, [1 x %int] } %12, %int %9, 1, 0
+    store { %uint*, [1 x %int] } %result.6, { %uint*, [1 x %int] }* %result
+    br label %_label13
+_label12:
+    %13 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %14 = bitcast %int %i.19 to %uint
+    %15 = extractvalue { %uint*, [1 x %int] } %13, 1, 0
+    %16 = bitcast %int %15 to %uint
+    %17 = icmp ult %uint %14, %16
+    br label %_label4
+_label4:
+    br label %_label5
+_label5:
+    %18 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %19 = add %int %i.19, %jump.34
+    %20 = bitcast %int %19 to %uint
+    %21 = extractvalue { %uint*, [1 x %int] } %18, 1, 0
+    %22 = bitcast %int %21 to %uint
+    %23 = icmp ult %uint %20, %22
+    br %boolean %23, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %24 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %25 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %24, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %26 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %25, %int %19)
+    %27 = bitcast %shadow.standard..IndexOutOfBoundsException* %26 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %27) noreturn
+    unreachable
+_label8:
+    %28 = extractvalue { %uint*, [1 x %int] } %18, 0
+    %29 = getelementptr inbounds %uint, %uint* %28, %int %19
+    %30 = load %uint, %uint* %29
+    %31 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %30, %int %shift.45)
+    %32 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %33 = add %int %i.19, %jump.34
+    %34 = add %int %33, 1
+    %35 = bitcast %int %34 to %uint
+    %36 = extractvalue { %uint*, [1 x %int] } %32, 1, 0
+    %37 = bitcast %int %36 to %uint
+    %38 = icmp ult %uint %35, %37
+    br %boolean %38, label %_label10, label %_label9
+_label10:
+    br label %_label11
+_label9:
+    %39 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %40 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %39, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %41 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %40, %int %34)
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException* %41 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %42) noreturn
+    unreachable
+_label11:
+    %43 = extractvalue { %uint*, [1 x %int] } %32, 0
+    %44 = getelementptr inbounds %uint, %uint* %43, %int %34
+    %45 = load %uint, %uint* %44
+    %46 = sub %int 32, %shift.45
+    %47 = call %uint @shadow.standard..uint_MbitShiftLeft_int(%uint %45, %int %46)
+    %48 = or %uint %31, %47
+    %49 = extractvalue { %uint*, [1 x %int] } %13, 0
+    %50 = getelementptr inbounds %uint, %uint* %49, %int %i.19
+    store %uint %48, %uint* %50
+    br label %_label2
+_label2:
+    %i.8 = add %int %i.19, 1
+    br label %_label13
+_label13:
+    %shift.45 = phi %int [ %shift.5, %_label0 ],[ %shift.45, %_label2 ]
+    %jump.34 = phi %int [ %jump.4, %_label0 ],[ %jump.34, %_label2 ]
+    %i.19 = phi %int [ 0, %_label0 ],[ %i.8, %_label2 ]
+    %51 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %52 = extractvalue { %uint*, [1 x %int] } %51, 1, 0
+    %53 = sub %int %52, 1
+    %54 = icmp slt %int %i.19, %53
+    br %boolean %54, label %_label12, label %_label1
+_label1:
+    %55 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %56 = extractvalue { %uint*, [1 x %int] } %55, 1, 0
+    %57 = icmp sgt %int %56, %jump.34
+    br %boolean %57, label %_label23, label %_label24
+_label23:
+    %58 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %59 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %60 = extractvalue { %uint*, [1 x %int] } %59, 1, 0
+    %61 = sub %int %60, 1
+    %62 = bitcast %int %61 to %uint
+    %63 = extractvalue { %uint*, [1 x %int] } %58, 1, 0
+    %64 = bitcast %int %63 to %uint
+    %65 = icmp ult %uint %62, %64
+    br %boolean %65, label %_label15, label %_label14
+_label15:
+    br label %_label16
+_label14:
+    %66 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %67 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %66, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %68 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %67, %int %61)
+    %69 = bitcast %shadow.standard..IndexOutOfBoundsException* %68 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %69) noreturn
+    unreachable
+_label16:
+    %70 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %71 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %72 = extractvalue { %uint*, [1 x %int] } %71, 1, 0
+    %73 = sub %int %72, 1
+    %74 = bitcast %int %73 to %uint
+    %75 = extractvalue { %uint*, [1 x %int] } %70, 1, 0
+    %76 = bitcast %int %75 to %uint
+    %77 = icmp ult %uint %74, %76
+    br %boolean %77, label %_label18, label %_label17
+_label18:
+    br label %_label19
+_label17:
+    %78 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %79 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %78, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %80 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %79, %int %73)
+    %81 = bitcast %shadow.standard..IndexOutOfBoundsException* %80 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %81) noreturn
+    unreachable
+_label19:
+    %82 = extractvalue { %uint*, [1 x %int] } %70, 0
+    %83 = getelementptr inbounds %uint, %uint* %82, %int %73
+    %84 = load %uint, %uint* %83
+    %85 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %84, %int %shift.45)
+    %86 = extractvalue { %uint*, [1 x %int] } %58, 0
+    %87 = getelementptr inbounds %uint, %uint* %86, %int %61
+    store %uint %85, %uint* %87
+    br label %_label25
+_label24:
+    %88 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %89 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %90 = extractvalue { %uint*, [1 x %int] } %89, 1, 0
+    %91 = sub %int %90, 1
+    %92 = bitcast %int %91 to %uint
+    %93 = extractvalue { %uint*, [1 x %int] } %88, 1, 0
+    %94 = bitcast %int %93 to %uint
+    %95 = icmp ult %uint %92, %94
+    br %boolean %95, label %_label21, label %_label20
+_label21:
+    br label %_label22
+_label20:
+    %96 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %97 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %96, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %98 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %97, %int %91)
+    %99 = bitcast %shadow.standard..IndexOutOfBoundsException* %98 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %99) noreturn
+    unreachable
+_label22:
+    %100 = extractvalue { %uint*, [1 x %int] } %88, 0
+    %101 = getelementptr inbounds %uint, %uint* %100, %int %91
+    store %uint 0, %uint* %101
+    br label %_label25
+_label25:
+    %102 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    ret { %uint*, [1 x %int] } %102
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* returned, %int) {
+    %temp = alloca { %uint*, [1 x %int] }
+    %_temp = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = bitcast %shadow.standard..BigInteger* %3 to %shadow.standard..Object*
+    %5 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %4)
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %8 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %9 = bitcast %shadow.standard..Object* %8 to %uint*
+    %10 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %9, 0
+    %temp.3 = insertvalue { %uint*, [1 x %int] } %10, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %temp.3, { %uint*, [1 x %int] }* %temp
+    %11 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %12 = extractvalue { %uint*, [1 x %int] } %11, 1, 0
+    %13 = bitcast %int %12 to %uint
+    %14 = icmp ult %uint 0, %13
+    br label %_label2
+_label2:
+    br label %_label3
+_label3:
+    %15 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %16 = extractvalue { %uint*, [1 x %int] } %11, 0
+    %17 = getelementptr inbounds %uint, %uint* %16, %int 0
+    store %uint %15, %uint* %17
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %19 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %20 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %21 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %20, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %22 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %21)
+    %23 = extractvalue { %uint*, [1 x %int] } %19, 1, 0
+    %24 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %23)
+    %25 = bitcast %shadow.standard..Object* %24 to %uint*
+    %26 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %25, 0
+    %_temp.4 = insertvalue { %uint*, [1 x %int] } %26, %int %23, 1, 0
+    store { %uint*, [1 x %int] } %_temp.4, { %uint*, [1 x %int] }* %_temp
+    %27 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %28 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %29 = mul %int %28, %23
+    %30 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %31 = extractvalue { %uint*, [1 x %int] } %30, 0
+    %32 = extractvalue { %uint*, [1 x %int] } %19, 0
+    %33 = bitcast %uint* %31 to i8*
+    %34 = bitcast %uint* %32 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %33, i8* %34, i32 %29, i32 1, i1 0)
+    br label %_label4
+_label4:
+    %35 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %18, i32 0, i32 2
+    store { %uint*, [1 x %int] } %27, { %uint*, [1 x %int] }* %35
+    %36 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %37 = icmp slt %int %1, 0
+    %38 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %36, i32 0, i32 3
+    store %boolean %37, %boolean* %38
+    %39 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %40 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %40
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_ulong(%shadow.standard..Object* returned, %ulong) {
+    %temp = alloca { %uint*, [1 x %int] }
+    %_temp = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = bitcast %shadow.standard..BigInteger* %3 to %shadow.standard..Object*
+    %5 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %4)
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %temp
+    %8 = icmp uge %ulong %1, 4294967296
+    br %boolean %8, label %_label10, label %_label11
+_label10:
+    %9 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 2)
+    %10 = bitcast %shadow.standard..Object* %9 to %uint*
+    %11 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %10, 0
+    %temp.4 = insertvalue { %uint*, [1 x %int] } %11, %int 2, 1, 0
+    store { %uint*, [1 x %int] } %temp.4, { %uint*, [1 x %int] }* %temp
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %13 = extractvalue { %uint*, [1 x %int] } %12, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint 1, %14
+    br label %_label2
+_label2:
+    br label %_label3
+_label3:
+    %16 = udiv %ulong %1, 4294967296
+    %17 = trunc %ulong %16 to %uint
+    %18 = extractvalue { %uint*, [1 x %int] } %12, 0
+    %19 = getelementptr inbounds %uint, %uint* %18, %int 1
+    store %uint %17, %uint* %19
+    %20 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %21 = extractvalue { %uint*, [1 x %int] } %20, 1, 0
+    %22 = bitcast %int %21 to %uint
+    %23 = icmp ult %uint 0, %22
+    br label %_label5
+_label5:
+    br label %_label6
+_label6:
+    %24 = urem %ulong %1, 4294967296
+    %25 = trunc %ulong %24 to %uint
+    %26 = extractvalue { %uint*, [1 x %int] } %20, 0
+    %27 = getelementptr inbounds %uint, %uint* %26, %int 0
+    store %uint %25, %uint* %27
+    br label %_label12
+_label11:
+    %28 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %29 = bitcast %shadow.standard..Object* %28 to %uint*
+    %30 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %29, 0
+    %temp.5 = insertvalue { %uint*, [1 x %int] } %30, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %temp.5, { %uint*, [1 x %int] }* %temp
+    %31 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %32 = extractvalue { %uint*, [1 x %int] } %31, 1, 0
+    %33 = bitcast %int %32 to %uint
+    %34 = icmp ult %uint 0, %33
+    br label %_label8
+_label8:
+    br label %_label9
+_label9:
+    %35 = trunc %ulong %1 to %uint
+    %36 = extractvalue { %uint*, [1 x %int] } %31, 0
+    %37 = getelementptr inbounds %uint, %uint* %36, %int 0
+    store %uint %35, %uint* %37
+    br label %_label12
+_label12:
+    %38 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %39 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %40 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %41 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %40, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %42 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %41)
+    %43 = extractvalue { %uint*, [1 x %int] } %39, 1, 0
+    %44 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %43)
+    %45 = bitcast %shadow.standard..Object* %44 to %uint*
+    %46 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %45, 0
+    %_temp.6 = insertvalue { %uint*, [1 x %int] } %46, %int %43, 1, 0
+    store { %uint*, [1 x %int] } %_temp.6, { %uint*, [1 x %int] }* %_temp
+    %47 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %48 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %49 = mul %int %48, %43
+    %50 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %51 = extractvalue { %uint*, [1 x %int] } %50, 0
+    %52 = extractvalue { %uint*, [1 x %int] } %39, 0
+    %53 = bitcast %uint* %51 to i8*
+    %54 = bitcast %uint* %52 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %53, i8* %54, i32 %49, i32 1, i1 0)
+    br label %_label13
+_label13:
+    %55 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %38, i32 0, i32 2
+    store { %uint*, [1 x %int] } %47, { %uint*, [1 x %int] }* %55
+    %56 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %57 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %57
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_long(%shadow.standard..Object* returned, %long) {
+    %temp = alloca { %uint*, [1 x %int] }
+    %_temp = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = bitcast %shadow.standard..BigInteger* %3 to %shadow.standard..Object*
+    %5 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %4)
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %magnitude.3 = call %ulong @shadow.standard..long_Mabs(%long %1)
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %temp
+    %8 = icmp uge %ulong %magnitude.3, 4294967296
+    br %boolean %8, label %_label10, label %_label11
+_label10:
+    %9 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 2)
+    %10 = bitcast %shadow.standard..Object* %9 to %uint*
+    %11 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %10, 0
+    %temp.5 = insertvalue { %uint*, [1 x %int] } %11, %int 2, 1, 0
+    store { %uint*, [1 x %int] } %temp.5, { %uint*, [1 x %int] }* %temp
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %13 = extractvalue { %uint*, [1 x %int] } %12, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint 1, %14
+    br label %_label2
+_label2:
+    br label %_label3
+_label3:
+    %16 = udiv %ulong %magnitude.3, 4294967296
+    %17 = trunc %ulong %16 to %uint
+    %18 = extractvalue { %uint*, [1 x %int] } %12, 0
+    %19 = getelementptr inbounds %uint, %uint* %18, %int 1
+    store %uint %17, %uint* %19
+    %20 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %21 = extractvalue { %uint*, [1 x %int] } %20, 1, 0
+    %22 = bitcast %int %21 to %uint
+    %23 = icmp ult %uint 0, %22
+    br label %_label5
+_label5:
+    br label %_label6
+_label6:
+    %24 = urem %ulong %magnitude.3, 4294967296
+    %25 = trunc %ulong %24 to %uint
+    %26 = extractvalue { %uint*, [1 x %int] } %20, 0
+    %27 = getelementptr inbounds %uint, %uint* %26, %int 0
+    store %uint %25, %uint* %27
+    br label %_label12
+_label11:
+    %28 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %29 = bitcast %shadow.standard..Object* %28 to %uint*
+    %30 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %29, 0
+    %temp.6 = insertvalue { %uint*, [1 x %int] } %30, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %temp.6, { %uint*, [1 x %int] }* %temp
+    %31 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %32 = extractvalue { %uint*, [1 x %int] } %31, 1, 0
+    %33 = bitcast %int %32 to %uint
+    %34 = icmp ult %uint 0, %33
+    br label %_label8
+_label8:
+    br label %_label9
+_label9:
+    %35 = trunc %ulong %magnitude.3 to %uint
+    %36 = extractvalue { %uint*, [1 x %int] } %31, 0
+    %37 = getelementptr inbounds %uint, %uint* %36, %int 0
+    store %uint %35, %uint* %37
+    br label %_label12
+_label12:
+    %38 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %39 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %temp
+    %40 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %41 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %40, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %42 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %41)
+    %43 = extractvalue { %uint*, [1 x %int] } %39, 1, 0
+    %44 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %43)
+    %45 = bitcast %shadow.standard..Object* %44 to %uint*
+    %46 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %45, 0
+    %_temp.7 = insertvalue { %uint*, [1 x %int] } %46, %int %43, 1, 0
+    store { %uint*, [1 x %int] } %_temp.7, { %uint*, [1 x %int] }* %_temp
+    %47 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %48 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %49 = mul %int %48, %43
+    %50 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %51 = extractvalue { %uint*, [1 x %int] } %50, 0
+    %52 = extractvalue { %uint*, [1 x %int] } %39, 0
+    %53 = bitcast %uint* %51 to i8*
+    %54 = bitcast %uint* %52 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %53, i8* %54, i32 %49, i32 1, i1 0)
+    br label %_label13
+_label13:
+    %55 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %38, i32 0, i32 2
+    store { %uint*, [1 x %int] } %47, { %uint*, [1 x %int] }* %55
+    %56 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %57 = icmp slt %long %1, 0
+    %58 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %56, i32 0, i32 3
+    store %boolean %57, %boolean* %58
+    %59 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %60 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %60
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_shadow.standard..String(%shadow.standard..Object* returned, %shadow.standard..String*) {
+    %this = alloca %shadow.standard..BigInteger*
+    %value = alloca %shadow.standard..String*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %value
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %5 = bitcast %shadow.standard..BigInteger* %3 to %shadow.standard..Object*
+    %6 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_shadow.standard..String_uint(%shadow.standard..Object* %5, %shadow.standard..String* %4, %uint 10)
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %8 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %8
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_shadow.standard..String_uint(%shadow.standard..Object* returned, %shadow.standard..String*, %uint) {
+    %values = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    %baseRepresentation = alloca { %uint*, [1 x %int] }
+    %holder = alloca { %uint*, [1 x %int] }
+    %_temp3 = alloca { %uint*, [1 x %int] }
+    %digitRepresentation = alloca { %uint*, [1 x %int] }
+    %value = alloca %shadow.standard..String*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %value
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = bitcast %shadow.standard..BigInteger* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %5)
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %8 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %_temp.4 = icmp ult %uint %2, 2
+    br %boolean %_temp.4, label %_label1, label %_label2
+_label2:
+    %_temp.5 = icmp ugt %uint %2, 36
+    br label %_label1
+_label1:
+    %_temp.32 = phi %boolean [ %_temp.4, %_label0 ],[ %_temp.5, %_label2 ]
+    br %boolean %_temp.32, label %_label4, label %_label5
+_label4:
+    %9 = call %shadow.standard..String* @shadow.standard..uint_MtoString(%uint %2)
+    %10 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string140, %shadow.standard..String* %9)
+    %11 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %13 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %12, %shadow.standard..String* %10)
+    %14 = bitcast %shadow.standard..IllegalArgumentException* %13 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %14) noreturn
+    unreachable
+_label5:
+    %15 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %16 = call %int @shadow.standard..String_Msize(%shadow.standard..String* %15)
+    %_temp1.8 = icmp sgt %int %16, 0
+    br %boolean %_temp1.8, label %_label7, label %_label6
+_label7:
+    %17 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %18 = call %byte @shadow.standard..String_Mindex_int(%shadow.standard..String* %17, %int 0)
+    %19 = zext %byte %18 to %code
+    %_temp1.9 = icmp eq %code %19, 45
+    br label %_label6
+_label6:
+    %_temp1.40 = phi %boolean [ %_temp1.9, %_label7 ],[ %_temp1.8, %_label5 ]
+    br %boolean %_temp1.40, label %_label8, label %_label9
+_label8:
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %21 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %20, i32 0, i32 3
+    store %boolean true, %boolean* %21
+    br label %_label9
+_label9:
+    %i.82 = phi %int [ 1, %_label8 ],[ 0, %_label6 ]
+    br label %_label11
+_label14:
+    %22 = zext %uint %base.60 to %ulong
+    %initial.13 = mul %ulong %initial.52, %22
+    %23 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %24 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %25 = call %byte @shadow.standard..String_Mindex_int(%shadow.standard..String* %24, %int %i.81)
+    %26 = call %uint @shadow.standard..BigInteger_MdigitValue_byte_uint(%shadow.standard..BigInteger* %23, %byte %25, %uint %base.60)
+    %27 = zext %uint %26 to %ulong
+    %initial.14 = add %ulong %initial.13, %27
+    %i.15 = add %int %i.81, 1
+    br label %_label11
+_label11:
+    %i.81 = phi %int [ %i.82, %_label9 ],[ %i.15, %_label14 ]
+    %base.60 = phi %uint [ %2, %_label9 ],[ %base.60, %_label14 ]
+    %initial.52 = phi %ulong [ 0, %_label9 ],[ %initial.14, %_label14 ]
+    %28 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %29 = call %int @shadow.standard..String_Msize(%shadow.standard..String* %28)
+    %_temp2.11 = icmp slt %int %i.81, %29
+    br %boolean %_temp2.11, label %_label13, label %_label12
+_label13:
+    %_temp2.12 = icmp ult %ulong %initial.52, 4294967296
+    br label %_label12
+_label12:
+    %_temp2.83 = phi %boolean [ %_temp2.12, %_label13 ],[ %_temp2.11, %_label11 ]
+    br %boolean %_temp2.83, label %_label14, label %_label10
+_label10:
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %values
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %holder
+    %30 = icmp ult %ulong %initial.52, 4294967296
+    br %boolean %30, label %_label30, label %_label31
+_label30:
+    %31 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %32 = bitcast %shadow.standard..Object* %31 to %uint*
+    %33 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %32, 0
+    %values.18 = insertvalue { %uint*, [1 x %int] } %33, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %values.18, { %uint*, [1 x %int] }* %values
+    %34 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %35 = extractvalue { %uint*, [1 x %int] } %34, 1, 0
+    %36 = bitcast %int %35 to %uint
+    %37 = icmp ult %uint 0, %36
+    br label %_label16
+_label16:
+    br label %_label17
+_label17:
+    %38 = trunc %ulong %initial.52 to %uint
+    %39 = extractvalue { %uint*, [1 x %int] } %34, 0
+    %40 = getelementptr inbounds %uint, %uint* %39, %int 0
+    store %uint %38, %uint* %40
+    %holder.19 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    store { %uint*, [1 x %int] } %holder.19, { %uint*, [1 x %int] }* %holder
+    br label %_label32
+_label31:
+    %i.20 = sub %int %i.81, 1
+    %41 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %42 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %43 = call %byte @shadow.standard..String_Mindex_int(%shadow.standard..String* %42, %int %i.20)
+    %44 = call %uint @shadow.standard..BigInteger_MdigitValue_byte_uint(%shadow.standard..BigInteger* %41, %byte %43, %uint %base.60)
+    %45 = zext %uint %44 to %ulong
+    %initial.21 = sub %ulong %initial.52, %45
+    %46 = zext %uint %base.60 to %ulong
+    %initial.22 = udiv %ulong %initial.21, %46
+    %47 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %48 = bitcast %shadow.standard..Object* %47 to %uint*
+    %49 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %48, 0
+    %values.23 = insertvalue { %uint*, [1 x %int] } %49, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %values.23, { %uint*, [1 x %int] }* %values
+    %50 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %51 = extractvalue { %uint*, [1 x %int] } %50, 1, 0
+    %52 = bitcast %int %51 to %uint
+    %53 = icmp ult %uint 0, %52
+    br label %_label19
+_label19:
+    br label %_label20
+_label20:
+    %54 = trunc %ulong %initial.22 to %uint
+    %55 = extractvalue { %uint*, [1 x %int] } %50, 0
+    %56 = getelementptr inbounds %uint, %uint* %55, %int 0
+    store %uint %54, %uint* %56
+    %57 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %58 = bitcast %shadow.standard..Object* %57 to %uint*
+    %59 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %58, 0
+    %baseRepresentation.24 = insertvalue { %uint*, [1 x %int] } %59, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %baseRepresentation.24, { %uint*, [1 x %int] }* %baseRepresentation
+    %60 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %baseRepresentation
+    %61 = extractvalue { %uint*, [1 x %int] } %60, 1, 0
+    %62 = bitcast %int %61 to %uint
+    %63 = icmp ult %uint 0, %62
+    br label %_label22
+_label22:
+    br label %_label23
+_label23:
+    %64 = extractvalue { %uint*, [1 x %int] } %60, 0
+    %65 = getelementptr inbounds %uint, %uint* %64, %int 0
+    store %uint %base.60, %uint* %65
+    %66 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 1)
+    %67 = bitcast %shadow.standard..Object* %66 to %uint*
+    %68 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %67, 0
+    %digitRepresentation.25 = insertvalue { %uint*, [1 x %int] } %68, %int 1, 1, 0
+    store { %uint*, [1 x %int] } %digitRepresentation.25, { %uint*, [1 x %int] }* %digitRepresentation
+    %holder.26 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    store { %uint*, [1 x %int] } %holder.26, { %uint*, [1 x %int] }* %holder
+    br label %_label25
+_label29:
+    %69 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %70 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %holder
+    %71 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %baseRepresentation
+    %holder.27 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedMultiply_uint_A1_uint_A1(%shadow.standard..BigInteger* %69, { %uint*, [1 x %int] } %70, { %uint*, [1 x %int] } %71)
+    store { %uint*, [1 x %int] } %holder.27, { %uint*, [1 x %int] }* %holder
+    %72 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %digitRepresentation
+    %73 = extractvalue { %uint*, [1 x %int] } %72, 1, 0
+    %74 = bitcast %int %73 to %uint
+    %75 = icmp ult %uint 0, %74
+    br label %_label27
+_label27:
+    br label %_label28
+_label28:
+    %76 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %77 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %78 = call %byte @shadow.standard..String_Mindex_int(%shadow.standard..String* %77, %int %i.140)
+    %79 = call %uint @shadow.standard..BigInteger_MdigitValue_byte_uint(%shadow.standard..BigInteger* %76, %byte %78, %uint %base.148)
+    %80 = extractvalue { %uint*, [1 x %int] } %72, 0
+    %81 = getelementptr inbounds %uint, %uint* %80, %int 0
+    store %uint %79, %uint* %81
+    %82 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %83 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %holder
+    %84 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %digitRepresentation
+    %holder.28 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedAdd_uint_A1_uint_A1(%shadow.standard..BigInteger* %82, { %uint*, [1 x %int] } %83, { %uint*, [1 x %int] } %84)
+    store { %uint*, [1 x %int] } %holder.28, { %uint*, [1 x %int] }* %holder
+    %i.29 = add %int %i.140, 1
+    br label %_label25
+_label25:
+    %base.148 = phi %uint [ %base.148, %_label28 ],[ %base.60, %_label23 ]
+    %i.140 = phi %int [ %i.29, %_label28 ],[ %i.20, %_label23 ]
+    %85 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %86 = call %int @shadow.standard..String_Msize(%shadow.standard..String* %85)
+    %87 = icmp slt %int %i.140, %86
+    br %boolean %87, label %_label29, label %_label24
+_label24:
+    br label %_label32
+_label32:
+    %88 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %89 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %holder
+    %90 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %91 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %90, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %92 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %91)
+    %93 = extractvalue { %uint*, [1 x %int] } %89, 1, 0
+    %94 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %93)
+    %95 = bitcast %shadow.standard..Object* %94 to %uint*
+    %96 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %95, 0
+    %_temp3.30 = insertvalue { %uint*, [1 x %int] } %96, %int %93, 1, 0
+    store { %uint*, [1 x %int] } %_temp3.30, { %uint*, [1 x %int] }* %_temp3
+    %97 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp3
+    %98 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %99 = mul %int %98, %93
+    %100 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp3
+    %101 = extractvalue { %uint*, [1 x %int] } %100, 0
+    %102 = extractvalue { %uint*, [1 x %int] } %89, 0
+    %103 = bitcast %uint* %101 to i8*
+    %104 = bitcast %uint* %102 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %103, i8* %104, i32 %99, i32 1, i1 0)
+    br label %_label33
+_label33:
+    %105 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %88, i32 0, i32 2
+    store { %uint*, [1 x %int] } %97, { %uint*, [1 x %int] }* %105
+    %106 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %107 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %107
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* returned, { %uint*, [1 x %int] }, %boolean) {
+    %_temp = alloca { %uint*, [1 x %int] }
+    %data = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    store %shadow.standard..BigInteger* %this.0, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %data
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = bitcast %shadow.standard..BigInteger* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %5)
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %8 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %9 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %10 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %11 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %13 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %12)
+    %14 = extractvalue { %uint*, [1 x %int] } %10, 1, 0
+    %15 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %14)
+    %16 = bitcast %shadow.standard..Object* %15 to %uint*
+    %17 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %16, 0
+    %_temp.4 = insertvalue { %uint*, [1 x %int] } %17, %int %14, 1, 0
+    store { %uint*, [1 x %int] } %_temp.4, { %uint*, [1 x %int] }* %_temp
+    %18 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %19 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %20 = mul %int %19, %14
+    %21 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp
+    %22 = extractvalue { %uint*, [1 x %int] } %21, 0
+    %23 = extractvalue { %uint*, [1 x %int] } %10, 0
+    %24 = bitcast %uint* %22 to i8*
+    %25 = bitcast %uint* %23 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %24, i8* %25, i32 %20, i32 1, i1 0)
+    br label %_label1
+_label1:
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %9, i32 0, i32 2
+    store { %uint*, [1 x %int] } %18, { %uint*, [1 x %int] }* %26
+    %27 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %28 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %27, i32 0, i32 3
+    store %boolean %2, %boolean* %28
+    %29 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %30 = bitcast %shadow.standard..Object* %0 to %shadow.standard..BigInteger*
+    ret %shadow.standard..BigInteger* %30
+}
+
+define %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }) {
+    %data = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %data
+    %3 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %4 = extractvalue { %uint*, [1 x %int] } %3, 1, 0
+    %_temp.3 = icmp eq %int %4, 1
+    br %boolean %_temp.3, label %_label5, label %_label4
+_label5:
+    %5 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %6 = extractvalue { %uint*, [1 x %int] } %5, 1, 0
+    %7 = bitcast %int %6 to %uint
+    %8 = icmp ult %uint 0, %7
+    br %boolean %8, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %9 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %10 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %9, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %11 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %10, %int 0)
+    %12 = bitcast %shadow.standard..IndexOutOfBoundsException* %11 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %12) noreturn
+    unreachable
+_label3:
+    %13 = extractvalue { %uint*, [1 x %int] } %5, 0
+    %14 = getelementptr inbounds %uint, %uint* %13, %int 0
+    %15 = load %uint, %uint* %14
+    %_temp.4 = icmp eq %uint %15, 0
+    br label %_label4
+_label4:
+    %_temp.6 = phi %boolean [ %_temp.3, %_label0 ],[ %_temp.4, %_label3 ]
+    ret %boolean %_temp.6
+}
+
+define %uint @shadow.standard..BigInteger_MdigitValue_byte_uint(%shadow.standard..BigInteger*, %byte, %uint) {
+    br label %_label0
+_label0:
+    %_temp.5 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 48)
+    %_temp2.7 = icmp sge %int %_temp.5, 0
+    br %boolean %_temp2.7, label %_label2, label %_label1
+_label2:
+    %_temp1.6 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 57)
+    %_temp2.8 = icmp sle %int %_temp1.6, 0
+    br label %_label1
+_label1:
+    %_temp2.21 = phi %boolean [ %_temp2.8, %_label2 ],[ %_temp2.7, %_label0 ]
+    br %boolean %_temp2.21, label %_label14, label %_label15
+_label14:
+    %4 = call %long @shadow.standard..byte_Msubtract_long(%byte %1, %long 48)
+    %value.9 = trunc %long %4 to %uint
+    br label %_label16
+_label15:
+    %_temp3.10 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 65)
+    %_temp5.12 = icmp sge %int %_temp3.10, 0
+    br %boolean %_temp5.12, label %_label4, label %_label3
+_label4:
+    %_temp4.11 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 90)
+    %_temp5.13 = icmp sle %int %_temp4.11, 0
+    br label %_label3
+_label3:
+    %_temp5.26 = phi %boolean [ %_temp5.12, %_label15 ],[ %_temp5.13, %_label4 ]
+    br %boolean %_temp5.26, label %_label11, label %_label12
+_label11:
+    %5 = call %long @shadow.standard..byte_Msubtract_long(%byte %1, %long 65)
+    %6 = add %long %5, 10
+    %value.14 = trunc %long %6 to %uint
+    br label %_label13
+_label12:
+    %_temp6.15 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 97)
+    %_temp8.17 = icmp sge %int %_temp6.15, 0
+    br %boolean %_temp8.17, label %_label6, label %_label5
+_label6:
+    %_temp7.16 = call %int @shadow.standard..byte_Mcompare_long(%byte %1, %long 122)
+    %_temp8.18 = icmp sle %int %_temp7.16, 0
+    br label %_label5
+_label5:
+    %_temp8.31 = phi %boolean [ %_temp8.18, %_label6 ],[ %_temp8.17, %_label12 ]
+    br %boolean %_temp8.31, label %_label8, label %_label9
+_label8:
+    %7 = call %long @shadow.standard..byte_Msubtract_long(%byte %1, %long 97)
+    %8 = add %long %7, 10
+    %value.19 = trunc %long %8 to %uint
+    br label %_label10
+_label9:
+    %9 = call %shadow.standard..String* @shadow.standard..byte_MtoString(%byte %1)
+    %10 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string141, %shadow.standard..String* %9)
+    %11 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %13 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %12, %shadow.standard..String* %10)
+    %14 = bitcast %shadow.standard..IllegalArgumentException* %13 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %14) noreturn
+    unreachable
+_label10:
+    br label %_label13
+_label13:
+    %value.36 = phi %uint [ %value.14, %_label11 ],[ %value.19, %_label10 ]
+    br label %_label16
+_label16:
+    %value.35 = phi %uint [ %value.36, %_label13 ],[ %value.9, %_label14 ]
+    %15 = icmp uge %uint %value.35, %2
+    br %boolean %15, label %_label18, label %_label19
+_label18:
+    %16 = call %shadow.standard..String* @shadow.standard..byte_MtoString(%byte %1)
+    %17 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string141, %shadow.standard..String* %16)
+    %18 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %20 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %19, %shadow.standard..String* %17)
+    %21 = bitcast %shadow.standard..IllegalArgumentException* %20 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %21) noreturn
+    unreachable
+_label19:
+    ret %uint %value.35
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedLeftShift_uint_A1_uint(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, %uint) {
+    %result = alloca { %uint*, [1 x %int] }
+    %data = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %data
+    %4 = udiv %uint %2, 32
+    %jump.4 = bitcast %uint %4 to %int
+    %5 = urem %uint %2, 32
+    %shift.5 = bitcast %uint %5 to %int
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = add %int %7, %jump.4
+    %9 = add %int %8, 1
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %9)
+    %11 = bitcast %shadow.standard..Object* %10 to %uint*
+    %12 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %11, 0
+    %result.6 = insertvalue { %uint*, [1 x %int] } %12, %int %9, 1, 0
+    store { %uint*, [1 x %int] } %result.6, { %uint*, [1 x %int] }* %result
+    %13 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %14 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %15 = extractvalue { %uint*, [1 x %int] } %14, 1, 0
+    %16 = sub %int %15, 1
+    %17 = bitcast %int %16 to %uint
+    %18 = extractvalue { %uint*, [1 x %int] } %13, 1, 0
+    %19 = bitcast %int %18 to %uint
+    %20 = icmp ult %uint %17, %19
+    br %boolean %20, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %21 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %22 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %21, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %23 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %22, %int %16)
+    %24 = bitcast %shadow.standard..IndexOutOfBoundsException* %23 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %24) noreturn
+    unreachable
+_label3:
+    %25 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %26 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %27 = extractvalue { %uint*, [1 x %int] } %26, 1, 0
+    %28 = sub %int %27, 1
+    %29 = sub %int %28, %jump.4
+    %30 = sub %int %29, 1
+    %31 = bitcast %int %30 to %uint
+    %32 = extractvalue { %uint*, [1 x %int] } %25, 1, 0
+    %33 = bitcast %int %32 to %uint
+    %34 = icmp ult %uint %31, %33
+    br %boolean %34, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %35 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %36 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %35, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %37 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %36, %int %30)
+    %38 = bitcast %shadow.standard..IndexOutOfBoundsException* %37 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %38) noreturn
+    unreachable
+_label6:
+    %39 = extractvalue { %uint*, [1 x %int] } %25, 0
+    %40 = getelementptr inbounds %uint, %uint* %39, %int %30
+    %41 = load %uint, %uint* %40
+    %42 = sub %int 32, %shift.5
+    %43 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %41, %int %42)
+    %44 = extractvalue { %uint*, [1 x %int] } %13, 0
+    %45 = getelementptr inbounds %uint, %uint* %44, %int %16
+    store %uint %43, %uint* %45
+    %i.7 = add %int %jump.4, 1
+    br label %_label19
+_label18:
+    %46 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %47 = bitcast %int %i.35 to %uint
+    %48 = extractvalue { %uint*, [1 x %int] } %46, 1, 0
+    %49 = bitcast %int %48 to %uint
+    %50 = icmp ult %uint %47, %49
+    br %boolean %50, label %_label10, label %_label9
+_label10:
+    br label %_label11
+_label9:
+    %51 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %52 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %51, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %53 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %52, %int %i.35)
+    %54 = bitcast %shadow.standard..IndexOutOfBoundsException* %53 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %54) noreturn
+    unreachable
+_label11:
+    %55 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %56 = sub %int %i.35, %jump.52
+    %57 = bitcast %int %56 to %uint
+    %58 = extractvalue { %uint*, [1 x %int] } %55, 1, 0
+    %59 = bitcast %int %58 to %uint
+    %60 = icmp ult %uint %57, %59
+    br %boolean %60, label %_label13, label %_label12
+_label13:
+    br label %_label14
+_label12:
+    %61 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %62 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %61, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %63 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %62, %int %56)
+    %64 = bitcast %shadow.standard..IndexOutOfBoundsException* %63 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %64) noreturn
+    unreachable
+_label14:
+    %65 = extractvalue { %uint*, [1 x %int] } %55, 0
+    %66 = getelementptr inbounds %uint, %uint* %65, %int %56
+    %67 = load %uint, %uint* %66
+    %68 = call %uint @shadow.standard..uint_MbitShiftLeft_int(%uint %67, %int %shift.63)
+    %69 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %70 = sub %int %i.35, %jump.52
+    %71 = sub %int %70, 1
+    %72 = bitcast %int %71 to %uint
+    %73 = extractvalue { %uint*, [1 x %int] } %69, 1, 0
+    %74 = bitcast %int %73 to %uint
+    %75 = icmp ult %uint %72, %74
+    br %boolean %75, label %_label16, label %_label15
+_label16:
+    br label %_label17
+_label15:
+    %76 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %77 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %76, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %78 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %77, %int %71)
+    %79 = bitcast %shadow.standard..IndexOutOfBoundsException* %78 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %79) noreturn
+    unreachable
+_label17:
+    %80 = extractvalue { %uint*, [1 x %int] } %69, 0
+    %81 = getelementptr inbounds %uint, %uint* %80, %int %71
+    %82 = load %uint, %uint* %81
+    %83 = sub %int 32, %shift.63
+    %84 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %82, %int %83)
+    %85 = or %uint %68, %84
+    %86 = extractvalue { %uint*, [1 x %int] } %46, 0
+    %87 = getelementptr inbounds %uint, %uint* %86, %int %i.35
+    store %uint %85, %uint* %87
+    br label %_label8
+_label8:
+    %i.8 = add %int %i.35, 1
+    br label %_label19
+_label19:
+    %shift.63 = phi %int [ %shift.5, %_label6 ],[ %shift.63, %_label8 ]
+    %jump.52 = phi %int [ %jump.4, %_label6 ],[ %jump.52, %_label8 ]
+    %i.35 = phi %int [ %i.7, %_label6 ],[ %i.8, %_label8 ]
+    %88 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %89 = extractvalue { %uint*, [1 x %int] } %88, 1, 0
+    %90 = sub %int %89, 1
+    %91 = icmp slt %int %i.35, %90
+    br %boolean %91, label %_label18, label %_label7
+_label7:
+    %92 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %93 = bitcast %int %jump.52 to %uint
+    %94 = extractvalue { %uint*, [1 x %int] } %92, 1, 0
+    %95 = bitcast %int %94 to %uint
+    %96 = icmp ult %uint %93, %95
+    br %boolean %96, label %_label21, label %_label20
+_label21:
+    br label %_label22
+_label20:
+    %97 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %98 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %97, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %99 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %98, %int %jump.52)
+    %100 = bitcast %shadow.standard..IndexOutOfBoundsException* %99 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %100) noreturn
+    unreachable
+_label22:
+    %101 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %data
+    %102 = extractvalue { %uint*, [1 x %int] } %101, 1, 0
+    %103 = bitcast %int %102 to %uint
+    %104 = icmp ult %uint 0, %103
+    br %boolean %104, label %_label24, label %_label23
+_label24:
+    br label %_label25
+_label23:
+    %105 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %106 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %105, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %107 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %106, %int 0)
+    %108 = bitcast %shadow.standard..IndexOutOfBoundsException* %107 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %108) noreturn
+    unreachable
+_label25:
+    %109 = extractvalue { %uint*, [1 x %int] } %101, 0
+    %110 = getelementptr inbounds %uint, %uint* %109, %int 0
+    %111 = load %uint, %uint* %110
+    %112 = call %uint @shadow.standard..uint_MbitShiftLeft_int(%uint %111, %int %shift.63)
+    %113 = extractvalue { %uint*, [1 x %int] } %92, 0
+    %114 = getelementptr inbounds %uint, %uint* %113, %int %jump.52
+    store %uint %112, %uint* %114
+    br label %_label32
+_label31:
+    %115 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %116 = bitcast %int %i1.92 to %uint
+    %117 = extractvalue { %uint*, [1 x %int] } %115, 1, 0
+    %118 = bitcast %int %117 to %uint
+    %119 = icmp ult %uint %116, %118
+    br %boolean %119, label %_label29, label %_label28
+_label29:
+    br label %_label30
+_label28:
+    %120 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %121 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %120, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %122 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %121, %int %i1.92)
+    %123 = bitcast %shadow.standard..IndexOutOfBoundsException* %122 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %123) noreturn
+    unreachable
+_label30:
+    %124 = extractvalue { %uint*, [1 x %int] } %115, 0
+    %125 = getelementptr inbounds %uint, %uint* %124, %int %i1.92
+    store %uint 0, %uint* %125
+    br label %_label27
+_label27:
+    %i1.10 = add %int %i1.92, 1
+    br label %_label32
+_label32:
+    %jump.96 = phi %int [ %jump.52, %_label25 ],[ %jump.96, %_label27 ]
+    %i1.92 = phi %int [ 0, %_label25 ],[ %i1.10, %_label27 ]
+    %126 = icmp slt %int %i1.92, %jump.96
+    br %boolean %126, label %_label31, label %_label26
+_label26:
+    %127 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    ret { %uint*, [1 x %int] } %127
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedMultiply_uint_A1_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %result = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    %first = alloca { %uint*, [1 x %int] }
+    %second = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %first
+    store { %uint*, [1 x %int] } %2, { %uint*, [1 x %int] }* %second
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = add %int %5, %7
+    %9 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %8)
+    %10 = bitcast %shadow.standard..Object* %9 to %uint*
+    %11 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %10, 0
+    %result.4 = insertvalue { %uint*, [1 x %int] } %11, %int %8, 1, 0
+    store { %uint*, [1 x %int] } %result.4, { %uint*, [1 x %int] }* %result
+    br label %_label30
+_label29:
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %13 = bitcast %int %i.38 to %uint
+    %14 = extractvalue { %uint*, [1 x %int] } %12, 1, 0
+    %15 = bitcast %int %14 to %uint
+    %16 = icmp ult %uint %13, %15
+    br %boolean %16, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %17 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %18 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %17, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %19 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %18, %int %i.38)
+    %20 = bitcast %shadow.standard..IndexOutOfBoundsException* %19 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %20) noreturn
+    unreachable
+_label5:
+    %21 = extractvalue { %uint*, [1 x %int] } %12, 0
+    %22 = getelementptr inbounds %uint, %uint* %21, %int %i.38
+    %23 = load %uint, %uint* %22
+    %24 = icmp ugt %uint %23, 0
+    br %boolean %24, label %_label27, label %_label28
+_label27:
+    br label %_label21
+_label20:
+    %25 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %26 = bitcast %int %i.40 to %uint
+    %27 = extractvalue { %uint*, [1 x %int] } %25, 1, 0
+    %28 = bitcast %int %27 to %uint
+    %29 = icmp ult %uint %26, %28
+    br label %_label9
+_label9:
+    br label %_label10
+_label10:
+    %30 = extractvalue { %uint*, [1 x %int] } %25, 0
+    %31 = getelementptr inbounds %uint, %uint* %30, %int %i.40
+    %32 = load %uint, %uint* %31
+    %33 = zext %uint %32 to %ulong
+    %34 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %35 = bitcast %int %j.79 to %uint
+    %36 = extractvalue { %uint*, [1 x %int] } %34, 1, 0
+    %37 = bitcast %int %36 to %uint
+    %38 = icmp ult %uint %35, %37
+    br label %_label12
+_label12:
+    br label %_label13
+_label13:
+    %39 = extractvalue { %uint*, [1 x %int] } %34, 0
+    %40 = getelementptr inbounds %uint, %uint* %39, %int %j.79
+    %41 = load %uint, %uint* %40
+    %42 = zext %uint %41 to %ulong
+    %43 = mul %ulong %33, %42
+    %44 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %45 = add %int %i.40, %j.79
+    %46 = bitcast %int %45 to %uint
+    %47 = extractvalue { %uint*, [1 x %int] } %44, 1, 0
+    %48 = bitcast %int %47 to %uint
+    %49 = icmp ult %uint %46, %48
+    br %boolean %49, label %_label15, label %_label14
+_label15:
+    br label %_label16
+_label14:
+    %50 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %51 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %50, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %52 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %51, %int %45)
+    %53 = bitcast %shadow.standard..IndexOutOfBoundsException* %52 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %53) noreturn
+    unreachable
+_label16:
+    %54 = extractvalue { %uint*, [1 x %int] } %44, 0
+    %55 = getelementptr inbounds %uint, %uint* %54, %int %45
+    %56 = load %uint, %uint* %55
+    %57 = zext %uint %56 to %ulong
+    %58 = add %ulong %43, %57
+    %product.11 = add %ulong %58, %carry.112
+    %carry.12 = udiv %ulong %product.11, 4294967296
+    %59 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %60 = add %int %i.40, %j.79
+    %61 = bitcast %int %60 to %uint
+    %62 = extractvalue { %uint*, [1 x %int] } %59, 1, 0
+    %63 = bitcast %int %62 to %uint
+    %64 = icmp ult %uint %61, %63
+    br %boolean %64, label %_label18, label %_label17
+_label18:
+    br label %_label19
+_label17:
+    %65 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %66 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %65, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %67 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %66, %int %60)
+    %68 = bitcast %shadow.standard..IndexOutOfBoundsException* %67 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %68) noreturn
+    unreachable
+_label19:
+    %69 = urem %ulong %product.11, 4294967296
+    %70 = trunc %ulong %69 to %uint
+    %71 = extractvalue { %uint*, [1 x %int] } %59, 0
+    %72 = getelementptr inbounds %uint, %uint* %71, %int %60
+    store %uint %70, %uint* %72
+    br label %_label7
+_label7:
+    %j.10 = add %int %j.79, 1
+    br label %_label21
+_label21:
+    %carry.112 = phi %ulong [ 0, %_label27 ],[ %carry.12, %_label7 ]
+    %j.79 = phi %int [ 0, %_label27 ],[ %j.10, %_label7 ]
+    %i.40 = phi %int [ %i.38, %_label27 ],[ %i.40, %_label7 ]
+    %73 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %74 = extractvalue { %uint*, [1 x %int] } %73, 1, 0
+    %75 = icmp slt %int %j.79, %74
+    br %boolean %75, label %_label20, label %_label6
+_label6:
+    %_temp.13 = call %int @shadow.standard..ulong_Mcompare_double(%ulong %carry.112, %double 0x0000000000000000)
+    %76 = icmp sgt %int %_temp.13, 0
+    br %boolean %76, label %_label25, label %_label26
+_label25:
+    %77 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %78 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %79 = extractvalue { %uint*, [1 x %int] } %78, 1, 0
+    %80 = add %int %i.40, %79
+    %81 = bitcast %int %80 to %uint
+    %82 = extractvalue { %uint*, [1 x %int] } %77, 1, 0
+    %83 = bitcast %int %82 to %uint
+    %84 = icmp ult %uint %81, %83
+    br %boolean %84, label %_label23, label %_label22
+_label23:
+    br label %_label24
+_label22:
+    %85 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %86 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %85, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %87 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %86, %int %80)
+    %88 = bitcast %shadow.standard..IndexOutOfBoundsException* %87 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %88) noreturn
+    unreachable
+_label24:
+    %89 = trunc %ulong %carry.112 to %uint
+    %90 = extractvalue { %uint*, [1 x %int] } %77, 0
+    %91 = getelementptr inbounds %uint, %uint* %90, %int %80
+    store %uint %89, %uint* %91
+    br label %_label26
+_label26:
+    br label %_label28
+_label28:
+    %i.130 = phi %int [ %i.40, %_label26 ],[ %i.38, %_label5 ]
+    br label %_label2
+_label2:
+    %i.6 = add %int %i.130, 1
+    br label %_label30
+_label30:
+    %i.38 = phi %int [ %i.6, %_label2 ],[ 0, %_label0 ]
+    %92 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %93 = extractvalue { %uint*, [1 x %int] } %92, 1, 0
+    %94 = icmp slt %int %i.38, %93
+    br %boolean %94, label %_label29, label %_label1
+_label1:
+    %95 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %96 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %97 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %95, { %uint*, [1 x %int] } %96)
+    ret { %uint*, [1 x %int] } %97
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedAdd_uint_A1_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %result = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    %first = alloca { %uint*, [1 x %int] }
+    %second = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %first
+    store { %uint*, [1 x %int] } %2, { %uint*, [1 x %int] }* %second
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %7 = extractvalue { %uint*, [1 x %int] } %6, 1, 0
+    %8 = call %int @shadow.standard..int_Mmax_int(%int %5, %int %7)
+    %9 = add %int %8, 1
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %9)
+    %11 = bitcast %shadow.standard..Object* %10 to %uint*
+    %12 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %11, 0
+    %result.4 = insertvalue { %uint*, [1 x %int] } %12, %int %9, 1, 0
+    store { %uint*, [1 x %int] } %result.4, { %uint*, [1 x %int] }* %result
+    br label %_label17
+_label16:
+    %13 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %14 = extractvalue { %uint*, [1 x %int] } %13, 1, 0
+    %15 = icmp slt %int %i.19, %14
+    br %boolean %15, label %_label6, label %_label7
+_label6:
+    %16 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %17 = bitcast %int %i.19 to %uint
+    %18 = extractvalue { %uint*, [1 x %int] } %16, 1, 0
+    %19 = bitcast %int %18 to %uint
+    %20 = icmp ult %uint %17, %19
+    br label %_label4
+_label4:
+    br label %_label5
+_label5:
+    %21 = extractvalue { %uint*, [1 x %int] } %16, 0
+    %22 = getelementptr inbounds %uint, %uint* %21, %int %i.19
+    %23 = load %uint, %uint* %22
+    %24 = zext %uint %23 to %ulong
+    %sum.10 = add %ulong %carry.14, %24
+    br label %_label7
+_label7:
+    %sum.52 = phi %ulong [ %carry.14, %_label16 ],[ %sum.10, %_label5 ]
+    %25 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %26 = extractvalue { %uint*, [1 x %int] } %25, 1, 0
+    %27 = icmp slt %int %i.19, %26
+    br %boolean %27, label %_label11, label %_label12
+_label11:
+    %28 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %29 = bitcast %int %i.19 to %uint
+    %30 = extractvalue { %uint*, [1 x %int] } %28, 1, 0
+    %31 = bitcast %int %30 to %uint
+    %32 = icmp ult %uint %29, %31
+    br label %_label9
+_label9:
+    br label %_label10
+_label10:
+    %33 = extractvalue { %uint*, [1 x %int] } %28, 0
+    %34 = getelementptr inbounds %uint, %uint* %33, %int %i.19
+    %35 = load %uint, %uint* %34
+    %36 = zext %uint %35 to %ulong
+    %sum.11 = add %ulong %sum.52, %36
+    br label %_label12
+_label12:
+    %sum.54 = phi %ulong [ %sum.11, %_label10 ],[ %sum.52, %_label7 ]
+    %carry.12 = udiv %ulong %sum.54, 4294967296
+    %37 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %38 = bitcast %int %i.19 to %uint
+    %39 = extractvalue { %uint*, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br label %_label14
+_label14:
+    br label %_label15
+_label15:
+    %42 = urem %ulong %sum.54, 4294967296
+    %43 = trunc %ulong %42 to %uint
+    %44 = extractvalue { %uint*, [1 x %int] } %37, 0
+    %45 = getelementptr inbounds %uint, %uint* %44, %int %i.19
+    store %uint %43, %uint* %45
+    br label %_label2
+_label2:
+    %i.8 = add %int %i.19, 1
+    br label %_label17
+_label17:
+    %i.19 = phi %int [ 0, %_label0 ],[ %i.8, %_label2 ]
+    %carry.14 = phi %ulong [ 0, %_label0 ],[ %carry.12, %_label2 ]
+    %46 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %47 = extractvalue { %uint*, [1 x %int] } %46, 1, 0
+    %48 = icmp slt %int %i.19, %47
+    br %boolean %48, label %_label16, label %_label1
+_label1:
+    %49 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %50 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %51 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %49, { %uint*, [1 x %int] } %50)
+    ret { %uint*, [1 x %int] } %51
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }) {
+    %values = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %values
+    %3 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %4 = extractvalue { %uint*, [1 x %int] } %3, 1, 0
+    %index.4 = sub %int %4, 1
+    br label %_label2
+_label8:
+    %zeroes.7 = add %int %zeroes.15, 1
+    %index.8 = sub %int %index.21, 1
+    br label %_label2
+_label2:
+    %index.21 = phi %int [ %index.4, %_label0 ],[ %index.8, %_label8 ]
+    %zeroes.15 = phi %int [ 0, %_label0 ],[ %zeroes.7, %_label8 ]
+    %_temp.5 = icmp sge %int %index.21, 0
+    br %boolean %_temp.5, label %_label7, label %_label6
+_label7:
+    %5 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %6 = bitcast %int %index.21 to %uint
+    %7 = extractvalue { %uint*, [1 x %int] } %5, 1, 0
+    %8 = bitcast %int %7 to %uint
+    %9 = icmp ult %uint %6, %8
+    br %boolean %9, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %10 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %11 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %10, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %12 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %11, %int %index.21)
+    %13 = bitcast %shadow.standard..IndexOutOfBoundsException* %12 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %13) noreturn
+    unreachable
+_label5:
+    %14 = extractvalue { %uint*, [1 x %int] } %5, 0
+    %15 = getelementptr inbounds %uint, %uint* %14, %int %index.21
+    %16 = load %uint, %uint* %15
+    %_temp.6 = icmp eq %uint %16, 0
+    br label %_label6
+_label6:
+    %_temp.28 = phi %boolean [ %_temp.5, %_label2 ],[ %_temp.6, %_label5 ]
+    br %boolean %_temp.28, label %_label8, label %_label1
+_label1:
+    %17 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %18 = extractvalue { %uint*, [1 x %int] } %17, 1, 0
+    %19 = icmp eq %int %zeroes.15, %18
+    br %boolean %19, label %_label9, label %_label10
+_label9:
+    %zeroes.9 = sub %int %zeroes.15, 1
+    br label %_label10
+_label10:
+    %zeroes.32 = phi %int [ %zeroes.9, %_label9 ],[ %zeroes.15, %_label1 ]
+    %20 = icmp sgt %int %zeroes.32, 0
+    br %boolean %20, label %_label14, label %_label15
+_label14:
+    %21 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %22 = extractvalue { %uint*, [1 x %int] } %21, 1
+    %23 = call %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..int_class, %int 1)
+    %24 = bitcast %shadow.standard..Object* %23 to [1 x %int]*
+    store [1 x %int] %22, [1 x %int]* %24
+    %25 = getelementptr inbounds [1 x %int],  [1 x %int]* %24, i32 0, i32 0
+    %26 = insertvalue { %int*, [1 x %int] } { %int* null, [1 x %int] [%int 1] }, %int* %25, 0
+    %27 = extractvalue { %uint*, [1 x %int] } %21, 0
+    %28 = bitcast %uint* %27 to %shadow.standard..Object*
+    %29 = bitcast %shadow.standard..GenericClass* @shadow.standard..Array_L_uint_R_class to %shadow.standard..Class*
+    %30 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class* %29, %shadow.standard..Object_methods* bitcast(%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object_methods*))
+    %31 = call %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object* %30, { %int*, [1 x %int] } %26, %shadow.standard..Object* %28)
+    %32 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    %33 = extractvalue { %uint*, [1 x %int] } %32, 1, 0
+    %34 = sub %int %33, %zeroes.32
+    %35 = call %shadow.standard..Array* @shadow.standard..Array_Msubarray_int_int(%shadow.standard..Array* %31, %int 0, %int %34)
+    %36 = bitcast %shadow.standard..Array* %35 to %shadow.standard..Array*
+    %37 = call %int @shadow.standard..Array_Mdimensions(%shadow.standard..Array* %36)
+    %38 = icmp eq %int %37, 1
+    br %boolean %38, label %_label12, label %_label11
+_label11:
+    %39 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %40 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %39, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %41 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..String(%shadow.standard..Object* %40, %shadow.standard..String* @_string142)
+    %42 = bitcast %shadow.standard..CastException* %41 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %42) noreturn
+    unreachable
+_label12:
+    %43 = bitcast %shadow.standard..Array* %36 to %shadow.standard..Array*
+    %44 = getelementptr inbounds %shadow.standard..Array, %shadow.standard..Array* %43, i32 0, i32 2
+    %45 = load %shadow.standard..Object*, %shadow.standard..Object** %44
+    %46 = bitcast %shadow.standard..Object* %45 to %uint*
+    %47 = insertvalue { %uint*, [1 x %int] } undef, %uint* %46, 0
+    %48 = getelementptr inbounds %shadow.standard..Array, %shadow.standard..Array* %43, i32 0, i32 3, i32 0
+    %49 = load %int*, %int** %48
+    %50 = bitcast %int* %49 to [1 x %int]*
+    %51 = load [1 x %int],  [1 x %int]* %50
+    %52 = insertvalue { %uint*, [1 x %int] } %47, [1 x %int] %51, 1
+    ret { %uint*, [1 x %int] } %52
+_label15:
+    %53 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %values
+    ret { %uint*, [1 x %int] } %53
+}
+
+define { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedSubtract_uint_A1_uint_A1(%shadow.standard..BigInteger*, { %uint*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %result = alloca { %uint*, [1 x %int] }
+    %this = alloca %shadow.standard..BigInteger*
+    %first = alloca { %uint*, [1 x %int] }
+    %second = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store { %uint*, [1 x %int] } %1, { %uint*, [1 x %int] }* %first
+    store { %uint*, [1 x %int] } %2, { %uint*, [1 x %int] }* %second
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %5)
+    %7 = bitcast %shadow.standard..Object* %6 to %uint*
+    %8 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %7, 0
+    %result.4 = insertvalue { %uint*, [1 x %int] } %8, %int %5, 1, 0
+    store { %uint*, [1 x %int] } %result.4, { %uint*, [1 x %int] }* %result
+    br label %_label27
+_label26:
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %10 = extractvalue { %uint*, [1 x %int] } %9, 1, 0
+    %11 = icmp slt %int %i.18, %10
+    br %boolean %11, label %_label6, label %_label7
+_label6:
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %second
+    %13 = bitcast %int %i.18 to %uint
+    %14 = extractvalue { %uint*, [1 x %int] } %12, 1, 0
+    %15 = bitcast %int %14 to %uint
+    %16 = icmp ult %uint %13, %15
+    br label %_label4
+_label4:
+    br label %_label5
+_label5:
+    %17 = extractvalue { %uint*, [1 x %int] } %12, 0
+    %18 = getelementptr inbounds %uint, %uint* %17, %int %i.18
+    %19 = load %uint, %uint* %18
+    %20 = zext %uint %19 to %ulong
+    %subtract.10 = add %ulong %borrow.14, %20
+    br label %_label7
+_label7:
+    %subtract.41 = phi %ulong [ %subtract.10, %_label5 ],[ %borrow.14, %_label26 ]
+    %21 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %22 = bitcast %int %i.18 to %uint
+    %23 = extractvalue { %uint*, [1 x %int] } %21, 1, 0
+    %24 = bitcast %int %23 to %uint
+    %25 = icmp ult %uint %22, %24
+    br %boolean %25, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %27 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %26, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %28 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %27, %int %i.18)
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException* %28 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %29) noreturn
+    unreachable
+_label10:
+    %30 = extractvalue { %uint*, [1 x %int] } %21, 0
+    %31 = getelementptr inbounds %uint, %uint* %30, %int %i.18
+    %32 = load %uint, %uint* %31
+    %33 = zext %uint %32 to %ulong
+    %34 = icmp ule %ulong %subtract.41, %33
+    br %boolean %34, label %_label23, label %_label24
+_label23:
+    %35 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %36 = bitcast %int %i.18 to %uint
+    %37 = extractvalue { %uint*, [1 x %int] } %35, 1, 0
+    %38 = bitcast %int %37 to %uint
+    %39 = icmp ult %uint %36, %38
+    br label %_label12
+_label12:
+    br label %_label13
+_label13:
+    %40 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %41 = bitcast %int %i.18 to %uint
+    %42 = extractvalue { %uint*, [1 x %int] } %40, 1, 0
+    %43 = bitcast %int %42 to %uint
+    %44 = icmp ult %uint %41, %43
+    br label %_label15
+_label15:
+    br label %_label16
+_label16:
+    %45 = extractvalue { %uint*, [1 x %int] } %40, 0
+    %46 = getelementptr inbounds %uint, %uint* %45, %int %i.18
+    %47 = load %uint, %uint* %46
+    %48 = call %ulong @shadow.standard..uint_Msubtract_ulong(%uint %47, %ulong %subtract.41)
+    %49 = trunc %ulong %48 to %uint
+    %50 = extractvalue { %uint*, [1 x %int] } %35, 0
+    %51 = getelementptr inbounds %uint, %uint* %50, %int %i.18
+    store %uint %49, %uint* %51
+    br label %_label25
+_label24:
+    %52 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %53 = bitcast %int %i.18 to %uint
+    %54 = extractvalue { %uint*, [1 x %int] } %52, 1, 0
+    %55 = bitcast %int %54 to %uint
+    %56 = icmp ult %uint %53, %55
+    br label %_label18
+_label18:
+    br label %_label19
+_label19:
+    %57 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %first
+    %58 = bitcast %int %i.18 to %uint
+    %59 = extractvalue { %uint*, [1 x %int] } %57, 1, 0
+    %60 = bitcast %int %59 to %uint
+    %61 = icmp ult %uint %58, %60
+    br label %_label21
+_label21:
+    br label %_label22
+_label22:
+    %62 = extractvalue { %uint*, [1 x %int] } %57, 0
+    %63 = getelementptr inbounds %uint, %uint* %62, %int %i.18
+    %64 = load %uint, %uint* %63
+    %65 = zext %uint %64 to %ulong
+    %66 = add %ulong 4294967296, %65
+    %67 = sub %ulong %66, %subtract.41
+    %68 = trunc %ulong %67 to %uint
+    %69 = extractvalue { %uint*, [1 x %int] } %52, 0
+    %70 = getelementptr inbounds %uint, %uint* %69, %int %i.18
+    store %uint %68, %uint* %70
+    br label %_label25
+_label25:
+    %borrow.16 = phi %ulong [ 1, %_label22 ],[ 0, %_label16 ]
+    br label %_label2
+_label2:
+    %i.8 = add %int %i.18, 1
+    br label %_label27
+_label27:
+    %i.18 = phi %int [ %i.8, %_label2 ],[ 0, %_label0 ]
+    %borrow.14 = phi %ulong [ %borrow.16, %_label2 ],[ 0, %_label0 ]
+    %71 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %72 = extractvalue { %uint*, [1 x %int] } %71, 1, 0
+    %73 = icmp slt %int %i.18, %72
+    br %boolean %73, label %_label26, label %_label1
+_label1:
+    %74 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %75 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %result
+    %76 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %74, { %uint*, [1 x %int] } %75)
+    ret { %uint*, [1 x %int] } %76
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mabs(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 3
+    %4 = load %boolean, %boolean* %3
+    br %boolean %4, label %_label2, label %_label3
+_label2:
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %5, i32 0, i32 2
+    %7 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %6
+    %8 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %10 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %9, { %uint*, [1 x %int] } %7, %boolean false)
+    ret %shadow.standard..BigInteger* %10
+_label3:
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %11
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Madd_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %3, i32 0, i32 3
+    %5 = load %boolean, %boolean* %4
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 3
+    %8 = load %boolean, %boolean* %7
+    %9 = icmp eq %boolean %5, %8
+    br %boolean %9, label %_label2, label %_label3
+_label2:
+    %10 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %12 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %11, i32 0, i32 2
+    %13 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %12
+    %14 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %15 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %14, i32 0, i32 2
+    %16 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %15
+    %17 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedAdd_uint_A1_uint_A1(%shadow.standard..BigInteger* %10, { %uint*, [1 x %int] } %13, { %uint*, [1 x %int] } %16)
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %19 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %18, i32 0, i32 3
+    %20 = load %boolean, %boolean* %19
+    %21 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %22 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %21, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %23 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %22, { %uint*, [1 x %int] } %17, %boolean %20)
+    ret %shadow.standard..BigInteger* %23
+_label3:
+    %24 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %25, i32 0, i32 2
+    %27 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %26
+    %28 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %29 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %28, i32 0, i32 2
+    %30 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %29
+    %comparison.3 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %24, { %uint*, [1 x %int] } %27, { %uint*, [1 x %int] } %30)
+    %31 = icmp sgt %int %comparison.3, 0
+    br %boolean %31, label %_label10, label %_label11
+_label10:
+    %32 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %33 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %34 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %33, i32 0, i32 2
+    %35 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %34
+    %36 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %37 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %36, i32 0, i32 2
+    %38 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %37
+    %39 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedSubtract_uint_A1_uint_A1(%shadow.standard..BigInteger* %32, { %uint*, [1 x %int] } %35, { %uint*, [1 x %int] } %38)
+    %40 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %41 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %40, i32 0, i32 3
+    %42 = load %boolean, %boolean* %41
+    %43 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %44 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %43, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %45 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %44, { %uint*, [1 x %int] } %39, %boolean %42)
+    ret %shadow.standard..BigInteger* %45
+_label11:
+    %46 = icmp slt %int %comparison.3, 0
+    br %boolean %46, label %_label7, label %_label8
+_label7:
+    %47 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %48 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %49 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %48, i32 0, i32 2
+    %50 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %49
+    %51 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %52 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %51, i32 0, i32 2
+    %53 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %52
+    %54 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedSubtract_uint_A1_uint_A1(%shadow.standard..BigInteger* %47, { %uint*, [1 x %int] } %50, { %uint*, [1 x %int] } %53)
+    %55 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %56 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %55, i32 0, i32 3
+    %57 = load %boolean, %boolean* %56
+    %58 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %59 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %58, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %60 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %59, { %uint*, [1 x %int] } %54, %boolean %57)
+    ret %shadow.standard..BigInteger* %60
+_label8:
+    %61 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %62 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %61, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %63 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %62, %int 0)
+    ret %shadow.standard..BigInteger* %63
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_MbitShiftLeft_int(%shadow.standard..BigInteger*, %int) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sgt %int %1, 0
+    br %boolean %3, label %_label7, label %_label8
+_label7:
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 2
+    %8 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %7
+    %9 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedLeftShift_uint_A1_uint(%shadow.standard..BigInteger* %5, { %uint*, [1 x %int] } %8, %uint %abs.3)
+    %10 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %4, { %uint*, [1 x %int] } %9)
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %12 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %11, i32 0, i32 3
+    %13 = load %boolean, %boolean* %12
+    %14 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %15 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %14, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %16 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %15, { %uint*, [1 x %int] } %10, %boolean %13)
+    ret %shadow.standard..BigInteger* %16
+_label8:
+    %17 = icmp slt %int %1, 0
+    br %boolean %17, label %_label4, label %_label5
+_label4:
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %19 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %21 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %20, i32 0, i32 2
+    %22 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %21
+    %23 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedRightShift_uint_A1_uint(%shadow.standard..BigInteger* %19, { %uint*, [1 x %int] } %22, %uint %abs.3)
+    %24 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %18, { %uint*, [1 x %int] } %23)
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %25, i32 0, i32 3
+    %27 = load %boolean, %boolean* %26
+    %28 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %29 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %28, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %30 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %29, { %uint*, [1 x %int] } %24, %boolean %27)
+    ret %shadow.standard..BigInteger* %30
+_label5:
+    %31 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %31
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_MbitShiftRight_int(%shadow.standard..BigInteger*, %int) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sgt %int %1, 0
+    br %boolean %3, label %_label7, label %_label8
+_label7:
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 2
+    %8 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %7
+    %9 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedRightShift_uint_A1_uint(%shadow.standard..BigInteger* %5, { %uint*, [1 x %int] } %8, %uint %abs.3)
+    %10 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %4, { %uint*, [1 x %int] } %9)
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %12 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %11, i32 0, i32 3
+    %13 = load %boolean, %boolean* %12
+    %14 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %15 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %14, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %16 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %15, { %uint*, [1 x %int] } %10, %boolean %13)
+    ret %shadow.standard..BigInteger* %16
+_label8:
+    %17 = icmp slt %int %1, 0
+    br %boolean %17, label %_label4, label %_label5
+_label4:
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %19 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %21 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %20, i32 0, i32 2
+    %22 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %21
+    %23 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedLeftShift_uint_A1_uint(%shadow.standard..BigInteger* %19, { %uint*, [1 x %int] } %22, %uint %abs.3)
+    %24 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MremoveZeroes_uint_A1(%shadow.standard..BigInteger* %18, { %uint*, [1 x %int] } %23)
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %25, i32 0, i32 3
+    %27 = load %boolean, %boolean* %26
+    %28 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %29 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %28, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %30 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %29, { %uint*, [1 x %int] } %24, %boolean %27)
+    ret %shadow.standard..BigInteger* %30
+_label5:
+    %31 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %31
+}
+
+define %int @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %3, i32 0, i32 3
+    %5 = load %boolean, %boolean* %4
+    br %boolean %5, label %_label11, label %_label12
+_label11:
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 3
+    %8 = load %boolean, %boolean* %7
+    br %boolean %8, label %_label3, label %_label4
+_label3:
+    %9 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %10 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %11 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %10, i32 0, i32 2
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %11
+    %13 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %14 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %13, i32 0, i32 2
+    %15 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %14
+    %16 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %9, { %uint*, [1 x %int] } %12, { %uint*, [1 x %int] } %15)
+    %17 = sub %int 0, %16
+    ret %int %17
+_label4:
+    ret %int -1
+_label12:
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %19 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %18, i32 0, i32 3
+    %20 = load %boolean, %boolean* %19
+    br %boolean %20, label %_label8, label %_label9
+_label8:
+    ret %int 1
+_label9:
+    %21 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %22 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %23 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %22, i32 0, i32 2
+    %24 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %23
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %25, i32 0, i32 2
+    %27 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %26
+    %28 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %21, { %uint*, [1 x %int] } %24, { %uint*, [1 x %int] } %27)
+    ret %int %28
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcopy_shadow.standard..AddressMap(%shadow.standard..BigInteger*, %shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %3
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mdivide_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %quotient = alloca { %uint*, [1 x %int] }
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %4, i32 0, i32 2
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %5
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %8 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %7, i32 0, i32 2
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %8
+    %comparison.3 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %3, { %uint*, [1 x %int] } %6, { %uint*, [1 x %int] } %9)
+    %10 = icmp slt %int %comparison.3, 0
+    br %boolean %10, label %_label2, label %_label3
+_label2:
+    %11 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %13 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %12, %int 0)
+    ret %shadow.standard..BigInteger* %13
+_label3:
+    %14 = icmp eq %int %comparison.3, 0
+    br %boolean %14, label %_label8, label %_label9
+_label8:
+    %15 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %16 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %15, i32 0, i32 3
+    %17 = load %boolean, %boolean* %16
+    %18 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %19 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %18, i32 0, i32 3
+    %20 = load %boolean, %boolean* %19
+    %21 = xor %boolean %17, %20
+    br %boolean %21, label %_label4, label %_label5
+_label4:
+    br label %_label6
+_label5:
+    br label %_label6
+_label6:
+    %_temp.13 = phi %int [ -1, %_label4 ],[ 1, %_label5 ]
+    %22 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %24 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %23, %int %_temp.13)
+    ret %shadow.standard..BigInteger* %24
+_label9:
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %quotient
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %26 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %27 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %26, i32 0, i32 2
+    %28 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %27
+    %29 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %30 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %29, i32 0, i32 2
+    %31 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %30
+    %32 = call { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } @shadow.standard..BigInteger_MunsignedDivide_uint_A1_uint_A1(%shadow.standard..BigInteger* %25, { %uint*, [1 x %int] } %28, { %uint*, [1 x %int] } %31)
+    %quotient.7 = extractvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %32, 0
+    store { %uint*, [1 x %int] } %quotient.7, { %uint*, [1 x %int] }* %quotient
+    %33 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    %34 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %35 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %34, i32 0, i32 3
+    %36 = load %boolean, %boolean* %35
+    %37 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %38 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %37, i32 0, i32 3
+    %39 = load %boolean, %boolean* %38
+    %40 = xor %boolean %36, %39
+    %41 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %42 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %41, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %43 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %42, { %uint*, [1 x %int] } %33, %boolean %40)
+    ret %shadow.standard..BigInteger* %43
+}
+
+define %boolean @shadow.standard..BigInteger_Mequal_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %5 = call %int @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger(%shadow.standard..BigInteger* %3, %shadow.standard..BigInteger* %4)
+    %6 = icmp eq %int %5, 0
+    ret %boolean %6
+}
+
+define %uint @shadow.standard..BigInteger_Mhash(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    br label %_label7
+_label6:
+    %2 = mul %uint 31, %value.9
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %3, i32 0, i32 2
+    %5 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %4
+    %6 = bitcast %int %i.17 to %uint
+    %7 = extractvalue { %uint*, [1 x %int] } %5, 1, 0
+    %8 = bitcast %int %7 to %uint
+    %9 = icmp ult %uint %6, %8
+    br %boolean %9, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %10 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %11 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %10, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %12 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %11, %int %i.17)
+    %13 = bitcast %shadow.standard..IndexOutOfBoundsException* %12 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %13) noreturn
+    unreachable
+_label5:
+    %14 = extractvalue { %uint*, [1 x %int] } %5, 0
+    %15 = getelementptr inbounds %uint, %uint* %14, %int %i.17
+    %16 = load %uint, %uint* %15
+    %value.5 = add %uint %2, %16
+    br label %_label2
+_label2:
+    %i.4 = add %int %i.17, 1
+    br label %_label7
+_label7:
+    %i.17 = phi %int [ %i.4, %_label2 ],[ 0, %_label0 ]
+    %value.9 = phi %uint [ %value.5, %_label2 ],[ 0, %_label0 ]
+    %17 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %18 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %17, i32 0, i32 2
+    %19 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %18
+    %20 = extractvalue { %uint*, [1 x %int] } %19, 1, 0
+    %21 = icmp slt %int %i.17, %20
+    br %boolean %21, label %_label6, label %_label1
+_label1:
+    %22 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %23 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %22, i32 0, i32 3
+    %24 = load %boolean, %boolean* %23
+    br %boolean %24, label %_label8, label %_label9
+_label8:
+    %_temp.6 = xor %uint -1, %value.9
+    br label %_label10
+_label9:
+    br label %_label10
+_label10:
+    %_temp.25 = phi %uint [ %_temp.6, %_label8 ],[ %value.9, %_label9 ]
+    ret %uint %_temp.25
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmax_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %5 = call %int @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger(%shadow.standard..BigInteger* %3, %shadow.standard..BigInteger* %4)
+    %6 = icmp sgt %int %5, 0
+    br %boolean %6, label %_label3, label %_label4
+_label3:
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %7
+_label4:
+    %8 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    ret %shadow.standard..BigInteger* %8
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmin_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %5 = call %int @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger(%shadow.standard..BigInteger* %3, %shadow.standard..BigInteger* %4)
+    %6 = icmp slt %int %5, 0
+    br %boolean %6, label %_label3, label %_label4
+_label3:
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %7
+_label4:
+    %8 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    ret %shadow.standard..BigInteger* %8
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    %remainder = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %4, i32 0, i32 2
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %5
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %8 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %7, i32 0, i32 2
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %8
+    %comparison.3 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %3, { %uint*, [1 x %int] } %6, { %uint*, [1 x %int] } %9)
+    %10 = icmp slt %int %comparison.3, 0
+    br %boolean %10, label %_label2, label %_label3
+_label2:
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %11
+_label3:
+    %12 = icmp eq %int %comparison.3, 0
+    br %boolean %12, label %_label5, label %_label6
+_label5:
+    %13 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %14 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %13, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %15 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %14, %int 0)
+    ret %shadow.standard..BigInteger* %15
+_label6:
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %remainder
+    %16 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %17 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %18 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %17, i32 0, i32 2
+    %19 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %18
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %21 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %20, i32 0, i32 2
+    %22 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %21
+    %23 = call { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } @shadow.standard..BigInteger_MunsignedDivide_uint_A1_uint_A1(%shadow.standard..BigInteger* %16, { %uint*, [1 x %int] } %19, { %uint*, [1 x %int] } %22)
+    %remainder.5 = extractvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %23, 1
+    store { %uint*, [1 x %int] } %remainder.5, { %uint*, [1 x %int] }* %remainder
+    %24 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %25 = extractvalue { %uint*, [1 x %int] } %24, 1, 0
+    %_temp.6 = icmp eq %int %25, 1
+    br %boolean %_temp.6, label %_label11, label %_label10
+_label11:
+    %26 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %27 = extractvalue { %uint*, [1 x %int] } %26, 1, 0
+    %28 = bitcast %int %27 to %uint
+    %29 = icmp ult %uint 0, %28
+    br %boolean %29, label %_label8, label %_label7
+_label8:
+    br label %_label9
+_label7:
+    %30 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %31 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %30, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %32 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %31, %int 0)
+    %33 = bitcast %shadow.standard..IndexOutOfBoundsException* %32 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %33) noreturn
+    unreachable
+_label9:
+    %34 = extractvalue { %uint*, [1 x %int] } %26, 0
+    %35 = getelementptr inbounds %uint, %uint* %34, %int 0
+    %36 = load %uint, %uint* %35
+    %_temp.7 = icmp eq %uint %36, 0
+    br label %_label10
+_label10:
+    %_temp.15 = phi %boolean [ %_temp.7, %_label9 ],[ %_temp.6, %_label6 ]
+    br %boolean %_temp.15, label %_label13, label %_label14
+_label13:
+    %37 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %38 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %37, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %39 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %38, %int 0)
+    ret %shadow.standard..BigInteger* %39
+_label14:
+    %40 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %41 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %42 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %41, i32 0, i32 3
+    %43 = load %boolean, %boolean* %42
+    %44 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %45 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %44, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %46 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %45, { %uint*, [1 x %int] } %40, %boolean %43)
+    ret %shadow.standard..BigInteger* %46
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_MmodulusPower_shadow.standard..BigInteger_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %divisor = alloca %shadow.standard..BigInteger*
+    %fullPower = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    %halfPower = alloca %shadow.standard..BigInteger*
+    %halfExponent = alloca %shadow.standard..BigInteger*
+    %exponent = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %exponent
+    store %shadow.standard..BigInteger* %2, %shadow.standard..BigInteger** %divisor
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %5 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %4, i32 0, i32 3
+    %_temp.4 = load %boolean, %boolean* %5
+    br %boolean %_temp.4, label %_label1, label %_label2
+_label2:
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %8 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %7, i32 0, i32 2
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %8
+    %_temp.5 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %6, { %uint*, [1 x %int] } %9)
+    br label %_label1
+_label1:
+    %_temp.16 = phi %boolean [ %_temp.4, %_label0 ],[ %_temp.5, %_label2 ]
+    br %boolean %_temp.16, label %_label4, label %_label5
+_label4:
+    %10 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %11 = call %shadow.standard..String* @shadow.standard..BigInteger_MtoString(%shadow.standard..BigInteger* %10)
+    %12 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string143, %shadow.standard..String* %11)
+    %13 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %14 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %13, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %15 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %14, %shadow.standard..String* %12)
+    %16 = bitcast %shadow.standard..IllegalArgumentException* %15 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %16) noreturn
+    unreachable
+_label5:
+    %17 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %18 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %17, i32 0, i32 3
+    %19 = load %boolean, %boolean* %18
+    br %boolean %19, label %_label6, label %_label7
+_label6:
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %21 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %exponent.6 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Msubtract_shadow.standard..BigInteger(%shadow.standard..BigInteger* %20, %shadow.standard..BigInteger* %21)
+    store %shadow.standard..BigInteger* %exponent.6, %shadow.standard..BigInteger** %exponent
+    br label %_label7
+_label7:
+    %22 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %23 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %24 = call %int @shadow.standard..BigInteger_Mcompare_shadow.standard..BigInteger(%shadow.standard..BigInteger* %22, %shadow.standard..BigInteger* %23)
+    %25 = icmp sge %int %24, 0
+    br %boolean %25, label %_label8, label %_label9
+_label8:
+    %26 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %27 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %exponent.7 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger(%shadow.standard..BigInteger* %26, %shadow.standard..BigInteger* %27)
+    store %shadow.standard..BigInteger* %exponent.7, %shadow.standard..BigInteger** %exponent
+    br label %_label9
+_label9:
+    %28 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %29 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %30 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %29, i32 0, i32 2
+    %31 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %30
+    %32 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %28, { %uint*, [1 x %int] } %31)
+    br %boolean %32, label %_label11, label %_label12
+_label11:
+    %33 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %34 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %33, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %35 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %34, %int 1)
+    ret %shadow.standard..BigInteger* %35
+_label12:
+    %36 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %37 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %36, i32 0, i32 2
+    %38 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %37
+    %39 = extractvalue { %uint*, [1 x %int] } %38, 1, 0
+    %_temp1.8 = icmp eq %int %39, 1
+    br %boolean %_temp1.8, label %_label17, label %_label16
+_label17:
+    %40 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %41 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %40, i32 0, i32 2
+    %42 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %41
+    %43 = extractvalue { %uint*, [1 x %int] } %42, 1, 0
+    %44 = bitcast %int %43 to %uint
+    %45 = icmp ult %uint 0, %44
+    br %boolean %45, label %_label14, label %_label13
+_label14:
+    br label %_label15
+_label13:
+    %46 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %47 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %46, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %48 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %47, %int 0)
+    %49 = bitcast %shadow.standard..IndexOutOfBoundsException* %48 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %49) noreturn
+    unreachable
+_label15:
+    %50 = extractvalue { %uint*, [1 x %int] } %42, 0
+    %51 = getelementptr inbounds %uint, %uint* %50, %int 0
+    %52 = load %uint, %uint* %51
+    %_temp1.9 = icmp eq %uint %52, 1
+    br label %_label16
+_label16:
+    %_temp1.38 = phi %boolean [ %_temp1.8, %_label12 ],[ %_temp1.9, %_label15 ]
+    br %boolean %_temp1.38, label %_label19, label %_label20
+_label19:
+    %53 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %54 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %55 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger(%shadow.standard..BigInteger* %53, %shadow.standard..BigInteger* %54)
+    ret %shadow.standard..BigInteger* %55
+_label20:
+    %56 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %halfExponent.10 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_MbitShiftRight_int(%shadow.standard..BigInteger* %56, %int 1)
+    store %shadow.standard..BigInteger* %halfExponent.10, %shadow.standard..BigInteger** %halfExponent
+    %57 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %58 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfExponent
+    %59 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %halfPower.11 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_MmodulusPower_shadow.standard..BigInteger_shadow.standard..BigInteger(%shadow.standard..BigInteger* %57, %shadow.standard..BigInteger* %58, %shadow.standard..BigInteger* %59)
+    store %shadow.standard..BigInteger* %halfPower.11, %shadow.standard..BigInteger** %halfPower
+    %60 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfPower
+    %61 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfPower
+    %fullPower.12 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger(%shadow.standard..BigInteger* %60, %shadow.standard..BigInteger* %61)
+    store %shadow.standard..BigInteger* %fullPower.12, %shadow.standard..BigInteger** %fullPower
+    %62 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %63 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %62, i32 0, i32 2
+    %64 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %63
+    %65 = extractvalue { %uint*, [1 x %int] } %64, 1, 0
+    %66 = bitcast %int %65 to %uint
+    %67 = icmp ult %uint 0, %66
+    br %boolean %67, label %_label22, label %_label21
+_label22:
+    br label %_label23
+_label21:
+    %68 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %69 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %68, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %70 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %69, %int 0)
+    %71 = bitcast %shadow.standard..IndexOutOfBoundsException* %70 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %71) noreturn
+    unreachable
+_label23:
+    %72 = extractvalue { %uint*, [1 x %int] } %64, 0
+    %73 = getelementptr inbounds %uint, %uint* %72, %int 0
+    %74 = load %uint, %uint* %73
+    %75 = urem %uint %74, 2
+    %76 = icmp eq %uint %75, 1
+    br %boolean %76, label %_label24, label %_label25
+_label24:
+    %77 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %fullPower
+    %78 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %fullPower.13 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger(%shadow.standard..BigInteger* %77, %shadow.standard..BigInteger* %78)
+    store %shadow.standard..BigInteger* %fullPower.13, %shadow.standard..BigInteger** %fullPower
+    br label %_label25
+_label25:
+    %79 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %fullPower
+    %80 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %81 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmodulus_shadow.standard..BigInteger(%shadow.standard..BigInteger* %79, %shadow.standard..BigInteger* %80)
+    ret %shadow.standard..BigInteger* %81
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %5 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %4, i32 0, i32 2
+    %6 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %5
+    %7 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %8 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %7, i32 0, i32 2
+    %9 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %8
+    %10 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedMultiply_uint_A1_uint_A1(%shadow.standard..BigInteger* %3, { %uint*, [1 x %int] } %6, { %uint*, [1 x %int] } %9)
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %12 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %11, i32 0, i32 3
+    %13 = load %boolean, %boolean* %12
+    %14 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %15 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %14, i32 0, i32 3
+    %16 = load %boolean, %boolean* %15
+    %17 = xor %boolean %13, %16
+    %18 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %20 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %19, { %uint*, [1 x %int] } %10, %boolean %17)
+    ret %shadow.standard..BigInteger* %20
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mnegate(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %5, i32 0, i32 3
+    %7 = load %boolean, %boolean* %6
+    %8 = xor %boolean -1, %7
+    %9 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %10 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %9, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %11 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %10, { %uint*, [1 x %int] } %4, %boolean %8)
+    ret %shadow.standard..BigInteger* %11
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mpower_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %fullPower = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    %halfPower = alloca %shadow.standard..BigInteger*
+    %halfExponent = alloca %shadow.standard..BigInteger*
+    %exponent = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %exponent
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %4 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %3, i32 0, i32 3
+    %5 = load %boolean, %boolean* %4
+    br %boolean %5, label %_label2, label %_label3
+_label2:
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %7 = call %shadow.standard..String* @shadow.standard..BigInteger_MtoString(%shadow.standard..BigInteger* %6)
+    %8 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string144, %shadow.standard..String* %7)
+    %9 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %10 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %9, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %11 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %10, %shadow.standard..String* %8)
+    %12 = bitcast %shadow.standard..IllegalArgumentException* %11 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %12) noreturn
+    unreachable
+_label3:
+    %13 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %14 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %15 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %14, i32 0, i32 2
+    %16 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %15
+    %17 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %13, { %uint*, [1 x %int] } %16)
+    br %boolean %17, label %_label5, label %_label6
+_label5:
+    %18 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %20 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %19, %int 1)
+    ret %shadow.standard..BigInteger* %20
+_label6:
+    %21 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %22 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %21, i32 0, i32 2
+    %23 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %22
+    %24 = extractvalue { %uint*, [1 x %int] } %23, 1, 0
+    %_temp.3 = icmp eq %int %24, 1
+    br %boolean %_temp.3, label %_label11, label %_label10
+_label11:
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %26 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %25, i32 0, i32 2
+    %27 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %26
+    %28 = extractvalue { %uint*, [1 x %int] } %27, 1, 0
+    %29 = bitcast %int %28 to %uint
+    %30 = icmp ult %uint 0, %29
+    br %boolean %30, label %_label8, label %_label7
+_label8:
+    br label %_label9
+_label7:
+    %31 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %32 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %31, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %33 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %32, %int 0)
+    %34 = bitcast %shadow.standard..IndexOutOfBoundsException* %33 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %34) noreturn
+    unreachable
+_label9:
+    %35 = extractvalue { %uint*, [1 x %int] } %27, 0
+    %36 = getelementptr inbounds %uint, %uint* %35, %int 0
+    %37 = load %uint, %uint* %36
+    %_temp.4 = icmp eq %uint %37, 1
+    br label %_label10
+_label10:
+    %_temp.14 = phi %boolean [ %_temp.3, %_label6 ],[ %_temp.4, %_label9 ]
+    br %boolean %_temp.14, label %_label13, label %_label14
+_label13:
+    %38 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    ret %shadow.standard..BigInteger* %38
+_label14:
+    %39 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %halfExponent.5 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_MbitShiftRight_int(%shadow.standard..BigInteger* %39, %int 1)
+    store %shadow.standard..BigInteger* %halfExponent.5, %shadow.standard..BigInteger** %halfExponent
+    %40 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %41 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfExponent
+    %halfPower.6 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mpower_shadow.standard..BigInteger(%shadow.standard..BigInteger* %40, %shadow.standard..BigInteger* %41)
+    store %shadow.standard..BigInteger* %halfPower.6, %shadow.standard..BigInteger** %halfPower
+    %42 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfPower
+    %43 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %halfPower
+    %fullPower.7 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger(%shadow.standard..BigInteger* %42, %shadow.standard..BigInteger* %43)
+    store %shadow.standard..BigInteger* %fullPower.7, %shadow.standard..BigInteger** %fullPower
+    %44 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %exponent
+    %45 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %44, i32 0, i32 2
+    %46 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %45
+    %47 = extractvalue { %uint*, [1 x %int] } %46, 1, 0
+    %48 = bitcast %int %47 to %uint
+    %49 = icmp ult %uint 0, %48
+    br %boolean %49, label %_label16, label %_label15
+_label16:
+    br label %_label17
+_label15:
+    %50 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %51 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %50, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %52 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %51, %int 0)
+    %53 = bitcast %shadow.standard..IndexOutOfBoundsException* %52 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %53) noreturn
+    unreachable
+_label17:
+    %54 = extractvalue { %uint*, [1 x %int] } %46, 0
+    %55 = getelementptr inbounds %uint, %uint* %54, %int 0
+    %56 = load %uint, %uint* %55
+    %57 = urem %uint %56, 2
+    %58 = icmp eq %uint %57, 1
+    br %boolean %58, label %_label18, label %_label19
+_label18:
+    %59 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %fullPower
+    %60 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %fullPower.8 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mmultiply_shadow.standard..BigInteger(%shadow.standard..BigInteger* %59, %shadow.standard..BigInteger* %60)
+    store %shadow.standard..BigInteger* %fullPower.8, %shadow.standard..BigInteger** %fullPower
+    br label %_label19
+_label19:
+    %61 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %fullPower
+    ret %shadow.standard..BigInteger* %61
+}
+
+define %shadow.standard..BigInteger* @shadow.standard..BigInteger_Msubtract_shadow.standard..BigInteger(%shadow.standard..BigInteger*, %shadow.standard..BigInteger*) {
+    %other = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    store %shadow.standard..BigInteger* %1, %shadow.standard..BigInteger** %other
+    %3 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %4 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %3, i32 0, i32 3
+    %5 = load %boolean, %boolean* %4
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 3
+    %8 = load %boolean, %boolean* %7
+    %9 = icmp eq %boolean %5, %8
+    %10 = xor %boolean -1, %9
+    br %boolean %10, label %_label2, label %_label3
+_label2:
+    %11 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %12 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %13 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %12, i32 0, i32 2
+    %14 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %13
+    %15 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %16 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %15, i32 0, i32 2
+    %17 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %16
+    %18 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedAdd_uint_A1_uint_A1(%shadow.standard..BigInteger* %11, { %uint*, [1 x %int] } %14, { %uint*, [1 x %int] } %17)
+    %19 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %20 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %19, i32 0, i32 3
+    %21 = load %boolean, %boolean* %20
+    %22 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %24 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %23, { %uint*, [1 x %int] } %18, %boolean %21)
+    ret %shadow.standard..BigInteger* %24
+_label3:
+    %25 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %26 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %27 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %26, i32 0, i32 2
+    %28 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %27
+    %29 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %30 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %29, i32 0, i32 2
+    %31 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %30
+    %comparison.3 = call %int @shadow.standard..BigInteger_MunsignedCompare_uint_A1_uint_A1(%shadow.standard..BigInteger* %25, { %uint*, [1 x %int] } %28, { %uint*, [1 x %int] } %31)
+    %32 = icmp sgt %int %comparison.3, 0
+    br %boolean %32, label %_label10, label %_label11
+_label10:
+    %33 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %34 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %35 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %34, i32 0, i32 2
+    %36 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %35
+    %37 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %38 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %37, i32 0, i32 2
+    %39 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %38
+    %40 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedSubtract_uint_A1_uint_A1(%shadow.standard..BigInteger* %33, { %uint*, [1 x %int] } %36, { %uint*, [1 x %int] } %39)
+    %41 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %42 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %41, i32 0, i32 3
+    %43 = load %boolean, %boolean* %42
+    %44 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %45 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %44, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %46 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %45, { %uint*, [1 x %int] } %40, %boolean %43)
+    ret %shadow.standard..BigInteger* %46
+_label11:
+    %47 = icmp slt %int %comparison.3, 0
+    br %boolean %47, label %_label7, label %_label8
+_label7:
+    %48 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %49 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %50 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %49, i32 0, i32 2
+    %51 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %50
+    %52 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %53 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %52, i32 0, i32 2
+    %54 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %53
+    %55 = call { %uint*, [1 x %int] } @shadow.standard..BigInteger_MunsignedSubtract_uint_A1_uint_A1(%shadow.standard..BigInteger* %48, { %uint*, [1 x %int] } %51, { %uint*, [1 x %int] } %54)
+    %56 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %other
+    %57 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %56, i32 0, i32 3
+    %58 = load %boolean, %boolean* %57
+    %59 = xor %boolean -1, %58
+    %60 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %61 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %60, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %62 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_uint_A1_boolean(%shadow.standard..Object* %61, { %uint*, [1 x %int] } %55, %boolean %59)
+    ret %shadow.standard..BigInteger* %62
+_label8:
+    %63 = bitcast %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods to %shadow.standard..Object_methods*
+    %64 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Object_methods* %63, %int ptrtoint (%shadow.standard..BigInteger* getelementptr (%shadow.standard..BigInteger, %shadow.standard..BigInteger* null, i32 1) to i32))
+    %65 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %64, %int 0)
+    ret %shadow.standard..BigInteger* %65
+}
+
+define %byte @shadow.standard..BigInteger_MtoByte(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = call %int @shadow.standard..BigInteger_MtoInt(%shadow.standard..BigInteger* %2)
+    %4 = trunc %int %3 to %byte
+    ret %byte %4
+}
+
+define %code @shadow.standard..BigInteger_MtoCode(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = bitcast %int %5 to %uint
+    %7 = icmp ult %uint 0, %6
+    br %boolean %7, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %8 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %10 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %9, %int 0)
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException* %10 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %11) noreturn
+    unreachable
+_label3:
+    %12 = extractvalue { %uint*, [1 x %int] } %4, 0
+    %13 = getelementptr inbounds %uint, %uint* %12, %int 0
+    %14 = load %uint, %uint* %13
+    %15 = bitcast %uint %14 to %code
+    ret %code %15
+}
+
+define %double @shadow.standard..BigInteger_MtoDouble(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %i.3 = sub %int %5, 1
+    br label %_label7
+_label6:
+    %total.5 = fmul %double %total.10, 0x41f0000000000000
+    %6 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %7 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %6, i32 0, i32 2
+    %8 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %7
+    %9 = bitcast %int %i.18 to %uint
+    %10 = extractvalue { %uint*, [1 x %int] } %8, 1, 0
+    %11 = bitcast %int %10 to %uint
+    %12 = icmp ult %uint %9, %11
+    br %boolean %12, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %13 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %14 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %13, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %15 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %14, %int %i.18)
+    %16 = bitcast %shadow.standard..IndexOutOfBoundsException* %15 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %16) noreturn
+    unreachable
+_label5:
+    %17 = extractvalue { %uint*, [1 x %int] } %8, 0
+    %18 = getelementptr inbounds %uint, %uint* %17, %int %i.18
+    %19 = load %uint, %uint* %18
+    %20 = uitofp %uint %19 to %double
+    %total.6 = fadd %double %total.5, %20
+    br label %_label2
+_label2:
+    %i.4 = sub %int %i.18, 1
+    br label %_label7
+_label7:
+    %i.18 = phi %int [ %i.3, %_label0 ],[ %i.4, %_label2 ]
+    %total.10 = phi %double [ 0x0000000000000000, %_label0 ],[ %total.6, %_label2 ]
+    %21 = icmp sge %int %i.18, 0
+    br %boolean %21, label %_label6, label %_label1
+_label1:
+    %22 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %23 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %22, i32 0, i32 3
+    %24 = load %boolean, %boolean* %23
+    br %boolean %24, label %_label8, label %_label9
+_label8:
+    %_temp.7 = fsub %double -0.0, %total.10
+    br label %_label10
+_label9:
+    br label %_label10
+_label10:
+    %_temp.26 = phi %double [ %_temp.7, %_label8 ],[ %total.10, %_label9 ]
+    ret %double %_temp.26
+}
+
+define %float @shadow.standard..BigInteger_MtoFloat(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = call %double @shadow.standard..BigInteger_MtoDouble(%shadow.standard..BigInteger* %2)
+    %4 = fptrunc %double %3 to %float
+    ret %float %4
+}
+
+define %int @shadow.standard..BigInteger_MtoInt(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 3
+    %4 = load %boolean, %boolean* %3
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    br label %_label3
+_label2:
+    br label %_label3
+_label3:
+    %_temp.4 = phi %int [ -1, %_label1 ],[ 1, %_label2 ]
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %5, i32 0, i32 2
+    %7 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %6
+    %8 = extractvalue { %uint*, [1 x %int] } %7, 1, 0
+    %9 = bitcast %int %8 to %uint
+    %10 = icmp ult %uint 0, %9
+    br %boolean %10, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %13 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %12, %int 0)
+    %14 = bitcast %shadow.standard..IndexOutOfBoundsException* %13 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %14) noreturn
+    unreachable
+_label6:
+    %15 = extractvalue { %uint*, [1 x %int] } %7, 0
+    %16 = getelementptr inbounds %uint, %uint* %15, %int 0
+    %17 = load %uint, %uint* %16
+    %18 = bitcast %uint %17 to %int
+    %19 = mul %int %_temp.4, %18
+    ret %int %19
+}
+
+define %long @shadow.standard..BigInteger_MtoLong(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 3
+    %4 = load %boolean, %boolean* %3
+    br %boolean %4, label %_label1, label %_label2
+_label1:
+    br label %_label3
+_label2:
+    br label %_label3
+_label3:
+    %_temp.4 = phi %long [ -1, %_label1 ],[ 1, %_label2 ]
+    %5 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %6 = call %ulong @shadow.standard..BigInteger_MtoULong(%shadow.standard..BigInteger* %5)
+    %7 = bitcast %ulong %6 to %long
+    %8 = mul %long %_temp.4, %7
+    ret %long %8
+}
+
+define %short @shadow.standard..BigInteger_MtoShort(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = call %int @shadow.standard..BigInteger_MtoInt(%shadow.standard..BigInteger* %2)
+    %4 = trunc %int %3 to %short
+    ret %short %4
+}
+
+define %shadow.standard..String* @shadow.standard..BigInteger_MtoString(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = call %shadow.standard..String* @shadow.standard..BigInteger_MtoString_uint(%shadow.standard..BigInteger* %2, %uint 10)
+    ret %shadow.standard..String* %3
+}
+
+define %shadow.standard..String* @shadow.standard..BigInteger_MtoString_uint(%shadow.standard..BigInteger*, %uint) {
+    %quotient = alloca { %uint*, [1 x %int] }
+    %number = alloca { %uint*, [1 x %int] }
+    %divisor = alloca %shadow.standard..BigInteger*
+    %this = alloca %shadow.standard..BigInteger*
+    %buffer = alloca %shadow.standard..MutableString*
+    %remainder = alloca { %uint*, [1 x %int] }
+    %_stack0 = alloca %shadow.standard..BigInteger
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %_temp.3 = icmp ult %uint %1, 2
+    br %boolean %_temp.3, label %_label1, label %_label2
+_label2:
+    %_temp.4 = icmp ugt %uint %1, 36
+    br label %_label1
+_label1:
+    %_temp.15 = phi %boolean [ %_temp.3, %_label0 ],[ %_temp.4, %_label2 ]
+    br %boolean %_temp.15, label %_label4, label %_label5
+_label4:
+    %3 = call %shadow.standard..String* @shadow.standard..uint_MtoString(%uint %1)
+    %4 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string140, %shadow.standard..String* %3)
+    %5 = bitcast %shadow.standard..IllegalArgumentException_methods* @shadow.standard..IllegalArgumentException_methods to %shadow.standard..Object_methods*
+    %6 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IllegalArgumentException_class, %shadow.standard..Object_methods* %5, %int ptrtoint (%shadow.standard..IllegalArgumentException* getelementptr (%shadow.standard..IllegalArgumentException, %shadow.standard..IllegalArgumentException* null, i32 1) to i32))
+    %7 = call %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* %6, %shadow.standard..String* %4)
+    %8 = bitcast %shadow.standard..IllegalArgumentException* %7 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %8) noreturn
+    unreachable
+_label5:
+    %9 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %10 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %11 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %10, i32 0, i32 2
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %11
+    %13 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %9, { %uint*, [1 x %int] } %12)
+    br %boolean %13, label %_label7, label %_label8
+_label7:
+    ret %shadow.standard..String* @_string145
+_label8:
+    %14 = bitcast %shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object_methods*
+    %15 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..MutableString_class, %shadow.standard..Object_methods* %14, %int ptrtoint (%shadow.standard..MutableString* getelementptr (%shadow.standard..MutableString, %shadow.standard..MutableString* null, i32 1) to i32))
+    %buffer.5 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate(%shadow.standard..Object* %15)
+    store %shadow.standard..MutableString* %buffer.5, %shadow.standard..MutableString** %buffer
+    %16 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %17 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %16, i32 0, i32 3
+    %18 = load %boolean, %boolean* %17
+    br %boolean %18, label %_label9, label %_label10
+_label9:
+    %19 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %buffer
+    %20 = bitcast %shadow.standard..String* @_string146 to %shadow.standard..Object*
+    %21 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %19, %shadow.standard..Object* %20)
+    br label %_label10
+_label10:
+    %22 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %23 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %22, i32 0, i32 2
+    %24 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %23
+    %25 = extractvalue { %uint*, [1 x %int] } %24, 1, 0
+    %26 = icmp eq %int %25, 1
+    br %boolean %26, label %_label15, label %_label16
+_label15:
+    %27 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %buffer
+    %28 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %29 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %28, i32 0, i32 2
+    %30 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %29
+    %31 = extractvalue { %uint*, [1 x %int] } %30, 1, 0
+    %32 = bitcast %int %31 to %uint
+    %33 = icmp ult %uint 0, %32
+    br %boolean %33, label %_label12, label %_label11
+_label12:
+    br label %_label13
+_label11:
+    %34 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %35 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %34, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %36 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %35, %int 0)
+    %37 = bitcast %shadow.standard..IndexOutOfBoundsException* %36 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %37) noreturn
+    unreachable
+_label13:
+    %38 = extractvalue { %uint*, [1 x %int] } %30, 0
+    %39 = getelementptr inbounds %uint, %uint* %38, %int 0
+    %40 = load %uint, %uint* %39
+    %41 = call %shadow.standard..String* @shadow.standard..uint_MtoString_uint(%uint %40, %uint %1)
+    %42 = bitcast %shadow.standard..String* %41 to %shadow.standard..Object*
+    %43 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %27, %shadow.standard..Object* %42)
+    %44 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %43)
+    ret %shadow.standard..String* %44
+_label16:
+    %45 = call %int @shadow.standard..uint_MtoInt(%uint %1)
+    store %shadow.standard..BigInteger zeroinitializer, %shadow.standard..BigInteger* %_stack0
+    %46 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %_stack0, i32 0, i32 0
+    store %shadow.standard..Class* @shadow.standard..BigInteger_class, %shadow.standard..Class** %46
+    %47 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %_stack0, i32 0, i32 1
+    store %shadow.standard..BigInteger_methods* @shadow.standard..BigInteger_methods, %shadow.standard..BigInteger_methods** %47
+    %48 = bitcast %shadow.standard..BigInteger* %_stack0 to %shadow.standard..Object*
+    %divisor.6 = call %shadow.standard..BigInteger* @shadow.standard..BigInteger_Mcreate_int(%shadow.standard..Object* %48, %int %45)
+    store %shadow.standard..BigInteger* %divisor.6, %shadow.standard..BigInteger** %divisor
+    %49 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %50 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %49, i32 0, i32 2
+    %number.7 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %50
+    store { %uint*, [1 x %int] } %number.7, { %uint*, [1 x %int] }* %number
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %quotient
+    store { %uint*, [1 x %int] } undef, { %uint*, [1 x %int] }* %remainder
+    br label %_label25
+_label25:
+    %51 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %52 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %number
+    %53 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %divisor
+    %54 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %53, i32 0, i32 2
+    %55 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %54
+    %56 = call { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } @shadow.standard..BigInteger_MunsignedDivide_uint_A1_uint_A1(%shadow.standard..BigInteger* %51, { %uint*, [1 x %int] } %52, { %uint*, [1 x %int] } %55)
+    %quotient.10 = extractvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %56, 0
+    store { %uint*, [1 x %int] } %quotient.10, { %uint*, [1 x %int] }* %quotient
+    %remainder.11 = extractvalue { { %uint*, [1 x %int] }, { %uint*, [1 x %int] } } %56, 1
+    store { %uint*, [1 x %int] } %remainder.11, { %uint*, [1 x %int] }* %remainder
+    %57 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %remainder
+    %58 = extractvalue { %uint*, [1 x %int] } %57, 1, 0
+    %59 = bitcast %int %58 to %uint
+    %60 = icmp ult %uint 0, %59
+    br %boolean %60, label %_label20, label %_label19
+_label20:
+    br label %_label21
+_label19:
+    %61 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %62 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %61, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %63 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %62, %int 0)
+    %64 = bitcast %shadow.standard..IndexOutOfBoundsException* %63 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %64) noreturn
+    unreachable
+_label21:
+    %65 = extractvalue { %uint*, [1 x %int] } %57, 0
+    %66 = getelementptr inbounds %uint, %uint* %65, %int 0
+    %digit.12 = load %uint, %uint* %66
+    %67 = icmp uge %uint %digit.12, 10
+    br %boolean %67, label %_label22, label %_label23
+_label22:
+    %68 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %buffer
+    %69 = add %uint %digit.12, 65
+    %70 = trunc %uint %69 to %byte
+    %71 = sub %byte %70, 10
+    %72 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_byte(%shadow.standard..MutableString* %68, %byte %71)
+    br label %_label24
+_label23:
+    %73 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %buffer
+    %74 = add %uint %digit.12, 48
+    %75 = trunc %uint %74 to %byte
+    %76 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_byte(%shadow.standard..MutableString* %73, %byte %75)
+    br label %_label24
+_label24:
+    %number.13 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %quotient
+    store { %uint*, [1 x %int] } %number.13, { %uint*, [1 x %int] }* %number
+    br label %_label18
+_label18:
+    %77 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %78 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %number
+    %79 = call %boolean @shadow.standard..BigInteger_MisZero_uint_A1(%shadow.standard..BigInteger* %77, { %uint*, [1 x %int] } %78)
+    %80 = xor %boolean -1, %79
+    br %boolean %80, label %_label25, label %_label17
+_label17:
+    %81 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %buffer
+    %82 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mreverse(%shadow.standard..MutableString* %81)
+    %83 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %82)
+    ret %shadow.standard..String* %83
+}
+
+define %ubyte @shadow.standard..BigInteger_MtoUByte(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = bitcast %int %5 to %uint
+    %7 = icmp ult %uint 0, %6
+    br %boolean %7, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %8 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %10 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %9, %int 0)
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException* %10 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %11) noreturn
+    unreachable
+_label3:
+    %12 = extractvalue { %uint*, [1 x %int] } %4, 0
+    %13 = getelementptr inbounds %uint, %uint* %12, %int 0
+    %14 = load %uint, %uint* %13
+    %15 = trunc %uint %14 to %ubyte
+    ret %ubyte %15
+}
+
+define %uint @shadow.standard..BigInteger_MtoUInt(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = bitcast %int %5 to %uint
+    %7 = icmp ult %uint 0, %6
+    br %boolean %7, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %8 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %10 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %9, %int 0)
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException* %10 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %11) noreturn
+    unreachable
+_label3:
+    %12 = extractvalue { %uint*, [1 x %int] } %4, 0
+    %13 = getelementptr inbounds %uint, %uint* %12, %int 0
+    %14 = load %uint, %uint* %13
+    ret %uint %14
+}
+
+define %ulong @shadow.standard..BigInteger_MtoULong(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = bitcast %int %5 to %uint
+    %7 = icmp ult %uint 0, %6
+    br %boolean %7, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %8 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %10 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %9, %int 0)
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException* %10 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %11) noreturn
+    unreachable
+_label3:
+    %12 = extractvalue { %uint*, [1 x %int] } %4, 0
+    %13 = getelementptr inbounds %uint, %uint* %12, %int 0
+    %14 = load %uint, %uint* %13
+    %value.2 = zext %uint %14 to %ulong
+    %15 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %16 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %15, i32 0, i32 2
+    %17 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %16
+    %18 = extractvalue { %uint*, [1 x %int] } %17, 1, 0
+    %19 = icmp sgt %int %18, 1
+    br %boolean %19, label %_label7, label %_label8
+_label7:
+    %20 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %21 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %20, i32 0, i32 2
+    %22 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %21
+    %23 = extractvalue { %uint*, [1 x %int] } %22, 1, 0
+    %24 = bitcast %int %23 to %uint
+    %25 = icmp ult %uint 1, %24
+    br %boolean %25, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %27 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %26, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %28 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %27, %int 1)
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException* %28 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %29) noreturn
+    unreachable
+_label6:
+    %30 = extractvalue { %uint*, [1 x %int] } %22, 0
+    %31 = getelementptr inbounds %uint, %uint* %30, %int 1
+    %32 = load %uint, %uint* %31
+    %33 = call %ulong @shadow.standard..uint_Mmultiply_ulong(%uint %32, %ulong 4294967296)
+    %value.3 = add %ulong %value.2, %33
+    br label %_label8
+_label8:
+    %value.8 = phi %ulong [ %value.3, %_label6 ],[ %value.2, %_label3 ]
+    ret %ulong %value.8
+}
+
+define %ushort @shadow.standard..BigInteger_MtoUShort(%shadow.standard..BigInteger*) {
+    %this = alloca %shadow.standard..BigInteger*
+    br label %_label0
+_label0:
+    store %shadow.standard..BigInteger* %0, %shadow.standard..BigInteger** %this
+    %2 = load %shadow.standard..BigInteger*, %shadow.standard..BigInteger** %this
+    %3 = getelementptr inbounds %shadow.standard..BigInteger, %shadow.standard..BigInteger* %2, i32 0, i32 2
+    %4 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %3
+    %5 = extractvalue { %uint*, [1 x %int] } %4, 1, 0
+    %6 = bitcast %int %5 to %uint
+    %7 = icmp ult %uint 0, %6
+    br %boolean %7, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %8 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %10 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %9, %int 0)
+    %11 = bitcast %shadow.standard..IndexOutOfBoundsException* %10 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %11) noreturn
+    unreachable
+_label3:
+    %12 = extractvalue { %uint*, [1 x %int] } %4, 0
+    %13 = getelementptr inbounds %uint, %uint* %12, %int 0
+    %14 = load %uint, %uint* %13
+    %15 = trunc %uint %14 to %ushort
+    ret %ushort %15
+}
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %byte @shadow.standard..String_Mindex_int(%shadow.standard..String*, %int)
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_byte(%shadow.standard..MutableString*, %byte)
+declare %int @shadow.standard..Array_Mdimensions(%shadow.standard..Array*)
+declare %uint @shadow.standard..int_Mabs(%int)
+declare %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString*)
+declare %shadow.standard..String* @shadow.standard..byte_MtoString(%byte)
+declare %uint @shadow.standard..uint_MleadingZeroes(%uint)
+declare %int @shadow.standard..String_Msize(%shadow.standard..String*)
+declare %ulong @shadow.standard..ulong_MbitShiftRight_int(%ulong, %int)
+declare %shadow.standard..IllegalArgumentException* @shadow.standard..IllegalArgumentException_Mcreate_shadow.standard..String(%shadow.standard..Object* returned, %shadow.standard..String*)
+declare %shadow.standard..String* @shadow.standard..uint_MtoString(%uint)
+declare %shadow.standard..String* @shadow.standard..uint_MtoString_uint(%uint, %uint)
+declare %ulong @shadow.standard..long_Mabs(%long)
+declare %int @shadow.standard..ulong_Mcompare_double(%ulong, %double)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mreverse(%shadow.standard..MutableString*)
+declare %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* returned, %int)
+declare %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String*, %shadow.standard..String*)
+declare %shadow.standard..Array* @shadow.standard..Array_Msubarray_int_int(%shadow.standard..Array*, %int, %int)
+declare %long @shadow.standard..byte_Msubtract_long(%byte, %long)
+declare %int @shadow.standard..uint_MtoInt(%uint)
+declare %uint @shadow.standard..uint_MbitShiftLeft_int(%uint, %int)
+declare %ulong @shadow.standard..uint_Mmultiply_ulong(%uint, %ulong)
+declare %uint @shadow.standard..uint_MbitShiftRight_int(%uint, %int)
+declare %int @shadow.standard..int_Mmax_int(%int, %int)
+declare %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* returned)
+declare %int @shadow.standard..Class_Mwidth(%shadow.standard..Class*)
+declare %ulong @shadow.standard..uint_Msubtract_ulong(%uint, %ulong)
+declare %long @shadow.standard..long_MbitShiftRight_int(%long, %int)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString*, %shadow.standard..Object*)
+declare %int @shadow.standard..byte_Mcompare_long(%byte, %long)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate(%shadow.standard..Object* returned)
+declare %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..String(%shadow.standard..Object* returned, %shadow.standard..String*)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array2 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array3 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array4 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ubyte>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array5 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array6 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array7 = private unnamed_addr constant [39 x %ubyte] c"shadow:standard@CanIndexStore<int,byte>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([39 x %byte], [39 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 39] }, %boolean true }
+@_array8 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array9 = private unnamed_addr constant [57 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@MutableString>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([57 x %byte], [57 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 57] }, %boolean true }
+@_array10 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array11 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<uint>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array12 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<uint>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array13 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array14 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array15 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array16 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<ushort>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array17 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<uint>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array18 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array19 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array20 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<ushort>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array21 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array22 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array23 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array24 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array25 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array26 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array27 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@Integer<ushort>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array28 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array29 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array30 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<uint>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array31 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<uint>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array32 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array33 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array34 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array35 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ubyte>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array36 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array37 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array38 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array39 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<uint>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array40 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<uint>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array41 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array42 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<ushort>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array43 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array44 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array45 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array46 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array47 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ubyte>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array48 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@CanModulus<shadow:standard@BigInteger>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array49 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array50 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array51 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array52 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array53 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@MutableString>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array54 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array55 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array56 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array57 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array58 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array59 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<ushort>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array60 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array61 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array62 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanAdd<shadow:standard@BigInteger>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array63 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ubyte>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array64 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<ushort>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array65 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array66 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<ushort>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array67 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanMultiply<shadow:standard@BigInteger>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array68 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array69 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array70 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array71 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array72 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array73 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array74 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<uint>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array75 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array76 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@Number<shadow:standard@BigInteger>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array77 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array78 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<uint>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array79 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array80 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ubyte>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array81 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<ushort>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array82 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array83 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array84 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array85 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array86 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@CanIndex<int[],uint>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array87 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array88 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array89 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array90 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array91 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array92 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array93 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array94 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array95 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array96 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ubyte>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array97 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array98 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array99 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array100 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array101 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string101 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array101, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array102 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ubyte>"
+@_string102 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array102, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array103 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string103 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array103, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array104 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string104 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array104, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array105 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string105 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array105, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array106 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@BigInteger>"
+@_string106 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array106, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array107 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<uint>"
+@_string107 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array107, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array108 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string108 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array108, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array109 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string109 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array109, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array110 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string110 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array110, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array111 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string111 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array111, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array112 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string112 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array112, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array113 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string113 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array113, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array114 = private unnamed_addr constant [41 x %ubyte] c"shadow:standard@CanIndexStore<int[],uint>"
+@_string114 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array114, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array115 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string115 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array115, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array116 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string116 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array116, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array117 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string117 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array117, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array118 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string118 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array118, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array119 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string119 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array119, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array120 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string120 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array120, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array121 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string121 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array121, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array122 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string122 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array122, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array123 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string123 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array123, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array124 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ubyte>"
+@_string124 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array124, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array125 = private unnamed_addr constant [52 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@BigInteger>"
+@_string125 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([52 x %byte], [52 x %byte]* @_array125, i32 0, i32 0), [1 x %int] [%int 52] }, %boolean true }
+@_array126 = private unnamed_addr constant [53 x %ubyte] c"shadow:standard@CanDivide<shadow:standard@BigInteger>"
+@_string126 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([53 x %byte], [53 x %byte]* @_array126, i32 0, i32 0), [1 x %int] [%int 53] }, %boolean true }
+@_array127 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string127 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array127, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array128 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string128 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array128, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array129 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Array<uint>"
+@_string129 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array129, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array130 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string130 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array130, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array131 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string131 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array131, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array132 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanSubtract<shadow:standard@BigInteger>"
+@_string132 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array132, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array133 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string133 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array133, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array134 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ubyte>"
+@_string134 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array134, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array135 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string135 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array135, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array136 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<ushort>"
+@_string136 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array136, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array137 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string137 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array137, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array138 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@BigInteger"
+@_string138 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array138, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array139 = private unnamed_addr constant [16 x %ubyte] c"Division by zero"
+@_string139 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([16 x %byte], [16 x %byte]* @_array139, i32 0, i32 0), [1 x %int] [%int 16] }, %boolean true }
+@_array140 = private unnamed_addr constant [14 x %ubyte] c"Invalid base: "
+@_string140 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([14 x %byte], [14 x %byte]* @_array140, i32 0, i32 0), [1 x %int] [%int 14] }, %boolean true }
+@_array141 = private unnamed_addr constant [15 x %ubyte] c"Invalid digit: "
+@_string141 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([15 x %byte], [15 x %byte]* @_array141, i32 0, i32 0), [1 x %int] [%int 15] }, %boolean true }
+@_array142 = private unnamed_addr constant [29 x %ubyte] c"Array dimensions do not match"
+@_string142 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array142, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array143 = private unnamed_addr constant [18 x %ubyte] c"Negative modulus: "
+@_string143 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([18 x %byte], [18 x %byte]* @_array143, i32 0, i32 0), [1 x %int] [%int 18] }, %boolean true }
+@_array144 = private unnamed_addr constant [19 x %ubyte] c"Negative exponent: "
+@_string144 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([19 x %byte], [19 x %byte]* @_array144, i32 0, i32 0), [1 x %int] [%int 19] }, %boolean true }
+@_array145 = private unnamed_addr constant [1 x %ubyte] c"0"
+@_string145 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([1 x %byte], [1 x %byte]* @_array145, i32 0, i32 0), [1 x %int] [%int 1] }, %boolean true }
+@_array146 = private unnamed_addr constant [1 x %ubyte] c"-"
+@_string146 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([1 x %byte], [1 x %byte]* @_array146, i32 0, i32 0), [1 x %int] [%int 1] }, %boolean true }
@@ -0,0 +1,4212 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..uint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %int (%uint, %uint)*, %int (%uint, %ulong)*, %int (%uint, %long)*, %int (%uint, %float)*, %int (%uint, %double)*, %uint (%uint, %shadow.standard..AddressMap*)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %boolean (%uint, %uint)*, %boolean (%uint, %ulong)*, %boolean (%uint, %long)*, %boolean (%uint, %float)*, %boolean (%uint, %double)*, %uint (%uint)*, %uint (%uint)*, %uint (%uint)*, %double (%uint)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint)*, %double (%uint, %int)*, %double (%uint, %double)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %byte (%uint)*, %code (%uint)*, %double (%uint)*, %float (%uint)*, %int (%uint)*, %long (%uint)*, %short (%uint)*, %int (%uint)*, %shadow.standard..String* (%uint)*, %shadow.standard..String* (%uint, %uint)*, %ubyte (%uint)*, %uint (%uint)*, %ulong (%uint)*, %ushort (%uint)*, %uint (%uint)* }
+%shadow.standard..uint = type { %shadow.standard..Class*, %shadow.standard..uint_methods* , %uint }
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+@shadow.standard..uint_methods = external constant %shadow.standard..uint_methods
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..AddressMap_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap_methods = external constant %shadow.standard..AddressMap_methods
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..Number_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..ClassSet_class = external constant %shadow.standard..Class
+@shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+@_parametersshadow.standard..CanCompare_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+%shadow.standard..ushort_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %int (%ushort, %ushort)*, %int (%ushort, %uint)*, %int (%ushort, %int)*, %int (%ushort, %ulong)*, %int (%ushort, %long)*, %int (%ushort, %float)*, %int (%ushort, %double)*, %ushort (%ushort, %shadow.standard..AddressMap*)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %boolean (%ushort, %ushort)*, %boolean (%ushort, %uint)*, %boolean (%ushort, %int)*, %boolean (%ushort, %ulong)*, %boolean (%ushort, %long)*, %boolean (%ushort, %float)*, %boolean (%ushort, %double)*, %ushort (%ushort)*, %uint (%ushort)*, %ushort (%ushort)*, %double (%ushort)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort)*, %double (%ushort, %int)*, %double (%ushort, %double)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %byte (%ushort)*, %code (%ushort)*, %double (%ushort)*, %float (%ushort)*, %int (%ushort)*, %long (%ushort)*, %short (%ushort)*, %short (%ushort)*, %shadow.standard..String* (%ushort)*, %shadow.standard..String* (%ushort, %uint)*, %ubyte (%ushort)*, %uint (%ushort)*, %ulong (%ushort)*, %ushort (%ushort)*, %ushort (%ushort)* }
+%shadow.standard..ushort = type { %shadow.standard..Class*, %shadow.standard..ushort_methods* , %ushort }
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+@shadow.standard..ushort_methods = external constant %shadow.standard..ushort_methods
+@_parametersshadow.standard..Number_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@shadow.standard..Class_class = external constant %shadow.standard..Class
+@shadow.standard..Class_methods = external constant %shadow.standard..Class_methods
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+%shadow.standard..ubyte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %int (%ubyte, %ubyte)*, %int (%ubyte, %ushort)*, %int (%ubyte, %short)*, %int (%ubyte, %uint)*, %int (%ubyte, %int)*, %int (%ubyte, %ulong)*, %int (%ubyte, %long)*, %int (%ubyte, %float)*, %int (%ubyte, %double)*, %ubyte (%ubyte, %shadow.standard..AddressMap*)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %boolean (%ubyte, %ubyte)*, %boolean (%ubyte, %ushort)*, %boolean (%ubyte, %short)*, %boolean (%ubyte, %uint)*, %boolean (%ubyte, %int)*, %boolean (%ubyte, %ulong)*, %boolean (%ubyte, %long)*, %boolean (%ubyte, %float)*, %boolean (%ubyte, %double)*, %uint (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %double (%ubyte, %int)*, %double (%ubyte, %double)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %byte (%ubyte)*, %code (%ubyte)*, %double (%ubyte)*, %float (%ubyte)*, %int (%ubyte)*, %long (%ubyte)*, %short (%ubyte)*, %byte (%ubyte)*, %shadow.standard..String* (%ubyte)*, %shadow.standard..String* (%ubyte, %uint)*, %ubyte (%ubyte)*, %uint (%ubyte)*, %ulong (%ubyte)*, %ushort (%ubyte)* }
+%shadow.standard..ubyte = type { %shadow.standard..Class*, %shadow.standard..ubyte_methods* , %ubyte }
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+@shadow.standard..ubyte_methods = external constant %shadow.standard..ubyte_methods
+@_parametersshadow.standard..Integer_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanModulus_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString = type opaque
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap.Node = type opaque
+@shadow.standard..AddressMap.Node_class = external constant %shadow.standard..Class
+%shadow.standard..ClassSet.Node = type opaque
+@shadow.standard..ClassSet.Node_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanMultiply_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1658940361
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.standard..CanCompare_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -633909833
+@shadow.standard..CanModulus_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1006233049
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanSubtract_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 501341025
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..Number_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -957619924
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..Number_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 116531371
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..CanAdd_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1818559871
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..CanMultiply_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -464928704
+@shadow.standard..CanAdd_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 984379952
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..CanMultiply_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 430741970
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanCompare_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 633898395
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..Number_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -992151523
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanEqual_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1408808133
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..Integer_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1887298000
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanSubtract_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1709766037
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanCompare_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 639835931
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..CanEqual_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1625286646
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..Integer_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1964651914
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanDivide_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 369394583
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..Integer_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1344119110
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanSubtract_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1237327183
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanModulus_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2056213396
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanDivide_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -971516742
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string100, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string101, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string102, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string103, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string104, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanDivide_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string105, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -654431746
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string106, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanAdd_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string107, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -892201342
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string108, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string109, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string110, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string111, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string112, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string113, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string114, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanModulus_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string115, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 876595980
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string116, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string117, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string118, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string119, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string120, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+@shadow.standard..CanEqual_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string121, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2048548118
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string122, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; byte
+
+; 0: class (Class)
+; 1: _methods
+
+@shadow.standard..byte_CMAX = constant %byte 127
+@shadow.standard..byte_CMIN = constant %byte -128
+@_class0 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_long_W_shadow.standard..CanModulus_L_long_R }
+@_class1 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_byte_W_shadow.standard..CanEqual_L_byte_R }
+@_class2 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_short_W_shadow.standard..CanEqual_L_short_R }
+@_class3 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_int_W_shadow.standard..CanEqual_L_int_R }
+@_class4 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_long_W_shadow.standard..CanEqual_L_long_R }
+@_class5 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_float_W_shadow.standard..CanMultiply_L_float_R }
+@_class6 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_float_W_shadow.standard..CanModulus_L_float_R }
+@_class7 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_float_W_shadow.standard..CanEqual_L_float_R }
+@_class8 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_double_W_shadow.standard..CanMultiply_L_double_R }
+@_class9 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_double_W_shadow.standard..CanModulus_L_double_R }
+@_class10 = private unnamed_addr constant { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* } { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mequal_double_W_shadow.standard..CanEqual_L_double_R }
+@_class11 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..byte_Mnegate_W_shadow.standard..CanNegate_L_byte_R }
+@_class12 = private unnamed_addr constant { %uint (%shadow.standard..Object*)* } { %uint (%shadow.standard..Object*)* @shadow.standard..byte_Mhash_W_shadow.standard..CanHash }
+@_class13 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_byte_W_shadow.standard..CanAdd_L_byte_R }
+@_class19 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_byte_W_shadow.standard..CanSubtract_L_byte_R }
+@_class20 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_short_W_shadow.standard..CanSubtract_L_short_R }
+@_class21 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_int_W_shadow.standard..CanSubtract_L_int_R }
+@_class22 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_long_W_shadow.standard..CanSubtract_L_long_R }
+@_class23 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_float_W_shadow.standard..CanSubtract_L_float_R }
+@_class24 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Msubtract_double_W_shadow.standard..CanSubtract_L_double_R }
+@_class25 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_byte_W_shadow.standard..CanDivide_L_byte_R }
+@_class26 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_short_W_shadow.standard..CanDivide_L_short_R }
+@_class27 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitAnd_byte_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitOr_byte_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_byte_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitXor_byte_W_shadow.standard..Integer_L_byte_R }
+@_class28 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitAnd_short_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitOr_short_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_short_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitXor_short_W_shadow.standard..Integer_L_short_R }
+@_class29 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_int_W_shadow.standard..CanDivide_L_int_R }
+@_class30 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitAnd_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitOr_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_int_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitXor_int_W_shadow.standard..Integer_L_int_R }
+@_class31 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_long_W_shadow.standard..CanDivide_L_long_R }
+@_class32 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitAnd_long_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*)* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitOr_long_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %uint)* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %int)* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_long_R, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_MbitXor_long_W_shadow.standard..Integer_L_long_R }
+@_class33 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_float_W_shadow.standard..CanDivide_L_float_R }
+@_class34 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_byte_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_byte_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_byte_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_byte_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_byte_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_byte_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_byte_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_byte_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_byte_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_byte_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_byte_R }
+@_class35 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_short_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_short_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_short_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_short_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_short_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_short_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_short_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_short_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_short_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_short_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_short_R }
+@_class36 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_int_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_int_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_int_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_int_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_int_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_int_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_int_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_int_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_int_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_int_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_int_R }
+@_class37 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_long_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_long_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_long_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_long_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_long_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_long_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_long_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_long_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_long_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_long_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_long_R }
+@_class38 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_float_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_float_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_float_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_float_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_float_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_float_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_float_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_float_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_float_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_float_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_float_R }
+@_class39 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mdivide_double_W_shadow.standard..CanDivide_L_double_R }
+@_class40 = private unnamed_addr constant { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* } { %byte (%shadow.standard..Object*)* @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_double_R, %code (%shadow.standard..Object*)* @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_double_R, %double (%shadow.standard..Object*)* @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_double_R, %float (%shadow.standard..Object*)* @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_double_R, %int (%shadow.standard..Object*)* @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_double_R, %long (%shadow.standard..Object*)* @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_double_R, %short (%shadow.standard..Object*)* @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_double_R, %ubyte (%shadow.standard..Object*)* @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_double_R, %uint (%shadow.standard..Object*)* @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_double_R, %ulong (%shadow.standard..Object*)* @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_double_R, %ushort (%shadow.standard..Object*)* @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_double_R }
+@_class44 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_byte_W_shadow.standard..CanCompare_L_byte_R }
+@_class45 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_short_W_shadow.standard..CanAdd_L_short_R }
+@_class46 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_short_W_shadow.standard..CanCompare_L_short_R }
+@_class47 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_int_W_shadow.standard..CanAdd_L_int_R }
+@_class48 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_int_W_shadow.standard..CanCompare_L_int_R }
+@_class49 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_long_W_shadow.standard..CanAdd_L_long_R }
+@_class50 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_long_W_shadow.standard..CanCompare_L_long_R }
+@_class51 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_float_W_shadow.standard..CanAdd_L_float_R }
+@_class52 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_float_W_shadow.standard..CanCompare_L_float_R }
+@_class53 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Madd_double_W_shadow.standard..CanAdd_L_double_R }
+@_class54 = private unnamed_addr constant { %int (%shadow.standard..Object*, %shadow.standard..Object*)* } { %int (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mcompare_double_W_shadow.standard..CanCompare_L_double_R }
+@_class57 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_byte_W_shadow.standard..CanMultiply_L_byte_R }
+@_class58 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_short_W_shadow.standard..CanMultiply_L_short_R }
+@_class59 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_int_W_shadow.standard..CanMultiply_L_int_R }
+@_class60 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_byte_W_shadow.standard..CanModulus_L_byte_R }
+@_class61 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_short_W_shadow.standard..CanModulus_L_short_R }
+@_class62 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmodulus_int_W_shadow.standard..CanModulus_L_int_R }
+@_class63 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..byte_Mmultiply_long_W_shadow.standard..CanMultiply_L_long_R }
+@_interfaceDatashadow.standard..byte = unnamed_addr constant [64 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class2 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class3 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class4 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class5 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class6 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class7 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class8 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class9 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class10 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*)* }* @_class11 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %uint (%shadow.standard..Object*)* }* @_class12 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class19 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class20 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class21 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class22 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class23 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class24 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class25 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class26 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class27 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class28 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class29 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class30 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class31 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class32 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class33 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class34 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class35 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class36 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class37 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class38 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class39 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }* @_class40 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class44 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class45 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class46 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class47 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class48 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class49 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class50 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class51 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class52 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class53 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %int (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class54 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class13 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class57 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class58 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class59 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class60 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class61 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class62 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class63 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..byte = private unnamed_addr constant [64 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanEqual_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanNegate_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* @shadow.standard..CanHash_class, %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanSubtract_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Integer_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Integer_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Integer_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Integer_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanDivide_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Number_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_long_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_float_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanCompare_L_double_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanAdd_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_byte_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_short_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanModulus_L_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanMultiply_L_long_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..byte = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..byte_class]
+@shadow.standard..byte_methods = constant %shadow.standard..byte_methods { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)* @shadow.standard..byte_Mcopy_shadow.standard..AddressMap_W_shadow.standard..Object, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..byte_MtoString_W_shadow.standard..Object, %ubyte (%byte)* @shadow.standard..byte_Mabs, %byte (%byte, %byte)* @shadow.standard..byte_Madd_byte, %short (%byte, %short)* @shadow.standard..byte_Madd_short, %int (%byte, %int)* @shadow.standard..byte_Madd_int, %long (%byte, %long)* @shadow.standard..byte_Madd_long, %float (%byte, %float)* @shadow.standard..byte_Madd_float, %double (%byte, %double)* @shadow.standard..byte_Madd_double, %byte (%byte, %byte)* @shadow.standard..byte_MbitAnd_byte, %short (%byte, %short)* @shadow.standard..byte_MbitAnd_short, %int (%byte, %int)* @shadow.standard..byte_MbitAnd_int, %long (%byte, %long)* @shadow.standard..byte_MbitAnd_long, %byte (%byte)* @shadow.standard..byte_MbitComplement, %byte (%byte, %byte)* @shadow.standard..byte_MbitOr_byte, %short (%byte, %short)* @shadow.standard..byte_MbitOr_short, %int (%byte, %int)* @shadow.standard..byte_MbitOr_int, %long (%byte, %long)* @shadow.standard..byte_MbitOr_long, %byte (%byte, %uint)* @shadow.standard..byte_MbitRotateLeft_uint, %byte (%byte, %int)* @shadow.standard..byte_MbitRotateLeft_int, %byte (%byte, %uint)* @shadow.standard..byte_MbitRotateRight_uint, %byte (%byte, %int)* @shadow.standard..byte_MbitRotateRight_int, %byte (%byte, %uint)* @shadow.standard..byte_MbitShiftLeft_uint, %byte (%byte, %int)* @shadow.standard..byte_MbitShiftLeft_int, %byte (%byte, %uint)* @shadow.standard..byte_MbitShiftRight_uint, %byte (%byte, %int)* @shadow.standard..byte_MbitShiftRight_int, %byte (%byte, %byte)* @shadow.standard..byte_MbitXor_byte, %short (%byte, %short)* @shadow.standard..byte_MbitXor_short, %int (%byte, %int)* @shadow.standard..byte_MbitXor_int, %long (%byte, %long)* @shadow.standard..byte_MbitXor_long, %int (%byte, %byte)* @shadow.standard..byte_Mcompare_byte, %int (%byte, %short)* @shadow.standard..byte_Mcompare_short, %int (%byte, %int)* @shadow.standard..byte_Mcompare_int, %int (%byte, %long)* @shadow.standard..byte_Mcompare_long, %int (%byte, %float)* @shadow.standard..byte_Mcompare_float, %int (%byte, %double)* @shadow.standard..byte_Mcompare_double, %byte (%byte, %shadow.standard..AddressMap*)* @shadow.standard..byte_Mcopy_shadow.standard..AddressMap, %double (%byte)* @shadow.standard..byte_Mcos, %byte (%byte, %byte)* @shadow.standard..byte_Mdivide_byte, %short (%byte, %short)* @shadow.standard..byte_Mdivide_short, %int (%byte, %int)* @shadow.standard..byte_Mdivide_int, %long (%byte, %long)* @shadow.standard..byte_Mdivide_long, %float (%byte, %float)* @shadow.standard..byte_Mdivide_float, %double (%byte, %double)* @shadow.standard..byte_Mdivide_double, %boolean (%byte, %byte)* @shadow.standard..byte_Mequal_byte, %boolean (%byte, %short)* @shadow.standard..byte_Mequal_short, %boolean (%byte, %int)* @shadow.standard..byte_Mequal_int, %boolean (%byte, %long)* @shadow.standard..byte_Mequal_long, %boolean (%byte, %float)* @shadow.standard..byte_Mequal_float, %boolean (%byte, %double)* @shadow.standard..byte_Mequal_double, %uint (%byte)* @shadow.standard..byte_Mhash, %short (%byte)* @shadow.standard..byte_MleadingZeroes, %double (%byte)* @shadow.standard..byte_MlogBase10, %double (%byte)* @shadow.standard..byte_MlogBase2, %double (%byte)* @shadow.standard..byte_MlogBaseE, %byte (%byte, %byte)* @shadow.standard..byte_Mmax_byte, %byte (%byte, %byte)* @shadow.standard..byte_Mmin_byte, %byte (%byte, %byte)* @shadow.standard..byte_Mmodulus_byte, %short (%byte, %short)* @shadow.standard..byte_Mmodulus_short, %int (%byte, %int)* @shadow.standard..byte_Mmodulus_int, %long (%byte, %long)* @shadow.standard..byte_Mmodulus_long, %float (%byte, %float)* @shadow.standard..byte_Mmodulus_float, %double (%byte, %double)* @shadow.standard..byte_Mmodulus_double, %byte (%byte, %byte)* @shadow.standard..byte_Mmultiply_byte, %short (%byte, %short)* @shadow.standard..byte_Mmultiply_short, %int (%byte, %int)* @shadow.standard..byte_Mmultiply_int, %long (%byte, %long)* @shadow.standard..byte_Mmultiply_long, %float (%byte, %float)* @shadow.standard..byte_Mmultiply_float, %double (%byte, %double)* @shadow.standard..byte_Mmultiply_double, %byte (%byte)* @shadow.standard..byte_Mnegate, %short (%byte)* @shadow.standard..byte_Mones, %double (%byte, %int)* @shadow.standard..byte_Mpower_int, %double (%byte, %double)* @shadow.standard..byte_Mpower_double, %double (%byte)* @shadow.standard..byte_Msin, %double (%byte)* @shadow.standard..byte_MsquareRoot, %byte (%byte, %byte)* @shadow.standard..byte_Msubtract_byte, %short (%byte, %short)* @shadow.standard..byte_Msubtract_short, %int (%byte, %int)* @shadow.standard..byte_Msubtract_int, %long (%byte, %long)* @shadow.standard..byte_Msubtract_long, %float (%byte, %float)* @shadow.standard..byte_Msubtract_float, %double (%byte, %double)* @shadow.standard..byte_Msubtract_double, %byte (%byte)* @shadow.standard..byte_MtoByte, %code (%byte)* @shadow.standard..byte_MtoCode, %double (%byte)* @shadow.standard..byte_MtoDouble, %float (%byte)* @shadow.standard..byte_MtoFloat, %int (%byte)* @shadow.standard..byte_MtoInt, %long (%byte)* @shadow.standard..byte_MtoLong, %short (%byte)* @shadow.standard..byte_MtoShort, %shadow.standard..String* (%byte)* @shadow.standard..byte_MtoString, %shadow.standard..String* (%byte, %uint)* @shadow.standard..byte_MtoString_uint, %ubyte (%byte)* @shadow.standard..byte_MtoUByte, %uint (%byte)* @shadow.standard..byte_MtoUInt, %ulong (%byte)* @shadow.standard..byte_MtoULong, %ushort (%byte)* @shadow.standard..byte_MtoUShort, %ubyte (%byte)* @shadow.standard..byte_MtoUnsigned, %short (%byte)* @shadow.standard..byte_MtrailingZeroes }
+@shadow.standard..byte_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string123, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([64 x %shadow.standard..Object*], [64 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..byte, i32 0, i32 0), [1 x %int] [%int 64] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..byte, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([64 x %shadow.standard..Class*], [64 x %shadow.standard..Class*]* @_interfacesshadow.standard..byte, i32 0, i32 0), [1 x %int] [%int 64] }, { %int*, [1 x %int] } zeroinitializer, %int 2, %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32) }
+
+define %shadow.standard..byte* @shadow.standard..byte_Mcreate(%shadow.standard..Object* returned) {
+    %this = alloca %shadow.standard..byte*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..byte*
+    store %shadow.standard..byte* %this.0, %shadow.standard..byte** %this
+    %2 = load %shadow.standard..byte*, %shadow.standard..byte** %this
+    %3 = bitcast %shadow.standard..byte* %2 to %shadow.standard..Object*
+    %4 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %3)
+    %5 = load %shadow.standard..byte*, %shadow.standard..byte** %this
+    %6 = bitcast %shadow.standard..Object* %0 to %shadow.standard..byte*
+    ret %shadow.standard..byte* %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_byte_W_shadow.standard..CanAdd_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_Madd_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_byte_W_shadow.standard..CanSubtract_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_Msubtract_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_byte_W_shadow.standard..CanMultiply_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_Mmultiply_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_byte_W_shadow.standard..CanDivide_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_Mdivide_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_byte_W_shadow.standard..CanModulus_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_Mmodulus_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_byte_W_shadow.standard..CanEqual_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_byte(%byte %6, %byte %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_byte_W_shadow.standard..CanCompare_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_byte(%byte %6, %byte %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitAnd_byte_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_MbitAnd_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MbitComplement(%byte %5)
+    %7 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    store %byte %6, %byte* %9
+    %10 = bitcast %shadow.standard..byte* %8 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitOr_byte_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_MbitOr_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitXor_byte_W_shadow.standard..Integer_L_byte_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    %10 = load %byte, %byte* %9
+    %11 = call %byte @shadow.standard..byte_MbitXor_byte(%byte %6, %byte %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..byte*
+    %14 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %13, i32 0, i32 2
+    store %byte %11, %byte* %14
+    %15 = bitcast %shadow.standard..byte* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_short_W_shadow.standard..CanAdd_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_Madd_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_short_W_shadow.standard..CanSubtract_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_Msubtract_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_short_W_shadow.standard..CanMultiply_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_Mmultiply_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_short_W_shadow.standard..CanDivide_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_Mdivide_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_short_W_shadow.standard..CanModulus_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_Mmodulus_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_short_W_shadow.standard..CanEqual_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_short(%byte %6, %short %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_short_W_shadow.standard..CanCompare_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_short(%byte %6, %short %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitAnd_short_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_MbitAnd_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MbitComplement(%byte %5)
+    %7 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    store %byte %6, %byte* %9
+    %10 = bitcast %shadow.standard..byte* %8 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitOr_short_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_MbitOr_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitXor_short_W_shadow.standard..Integer_L_short_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..short*
+    %9 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %8, i32 0, i32 2
+    %10 = load %short, %short* %9
+    %11 = call %short @shadow.standard..byte_MbitXor_short(%byte %6, %short %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..short_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..short* getelementptr (%shadow.standard..short, %shadow.standard..short* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..short*
+    %14 = getelementptr inbounds %shadow.standard..short, %shadow.standard..short* %13, i32 0, i32 2
+    store %short %11, %short* %14
+    %15 = bitcast %shadow.standard..short* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_int_W_shadow.standard..CanAdd_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Madd_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_int_W_shadow.standard..CanSubtract_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Msubtract_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_int_W_shadow.standard..CanMultiply_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Mmultiply_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_int_W_shadow.standard..CanDivide_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Mdivide_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_int_W_shadow.standard..CanModulus_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Mmodulus_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_int_W_shadow.standard..CanEqual_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_int(%byte %6, %int %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_int_W_shadow.standard..CanCompare_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_int(%byte %6, %int %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitAnd_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_MbitAnd_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MbitComplement(%byte %5)
+    %7 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    store %byte %6, %byte* %9
+    %10 = bitcast %shadow.standard..byte* %8 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitOr_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_MbitOr_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitXor_int_W_shadow.standard..Integer_L_int_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..int*
+    %9 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %8, i32 0, i32 2
+    %10 = load %int, %int* %9
+    %11 = call %int @shadow.standard..byte_MbitXor_int(%byte %6, %int %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..int_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..int* getelementptr (%shadow.standard..int, %shadow.standard..int* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..int*
+    %14 = getelementptr inbounds %shadow.standard..int, %shadow.standard..int* %13, i32 0, i32 2
+    store %int %11, %int* %14
+    %15 = bitcast %shadow.standard..int* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_long_W_shadow.standard..CanAdd_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_Madd_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_long_W_shadow.standard..CanSubtract_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_Msubtract_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_long_W_shadow.standard..CanMultiply_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_Mmultiply_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_long_W_shadow.standard..CanDivide_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_Mdivide_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_long_W_shadow.standard..CanModulus_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_Mmodulus_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_long_W_shadow.standard..CanEqual_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_long(%byte %6, %long %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_long_W_shadow.standard..CanCompare_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_long(%byte %6, %long %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitAnd_long_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_MbitAnd_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitComplement_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MbitComplement(%byte %5)
+    %7 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    store %byte %6, %byte* %9
+    %10 = bitcast %shadow.standard..byte* %8 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitOr_long_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_MbitOr_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_uint_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateLeft_int_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_uint_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitRotateRight_int_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitRotateRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_uint_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftLeft_int_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftLeft_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_uint_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %uint) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %6, %uint %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitShiftRight_int_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %int) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = call %byte @shadow.standard..byte_MbitShiftRight_int(%byte %6, %int %1)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..byte*
+    %10 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %9, i32 0, i32 2
+    store %byte %7, %byte* %10
+    %11 = bitcast %shadow.standard..byte* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_MbitXor_long_W_shadow.standard..Integer_L_long_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..long*
+    %9 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %8, i32 0, i32 2
+    %10 = load %long, %long* %9
+    %11 = call %long @shadow.standard..byte_MbitXor_long(%byte %6, %long %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..long_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..long* getelementptr (%shadow.standard..long, %shadow.standard..long* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..long*
+    %14 = getelementptr inbounds %shadow.standard..long, %shadow.standard..long* %13, i32 0, i32 2
+    store %long %11, %long* %14
+    %15 = bitcast %shadow.standard..long* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_float_W_shadow.standard..CanAdd_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %float @shadow.standard..byte_Madd_float(%byte %6, %float %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..float_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..float* getelementptr (%shadow.standard..float, %shadow.standard..float* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..float*
+    %14 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %13, i32 0, i32 2
+    store %float %11, %float* %14
+    %15 = bitcast %shadow.standard..float* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_float_W_shadow.standard..CanSubtract_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %float @shadow.standard..byte_Msubtract_float(%byte %6, %float %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..float_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..float* getelementptr (%shadow.standard..float, %shadow.standard..float* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..float*
+    %14 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %13, i32 0, i32 2
+    store %float %11, %float* %14
+    %15 = bitcast %shadow.standard..float* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_float_W_shadow.standard..CanMultiply_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %float @shadow.standard..byte_Mmultiply_float(%byte %6, %float %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..float_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..float* getelementptr (%shadow.standard..float, %shadow.standard..float* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..float*
+    %14 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %13, i32 0, i32 2
+    store %float %11, %float* %14
+    %15 = bitcast %shadow.standard..float* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_float_W_shadow.standard..CanDivide_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %float @shadow.standard..byte_Mdivide_float(%byte %6, %float %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..float_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..float* getelementptr (%shadow.standard..float, %shadow.standard..float* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..float*
+    %14 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %13, i32 0, i32 2
+    store %float %11, %float* %14
+    %15 = bitcast %shadow.standard..float* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_float_W_shadow.standard..CanModulus_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %float @shadow.standard..byte_Mmodulus_float(%byte %6, %float %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..float_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..float* getelementptr (%shadow.standard..float, %shadow.standard..float* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..float*
+    %14 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %13, i32 0, i32 2
+    store %float %11, %float* %14
+    %15 = bitcast %shadow.standard..float* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_float_W_shadow.standard..CanEqual_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_float(%byte %6, %float %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_float_W_shadow.standard..CanCompare_L_float_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..float*
+    %9 = getelementptr inbounds %shadow.standard..float, %shadow.standard..float* %8, i32 0, i32 2
+    %10 = load %float, %float* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_float(%byte %6, %float %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_float_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Madd_double_W_shadow.standard..CanAdd_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %double @shadow.standard..byte_Madd_double(%byte %6, %double %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..double_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..double* getelementptr (%shadow.standard..double, %shadow.standard..double* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..double*
+    %14 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %13, i32 0, i32 2
+    store %double %11, %double* %14
+    %15 = bitcast %shadow.standard..double* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Msubtract_double_W_shadow.standard..CanSubtract_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %double @shadow.standard..byte_Msubtract_double(%byte %6, %double %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..double_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..double* getelementptr (%shadow.standard..double, %shadow.standard..double* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..double*
+    %14 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %13, i32 0, i32 2
+    store %double %11, %double* %14
+    %15 = bitcast %shadow.standard..double* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmultiply_double_W_shadow.standard..CanMultiply_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %double @shadow.standard..byte_Mmultiply_double(%byte %6, %double %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..double_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..double* getelementptr (%shadow.standard..double, %shadow.standard..double* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..double*
+    %14 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %13, i32 0, i32 2
+    store %double %11, %double* %14
+    %15 = bitcast %shadow.standard..double* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mdivide_double_W_shadow.standard..CanDivide_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %double @shadow.standard..byte_Mdivide_double(%byte %6, %double %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..double_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..double* getelementptr (%shadow.standard..double, %shadow.standard..double* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..double*
+    %14 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %13, i32 0, i32 2
+    store %double %11, %double* %14
+    %15 = bitcast %shadow.standard..double* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mmodulus_double_W_shadow.standard..CanModulus_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %double @shadow.standard..byte_Mmodulus_double(%byte %6, %double %10)
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..double_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..double* getelementptr (%shadow.standard..double, %shadow.standard..double* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..double*
+    %14 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %13, i32 0, i32 2
+    store %double %11, %double* %14
+    %15 = bitcast %shadow.standard..double* %13 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %15
+}
+
+define private %boolean @shadow.standard..byte_Mequal_double_W_shadow.standard..CanEqual_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %boolean @shadow.standard..byte_Mequal_double(%byte %6, %double %10)
+    ret %boolean %11
+}
+
+define private %int @shadow.standard..byte_Mcompare_double_W_shadow.standard..CanCompare_L_double_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %other = alloca %shadow.standard..Object*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %other
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..Object*, %shadow.standard..Object** %other
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..double*
+    %9 = getelementptr inbounds %shadow.standard..double, %shadow.standard..double* %8, i32 0, i32 2
+    %10 = load %double, %double* %9
+    %11 = call %int @shadow.standard..byte_Mcompare_double(%byte %6, %double %10)
+    ret %int %11
+}
+
+define private %byte @shadow.standard..byte_MtoByte_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_MtoByte(%byte %5)
+    ret %byte %6
+}
+
+define private %code @shadow.standard..byte_MtoCode_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %code @shadow.standard..byte_MtoCode(%byte %5)
+    ret %code %6
+}
+
+define private %double @shadow.standard..byte_MtoDouble_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %double @shadow.standard..byte_MtoDouble(%byte %5)
+    ret %double %6
+}
+
+define private %float @shadow.standard..byte_MtoFloat_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %float @shadow.standard..byte_MtoFloat(%byte %5)
+    ret %float %6
+}
+
+define private %int @shadow.standard..byte_MtoInt_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %int @shadow.standard..byte_MtoInt(%byte %5)
+    ret %int %6
+}
+
+define private %long @shadow.standard..byte_MtoLong_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %long @shadow.standard..byte_MtoLong(%byte %5)
+    ret %long %6
+}
+
+define private %short @shadow.standard..byte_MtoShort_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %short @shadow.standard..byte_MtoShort(%byte %5)
+    ret %short %6
+}
+
+define private %ubyte @shadow.standard..byte_MtoUByte_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %5)
+    ret %ubyte %6
+}
+
+define private %uint @shadow.standard..byte_MtoUInt_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_MtoUInt(%byte %5)
+    ret %uint %6
+}
+
+define private %ulong @shadow.standard..byte_MtoULong_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ulong @shadow.standard..byte_MtoULong(%byte %5)
+    ret %ulong %6
+}
+
+define private %ushort @shadow.standard..byte_MtoUShort_W_shadow.standard..Number_L_double_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %ushort @shadow.standard..byte_MtoUShort(%byte %5)
+    ret %ushort %6
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mnegate_W_shadow.standard..CanNegate_L_byte_R(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %byte @shadow.standard..byte_Mnegate(%byte %5)
+    %7 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..byte*
+    %9 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %8, i32 0, i32 2
+    store %byte %6, %byte* %9
+    %10 = bitcast %shadow.standard..byte* %8 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %10
+}
+
+define private %uint @shadow.standard..byte_Mhash_W_shadow.standard..CanHash(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %uint @shadow.standard..byte_Mhash(%byte %5)
+    ret %uint %6
+}
+
+define %ubyte @shadow.standard..byte_Mabs(%byte) {
+    br label %_label0
+_label0:
+    %2 = icmp slt %byte %0, 0
+    br %boolean %2, label %_label1, label %_label2
+_label1:
+    %_temp.2 = sub %byte 0, %0
+    br label %_label3
+_label2:
+    br label %_label3
+_label3:
+    %_temp.6 = phi %byte [ %0, %_label2 ],[ %_temp.2, %_label1 ]
+    %3 = bitcast %byte %_temp.6 to %ubyte
+    ret %ubyte %3
+}
+
+declare %byte @shadow.standard..byte_Madd_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_Madd_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = add %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_Madd_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = add %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_Madd_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = add %long %3, %1
+    ret %long %4
+}
+
+define %float @shadow.standard..byte_Madd_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = fadd %float %3, %1
+    ret %float %4
+}
+
+define %double @shadow.standard..byte_Madd_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = fadd %double %3, %1
+    ret %double %4
+}
+
+declare %byte @shadow.standard..byte_MbitAnd_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_MbitAnd_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = and %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_MbitAnd_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = and %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_MbitAnd_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = and %long %3, %1
+    ret %long %4
+}
+
+declare %byte @shadow.standard..byte_MbitComplement(%byte)
+
+declare %byte @shadow.standard..byte_MbitOr_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_MbitOr_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = or %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_MbitOr_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = or %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_MbitOr_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = or %long %3, %1
+    ret %long %4
+}
+
+declare %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte, %uint)
+
+define %byte @shadow.standard..byte_MbitRotateLeft_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sge %int %1, 0
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    %_temp.4 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label2:
+    %_temp.5 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label3:
+    %_temp.10 = phi %byte [ %_temp.5, %_label2 ],[ %_temp.4, %_label1 ]
+    ret %byte %_temp.10
+}
+
+declare %byte @shadow.standard..byte_MbitRotateRight_uint(%byte, %uint)
+
+define %byte @shadow.standard..byte_MbitRotateRight_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sge %int %1, 0
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    %_temp.4 = call %byte @shadow.standard..byte_MbitRotateRight_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label2:
+    %_temp.5 = call %byte @shadow.standard..byte_MbitRotateLeft_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label3:
+    %_temp.10 = phi %byte [ %_temp.4, %_label1 ],[ %_temp.5, %_label2 ]
+    ret %byte %_temp.10
+}
+
+declare %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte, %uint)
+
+define %byte @shadow.standard..byte_MbitShiftLeft_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sge %int %1, 0
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    %_temp.4 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label2:
+    %_temp.5 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label3:
+    %_temp.10 = phi %byte [ %_temp.4, %_label1 ],[ %_temp.5, %_label2 ]
+    ret %byte %_temp.10
+}
+
+declare %byte @shadow.standard..byte_MbitShiftRight_uint(%byte, %uint)
+
+define %byte @shadow.standard..byte_MbitShiftRight_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %abs.3 = call %uint @shadow.standard..int_Mabs(%int %1)
+    %3 = icmp sge %int %1, 0
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    %_temp.4 = call %byte @shadow.standard..byte_MbitShiftRight_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label2:
+    %_temp.5 = call %byte @shadow.standard..byte_MbitShiftLeft_uint(%byte %0, %uint %abs.3)
+    br label %_label3
+_label3:
+    %_temp.10 = phi %byte [ %_temp.5, %_label2 ],[ %_temp.4, %_label1 ]
+    ret %byte %_temp.10
+}
+
+declare %byte @shadow.standard..byte_MbitXor_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_MbitXor_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = xor %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_MbitXor_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = xor %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_MbitXor_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = xor %long %3, %1
+    ret %long %4
+}
+
+declare %int @shadow.standard..byte_Mcompare_byte(%byte, %byte)
+
+define %int @shadow.standard..byte_Mcompare_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = call %int @shadow.standard..short_Mcompare_short(%short %3, %short %1)
+    ret %int %4
+}
+
+define %int @shadow.standard..byte_Mcompare_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = call %int @shadow.standard..int_Mcompare_int(%int %3, %int %1)
+    ret %int %4
+}
+
+define %int @shadow.standard..byte_Mcompare_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = call %int @shadow.standard..long_Mcompare_long(%long %3, %long %1)
+    ret %int %4
+}
+
+define %int @shadow.standard..byte_Mcompare_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = call %int @shadow.standard..float_Mcompare_float(%float %3, %float %1)
+    ret %int %4
+}
+
+define %int @shadow.standard..byte_Mcompare_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = call %int @shadow.standard..double_Mcompare_double(%double %3, %double %1)
+    ret %int %4
+}
+
+define private %shadow.standard..Object* @shadow.standard..byte_Mcopy_shadow.standard..AddressMap_W_shadow.standard..Object(%shadow.standard..Object*, %shadow.standard..AddressMap*) unnamed_addr {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..byte*
+    %5 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %4, i32 0, i32 2
+    %6 = load %byte, %byte* %5
+    %7 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %8 = call %byte @shadow.standard..byte_Mcopy_shadow.standard..AddressMap(%byte %6, %shadow.standard..AddressMap* %7)
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..byte_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..byte* getelementptr (%shadow.standard..byte, %shadow.standard..byte* null, i32 1) to i32))
+    %10 = bitcast %shadow.standard..Object* %9 to %shadow.standard..byte*
+    %11 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %10, i32 0, i32 2
+    store %byte %8, %byte* %11
+    %12 = bitcast %shadow.standard..byte* %10 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %12
+}
+
+define %byte @shadow.standard..byte_Mcopy_shadow.standard..AddressMap(%byte, %shadow.standard..AddressMap*) {
+    br label %_label0
+_label0:
+    ret %byte %0
+}
+
+define %double @shadow.standard..byte_Mcos(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_Mcos(%double %2)
+    ret %double %3
+}
+
+declare %byte @shadow.standard..byte_Mdivide_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_Mdivide_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = sdiv %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_Mdivide_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = sdiv %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_Mdivide_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = sdiv %long %3, %1
+    ret %long %4
+}
+
+define %float @shadow.standard..byte_Mdivide_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = fdiv %float %3, %1
+    ret %float %4
+}
+
+define %double @shadow.standard..byte_Mdivide_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = fdiv %double %3, %1
+    ret %double %4
+}
+
+declare %boolean @shadow.standard..byte_Mequal_byte(%byte, %byte)
+
+define %boolean @shadow.standard..byte_Mequal_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = icmp eq %short %3, %1
+    ret %boolean %4
+}
+
+define %boolean @shadow.standard..byte_Mequal_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = icmp eq %int %3, %1
+    ret %boolean %4
+}
+
+define %boolean @shadow.standard..byte_Mequal_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = icmp eq %long %3, %1
+    ret %boolean %4
+}
+
+define %boolean @shadow.standard..byte_Mequal_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = fcmp oeq %float %3, %1
+    ret %boolean %4
+}
+
+define %boolean @shadow.standard..byte_Mequal_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = fcmp oeq %double %3, %1
+    ret %boolean %4
+}
+
+define %uint @shadow.standard..byte_Mhash(%byte) {
+    br label %_label0
+_label0:
+    %2 = zext %byte %0 to %uint
+    ret %uint %2
+}
+
+declare %short @shadow.standard..byte_MleadingZeroes(%byte)
+
+define %double @shadow.standard..byte_MlogBase10(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_MlogBase10(%double %2)
+    ret %double %3
+}
+
+define %double @shadow.standard..byte_MlogBase2(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_MlogBase2(%double %2)
+    ret %double %3
+}
+
+define %double @shadow.standard..byte_MlogBaseE(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_MlogBaseE(%double %2)
+    ret %double %3
+}
+
+define %byte @shadow.standard..byte_Mmax_byte(%byte, %byte) {
+    br label %_label0
+_label0:
+    %3 = icmp sgt %byte %0, %1
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    br label %_label3
+_label2:
+    br label %_label3
+_label3:
+    %_temp.7 = phi %byte [ %1, %_label2 ],[ %0, %_label1 ]
+    ret %byte %_temp.7
+}
+
+define %byte @shadow.standard..byte_Mmin_byte(%byte, %byte) {
+    br label %_label0
+_label0:
+    %3 = icmp slt %byte %0, %1
+    br %boolean %3, label %_label1, label %_label2
+_label1:
+    br label %_label3
+_label2:
+    br label %_label3
+_label3:
+    %_temp.7 = phi %byte [ %1, %_label2 ],[ %0, %_label1 ]
+    ret %byte %_temp.7
+}
+
+declare %byte @shadow.standard..byte_Mmodulus_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_Mmodulus_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = srem %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_Mmodulus_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = srem %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_Mmodulus_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = srem %long %3, %1
+    ret %long %4
+}
+
+define %float @shadow.standard..byte_Mmodulus_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = frem %float %3, %1
+    ret %float %4
+}
+
+define %double @shadow.standard..byte_Mmodulus_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = frem %double %3, %1
+    ret %double %4
+}
+
+declare %byte @shadow.standard..byte_Mmultiply_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_Mmultiply_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = mul %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_Mmultiply_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = mul %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_Mmultiply_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = mul %long %3, %1
+    ret %long %4
+}
+
+define %float @shadow.standard..byte_Mmultiply_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = fmul %float %3, %1
+    ret %float %4
+}
+
+define %double @shadow.standard..byte_Mmultiply_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = fmul %double %3, %1
+    ret %double %4
+}
+
+declare %byte @shadow.standard..byte_Mnegate(%byte)
+
+declare %short @shadow.standard..byte_Mones(%byte)
+
+define %double @shadow.standard..byte_Mpower_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %4 = call %double @shadow.standard..double_Mpower_int(%double %3, %int %1)
+    ret %double %4
+}
+
+define %double @shadow.standard..byte_Mpower_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %4 = call %double @shadow.standard..double_Mpower_double(%double %3, %double %1)
+    ret %double %4
+}
+
+define %double @shadow.standard..byte_Msin(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_Msin(%double %2)
+    ret %double %3
+}
+
+define %double @shadow.standard..byte_MsquareRoot(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %double @shadow.standard..byte_MtoDouble(%byte %0)
+    %3 = call %double @shadow.standard..double_MsquareRoot(%double %2)
+    ret %double %3
+}
+
+declare %byte @shadow.standard..byte_Msubtract_byte(%byte, %byte)
+
+define %short @shadow.standard..byte_Msubtract_short(%byte, %short) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %short
+    %4 = sub %short %3, %1
+    ret %short %4
+}
+
+define %int @shadow.standard..byte_Msubtract_int(%byte, %int) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %int
+    %4 = sub %int %3, %1
+    ret %int %4
+}
+
+define %long @shadow.standard..byte_Msubtract_long(%byte, %long) {
+    br label %_label0
+_label0:
+    %3 = sext %byte %0 to %long
+    %4 = sub %long %3, %1
+    ret %long %4
+}
+
+define %float @shadow.standard..byte_Msubtract_float(%byte, %float) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %float
+    %4 = fsub %float %3, %1
+    ret %float %4
+}
+
+define %double @shadow.standard..byte_Msubtract_double(%byte, %double) {
+    br label %_label0
+_label0:
+    %3 = sitofp %byte %0 to %double
+    %4 = fsub %double %3, %1
+    ret %double %4
+}
+
+declare %byte @shadow.standard..byte_MtoByte(%byte)
+
+declare %code @shadow.standard..byte_MtoCode(%byte)
+
+declare %double @shadow.standard..byte_MtoDouble(%byte)
+
+declare %float @shadow.standard..byte_MtoFloat(%byte)
+
+declare %int @shadow.standard..byte_MtoInt(%byte)
+
+declare %long @shadow.standard..byte_MtoLong(%byte)
+
+declare %short @shadow.standard..byte_MtoShort(%byte)
+
+define private %shadow.standard..String* @shadow.standard..byte_MtoString_W_shadow.standard..Object(%shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..byte*
+    %4 = getelementptr inbounds %shadow.standard..byte, %shadow.standard..byte* %3, i32 0, i32 2
+    %5 = load %byte, %byte* %4
+    %6 = call %shadow.standard..String* @shadow.standard..byte_MtoString(%byte %5)
+    ret %shadow.standard..String* %6
+}
+
+define %shadow.standard..String* @shadow.standard..byte_MtoString(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %shadow.standard..String* @shadow.standard..byte_MtoString_uint(%byte %0, %uint 10)
+    ret %shadow.standard..String* %2
+}
+
+define %shadow.standard..String* @shadow.standard..byte_MtoString_uint(%byte, %uint) {
+    br label %_label0
+_label0:
+    %3 = call %int @shadow.standard..byte_MtoInt(%byte %0)
+    %4 = call %shadow.standard..String* @shadow.standard..int_MtoString_uint(%int %3, %uint %1)
+    ret %shadow.standard..String* %4
+}
+
+declare %ubyte @shadow.standard..byte_MtoUByte(%byte)
+
+declare %uint @shadow.standard..byte_MtoUInt(%byte)
+
+declare %ulong @shadow.standard..byte_MtoULong(%byte)
+
+declare %ushort @shadow.standard..byte_MtoUShort(%byte)
+
+define %ubyte @shadow.standard..byte_MtoUnsigned(%byte) {
+    br label %_label0
+_label0:
+    %2 = call %ubyte @shadow.standard..byte_MtoUByte(%byte %0)
+    ret %ubyte %2
+}
+
+declare %short @shadow.standard..byte_MtrailingZeroes(%byte)
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %double @shadow.standard..double_MsquareRoot(%double)
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %int @shadow.standard..short_Mcompare_short(%short, %short)
+declare %double @shadow.standard..double_Msin(%double)
+declare %uint @shadow.standard..int_Mabs(%int)
+declare %double @shadow.standard..double_MlogBase10(%double)
+declare %double @shadow.standard..double_Mpower_int(%double, %int)
+declare %double @shadow.standard..double_MlogBase2(%double)
+declare %double @shadow.standard..double_Mcos(%double)
+declare %int @shadow.standard..long_Mcompare_long(%long, %long)
+declare %double @shadow.standard..double_MlogBaseE(%double)
+declare %int @shadow.standard..float_Mcompare_float(%float, %float)
+declare %shadow.standard..String* @shadow.standard..int_MtoString_uint(%int, %uint)
+declare %double @shadow.standard..double_Mpower_double(%double, %double)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+declare %int @shadow.standard..int_Mcompare_int(%int, %int)
+declare %int @shadow.standard..double_Mcompare_double(%double, %double)
+
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array2 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array3 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array4 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array5 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<ushort>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array6 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array7 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array8 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array9 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array10 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ubyte>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array11 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<ushort>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array12 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array13 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<ushort>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array14 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array15 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array16 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array17 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ubyte>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array18 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array19 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array20 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array21 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array22 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array23 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<uint>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array24 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array25 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array26 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array27 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<uint>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array28 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array29 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ubyte>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array30 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<ushort>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array31 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array32 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array33 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array34 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array35 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array36 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array37 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<uint>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array38 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array39 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array40 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array41 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<uint>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array42 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array43 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array44 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array45 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array46 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array47 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<ushort>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array48 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array49 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array50 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array51 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ubyte>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array52 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array53 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<uint>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array54 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array55 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array56 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array57 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array58 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array59 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ubyte>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array60 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array61 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<ushort>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array62 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array63 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array64 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array65 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array66 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array67 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array68 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<uint>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array69 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array70 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array71 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array72 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array73 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array74 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@Integer<ushort>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array75 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array76 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array77 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array78 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<uint>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array79 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array80 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array81 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array82 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array83 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array84 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array85 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ubyte>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array86 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array87 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array88 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array89 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array90 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array91 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<uint>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array92 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array93 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array94 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<uint>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array95 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array96 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array97 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array98 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array99 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<ushort>"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array100 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array101 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string101 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array101, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array102 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string102 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array102, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array103 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string103 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array103, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array104 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string104 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array104, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array105 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ubyte>"
+@_string105 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array105, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array106 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string106 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array106, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array107 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ubyte>"
+@_string107 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array107, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array108 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string108 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array108, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array109 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string109 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array109, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array110 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string110 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array110, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array111 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string111 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array111, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array112 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string112 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array112, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array113 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string113 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array113, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array114 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string114 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array114, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array115 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ubyte>"
+@_string115 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array115, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array116 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string116 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array116, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array117 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string117 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array117, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array118 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string118 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array118, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array119 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string119 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array119, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array120 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string120 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array120, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array121 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<ushort>"
+@_string121 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array121, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array122 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string122 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array122, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array123 = private unnamed_addr constant [4 x %ubyte] c"byte"
+@_string123 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([4 x %byte], [4 x %byte]* @_array123, i32 0, i32 0), [1 x %int] [%int 4] }, %boolean true }
@@ -0,0 +1,2237 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+%shadow.standard..uint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %int (%uint, %uint)*, %int (%uint, %ulong)*, %int (%uint, %long)*, %int (%uint, %float)*, %int (%uint, %double)*, %uint (%uint, %shadow.standard..AddressMap*)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %boolean (%uint, %uint)*, %boolean (%uint, %ulong)*, %boolean (%uint, %long)*, %boolean (%uint, %float)*, %boolean (%uint, %double)*, %uint (%uint)*, %uint (%uint)*, %uint (%uint)*, %double (%uint)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint)*, %double (%uint, %int)*, %double (%uint, %double)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %byte (%uint)*, %code (%uint)*, %double (%uint)*, %float (%uint)*, %int (%uint)*, %long (%uint)*, %short (%uint)*, %int (%uint)*, %shadow.standard..String* (%uint)*, %shadow.standard..String* (%uint, %uint)*, %ubyte (%uint)*, %uint (%uint)*, %ulong (%uint)*, %ushort (%uint)*, %uint (%uint)* }
+%shadow.standard..uint = type { %shadow.standard..Class*, %shadow.standard..uint_methods* , %uint }
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+@shadow.standard..uint_methods = external constant %shadow.standard..uint_methods
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_shadow.standard..Object_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Object_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..Object_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..AddressMap_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap_methods = external constant %shadow.standard..AddressMap_methods
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..Number_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_interfacesshadow.standard..Array_L_shadow.standard..Class_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..ClassSet_class = external constant %shadow.standard..Class
+@shadow.standard..ClassSet_methods = external constant %shadow.standard..ClassSet_methods
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+@_parametersshadow.standard..CanCompare_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+%shadow.standard..ushort_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %uint)*, %ushort (%ushort, %int)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %int (%ushort, %ushort)*, %int (%ushort, %uint)*, %int (%ushort, %int)*, %int (%ushort, %ulong)*, %int (%ushort, %long)*, %int (%ushort, %float)*, %int (%ushort, %double)*, %ushort (%ushort, %shadow.standard..AddressMap*)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %boolean (%ushort, %ushort)*, %boolean (%ushort, %uint)*, %boolean (%ushort, %int)*, %boolean (%ushort, %ulong)*, %boolean (%ushort, %long)*, %boolean (%ushort, %float)*, %boolean (%ushort, %double)*, %ushort (%ushort)*, %uint (%ushort)*, %ushort (%ushort)*, %double (%ushort)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %ushort (%ushort)*, %double (%ushort, %int)*, %double (%ushort, %double)*, %double (%ushort)*, %double (%ushort)*, %ushort (%ushort, %ushort)*, %uint (%ushort, %uint)*, %int (%ushort, %int)*, %ulong (%ushort, %ulong)*, %long (%ushort, %long)*, %float (%ushort, %float)*, %double (%ushort, %double)*, { %ushort, %boolean } (%ushort, %ushort)*, %byte (%ushort)*, %code (%ushort)*, %double (%ushort)*, %float (%ushort)*, %int (%ushort)*, %long (%ushort)*, %short (%ushort)*, %short (%ushort)*, %shadow.standard..String* (%ushort)*, %shadow.standard..String* (%ushort, %uint)*, %ubyte (%ushort)*, %uint (%ushort)*, %ulong (%ushort)*, %ushort (%ushort)*, %ushort (%ushort)* }
+%shadow.standard..ushort = type { %shadow.standard..Class*, %shadow.standard..ushort_methods* , %ushort }
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+@shadow.standard..ushort_methods = external constant %shadow.standard..ushort_methods
+@_parametersshadow.standard..Number_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString_methods = type { %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %int (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %int)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int)*, %boolean (%shadow.standard..MutableString*, %shadow.standard..MutableString*)*, %uint (%shadow.standard..MutableString*)*, %byte (%shadow.standard..MutableString*, %int)*, void (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %int, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %byte)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*, %shadow.standard..Object*)*, %shadow.standard..MutableString* (%shadow.standard..MutableString*)*, %int (%shadow.standard..MutableString*)*, %shadow.standard..String* (%shadow.standard..MutableString*, %int, %int)* }
+%shadow.standard..MutableString = type { %shadow.standard..Class*, %shadow.standard..MutableString_methods* , { %byte*, [1 x %int] }, %int }
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+@shadow.standard..MutableString_methods = external constant %shadow.standard..MutableString_methods
+@_parametersshadow.standard..CanCompare_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..ubyte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %uint)*, %ubyte (%ubyte, %int)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %int (%ubyte, %ubyte)*, %int (%ubyte, %ushort)*, %int (%ubyte, %short)*, %int (%ubyte, %uint)*, %int (%ubyte, %int)*, %int (%ubyte, %ulong)*, %int (%ubyte, %long)*, %int (%ubyte, %float)*, %int (%ubyte, %double)*, %ubyte (%ubyte, %shadow.standard..AddressMap*)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %boolean (%ubyte, %ubyte)*, %boolean (%ubyte, %ushort)*, %boolean (%ubyte, %short)*, %boolean (%ubyte, %uint)*, %boolean (%ubyte, %int)*, %boolean (%ubyte, %ulong)*, %boolean (%ubyte, %long)*, %boolean (%ubyte, %float)*, %boolean (%ubyte, %double)*, %uint (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %double (%ubyte, %int)*, %double (%ubyte, %double)*, %double (%ubyte)*, %double (%ubyte)*, %ubyte (%ubyte, %ubyte)*, %ushort (%ubyte, %ushort)*, %short (%ubyte, %short)*, %uint (%ubyte, %uint)*, %int (%ubyte, %int)*, %ulong (%ubyte, %ulong)*, %long (%ubyte, %long)*, %float (%ubyte, %float)*, %double (%ubyte, %double)*, %byte (%ubyte)*, %code (%ubyte)*, %double (%ubyte)*, %float (%ubyte)*, %int (%ubyte)*, %long (%ubyte)*, %short (%ubyte)*, %byte (%ubyte)*, %shadow.standard..String* (%ubyte)*, %shadow.standard..String* (%ubyte, %uint)*, %ubyte (%ubyte)*, %uint (%ubyte)*, %ulong (%ubyte)*, %ushort (%ubyte)* }
+%shadow.standard..ubyte = type { %shadow.standard..Class*, %shadow.standard..ubyte_methods* , %ubyte }
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+@shadow.standard..ubyte_methods = external constant %shadow.standard..ubyte_methods
+@_parametersshadow.standard..Integer_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanModulus_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@shadow.standard..byte_class = external constant %shadow.standard..Class
+@shadow.standard..byte_methods = external constant %shadow.standard..byte_methods
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Object_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ubyte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ubyte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ubyte_methods* @shadow.standard..ubyte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..MutableString_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_ushort_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ushort_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ushort_methods* @shadow.standard..ushort_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.Node = type opaque
+@shadow.standard..AddressMap.Node_class = external constant %shadow.standard..Class
+%shadow.standard..ClassSet.Node = type opaque
+@shadow.standard..ClassSet.Node_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -356994277
+@shadow.standard..CanMultiply_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1658940361
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.standard..CanCompare_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -633909833
+@shadow.standard..CanModulus_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1006233049
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanSubtract_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 501341025
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..Number_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -957619924
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -450236901
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..Array_L_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1660001233
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..CanIndexStore_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1215355697
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..Number_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 116531371
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..CanCompare_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1481796433
+@shadow.standard..Array_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 282446005
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..CanAdd_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1818559871
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..CanMultiply_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -464928704
+@shadow.standard..CanAdd_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 984379952
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..CanMultiply_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 430741970
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanCompare_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 633898395
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..Number_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -992151523
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanEqual_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1408808133
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..Integer_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1887298000
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanSubtract_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1709766037
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanCompare_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 639835931
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..CanEqual_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1625286646
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..Integer_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1964651914
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanDivide_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 369394583
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1561686997
+@shadow.standard..Integer_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1344119110
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanSubtract_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1237327183
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string100, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanModulus_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string101, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2056213396
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string102, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string103, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string104, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string105, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanDivide_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string106, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -971516742
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string107, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string108, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string109, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..CanIterate_L_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string110, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -191803297
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string111, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string112, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanDivide_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string113, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -654431746
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string114, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanAdd_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string115, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -892201342
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string116, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string117, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string118, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string119, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string120, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string121, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string122, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanModulus_L_ubyte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string123, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ubyte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 876595980
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string124, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string125, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanEqual_L_shadow.standard..MutableString_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string126, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..MutableString_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2085673093
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string127, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string128, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string129, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+@shadow.standard..CanEqual_L_ushort_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string130, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ushort_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2048548118
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string131, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1437515273
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string132, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; shadow:standard@Class
+
+; 0: class (Class)
+; 1: _methods
+; 2: name (shadow:standard@String)
+; 3: parent (shadow:standard@Class)
+; 4: data (shadow:standard@Object[])
+; 5: display (shadow:standard@Class[])
+; 6: interfaces (shadow:standard@Class[])
+; 7: layout (int[])
+; 8: flags (int)
+; 9: size (int)
+
+@shadow.standard..Class_CINTERFACE = constant %int 1
+@shadow.standard..Class_CPRIMITIVE = constant %int 2
+@shadow.standard..Class_CGENERIC = constant %int 4
+@shadow.standard..Class_CARRAY = constant %int 8
+@shadow.standard..Class_CSINGLETON = constant %int 16
+@shadow.standard..Class_CMETHOD = constant %int 32
+@_class0 = private unnamed_addr constant { %uint (%shadow.standard..Class*)* } { %uint (%shadow.standard..Class*)* @shadow.standard..Class_Mhash }
+@_interfaceDatashadow.standard..Class = unnamed_addr constant [1 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %uint (%shadow.standard..Class*)* }* @_class0 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Class = private unnamed_addr constant [1 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..CanHash_class]
+@_displayshadow.standard..Class = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..Class_class]
+@_layoutshadow.standard..Class = unnamed_addr constant [6 x %int] [%int ptrtoint (%shadow.standard..String** getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 2) to %int), %int ptrtoint (%shadow.standard..Class** getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 3) to %int), %int ptrtoint ({ %shadow.standard..Object**, [1 x %int] }* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 4) to %int), %int ptrtoint ({ %shadow.standard..Class**, [1 x %int] }* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 5) to %int), %int ptrtoint ({ %shadow.standard..Class**, [1 x %int] }* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 6) to %int), %int ptrtoint ({ %int*, [1 x %int] }* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 0, i32 7) to %int)]
+@shadow.standard..Class_methods = constant %shadow.standard..Class_methods { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)* @shadow.standard..Class_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Class*)* @shadow.standard..Class_MtoString, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)* @shadow.standard..Class_Mdata, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)* @shadow.standard..Class_Mequal_shadow.standard..Class, %int (%shadow.standard..Class*)* @shadow.standard..Class_Mflags, %uint (%shadow.standard..Class*)* @shadow.standard..Class_Mhash, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)* @shadow.standard..Class_MinterfaceData_shadow.standard..Class, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)* @shadow.standard..Class_Minterfaces, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisArray, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisGeneric, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisInterface, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisMethod, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisPrimitive, %boolean (%shadow.standard..Class*)* @shadow.standard..Class_MisSingleton, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)* @shadow.standard..Class_MisSubtype_shadow.standard..Class, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int, %shadow.standard..String* (%shadow.standard..Class*)* @shadow.standard..Class_Mname, %shadow.standard..Class* (%shadow.standard..Class*)* @shadow.standard..Class_Mparent, %int (%shadow.standard..Class*)* @shadow.standard..Class_MpointerSize, %int (%shadow.standard..Class*)* @shadow.standard..Class_Msize, %int (%shadow.standard..Class*)* @shadow.standard..Class_Mwidth }
+@shadow.standard..Class_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string133, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([1 x %shadow.standard..Object*], [1 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Class, i32 0, i32 0), [1 x %int] [%int 1] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..Class, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([1 x %shadow.standard..Class*], [1 x %shadow.standard..Class*]* @_interfacesshadow.standard..Class, i32 0, i32 0), [1 x %int] [%int 1] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([6 x %int], [6 x %int]* @_layoutshadow.standard..Class, i32 0, i32 0), [1 x %int] [%int 6] }, %int 0, %int ptrtoint (%shadow.standard..Class* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 1) to i32) }
+
+declare %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+
+declare { %shadow.standard..Class**, [1 x %int] } @shadow.standard..Class_MmakeDisplay_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*)
+
+define %shadow.standard..Class* @shadow.standard..Class_Mcreate_shadow.standard..String_int_int_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* returned, %shadow.standard..String*, %int, %int, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }) {
+    %parent = alloca %shadow.standard..Class*
+    %interfaces = alloca { %shadow.standard..Class**, [1 x %int] }
+    %methodType = alloca %shadow.standard..MutableString*
+    %data = alloca { %shadow.standard..Object**, [1 x %int] }
+    %this = alloca %shadow.standard..Class*
+    %name = alloca %shadow.standard..String*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..Class*
+    store %shadow.standard..Class* %this.0, %shadow.standard..Class** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %name
+    store %shadow.standard..Class* %4, %shadow.standard..Class** %parent
+    store { %shadow.standard..Class**, [1 x %int] } %5, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    store { %shadow.standard..Object**, [1 x %int] } %6, { %shadow.standard..Object**, [1 x %int] }* %data
+    %8 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %9 = bitcast %shadow.standard..Class* %8 to %shadow.standard..Object*
+    %10 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %9)
+    %11 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %12 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %14 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %15 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %16 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %18 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %19 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %20 = load %shadow.standard..Class*, %shadow.standard..Class** %parent
+    %21 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %19, i32 0, i32 3
+    store %shadow.standard..Class* %20, %shadow.standard..Class** %21
+    %22 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %23 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %22, i32 0, i32 8
+    store %int %2, %int* %23
+    %24 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %25 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %24, i32 0, i32 9
+    store %int %3, %int* %25
+    %26 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %27 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %28 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %26, i32 0, i32 6
+    store { %shadow.standard..Class**, [1 x %int] } %27, { %shadow.standard..Class**, [1 x %int] }* %28
+    %29 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %30 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %data
+    %31 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %29, i32 0, i32 4
+    store { %shadow.standard..Object**, [1 x %int] } %30, { %shadow.standard..Object**, [1 x %int] }* %31
+    %32 = and %int %2, 41
+    %33 = icmp eq %int %32, 0
+    br %boolean %33, label %_label1, label %_label2
+_label1:
+    %34 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %35 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %36 = load %shadow.standard..Class*, %shadow.standard..Class** %parent
+    %37 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..Class_MmakeDisplay_shadow.standard..Class(%shadow.standard..Class* %35, %shadow.standard..Class* %36)
+    %38 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %34, i32 0, i32 5
+    store { %shadow.standard..Class**, [1 x %int] } %37, { %shadow.standard..Class**, [1 x %int] }* %38
+    br label %_label3
+_label2:
+    %39 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %40 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %41 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %42 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..Class_MmakeDisplay_shadow.standard..Class(%shadow.standard..Class* %40, %shadow.standard..Class* %41)
+    %43 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %39, i32 0, i32 5
+    store { %shadow.standard..Class**, [1 x %int] } %42, { %shadow.standard..Class**, [1 x %int] }* %43
+    br label %_label3
+_label3:
+    %44 = and %int %2, 32
+    %45 = icmp eq %int %44, 0
+    %46 = xor %boolean -1, %45
+    br %boolean %46, label %_label22, label %_label23
+_label22:
+    %47 = bitcast %shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object_methods*
+    %48 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..MutableString_class, %shadow.standard..Object_methods* %47, %int ptrtoint (%shadow.standard..MutableString* getelementptr (%shadow.standard..MutableString, %shadow.standard..MutableString* null, i32 1) to i32))
+    %49 = bitcast %shadow.standard..String* @_string134 to %shadow.standard..Object*
+    %methodType.8 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate_shadow.standard..Object(%shadow.standard..Object* %48, %shadow.standard..Object* %49)
+    store %shadow.standard..MutableString* %methodType.8, %shadow.standard..MutableString** %methodType
+    br label %_label12
+_label11:
+    %50 = icmp sgt %int %i.20, 0
+    br %boolean %50, label %_label6, label %_label7
+_label6:
+    %51 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %52 = bitcast %shadow.standard..String* @_string135 to %shadow.standard..Object*
+    %53 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %51, %shadow.standard..Object* %52)
+    br label %_label7
+_label7:
+    %54 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %55 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %data
+    %56 = bitcast %int %i.20 to %uint
+    %57 = extractvalue { %shadow.standard..Object**, [1 x %int] } %55, 1, 0
+    %58 = bitcast %int %57 to %uint
+    %59 = icmp ult %uint %56, %58
+    br %boolean %59, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %60 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %61 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %60, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %62 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %61, %int %i.20)
+    %63 = bitcast %shadow.standard..IndexOutOfBoundsException* %62 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %63) noreturn
+    unreachable
+_label10:
+    %64 = extractvalue { %shadow.standard..Object**, [1 x %int] } %55, 0
+    %65 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %64, %int %i.20
+    %66 = load %shadow.standard..Object*, %shadow.standard..Object** %65
+    %67 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %66, i32 0, i32 1
+    %68 = load %shadow.standard..Object_methods*, %shadow.standard..Object_methods** %67
+    %69 = getelementptr inbounds %shadow.standard..Object_methods, %shadow.standard..Object_methods* %68, i32 0, i32 2
+    %70 = load %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)** %69
+    %71 = call %shadow.standard..String* %70(%shadow.standard..Object* %66)
+    %72 = bitcast %shadow.standard..String* %71 to %shadow.standard..Object*
+    %73 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %54, %shadow.standard..Object* %72)
+    br label %_label5
+_label5:
+    %i.10 = add %int %i.20, 1
+    br label %_label12
+_label12:
+    %size.44 = phi %int [ %3, %_label22 ],[ %size.44, %_label5 ]
+    %i.20 = phi %int [ 0, %_label22 ],[ %i.10, %_label5 ]
+    %74 = icmp slt %int %i.20, %size.44
+    br %boolean %74, label %_label11, label %_label4
+_label4:
+    %75 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %76 = bitcast %shadow.standard..String* @_string136 to %shadow.standard..Object*
+    %77 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %75, %shadow.standard..Object* %76)
+    br label %_label21
+_label20:
+    %78 = icmp sgt %int %i1.58, %size.60
+    br %boolean %78, label %_label15, label %_label16
+_label15:
+    %79 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %80 = bitcast %shadow.standard..String* @_string135 to %shadow.standard..Object*
+    %81 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %79, %shadow.standard..Object* %80)
+    br label %_label16
+_label16:
+    %82 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %83 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %data
+    %84 = bitcast %int %i1.58 to %uint
+    %85 = extractvalue { %shadow.standard..Object**, [1 x %int] } %83, 1, 0
+    %86 = bitcast %int %85 to %uint
+    %87 = icmp ult %uint %84, %86
+    br %boolean %87, label %_label18, label %_label17
+_label18:
+    br label %_label19
+_label17:
+    %88 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %89 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %88, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %90 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %89, %int %i1.58)
+    %91 = bitcast %shadow.standard..IndexOutOfBoundsException* %90 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %91) noreturn
+    unreachable
+_label19:
+    %92 = extractvalue { %shadow.standard..Object**, [1 x %int] } %83, 0
+    %93 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %92, %int %i1.58
+    %94 = load %shadow.standard..Object*, %shadow.standard..Object** %93
+    %95 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %94, i32 0, i32 1
+    %96 = load %shadow.standard..Object_methods*, %shadow.standard..Object_methods** %95
+    %97 = getelementptr inbounds %shadow.standard..Object_methods, %shadow.standard..Object_methods* %96, i32 0, i32 2
+    %98 = load %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)** %97
+    %99 = call %shadow.standard..String* %98(%shadow.standard..Object* %94)
+    %100 = bitcast %shadow.standard..String* %99 to %shadow.standard..Object*
+    %101 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %82, %shadow.standard..Object* %100)
+    br label %_label14
+_label14:
+    %i1.12 = add %int %i1.58, 1
+    br label %_label21
+_label21:
+    %size.60 = phi %int [ %size.60, %_label14 ],[ %size.44, %_label4 ]
+    %i1.58 = phi %int [ %i1.12, %_label14 ],[ %size.44, %_label4 ]
+    %102 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %data
+    %103 = extractvalue { %shadow.standard..Object**, [1 x %int] } %102, 1, 0
+    %104 = icmp slt %int %i1.58, %103
+    br %boolean %104, label %_label20, label %_label13
+_label13:
+    %105 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %106 = bitcast %shadow.standard..String* @_string137 to %shadow.standard..Object*
+    %107 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %105, %shadow.standard..Object* %106)
+    %108 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %109 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %methodType
+    %110 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %109)
+    %111 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %108, i32 0, i32 2
+    store %shadow.standard..String* %110, %shadow.standard..String** %111
+    br label %_label24
+_label23:
+    %112 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %113 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %114 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %112, i32 0, i32 2
+    store %shadow.standard..String* %113, %shadow.standard..String** %114
+    br label %_label24
+_label24:
+    %115 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %116 = bitcast %shadow.standard..Object* %0 to %shadow.standard..Class*
+    ret %shadow.standard..Class* %116
+}
+
+define %shadow.standard..Class* @shadow.standard..Class_Mcreate_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1(%shadow.standard..Object* returned, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }) {
+    %parent = alloca %shadow.standard..Class*
+    %interfaces = alloca { %shadow.standard..Class**, [1 x %int] }
+    %this = alloca %shadow.standard..Class*
+    %name = alloca %shadow.standard..String*
+    %raw = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..Class*
+    store %shadow.standard..Class* %this.0, %shadow.standard..Class** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %raw
+    store %shadow.standard..String* %2, %shadow.standard..String** %name
+    store %shadow.standard..Class* %3, %shadow.standard..Class** %parent
+    store { %shadow.standard..Class**, [1 x %int] } %4, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %6 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %7 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %8 = load %shadow.standard..Class*, %shadow.standard..Class** %raw
+    %9 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %8, i32 0, i32 8
+    %10 = load %int, %int* %9
+    %11 = or %int %10, 4
+    %12 = load %shadow.standard..Class*, %shadow.standard..Class** %raw
+    %13 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %12, i32 0, i32 9
+    %14 = load %int, %int* %13
+    %15 = load %shadow.standard..Class*, %shadow.standard..Class** %parent
+    %16 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %raw
+    %18 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %17, i32 0, i32 4
+    %19 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %18
+    %20 = bitcast %shadow.standard..Class* %6 to %shadow.standard..Object*
+    %21 = call %shadow.standard..Class* @shadow.standard..Class_Mcreate_shadow.standard..String_int_int_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* %20, %shadow.standard..String* %7, %int %11, %int %14, %shadow.standard..Class* %15, { %shadow.standard..Class**, [1 x %int] } %16, { %shadow.standard..Object**, [1 x %int] } %19)
+    %22 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %23 = load %shadow.standard..Class*, %shadow.standard..Class** %raw
+    %24 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %23, i32 0, i32 7
+    %25 = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %24
+    %26 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %22, i32 0, i32 7
+    store { %int*, [1 x %int] } %25, { %int*, [1 x %int] }* %26
+    %27 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %28 = bitcast %shadow.standard..Object* %0 to %shadow.standard..Class*
+    ret %shadow.standard..Class* %28
+}
+
+define %shadow.standard..Class* @shadow.standard..Class_Mcopy_shadow.standard..AddressMap(%shadow.standard..Class*, %shadow.standard..AddressMap*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %3 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    ret %shadow.standard..Class* %3
+}
+
+define { %shadow.standard..Object**, [1 x %int] } @shadow.standard..Class_Mdata(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 4
+    %4 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %3
+    ret { %shadow.standard..Object**, [1 x %int] } %4
+}
+
+define %boolean @shadow.standard..Class_Mequal_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*) {
+    %other = alloca %shadow.standard..Class*
+    %parameter = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Class*
+    %otherParameter = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %other
+    %3 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %5 = icmp eq %shadow.standard..Class* %3, %4
+    br %boolean %5, label %_label2, label %_label3
+_label2:
+    ret %boolean true
+_label3:
+    %6 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %7 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %6, i32 0, i32 8
+    %8 = load %int, %int* %7
+    %9 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %9, i32 0, i32 8
+    %11 = load %int, %int* %10
+    %12 = icmp eq %int %8, %11
+    %13 = xor %boolean -1, %12
+    br %boolean %13, label %_label5, label %_label6
+_label5:
+    ret %boolean false
+_label6:
+    %14 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %15 = call %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class* %14)
+    br %boolean %15, label %_label49, label %_label50
+_label49:
+    %16 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %_temp.3 = call %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class* %16)
+    br %boolean %_temp.3, label %_label12, label %_label11
+_label12:
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %18 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %17, i32 0, i32 9
+    %19 = load %int, %int* %18
+    %20 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %21 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %20, i32 0, i32 9
+    %22 = load %int, %int* %21
+    %_temp.4 = icmp eq %int %19, %22
+    br %boolean %_temp.4, label %_label13, label %_label11
+_label13:
+    %23 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %24 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %23, i32 0, i32 3
+    %25 = load %shadow.standard..Class*, %shadow.standard..Class** %24
+    %26 = icmp eq %shadow.standard..Class* %25, null
+    br %boolean %26, label %_label8, label %_label9
+_label9:
+    %27 = bitcast %shadow.standard..Class* %25 to %shadow.standard..Class*
+    %28 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %27, i32 0, i32 1
+    %29 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %28
+    %30 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %29, i32 0, i32 4
+    %31 = load %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)** %30
+    %32 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %33 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %32, i32 0, i32 3
+    %34 = load %shadow.standard..Class*, %shadow.standard..Class** %33
+    %35 = icmp eq %shadow.standard..Class* %34, null
+    br %boolean %35, label %_label8, label %_label10
+_label10:
+    %36 = bitcast %shadow.standard..Class* %34 to %shadow.standard..Class*
+    %_temp.5 = call %boolean %31(%shadow.standard..Class* %27, %shadow.standard..Class* %36)
+    br label %_label11
+_label11:
+    %_temp.28 = phi %boolean [ %_temp.4, %_label12 ],[ %_temp.5, %_label10 ],[ %_temp.3, %_label49 ]
+    ret %boolean %_temp.28
+_label50:
+    %37 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %38 = call %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class* %37)
+    br %boolean %38, label %_label47, label %_label48
+_label47:
+    %39 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %40 = call %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class* %39)
+    %_temp1.6 = xor %boolean -1, %40
+    br %boolean %_temp1.6, label %_label15, label %_label16
+_label16:
+    %41 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %42 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %41, i32 0, i32 9
+    %43 = load %int, %int* %42
+    %44 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %45 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %44, i32 0, i32 9
+    %46 = load %int, %int* %45
+    %47 = icmp eq %int %43, %46
+    %_temp1.7 = xor %boolean -1, %47
+    br %boolean %_temp1.7, label %_label15, label %_label17
+_label17:
+    %48 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %49 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %48, i32 0, i32 4
+    %50 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %49
+    %51 = extractvalue { %shadow.standard..Object**, [1 x %int] } %50, 1, 0
+    %52 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %53 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %52, i32 0, i32 4
+    %54 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %53
+    %55 = extractvalue { %shadow.standard..Object**, [1 x %int] } %54, 1, 0
+    %56 = icmp eq %int %51, %55
+    %_temp1.8 = xor %boolean -1, %56
+    br label %_label15
+_label15:
+    %_temp1.37 = phi %boolean [ %_temp1.8, %_label17 ],[ %_temp1.6, %_label47 ],[ %_temp1.7, %_label16 ]
+    br %boolean %_temp1.37, label %_label19, label %_label20
+_label19:
+    ret %boolean false
+_label20:
+    br label %_label45
+_label44:
+    %57 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %58 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %57, i32 0, i32 4
+    %59 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %58
+    %60 = bitcast %int %i.59 to %uint
+    %61 = extractvalue { %shadow.standard..Object**, [1 x %int] } %59, 1, 0
+    %62 = bitcast %int %61 to %uint
+    %63 = icmp ult %uint %60, %62
+    br %boolean %63, label %_label24, label %_label23
+_label24:
+    br label %_label25
+_label23:
+    %64 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %65 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %64, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %66 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %65, %int %i.59)
+    %67 = bitcast %shadow.standard..IndexOutOfBoundsException* %66 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %67) noreturn
+    unreachable
+_label25:
+    %68 = extractvalue { %shadow.standard..Object**, [1 x %int] } %59, 0
+    %69 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %68, %int %i.59
+    %70 = load %shadow.standard..Object*, %shadow.standard..Object** %69
+    %71 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %70)
+    %72 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %71, i32 0, i32 5
+    %73 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %72
+    %74 = extractvalue { %shadow.standard..Class**, [1 x %int] } %73, 1, 0
+    %75 = icmp slt %int 1, %74
+    br %boolean %75, label %_label26, label %_label28
+_label26:
+    %76 = extractvalue { %shadow.standard..Class**, [1 x %int] } %73, 0
+    %77 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %76, %int 1
+    %78 = load %shadow.standard..Class*, %shadow.standard..Class** %77
+    %79 = icmp eq %shadow.standard..Class* %78, @shadow.standard..Class_class
+    br %boolean %79, label %_label27, label %_label28
+_label27:
+    br label %_label29
+_label28:
+    %_temp2.12 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %71, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label29
+_label29:
+    %_temp2.60 = phi %boolean [ %_temp2.12, %_label28 ],[ true, %_label27 ]
+    br %boolean %_temp2.60, label %_label31, label %_label30
+_label30:
+    %80 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %81 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %80, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %82 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %81, %shadow.standard..Class* %71, %shadow.standard..Class* @shadow.standard..Class_class)
+    %83 = bitcast %shadow.standard..CastException* %82 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %83) noreturn
+    unreachable
+_label31:
+    %parameter.13 = bitcast %shadow.standard..Object* %70 to %shadow.standard..Class*
+    store %shadow.standard..Class* %parameter.13, %shadow.standard..Class** %parameter
+    %84 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %85 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %84, i32 0, i32 4
+    %86 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %85
+    %87 = bitcast %int %i.59 to %uint
+    %88 = extractvalue { %shadow.standard..Object**, [1 x %int] } %86, 1, 0
+    %89 = bitcast %int %88 to %uint
+    %90 = icmp ult %uint %87, %89
+    br %boolean %90, label %_label33, label %_label32
+_label33:
+    br label %_label34
+_label32:
+    %91 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %92 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %91, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %93 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %92, %int %i.59)
+    %94 = bitcast %shadow.standard..IndexOutOfBoundsException* %93 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %94) noreturn
+    unreachable
+_label34:
+    %95 = extractvalue { %shadow.standard..Object**, [1 x %int] } %86, 0
+    %96 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %95, %int %i.59
+    %97 = load %shadow.standard..Object*, %shadow.standard..Object** %96
+    %98 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %97)
+    %99 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %98, i32 0, i32 5
+    %100 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %99
+    %101 = extractvalue { %shadow.standard..Class**, [1 x %int] } %100, 1, 0
+    %102 = icmp slt %int 1, %101
+    br %boolean %102, label %_label35, label %_label37
+_label35:
+    %103 = extractvalue { %shadow.standard..Class**, [1 x %int] } %100, 0
+    %104 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %103, %int 1
+    %105 = load %shadow.standard..Class*, %shadow.standard..Class** %104
+    %106 = icmp eq %shadow.standard..Class* %105, @shadow.standard..Class_class
+    br %boolean %106, label %_label36, label %_label37
+_label36:
+    br label %_label38
+_label37:
+    %_temp3.15 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %98, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label38
+_label38:
+    %_temp3.88 = phi %boolean [ true, %_label36 ],[ %_temp3.15, %_label37 ]
+    br %boolean %_temp3.88, label %_label40, label %_label39
+_label39:
+    %107 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %108 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %107, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %109 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %108, %shadow.standard..Class* %98, %shadow.standard..Class* @shadow.standard..Class_class)
+    %110 = bitcast %shadow.standard..CastException* %109 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %110) noreturn
+    unreachable
+_label40:
+    %otherParameter.16 = bitcast %shadow.standard..Object* %97 to %shadow.standard..Class*
+    store %shadow.standard..Class* %otherParameter.16, %shadow.standard..Class** %otherParameter
+    %111 = load %shadow.standard..Class*, %shadow.standard..Class** %parameter
+    %112 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %111, i32 0, i32 1
+    %113 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %112
+    %114 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %113, i32 0, i32 4
+    %115 = load %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)** %114
+    %116 = load %shadow.standard..Class*, %shadow.standard..Class** %otherParameter
+    %117 = call %boolean %115(%shadow.standard..Class* %111, %shadow.standard..Class* %116)
+    %118 = xor %boolean -1, %117
+    br %boolean %118, label %_label42, label %_label43
+_label42:
+    ret %boolean false
+_label43:
+    br label %_label22
+_label22:
+    %i.10 = add %int %i.59, 1
+    br label %_label45
+_label45:
+    %i.59 = phi %int [ 0, %_label20 ],[ %i.10, %_label22 ]
+    %119 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %120 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %119, i32 0, i32 4
+    %121 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %120
+    %122 = extractvalue { %shadow.standard..Object**, [1 x %int] } %121, 1, 0
+    %123 = icmp slt %int %i.59, %122
+    br %boolean %123, label %_label44, label %_label21
+_label21:
+    ret %boolean true
+_label48:
+    br label %_label51
+_label51:
+    br label %_label7
+_label8:
+    br label %_label7
+_label7:
+    ret %boolean false
+}
+
+define %int @shadow.standard..Class_Mflags(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %uint @shadow.standard..Class_Mhash(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %2)
+    %4 = call %uint @shadow.standard..String_Mhash(%shadow.standard..String* %3)
+    ret %uint %4
+}
+
+define %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*) {
+    %interfaceClass = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %interfaceClass
+    br label %_label13
+_label12:
+    %3 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %4 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %3, i32 0, i32 6
+    %5 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %4
+    %6 = bitcast %int %i.12 to %uint
+    %7 = extractvalue { %shadow.standard..Class**, [1 x %int] } %5, 1, 0
+    %8 = bitcast %int %7 to %uint
+    %9 = icmp ult %uint %6, %8
+    br %boolean %9, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %10 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %11 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %10, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %12 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %11, %int %i.12)
+    %13 = bitcast %shadow.standard..IndexOutOfBoundsException* %12 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %13) noreturn
+    unreachable
+_label5:
+    %14 = extractvalue { %shadow.standard..Class**, [1 x %int] } %5, 0
+    %15 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %14, %int %i.12
+    %16 = load %shadow.standard..Class*, %shadow.standard..Class** %15
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %interfaceClass
+    %18 = icmp eq %shadow.standard..Class* %16, %17
+    br %boolean %18, label %_label10, label %_label11
+_label10:
+    %19 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %20 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %19, i32 0, i32 4
+    %21 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %20
+    %22 = bitcast %int %i.12 to %uint
+    %23 = extractvalue { %shadow.standard..Object**, [1 x %int] } %21, 1, 0
+    %24 = bitcast %int %23 to %uint
+    %25 = icmp ult %uint %22, %24
+    br %boolean %25, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %27 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %26, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %28 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %27, %int %i.12)
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException* %28 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %29) noreturn
+    unreachable
+_label8:
+    %30 = extractvalue { %shadow.standard..Object**, [1 x %int] } %21, 0
+    %31 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %30, %int %i.12
+    %32 = load %shadow.standard..Object*, %shadow.standard..Object** %31
+    ret %shadow.standard..Object* %32
+_label11:
+    br label %_label2
+_label2:
+    %i.4 = add %int %i.12, 1
+    br label %_label13
+_label13:
+    %i.12 = phi %int [ 0, %_label0 ],[ %i.4, %_label2 ]
+    %33 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %34 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %33, i32 0, i32 6
+    %35 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %34
+    %36 = extractvalue { %shadow.standard..Class**, [1 x %int] } %35, 1, 0
+    %37 = icmp slt %int %i.12, %36
+    br %boolean %37, label %_label12, label %_label1
+_label1:
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %39 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %38)
+    %40 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* @_string138, %shadow.standard..String* %39)
+    %41 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* %40, %shadow.standard..String* @_string139)
+    %42 = load %shadow.standard..Class*, %shadow.standard..Class** %interfaceClass
+    %43 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %42)
+    %44 = call %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String* %41, %shadow.standard..String* %43)
+    %45 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %46 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %45, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %47 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..String(%shadow.standard..Object* %46, %shadow.standard..String* %44)
+    %48 = bitcast %shadow.standard..CastException* %47 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %48) noreturn
+    unreachable
+}
+
+define %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int(%shadow.standard..Class*, %shadow.standard..Class*, %int) {
+    %interfaceClass = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %interfaceClass
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %5 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %4, i32 0, i32 6
+    %6 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %5
+    %size.4 = extractvalue { %shadow.standard..Class**, [1 x %int] } %6, 1, 0
+    %7 = icmp sgt %int %size.4, 0
+    br %boolean %7, label %_label10, label %_label11
+_label10:
+    %8 = sub %int %size.4, 1
+    %index.5 = and %int %2, %8
+    %9 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %9, i32 0, i32 6
+    %11 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %10
+    %12 = bitcast %int %index.5 to %uint
+    %13 = extractvalue { %shadow.standard..Class**, [1 x %int] } %11, 1, 0
+    %14 = bitcast %int %13 to %uint
+    %15 = icmp ult %uint %12, %14
+    br %boolean %15, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %16 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %17 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %16, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %18 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %17, %int %index.5)
+    %19 = bitcast %shadow.standard..IndexOutOfBoundsException* %18 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %19) noreturn
+    unreachable
+_label3:
+    %20 = extractvalue { %shadow.standard..Class**, [1 x %int] } %11, 0
+    %21 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %20, %int %index.5
+    %22 = load %shadow.standard..Class*, %shadow.standard..Class** %21
+    %23 = load %shadow.standard..Class*, %shadow.standard..Class** %interfaceClass
+    %24 = icmp eq %shadow.standard..Class* %22, %23
+    br %boolean %24, label %_label8, label %_label9
+_label8:
+    %25 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %26 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %25, i32 0, i32 4
+    %27 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %26
+    %28 = bitcast %int %index.5 to %uint
+    %29 = extractvalue { %shadow.standard..Object**, [1 x %int] } %27, 1, 0
+    %30 = bitcast %int %29 to %uint
+    %31 = icmp ult %uint %28, %30
+    br %boolean %31, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %32 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %33 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %32, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %34 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %33, %int %index.5)
+    %35 = bitcast %shadow.standard..IndexOutOfBoundsException* %34 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %35) noreturn
+    unreachable
+_label6:
+    %36 = extractvalue { %shadow.standard..Object**, [1 x %int] } %27, 0
+    %37 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %36, %int %index.5
+    %38 = load %shadow.standard..Object*, %shadow.standard..Object** %37
+    ret %shadow.standard..Object* %38
+_label9:
+    br label %_label11
+_label11:
+    %39 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %40 = load %shadow.standard..Class*, %shadow.standard..Class** %interfaceClass
+    %41 = call %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class(%shadow.standard..Class* %39, %shadow.standard..Class* %40)
+    ret %shadow.standard..Object* %41
+}
+
+define { %shadow.standard..Class**, [1 x %int] } @shadow.standard..Class_Minterfaces(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 6
+    %4 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %3
+    ret { %shadow.standard..Class**, [1 x %int] } %4
+}
+
+define %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 8
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisGeneric(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 4
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisInterface(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 1
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 32
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisPrimitive(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 2
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisSingleton(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = and %int %4, 16
+    %6 = icmp eq %int %5, 0
+    %7 = xor %boolean -1, %6
+    ret %boolean %7
+}
+
+define %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*) {
+    %other = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Class*
+    %otherParameter = alloca %shadow.standard..Class*
+    %otherReturn = alloca %shadow.standard..Class*
+    %return_ = alloca %shadow.standard..Class*
+    %parameter = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %other
+    %3 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %5 = icmp eq %shadow.standard..Class* %3, %4
+    br %boolean %5, label %_label2, label %_label3
+_label2:
+    ret %boolean true
+_label3:
+    %6 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %7 = call %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class* %6)
+    br %boolean %7, label %_label93, label %_label94
+_label93:
+    %8 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %9 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %8, i32 0, i32 1
+    %10 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %9
+    %11 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %10, i32 0, i32 4
+    %12 = load %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)** %11
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %14 = call %boolean %12(%shadow.standard..Class* %8, %shadow.standard..Class* %13)
+    ret %boolean %14
+_label94:
+    %15 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %16 = call %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class* %15)
+    br %boolean %16, label %_label90, label %_label91
+_label90:
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %18 = call %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class* %17)
+    %_temp.3 = xor %boolean -1, %18
+    br %boolean %_temp.3, label %_label7, label %_label8
+_label8:
+    %19 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %20 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %19, i32 0, i32 9
+    %21 = load %int, %int* %20
+    %22 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %23 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %22, i32 0, i32 9
+    %24 = load %int, %int* %23
+    %25 = icmp eq %int %21, %24
+    %_temp.4 = xor %boolean -1, %25
+    br %boolean %_temp.4, label %_label7, label %_label9
+_label9:
+    %26 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %27 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %26, i32 0, i32 4
+    %28 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %27
+    %29 = extractvalue { %shadow.standard..Object**, [1 x %int] } %28, 1, 0
+    %30 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %31 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %30, i32 0, i32 4
+    %32 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %31
+    %33 = extractvalue { %shadow.standard..Object**, [1 x %int] } %32, 1, 0
+    %34 = icmp eq %int %29, %33
+    %_temp.5 = xor %boolean -1, %34
+    br label %_label7
+_label7:
+    %_temp.40 = phi %boolean [ %_temp.4, %_label8 ],[ %_temp.5, %_label9 ],[ %_temp.3, %_label90 ]
+    br %boolean %_temp.40, label %_label11, label %_label12
+_label11:
+    ret %boolean false
+_label12:
+    br label %_label37
+_label36:
+    %35 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %36 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %35, i32 0, i32 4
+    %37 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %36
+    %38 = bitcast %int %i.62 to %uint
+    %39 = extractvalue { %shadow.standard..Object**, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br %boolean %41, label %_label16, label %_label15
+_label16:
+    br label %_label17
+_label15:
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %43 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %42, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %44 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %43, %int %i.62)
+    %45 = bitcast %shadow.standard..IndexOutOfBoundsException* %44 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %45) noreturn
+    unreachable
+_label17:
+    %46 = extractvalue { %shadow.standard..Object**, [1 x %int] } %37, 0
+    %47 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %46, %int %i.62
+    %48 = load %shadow.standard..Object*, %shadow.standard..Object** %47
+    %49 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %48)
+    %50 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %49, i32 0, i32 5
+    %51 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %50
+    %52 = extractvalue { %shadow.standard..Class**, [1 x %int] } %51, 1, 0
+    %53 = icmp slt %int 1, %52
+    br %boolean %53, label %_label18, label %_label20
+_label18:
+    %54 = extractvalue { %shadow.standard..Class**, [1 x %int] } %51, 0
+    %55 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %54, %int 1
+    %56 = load %shadow.standard..Class*, %shadow.standard..Class** %55
+    %57 = icmp eq %shadow.standard..Class* %56, @shadow.standard..Class_class
+    br %boolean %57, label %_label19, label %_label20
+_label19:
+    br label %_label21
+_label20:
+    %_temp1.9 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %49, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label21
+_label21:
+    %_temp1.63 = phi %boolean [ true, %_label19 ],[ %_temp1.9, %_label20 ]
+    br %boolean %_temp1.63, label %_label23, label %_label22
+_label22:
+    %58 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %59 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %58, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %60 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %59, %shadow.standard..Class* %49, %shadow.standard..Class* @shadow.standard..Class_class)
+    %61 = bitcast %shadow.standard..CastException* %60 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %61) noreturn
+    unreachable
+_label23:
+    %parameter.10 = bitcast %shadow.standard..Object* %48 to %shadow.standard..Class*
+    store %shadow.standard..Class* %parameter.10, %shadow.standard..Class** %parameter
+    %62 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %63 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %62, i32 0, i32 4
+    %64 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %63
+    %65 = bitcast %int %i.62 to %uint
+    %66 = extractvalue { %shadow.standard..Object**, [1 x %int] } %64, 1, 0
+    %67 = bitcast %int %66 to %uint
+    %68 = icmp ult %uint %65, %67
+    br %boolean %68, label %_label25, label %_label24
+_label25:
+    br label %_label26
+_label24:
+    %69 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %70 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %69, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %71 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %70, %int %i.62)
+    %72 = bitcast %shadow.standard..IndexOutOfBoundsException* %71 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %72) noreturn
+    unreachable
+_label26:
+    %73 = extractvalue { %shadow.standard..Object**, [1 x %int] } %64, 0
+    %74 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %73, %int %i.62
+    %75 = load %shadow.standard..Object*, %shadow.standard..Object** %74
+    %76 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %75)
+    %77 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %76, i32 0, i32 5
+    %78 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %77
+    %79 = extractvalue { %shadow.standard..Class**, [1 x %int] } %78, 1, 0
+    %80 = icmp slt %int 1, %79
+    br %boolean %80, label %_label27, label %_label29
+_label27:
+    %81 = extractvalue { %shadow.standard..Class**, [1 x %int] } %78, 0
+    %82 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %81, %int 1
+    %83 = load %shadow.standard..Class*, %shadow.standard..Class** %82
+    %84 = icmp eq %shadow.standard..Class* %83, @shadow.standard..Class_class
+    br %boolean %84, label %_label28, label %_label29
+_label28:
+    br label %_label30
+_label29:
+    %_temp2.12 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %76, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label30
+_label30:
+    %_temp2.91 = phi %boolean [ %_temp2.12, %_label29 ],[ true, %_label28 ]
+    br %boolean %_temp2.91, label %_label32, label %_label31
+_label31:
+    %85 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %86 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %85, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %87 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %86, %shadow.standard..Class* %76, %shadow.standard..Class* @shadow.standard..Class_class)
+    %88 = bitcast %shadow.standard..CastException* %87 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %88) noreturn
+    unreachable
+_label32:
+    %otherParameter.13 = bitcast %shadow.standard..Object* %75 to %shadow.standard..Class*
+    store %shadow.standard..Class* %otherParameter.13, %shadow.standard..Class** %otherParameter
+    %89 = load %shadow.standard..Class*, %shadow.standard..Class** %otherParameter
+    %90 = load %shadow.standard..Class*, %shadow.standard..Class** %parameter
+    %91 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %89, %shadow.standard..Class* %90)
+    %92 = xor %boolean -1, %91
+    br %boolean %92, label %_label34, label %_label35
+_label34:
+    ret %boolean false
+_label35:
+    br label %_label14
+_label14:
+    %i.7 = add %int %i.62, 1
+    br label %_label37
+_label37:
+    %i.62 = phi %int [ 0, %_label12 ],[ %i.7, %_label14 ]
+    %93 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %94 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %93, i32 0, i32 9
+    %95 = load %int, %int* %94
+    %96 = icmp slt %int %i.62, %95
+    br %boolean %96, label %_label36, label %_label13
+_label13:
+    %97 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %98 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %97, i32 0, i32 9
+    %i1.14 = load %int, %int* %98
+    br label %_label62
+_label61:
+    %99 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %100 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %99, i32 0, i32 4
+    %101 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %100
+    %102 = bitcast %int %i1.128 to %uint
+    %103 = extractvalue { %shadow.standard..Object**, [1 x %int] } %101, 1, 0
+    %104 = bitcast %int %103 to %uint
+    %105 = icmp ult %uint %102, %104
+    br %boolean %105, label %_label41, label %_label40
+_label41:
+    br label %_label42
+_label40:
+    %106 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %107 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %106, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %108 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %107, %int %i1.128)
+    %109 = bitcast %shadow.standard..IndexOutOfBoundsException* %108 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %109) noreturn
+    unreachable
+_label42:
+    %110 = extractvalue { %shadow.standard..Object**, [1 x %int] } %101, 0
+    %111 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %110, %int %i1.128
+    %112 = load %shadow.standard..Object*, %shadow.standard..Object** %111
+    %113 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %112)
+    %114 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %113, i32 0, i32 5
+    %115 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %114
+    %116 = extractvalue { %shadow.standard..Class**, [1 x %int] } %115, 1, 0
+    %117 = icmp slt %int 1, %116
+    br %boolean %117, label %_label43, label %_label45
+_label43:
+    %118 = extractvalue { %shadow.standard..Class**, [1 x %int] } %115, 0
+    %119 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %118, %int 1
+    %120 = load %shadow.standard..Class*, %shadow.standard..Class** %119
+    %121 = icmp eq %shadow.standard..Class* %120, @shadow.standard..Class_class
+    br %boolean %121, label %_label44, label %_label45
+_label44:
+    br label %_label46
+_label45:
+    %_temp3.17 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %113, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label46
+_label46:
+    %_temp3.129 = phi %boolean [ %_temp3.17, %_label45 ],[ true, %_label44 ]
+    br %boolean %_temp3.129, label %_label48, label %_label47
+_label47:
+    %122 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %123 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %122, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %124 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %123, %shadow.standard..Class* %113, %shadow.standard..Class* @shadow.standard..Class_class)
+    %125 = bitcast %shadow.standard..CastException* %124 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %125) noreturn
+    unreachable
+_label48:
+    %return_.18 = bitcast %shadow.standard..Object* %112 to %shadow.standard..Class*
+    store %shadow.standard..Class* %return_.18, %shadow.standard..Class** %return_
+    %126 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %127 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %126, i32 0, i32 4
+    %128 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %127
+    %129 = bitcast %int %i1.128 to %uint
+    %130 = extractvalue { %shadow.standard..Object**, [1 x %int] } %128, 1, 0
+    %131 = bitcast %int %130 to %uint
+    %132 = icmp ult %uint %129, %131
+    br %boolean %132, label %_label50, label %_label49
+_label50:
+    br label %_label51
+_label49:
+    %133 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %134 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %133, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %135 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %134, %int %i1.128)
+    %136 = bitcast %shadow.standard..IndexOutOfBoundsException* %135 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %136) noreturn
+    unreachable
+_label51:
+    %137 = extractvalue { %shadow.standard..Object**, [1 x %int] } %128, 0
+    %138 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %137, %int %i1.128
+    %139 = load %shadow.standard..Object*, %shadow.standard..Object** %138
+    %140 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %139)
+    %141 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %140, i32 0, i32 5
+    %142 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %141
+    %143 = extractvalue { %shadow.standard..Class**, [1 x %int] } %142, 1, 0
+    %144 = icmp slt %int 1, %143
+    br %boolean %144, label %_label52, label %_label54
+_label52:
+    %145 = extractvalue { %shadow.standard..Class**, [1 x %int] } %142, 0
+    %146 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %145, %int 1
+    %147 = load %shadow.standard..Class*, %shadow.standard..Class** %146
+    %148 = icmp eq %shadow.standard..Class* %147, @shadow.standard..Class_class
+    br %boolean %148, label %_label53, label %_label54
+_label53:
+    br label %_label55
+_label54:
+    %_temp4.20 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %140, %shadow.standard..Class* @shadow.standard..Class_class)
+    br label %_label55
+_label55:
+    %_temp4.156 = phi %boolean [ true, %_label53 ],[ %_temp4.20, %_label54 ]
+    br %boolean %_temp4.156, label %_label57, label %_label56
+_label56:
+    %149 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %150 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %149, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %151 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %150, %shadow.standard..Class* %140, %shadow.standard..Class* @shadow.standard..Class_class)
+    %152 = bitcast %shadow.standard..CastException* %151 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %152) noreturn
+    unreachable
+_label57:
+    %otherReturn.21 = bitcast %shadow.standard..Object* %139 to %shadow.standard..Class*
+    store %shadow.standard..Class* %otherReturn.21, %shadow.standard..Class** %otherReturn
+    %153 = load %shadow.standard..Class*, %shadow.standard..Class** %return_
+    %154 = load %shadow.standard..Class*, %shadow.standard..Class** %otherReturn
+    %155 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %153, %shadow.standard..Class* %154)
+    %156 = xor %boolean -1, %155
+    br %boolean %156, label %_label59, label %_label60
+_label59:
+    ret %boolean false
+_label60:
+    br label %_label39
+_label39:
+    %i1.15 = add %int %i1.128, 1
+    br label %_label62
+_label62:
+    %i1.128 = phi %int [ %i1.14, %_label13 ],[ %i1.15, %_label39 ]
+    %157 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %158 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %157, i32 0, i32 4
+    %159 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %158
+    %160 = extractvalue { %shadow.standard..Object**, [1 x %int] } %159, 1, 0
+    %161 = icmp slt %int %i1.128, %160
+    br %boolean %161, label %_label61, label %_label38
+_label38:
+    ret %boolean true
+_label91:
+    %162 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %163 = call %boolean @shadow.standard..Class_MisInterface(%shadow.standard..Class* %162)
+    br %boolean %163, label %_label87, label %_label88
+_label87:
+    br label %_label73
+_label72:
+    %164 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %165 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %164, i32 0, i32 6
+    %166 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %165
+    %167 = bitcast %int %i2.183 to %uint
+    %168 = extractvalue { %shadow.standard..Class**, [1 x %int] } %166, 1, 0
+    %169 = bitcast %int %168 to %uint
+    %170 = icmp ult %uint %167, %169
+    br %boolean %170, label %_label67, label %_label66
+_label67:
+    br label %_label68
+_label66:
+    %171 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %172 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %171, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %173 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %172, %int %i2.183)
+    %174 = bitcast %shadow.standard..IndexOutOfBoundsException* %173 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %174) noreturn
+    unreachable
+_label68:
+    %175 = extractvalue { %shadow.standard..Class**, [1 x %int] } %166, 0
+    %176 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %175, %int %i2.183
+    %177 = load %shadow.standard..Class*, %shadow.standard..Class** %176
+    %178 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %179 = icmp eq %shadow.standard..Class* %177, %178
+    br %boolean %179, label %_label70, label %_label71
+_label70:
+    ret %boolean true
+_label71:
+    br label %_label65
+_label65:
+    %i2.23 = add %int %i2.183, 1
+    br label %_label73
+_label73:
+    %i2.183 = phi %int [ 0, %_label87 ],[ %i2.23, %_label65 ]
+    %180 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %181 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %180, i32 0, i32 6
+    %182 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %181
+    %183 = extractvalue { %shadow.standard..Class**, [1 x %int] } %182, 1, 0
+    %184 = icmp slt %int %i2.183, %183
+    br %boolean %184, label %_label72, label %_label64
+_label64:
+    br label %_label89
+_label88:
+    %185 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %186 = call %boolean @shadow.standard..Class_MisInterface(%shadow.standard..Class* %185)
+    %187 = xor %boolean -1, %186
+    br %boolean %187, label %_label85, label %_label86
+_label85:
+    %188 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %189 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %188, i32 0, i32 5
+    %190 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %189
+    %191 = extractvalue { %shadow.standard..Class**, [1 x %int] } %190, 1, 0
+    %depth.24 = sub %int %191, 1
+    %_temp5.25 = icmp sge %int %depth.24, 0
+    br %boolean %_temp5.25, label %_label78, label %_label77
+_label78:
+    %192 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %193 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %192, i32 0, i32 5
+    %194 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %193
+    %195 = extractvalue { %shadow.standard..Class**, [1 x %int] } %194, 1, 0
+    %_temp5.26 = icmp slt %int %depth.24, %195
+    br %boolean %_temp5.26, label %_label79, label %_label77
+_label79:
+    %196 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %197 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %196, i32 0, i32 5
+    %198 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %197
+    %199 = bitcast %int %depth.24 to %uint
+    %200 = extractvalue { %shadow.standard..Class**, [1 x %int] } %198, 1, 0
+    %201 = bitcast %int %200 to %uint
+    %202 = icmp ult %uint %199, %201
+    br %boolean %202, label %_label75, label %_label74
+_label75:
+    br label %_label76
+_label74:
+    %203 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %204 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %203, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %205 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %204, %int %depth.24)
+    %206 = bitcast %shadow.standard..IndexOutOfBoundsException* %205 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %206) noreturn
+    unreachable
+_label76:
+    %207 = extractvalue { %shadow.standard..Class**, [1 x %int] } %198, 0
+    %208 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %207, %int %depth.24
+    %209 = load %shadow.standard..Class*, %shadow.standard..Class** %208
+    %210 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %_temp5.27 = icmp eq %shadow.standard..Class* %209, %210
+    br label %_label77
+_label77:
+    %_temp5.207 = phi %boolean [ %_temp5.27, %_label76 ],[ %_temp5.26, %_label78 ],[ %_temp5.25, %_label85 ]
+    br %boolean %_temp5.207, label %_label81, label %_label82
+_label81:
+    ret %boolean true
+_label82:
+    %211 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %212 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %211, i32 0, i32 3
+    %213 = load %shadow.standard..Class*, %shadow.standard..Class** %212
+    %214 = icmp eq %shadow.standard..Class* %213, null
+    br %boolean %214, label %_label5, label %_label83
+_label83:
+    %215 = bitcast %shadow.standard..Class* %213 to %shadow.standard..Class*
+    %216 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %217 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %215, %shadow.standard..Class* %216)
+    ret %boolean %217
+_label86:
+    br label %_label89
+_label89:
+    br label %_label92
+_label92:
+    br label %_label95
+_label95:
+    br label %_label4
+_label5:
+    br label %_label4
+_label4:
+    ret %boolean false
+}
+
+define %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int) {
+    %name = alloca %shadow.standard..MutableString*
+    %baseName = alloca %shadow.standard..String*
+    %parameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..String* %1, %shadow.standard..String** %baseName
+    store { %shadow.standard..Object**, [1 x %int] } %2, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %6 = icmp slt %int %3, %4
+    br %boolean %6, label %_label12, label %_label13
+_label12:
+    %7 = load %shadow.standard..String*, %shadow.standard..String** %baseName
+    %8 = bitcast %shadow.standard..MutableString_methods* @shadow.standard..MutableString_methods to %shadow.standard..Object_methods*
+    %9 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..MutableString_class, %shadow.standard..Object_methods* %8, %int ptrtoint (%shadow.standard..MutableString* getelementptr (%shadow.standard..MutableString, %shadow.standard..MutableString* null, i32 1) to i32))
+    %10 = bitcast %shadow.standard..String* %7 to %shadow.standard..Object*
+    %name.6 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate_shadow.standard..Object(%shadow.standard..Object* %9, %shadow.standard..Object* %10)
+    store %shadow.standard..MutableString* %name.6, %shadow.standard..MutableString** %name
+    %11 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %name
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..code_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..code* getelementptr (%shadow.standard..code, %shadow.standard..code* null, i32 1) to i32))
+    %13 = bitcast %shadow.standard..Object* %12 to %shadow.standard..code*
+    %14 = getelementptr inbounds %shadow.standard..code, %shadow.standard..code* %13, i32 0, i32 2
+    store %code 60, %code* %14
+    %15 = bitcast %shadow.standard..code* %13 to %shadow.standard..Object*
+    %16 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %11, %shadow.standard..Object* %15)
+    br label %_label10
+_label9:
+    br %boolean %first.14, label %_label3, label %_label4
+_label3:
+    br label %_label5
+_label4:
+    %17 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %name
+    %18 = bitcast %shadow.standard..String* @_string140 to %shadow.standard..Object*
+    %19 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %17, %shadow.standard..Object* %18)
+    br label %_label5
+_label5:
+    %first.18 = phi %boolean [ %first.14, %_label4 ],[ false, %_label3 ]
+    %20 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %name
+    %21 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %22 = bitcast %int %i.40 to %uint
+    %23 = extractvalue { %shadow.standard..Object**, [1 x %int] } %21, 1, 0
+    %24 = bitcast %int %23 to %uint
+    %25 = icmp ult %uint %22, %24
+    br %boolean %25, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %27 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %26, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %28 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %27, %int %i.40)
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException* %28 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %29) noreturn
+    unreachable
+_label8:
+    %30 = extractvalue { %shadow.standard..Object**, [1 x %int] } %21, 0
+    %31 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %30, %int %i.40
+    %32 = load %shadow.standard..Object*, %shadow.standard..Object** %31
+    %33 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %32, i32 0, i32 1
+    %34 = load %shadow.standard..Object_methods*, %shadow.standard..Object_methods** %33
+    %35 = getelementptr inbounds %shadow.standard..Object_methods, %shadow.standard..Object_methods* %34, i32 0, i32 2
+    %36 = load %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)** %35
+    %37 = call %shadow.standard..String* %36(%shadow.standard..Object* %32)
+    %38 = bitcast %shadow.standard..String* %37 to %shadow.standard..Object*
+    %39 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %20, %shadow.standard..Object* %38)
+    br label %_label2
+_label2:
+    %i.9 = add %int %i.40, 2
+    br label %_label10
+_label10:
+    %end.45 = phi %int [ %4, %_label12 ],[ %end.45, %_label2 ]
+    %i.40 = phi %int [ %3, %_label12 ],[ %i.9, %_label2 ]
+    %first.14 = phi %boolean [ true, %_label12 ],[ %first.18, %_label2 ]
+    %40 = icmp slt %int %i.40, %end.45
+    br %boolean %40, label %_label9, label %_label1
+_label1:
+    %41 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %name
+    %42 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..code_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..code* getelementptr (%shadow.standard..code, %shadow.standard..code* null, i32 1) to i32))
+    %43 = bitcast %shadow.standard..Object* %42 to %shadow.standard..code*
+    %44 = getelementptr inbounds %shadow.standard..code, %shadow.standard..code* %43, i32 0, i32 2
+    store %code 62, %code* %44
+    %45 = bitcast %shadow.standard..code* %43 to %shadow.standard..Object*
+    %46 = call %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString* %41, %shadow.standard..Object* %45)
+    %47 = load %shadow.standard..MutableString*, %shadow.standard..MutableString** %name
+    %48 = call %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString* %47)
+    ret %shadow.standard..String* %48
+_label13:
+    %49 = load %shadow.standard..String*, %shadow.standard..String** %baseName
+    ret %shadow.standard..String* %49
+}
+
+define %shadow.standard..String* @shadow.standard..Class_Mname(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 2
+    %4 = load %shadow.standard..String*, %shadow.standard..String** %3
+    ret %shadow.standard..String* %4
+}
+
+define %shadow.standard..Class* @shadow.standard..Class_Mparent(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 3
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %3
+    ret %shadow.standard..Class* %4
+}
+
+declare %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class*)
+
+define %int @shadow.standard..Class_Msize(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 9
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %2, i32 0, i32 2
+    %4 = load %shadow.standard..String*, %shadow.standard..String** %3
+    ret %shadow.standard..String* %4
+}
+
+define %int @shadow.standard..Class_Mwidth(%shadow.standard..Class*) {
+    %this = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %this
+    %2 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %3 = call %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class* %2)
+    br %boolean %3, label %_label36, label %_label37
+_label36:
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %5 = call %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class* %4)
+    %6 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %7 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %6, i32 0, i32 9
+    %8 = load %int, %int* %7
+    %9 = mul %int 4, %8
+    %10 = add %int %5, %9
+    ret %int %10
+_label37:
+    %11 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %12 = call %boolean @shadow.standard..Class_MisMethod(%shadow.standard..Class* %11)
+    br %boolean %12, label %_label33, label %_label34
+_label33:
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %14 = call %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class* %13)
+    %15 = mul %int 3, %14
+    %16 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %17 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %16, i32 0, i32 9
+    %18 = load %int, %int* %17
+    %19 = mul %int 4, %18
+    %20 = add %int %15, %19
+    ret %int %20
+_label34:
+    %21 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %22 = call %boolean @shadow.standard..Class_MisInterface(%shadow.standard..Class* %21)
+    br %boolean %22, label %_label30, label %_label31
+_label30:
+    %23 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %24 = call %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class* %23)
+    %25 = mul %int 2, %24
+    ret %int %25
+_label31:
+    %26 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %27 = call %boolean @shadow.standard..Class_MisPrimitive(%shadow.standard..Class* %26)
+    br %boolean %27, label %_label27, label %_label28
+_label27:
+    %28 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp.2 = icmp eq %shadow.standard..Class* %28, @shadow.standard..boolean_class
+    br %boolean %_temp.2, label %_label4, label %_label5
+_label5:
+    %29 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp.3 = icmp eq %shadow.standard..Class* %29, @shadow.standard..byte_class
+    br %boolean %_temp.3, label %_label4, label %_label6
+_label6:
+    %30 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp.4 = icmp eq %shadow.standard..Class* %30, @shadow.standard..ubyte_class
+    br label %_label4
+_label4:
+    %_temp.20 = phi %boolean [ %_temp.3, %_label5 ],[ %_temp.4, %_label6 ],[ %_temp.2, %_label27 ]
+    br %boolean %_temp.20, label %_label23, label %_label24
+_label23:
+    ret %int 1
+_label24:
+    %31 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp1.5 = icmp eq %shadow.standard..Class* %31, @shadow.standard..short_class
+    br %boolean %_temp1.5, label %_label8, label %_label9
+_label9:
+    %32 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp1.6 = icmp eq %shadow.standard..Class* %32, @shadow.standard..ushort_class
+    br label %_label8
+_label8:
+    %_temp1.24 = phi %boolean [ %_temp1.5, %_label24 ],[ %_temp1.6, %_label9 ]
+    br %boolean %_temp1.24, label %_label20, label %_label21
+_label20:
+    ret %int 2
+_label21:
+    %33 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp2.7 = icmp eq %shadow.standard..Class* %33, @shadow.standard..code_class
+    br %boolean %_temp2.7, label %_label11, label %_label12
+_label12:
+    %34 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp2.8 = icmp eq %shadow.standard..Class* %34, @shadow.standard..float_class
+    br %boolean %_temp2.8, label %_label11, label %_label13
+_label13:
+    %35 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp2.9 = icmp eq %shadow.standard..Class* %35, @shadow.standard..int_class
+    br %boolean %_temp2.9, label %_label11, label %_label14
+_label14:
+    %36 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %_temp2.10 = icmp eq %shadow.standard..Class* %36, @shadow.standard..uint_class
+    br label %_label11
+_label11:
+    %_temp2.30 = phi %boolean [ %_temp2.7, %_label21 ],[ %_temp2.8, %_label12 ],[ %_temp2.9, %_label13 ],[ %_temp2.10, %_label14 ]
+    br %boolean %_temp2.30, label %_label17, label %_label18
+_label17:
+    ret %int 4
+_label18:
+    ret %int 8
+_label28:
+    %37 = load %shadow.standard..Class*, %shadow.standard..Class** %this
+    %38 = call %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class* %37)
+    ret %int %38
+}
+
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %shadow.standard..String* @shadow.standard..String_Mconcatenate_shadow.standard..String(%shadow.standard..String*, %shadow.standard..String*)
+declare %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* returned, %shadow.standard..Class*, %shadow.standard..Class*)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mappend_shadow.standard..Object(%shadow.standard..MutableString*, %shadow.standard..Object*)
+declare %uint @shadow.standard..String_Mhash(%shadow.standard..String*)
+declare %shadow.standard..String* @shadow.standard..MutableString_MtoString(%shadow.standard..MutableString*)
+declare %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..String(%shadow.standard..Object* returned, %shadow.standard..String*)
+declare %shadow.standard..MutableString* @shadow.standard..MutableString_Mcreate_shadow.standard..Object(%shadow.standard..Object* returned, %shadow.standard..Object*)
+declare %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* returned, %int)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array2 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array3 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array4 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array5 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@Object>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array6 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<ushort>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array7 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array8 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array9 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array10 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array11 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ubyte>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array12 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<ushort>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array13 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array14 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<ushort>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array15 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array16 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array17 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array18 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ubyte>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array19 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array20 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array21 = private unnamed_addr constant [59 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@Object>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([59 x %byte], [59 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 59] }, %boolean true }
+@_array22 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array23 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@Array<shadow:standard@Object>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array24 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array25 = private unnamed_addr constant [39 x %ubyte] c"shadow:standard@CanIndexStore<int,byte>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([39 x %byte], [39 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 39] }, %boolean true }
+@_array26 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array27 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<uint>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array28 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array29 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array30 = private unnamed_addr constant [57 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@MutableString>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([57 x %byte], [57 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 57] }, %boolean true }
+@_array31 = private unnamed_addr constant [44 x %ubyte] c"shadow:standard@Array<shadow:standard@Class>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([44 x %byte], [44 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 44] }, %boolean true }
+@_array32 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array33 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<uint>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array34 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array35 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ubyte>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array36 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<ushort>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array37 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array38 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array39 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array40 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array41 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array42 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array43 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<uint>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array44 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array45 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array46 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array47 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<uint>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array48 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array49 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array50 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array51 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array52 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array53 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<ushort>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array54 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array55 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array56 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array57 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ubyte>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array58 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array59 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<uint>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array60 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array61 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array62 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array63 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array64 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array65 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ubyte>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array66 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array67 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<ushort>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array68 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array69 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array70 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array71 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array72 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array73 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array74 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<uint>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array75 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array76 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array77 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array78 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array79 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array80 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@Integer<ushort>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array81 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array82 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array83 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array84 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<uint>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array85 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array86 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array87 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array88 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array89 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array90 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array91 = private unnamed_addr constant [53 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@Class>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([53 x %byte], [53 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 53] }, %boolean true }
+@_array92 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ubyte>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array93 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array94 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array95 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array96 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array97 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array98 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<uint>"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array99 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array100 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array101 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<uint>"
+@_string101 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array101, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array102 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string102 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array102, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array103 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string103 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array103, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array104 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string104 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array104, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array105 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string105 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array105, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array106 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<ushort>"
+@_string106 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array106, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array107 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string107 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array107, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array108 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string108 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array108, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array109 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string109 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array109, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array110 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Object>"
+@_string110 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array110, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array111 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string111 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array111, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array112 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string112 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array112, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array113 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ubyte>"
+@_string113 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array113, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array114 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string114 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array114, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array115 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ubyte>"
+@_string115 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array115, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array116 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string116 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array116, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array117 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string117 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array117, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array118 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string118 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array118, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array119 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string119 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array119, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array120 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string120 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array120, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array121 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string121 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array121, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array122 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string122 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array122, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array123 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ubyte>"
+@_string123 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array123, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array124 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string124 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array124, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array125 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string125 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array125, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array126 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@MutableString>"
+@_string126 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array126, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array127 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string127 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array127, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array128 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string128 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array128, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array129 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string129 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array129, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array130 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<ushort>"
+@_string130 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array130, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array131 = private unnamed_addr constant [58 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@Class>"
+@_string131 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([58 x %byte], [58 x %byte]* @_array131, i32 0, i32 0), [1 x %int] [%int 58] }, %boolean true }
+@_array132 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string132 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array132, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array133 = private unnamed_addr constant [21 x %ubyte] c"shadow:standard@Class"
+@_string133 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([21 x %byte], [21 x %byte]* @_array133, i32 0, i32 0), [1 x %int] [%int 21] }, %boolean true }
+@_array134 = private unnamed_addr constant [1 x %ubyte] c"("
+@_string134 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([1 x %byte], [1 x %byte]* @_array134, i32 0, i32 0), [1 x %int] [%int 1] }, %boolean true }
+@_array135 = private unnamed_addr constant [2 x %ubyte] c", "
+@_string135 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([2 x %byte], [2 x %byte]* @_array135, i32 0, i32 0), [1 x %int] [%int 2] }, %boolean true }
+@_array136 = private unnamed_addr constant [6 x %ubyte] c") => ("
+@_string136 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([6 x %byte], [6 x %byte]* @_array136, i32 0, i32 0), [1 x %int] [%int 6] }, %boolean true }
+@_array137 = private unnamed_addr constant [1 x %ubyte] c")"
+@_string137 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([1 x %byte], [1 x %byte]* @_array137, i32 0, i32 0), [1 x %int] [%int 1] }, %boolean true }
+@_array138 = private unnamed_addr constant [6 x %ubyte] c"Class "
+@_string138 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([6 x %byte], [6 x %byte]* @_array138, i32 0, i32 0), [1 x %int] [%int 6] }, %boolean true }
+@_array139 = private unnamed_addr constant [30 x %ubyte] c" does not implement interface "
+@_string139 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array139, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array140 = private unnamed_addr constant [1 x %ubyte] c","
+@_string140 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([1 x %byte], [1 x %byte]* @_array140, i32 0, i32 0), [1 x %int] [%int 1] }, %boolean true }
@@ -22,7 +22,7 @@ declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
 %shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
 %shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
 %shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
-%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, %int, %int }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
 %shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
 %shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
 %shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
@@ -43,42 +43,77 @@ declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
 @shadow.standard..OutOfMemoryException_class = external constant %shadow.standard..Class
 @shadow.standard..OutOfMemoryException_methods = external constant %shadow.standard..OutOfMemoryException_methods
 
-declare noalias i8* @calloc(i32, i32) nounwind
+declare noalias i8* @__shadow_allocate(%shadow.standard..Class*, i32, i64, i1)
 declare %shadow.standard..OutOfMemoryException* @shadow.standard..OutOfMemoryException_Mcreate(%shadow.standard..Object*)
 declare %int @shadow.standard..Class_Mwidth(%shadow.standard..Class*)
 declare %boolean @shadow.standard..Class_MisArray(%shadow.standard..Class*)
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
 
 define noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*) {
-	%3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %0, i32 0, i32 7
+	%3 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %0, i32 0, i32 9
 	%4 = load i32, i32* %3
-	%5 = call noalias i8* @calloc(i32 1, i32 %4) nounwind
-	%6 = bitcast i8* %5 to %shadow.standard..Object*
-	%7 = icmp eq %shadow.standard..Object* %6, null
-	br i1 %7, label %_label0, label %_label1
+	%5 = zext i32 %4 to i64
+	%6 = call noalias i8* @__shadow_allocate(%shadow.standard..Class* %0, i32 0, i64 %5, i1 false)
+	%7 = bitcast i8* %6 to %shadow.standard..Object*
+	%8 = icmp eq %shadow.standard..Object* %7, null
+	br i1 %8, label %_label0, label %_label1
 _label0: 
-	%8 = bitcast %shadow.standard..OutOfMemoryException* @_OutOfMemoryException to %shadow.standard..Object*
-	call void @__shadow_throw(%shadow.standard..Object* %8) noreturn
+	%9 = bitcast %shadow.standard..OutOfMemoryException* @_OutOfMemoryException to %shadow.standard..Object*
+	call void @__shadow_throw(%shadow.standard..Object* %9) noreturn
     unreachable	
 _label1:	
-	%9 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %6, i32 0, i32 0
-    store %shadow.standard..Class* %0, %shadow.standard..Class** %9
-    %10 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %6, i32 0, i32 1
-    store %shadow.standard..Object_methods* %1, %shadow.standard..Object_methods** %10	
-	ret %shadow.standard..Object* %6
+	%10 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %7, i32 0, i32 0
+    store %shadow.standard..Class* %0, %shadow.standard..Class** %10
+    %11 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %7, i32 0, i32 1
+    store %shadow.standard..Object_methods* %1, %shadow.standard..Object_methods** %11	
+	ret %shadow.standard..Object* %7
 }
 
 define noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, i32) {
 	%3 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* %0)		
-	%4 = call noalias i8* @calloc(i32 %1, i32 %3)	
-	%5 = bitcast i8* %4 to %shadow.standard..Object*
-	%6 = icmp eq %shadow.standard..Object* %5, null
-	br i1 %6, label %_label2, label %_label3
+	; computed in 64 bits so that huge arrays fail instead of overflowing
+	%4 = sext i32 %1 to i64
+	%5 = zext i32 %3 to i64
+	%6 = mul i64 %4, %5
+	%7 = call noalias i8* @__shadow_allocate(%shadow.standard..Class* %0, i32 %1, i64 %6, i1 true)
+	%8 = bitcast i8* %7 to %shadow.standard..Object*
+	%9 = icmp eq %shadow.standard..Object* %8, null
+	br i1 %9, label %_label2, label %_label3
 _label2: 
-	%7 = bitcast %shadow.standard..OutOfMemoryException* @_OutOfMemoryException to %shadow.standard..Object*
-	call void @__shadow_throw(%shadow.standard..Object* %7) noreturn
+	%10 = bitcast %shadow.standard..OutOfMemoryException* @_OutOfMemoryException to %shadow.standard..Object*
+	call void @__shadow_throw(%shadow.standard..Object* %10) noreturn
    unreachable	
 _label3:
-	ret %shadow.standard..Object* %5
+	ret %shadow.standard..Object* %8
+}
+
+define { %shadow.standard..Class**, [1 x %int] } @shadow.standard..Class_MmakeDisplay_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*) {
+	%hasParent = icmp ne %shadow.standard..Class* %1, null
+	br i1 %hasParent, label %_label1, label %_label2
+_label1:
+	%parentDisplayRef = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %1, i32 0, i32 5
+	%parentDisplay = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %parentDisplayRef
+	%parentClasses = extractvalue { %shadow.standard..Class**, [1 x %int] } %parentDisplay, 0
+	%parentSize = extractvalue { %shadow.standard..Class**, [1 x %int] } %parentDisplay, 1, 0
+	%hasDisplay = icmp ne %int %parentSize, 0
+	br i1 %hasDisplay, label %_label3, label %_label2
+_label2:
+	ret { %shadow.standard..Class**, [1 x %int] } zeroinitializer
+_label3:
+	; copy the parent's ancestors and then add this class
+	%size = add %int %parentSize, 1
+	%allocation = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Class_class, i32 %size)
+	%classes = bitcast %shadow.standard..Object* %allocation to %shadow.standard..Class**
+	%classesAsBytes = bitcast %shadow.standard..Class** %classes to i8*
+	%parentClassesAsBytes = bitcast %shadow.standard..Class** %parentClasses to i8*
+	%width = ptrtoint %shadow.standard..Class** getelementptr (%shadow.standard..Class*, %shadow.standard..Class** null, i32 1) to i32
+	%bytes = mul i32 %parentSize, %width
+	call void @llvm.memcpy.p0i8.p0i8.i32(i8* %classesAsBytes, i8* %parentClassesAsBytes, i32 %bytes, i32 1, i1 0)
+	%lastRef = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %classes, %int %parentSize
+	store %shadow.standard..Class* %0, %shadow.standard..Class** %lastRef
+	%display = insertvalue { %shadow.standard..Class**, [1 x %int] } undef, %shadow.standard..Class** %classes, 0
+	%result = insertvalue { %shadow.standard..Class**, [1 x %int] } %display, %int %size, 1, 0
+	ret { %shadow.standard..Class**, [1 x %int] } %result
 }
 
 define %int @shadow.standard..Class_MpointerSize(%shadow.standard..Class*) {
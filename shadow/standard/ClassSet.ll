@@ -0,0 +1,3493 @@
+%boolean = type i1
+%byte = type i8
+%ubyte = type i8
+%short = type i16
+%ushort = type i16
+%int = type i32
+%uint = type i32
+%code = type i32
+%long = type i64
+%ulong = type i64
+%float = type float
+%double = type double
+%shadow.standard..CanCompare_methods = type { %int (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanCompare_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanCompare_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterateNullable_methods = type { { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterateNullable_class = external constant %shadow.standard..Class
+%shadow.standard..CanSubtract_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanSubtract_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanSubtract_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..Array_methods = type { %shadow.standard..Array* (%shadow.standard..Array*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Class* (%shadow.standard..Array*)*, %shadow.standard..Object* (%shadow.standard..Array*, { %int*, [1 x %int] })*, void (%shadow.standard..Array*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Array*, %int)*, void (%shadow.standard..Array*, %int, %shadow.standard..Object*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Array*)*, { %int*, [1 x %int] } (%shadow.standard..Array*)*, %int (%shadow.standard..Array*)*, %shadow.standard..Array* (%shadow.standard..Array*, %int, %int)* }
+%shadow.standard..Array = type { %shadow.standard..Class*, %shadow.standard..Array_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..Array_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..Array = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..Array_methods = external constant %shadow.standard..Array_methods
+@_layoutshadow.standard..Array = external constant [2 x %int]
+@_interfacesshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_int_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanNegate_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..CanNegate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanNegate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanAdd_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanAdd_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanAdd_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndex_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndex_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStore_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStore_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanEqual_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanEqual_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIterate_methods = type { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* }
+@shadow.standard..CanIterate_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+%shadow.standard..Object_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)* }
+%shadow.standard..Object = type { %shadow.standard..Class*, %shadow.standard..Object_methods*  }
+@shadow.standard..Object_class = external constant %shadow.standard..Class
+@shadow.standard..Object_methods = external constant %shadow.standard..Object_methods
+%shadow.utility..Map_methods = type { { %shadow.utility..Map_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Map_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Map_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexStoreNullable_methods = type { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexStoreNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIndexStoreNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..short_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ushort (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %uint)*, %short (%short, %int)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %int (%short, %short)*, %int (%short, %int)*, %int (%short, %long)*, %int (%short, %float)*, %int (%short, %double)*, %short (%short, %shadow.standard..AddressMap*)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %boolean (%short, %short)*, %boolean (%short, %int)*, %boolean (%short, %long)*, %boolean (%short, %float)*, %boolean (%short, %double)*, %short (%short)*, %uint (%short)*, %short (%short)*, %double (%short)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %short (%short, %short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %short (%short)*, %short (%short)*, %double (%short, %int)*, %double (%short, %double)*, %double (%short)*, %double (%short)*, %short (%short, %short)*, %int (%short, %int)*, %long (%short, %long)*, %float (%short, %float)*, %double (%short, %double)*, { %short, %boolean } (%short, %short)*, %byte (%short)*, %code (%short)*, %double (%short)*, %float (%short)*, %int (%short)*, %long (%short)*, %short (%short)*, %shadow.standard..String* (%short)*, %shadow.standard..String* (%short, %uint)*, %ubyte (%short)*, %uint (%short)*, %ulong (%short)*, %ushort (%short)*, %ushort (%short)*, %short (%short)* }
+%shadow.standard..short = type { %shadow.standard..Class*, %shadow.standard..short_methods* , %short }
+@shadow.standard..short_class = external constant %shadow.standard..Class
+@shadow.standard..short_methods = external constant %shadow.standard..short_methods
+%shadow.standard..CanDivide_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanDivide_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanDivide_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Integer_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %uint)*, %shadow.standard..Object* (%shadow.standard..Object*, %int)*, %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..Integer_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Integer_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..uint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %uint (%uint, %int)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %int (%uint, %uint)*, %int (%uint, %ulong)*, %int (%uint, %long)*, %int (%uint, %float)*, %int (%uint, %double)*, %uint (%uint, %shadow.standard..AddressMap*)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %boolean (%uint, %uint)*, %boolean (%uint, %ulong)*, %boolean (%uint, %long)*, %boolean (%uint, %float)*, %boolean (%uint, %double)*, %uint (%uint)*, %uint (%uint)*, %uint (%uint)*, %double (%uint)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %uint (%uint)*, %double (%uint, %int)*, %double (%uint, %double)*, %double (%uint)*, %double (%uint)*, %uint (%uint, %uint)*, %ulong (%uint, %ulong)*, %long (%uint, %long)*, %float (%uint, %float)*, %double (%uint, %double)*, { %uint, %boolean } (%uint, %uint)*, %byte (%uint)*, %code (%uint)*, %double (%uint)*, %float (%uint)*, %int (%uint)*, %long (%uint)*, %short (%uint)*, %int (%uint)*, %shadow.standard..String* (%uint)*, %shadow.standard..String* (%uint, %uint)*, %ubyte (%uint)*, %uint (%uint)*, %ulong (%uint)*, %ushort (%uint)*, %uint (%uint)* }
+%shadow.standard..uint = type { %shadow.standard..Class*, %shadow.standard..uint_methods* , %uint }
+@shadow.standard..uint_class = external constant %shadow.standard..Class
+@shadow.standard..uint_methods = external constant %shadow.standard..uint_methods
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+%shadow.standard..ulong_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %ulong (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %uint)*, %ulong (%ulong, %int)*, %ulong (%ulong, %ulong)*, %int (%ulong, %ulong)*, %int (%ulong, %double)*, %ulong (%ulong, %shadow.standard..AddressMap*)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %boolean (%ulong, %ulong)*, %boolean (%ulong, %double)*, %ulong (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %double (%ulong)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %ulong (%ulong)*, %double (%ulong, %int)*, %double (%ulong, %double)*, %double (%ulong)*, %double (%ulong)*, %ulong (%ulong, %ulong)*, %double (%ulong, %double)*, %byte (%ulong)*, %code (%ulong)*, %double (%ulong)*, %float (%ulong)*, %int (%ulong)*, %long (%ulong)*, %short (%ulong)*, %long (%ulong)*, %shadow.standard..String* (%ulong)*, %shadow.standard..String* (%ulong, %uint)*, %ubyte (%ulong)*, %uint (%ulong)*, %ulong (%ulong)*, %ushort (%ulong)*, %ulong (%ulong)* }
+%shadow.standard..ulong = type { %shadow.standard..Class*, %shadow.standard..ulong_methods* , %ulong }
+@shadow.standard..ulong_class = external constant %shadow.standard..Class
+@shadow.standard..ulong_methods = external constant %shadow.standard..ulong_methods
+%shadow.standard..Number_methods = type { %byte (%shadow.standard..Object*)*, %code (%shadow.standard..Object*)*, %double (%shadow.standard..Object*)*, %float (%shadow.standard..Object*)*, %int (%shadow.standard..Object*)*, %long (%shadow.standard..Object*)*, %short (%shadow.standard..Object*)*, %ubyte (%shadow.standard..Object*)*, %uint (%shadow.standard..Object*)*, %ulong (%shadow.standard..Object*)*, %ushort (%shadow.standard..Object*)* }
+@shadow.standard..Number_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..Number_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_shadow.standard..Object_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Object_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..Object_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanIndexNullable_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanIndexNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanIterateNullable_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap_methods = type { %shadow.standard..AddressMap* (%shadow.standard..AddressMap*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %shadow.standard..AddressMap* (%shadow.standard..AddressMap*)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %boolean (%shadow.standard..AddressMap*, %ulong)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, void (%shadow.standard..AddressMap*, %ulong, %ulong)*, %boolean (%shadow.standard..AddressMap*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..AddressMap*)*, %shadow.standard..ulong* (%shadow.standard..AddressMap*, %ulong)*, %int (%shadow.standard..AddressMap*)* }
+%shadow.standard..AddressMap = type { %shadow.standard..Class*, %shadow.standard..AddressMap_methods* , { %shadow.standard..AddressMap.Node**, [1 x %int] }, %float, %int, %int, %int }
+@shadow.standard..AddressMap_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap_methods = external constant %shadow.standard..AddressMap_methods
+@_parametersshadow.standard..CanSubtract_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..InterfaceCreateException_methods = type { %shadow.standard..InterfaceCreateException* (%shadow.standard..InterfaceCreateException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..InterfaceCreateException = type { %shadow.standard..Class*, %shadow.standard..InterfaceCreateException_methods* , %shadow.standard..String* }
+@shadow.standard..InterfaceCreateException_class = external constant %shadow.standard..Class
+@shadow.standard..InterfaceCreateException_methods = external constant %shadow.standard..InterfaceCreateException_methods
+@_parametersshadow.standard..Number_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..ArrayNullable_methods = type { %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..Class* (%shadow.standard..ArrayNullable*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] })*, void (%shadow.standard..ArrayNullable*, { %int*, [1 x %int] }, %shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..ArrayNullable*, %int)*, void (%shadow.standard..ArrayNullable*, %int, %shadow.standard..Object*)*, { %shadow.standard..IteratorNullable_methods*, %shadow.standard..Object* } (%shadow.standard..ArrayNullable*)*, { %int*, [1 x %int] } (%shadow.standard..ArrayNullable*)*, %int (%shadow.standard..ArrayNullable*)*, %shadow.standard..ArrayNullable* (%shadow.standard..ArrayNullable*, %int, %int)* }
+%shadow.standard..ArrayNullable = type { %shadow.standard..Class*, %shadow.standard..ArrayNullable_methods* , %shadow.standard..Object*, { %int*, [1 x %int] } }
+@shadow.standard..ArrayNullable_class = external constant %shadow.standard..Class
+@_interfaceDatashadow.standard..ArrayNullable = external constant [3 x %shadow.standard..Object*]
+@shadow.standard..ArrayNullable_methods = external constant %shadow.standard..ArrayNullable_methods
+@_layoutshadow.standard..ArrayNullable = external constant [2 x %int]
+%shadow.standard..long_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ulong (%long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %long (%long)*, %long (%long, %long)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %uint)*, %long (%long, %int)*, %long (%long, %long)*, %int (%long, %long)*, %int (%long, %double)*, %long (%long, %shadow.standard..AddressMap*)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %boolean (%long, %long)*, %boolean (%long, %double)*, %long (%long)*, %uint (%long)*, %long (%long)*, %double (%long)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %long (%long, %long)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long, %long)*, %double (%long, %double)*, %long (%long)*, %long (%long)*, %double (%long, %int)*, %double (%long, %double)*, %double (%long)*, %double (%long)*, %long (%long, %long)*, %double (%long, %double)*, %byte (%long)*, %code (%long)*, %double (%long)*, %float (%long)*, %int (%long)*, %long (%long)*, %short (%long)*, %shadow.standard..String* (%long)*, %shadow.standard..String* (%long, %uint)*, %ubyte (%long)*, %uint (%long)*, %ulong (%long)*, %ushort (%long)*, %ulong (%long)*, %long (%long)* }
+%shadow.standard..long = type { %shadow.standard..Class*, %shadow.standard..long_methods* , %long }
+@shadow.standard..long_class = external constant %shadow.standard..Class
+@shadow.standard..long_methods = external constant %shadow.standard..long_methods
+@_interfacesshadow.standard..Array_L_shadow.standard..Class_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..int_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %uint (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %uint)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %int (%int, %int)*, %int (%int, %long)*, %int (%int, %float)*, %int (%int, %double)*, %int (%int, %shadow.standard..AddressMap*)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %boolean (%int, %int)*, %boolean (%int, %long)*, %boolean (%int, %float)*, %boolean (%int, %double)*, %int (%int)*, %uint (%int)*, %int (%int)*, %double (%int)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %int (%int, %int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %int (%int)*, %int (%int)*, %double (%int, %int)*, %double (%int, %double)*, %double (%int)*, %double (%int)*, %int (%int, %int)*, %long (%int, %long)*, %float (%int, %float)*, %double (%int, %double)*, { %int, %boolean } (%int, %int)*, %byte (%int)*, %code (%int)*, %double (%int)*, %float (%int)*, %int (%int)*, %long (%int)*, %short (%int)*, %shadow.standard..String* (%int)*, %shadow.standard..String* (%int, %uint)*, %ubyte (%int)*, %uint (%int)*, %ulong (%int)*, %ushort (%int)*, %uint (%int)*, %int (%int)* }
+%shadow.standard..int = type { %shadow.standard..Class*, %shadow.standard..int_methods* , %int }
+@shadow.standard..int_class = external constant %shadow.standard..Class
+@shadow.standard..int_methods = external constant %shadow.standard..int_methods
+%shadow.standard..FloatingPoint_methods = type { %shadow.standard..Object* (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..FloatingPoint_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..FloatingPoint_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+%shadow.standard..CanModulus_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanModulus_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.utility..IllegalModificationException_methods = type { %shadow.utility..IllegalModificationException* (%shadow.utility..IllegalModificationException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.utility..IllegalModificationException = type { %shadow.standard..Class*, %shadow.utility..IllegalModificationException_methods* , %shadow.standard..String* }
+@shadow.utility..IllegalModificationException_class = external constant %shadow.standard..Class
+@shadow.utility..IllegalModificationException_methods = external constant %shadow.utility..IllegalModificationException_methods
+@_parametersshadow.standard..CanNegate_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CanMultiply_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }
+@shadow.standard..CanMultiply_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanMultiply_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet_methods = type { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })*, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)*, %boolean (%shadow.standard..ClassSet*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }
+%shadow.standard..ClassSet = type { %shadow.standard..Class*, %shadow.standard..ClassSet_methods* , { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }, %float, %int, %int, %int }
+@_parametersshadow.standard..Integer_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IndexOutOfBoundsException_methods = type { %shadow.standard..IndexOutOfBoundsException* (%shadow.standard..IndexOutOfBoundsException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..IndexOutOfBoundsException = type { %shadow.standard..Class*, %shadow.standard..IndexOutOfBoundsException_methods* , %shadow.standard..String* }
+@shadow.standard..IndexOutOfBoundsException_class = external constant %shadow.standard..Class
+@shadow.standard..IndexOutOfBoundsException_methods = external constant %shadow.standard..IndexOutOfBoundsException_methods
+%shadow.utility..Set_methods = type { %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %boolean (%shadow.standard..Object*)*, %boolean (%shadow.standard..Object*, %shadow.standard..Object*)*, %int (%shadow.standard..Object*)* }
+@shadow.utility..Set_class = external constant %shadow.standard..Class
+@_parametersshadow.utility..Set_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..Exception_methods = type { %shadow.standard..Exception* (%shadow.standard..Exception*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..Exception = type { %shadow.standard..Class*, %shadow.standard..Exception_methods* , %shadow.standard..String* }
+@shadow.standard..Exception_class = external constant %shadow.standard..Class
+@shadow.standard..Exception_methods = external constant %shadow.standard..Exception_methods
+@_parametersshadow.standard..CanIndexNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..AddressMap.Node_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..AddressMap.Node_methods* @shadow.standard..AddressMap.Node_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet.ClassSetIterator_methods = type { %shadow.standard..ClassSet.ClassSetIterator* (%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet.ClassSetIterator*)*, %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.Node*)*, %shadow.standard..Class* (%shadow.standard..ClassSet.ClassSetIterator*)* }
+%shadow.standard..ClassSet.ClassSetIterator = type { %shadow.standard..Class*, %shadow.standard..ClassSet.ClassSetIterator_methods* , %shadow.standard..ClassSet*, %shadow.standard..ClassSet.Node*, %int, %int, %int }
+@_interfacesshadow.standard..ArrayNullable_L_shadow.standard..Class_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStoreNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterateNullable_L_shadow.standard..Class_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..ArrayNullable_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..String_methods = type { %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..String*)*, { %byte*, [1 x %int] } (%shadow.standard..String*)*, { %code*, [1 x %int] } (%shadow.standard..String*)*, %int (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %shadow.standard..Object*)*, %boolean (%shadow.standard..String*, %shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %byte (%shadow.standard..String*, %int)*, %boolean (%shadow.standard..String*)*, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*, %int)*, %shadow.standard..String* (%shadow.standard..String*, %int, %int)*, %byte (%shadow.standard..String*)*, %double (%shadow.standard..String*)*, %float (%shadow.standard..String*)*, %int (%shadow.standard..String*)*, %long (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)*, %short (%shadow.standard..String*)*, %ubyte (%shadow.standard..String*)*, %uint (%shadow.standard..String*)*, %ulong (%shadow.standard..String*)*, %ushort (%shadow.standard..String*)*, %shadow.standard..String* (%shadow.standard..String*)* }
+%shadow.standard..String = type { %shadow.standard..Class*, %shadow.standard..String_methods* , { %byte*, [1 x %int] }, %boolean }
+@shadow.standard..String_class = external constant %shadow.standard..Class
+@shadow.standard..String_methods = external constant %shadow.standard..String_methods
+@_parametersshadow.standard..CanEqual_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..IteratorNullable_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..IteratorNullable_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Iterator_methods = type { %boolean (%shadow.standard..Object*)*, %shadow.standard..Object* (%shadow.standard..Object*)* }
+@shadow.standard..Iterator_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanModulus_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+%shadow.standard..Class_methods = type { %shadow.standard..Class* (%shadow.standard..Class*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)* }
+%shadow.standard..Class = type { %shadow.standard..Class*, %shadow.standard..Class_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int }
+@shadow.standard..Class_class = external constant %shadow.standard..Class
+@shadow.standard..Class_methods = external constant %shadow.standard..Class_methods
+@_parametersshadow.standard..CanAdd_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanNegate_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+%shadow.standard..CastException_methods = type { %shadow.standard..CastException* (%shadow.standard..CastException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..CastException = type { %shadow.standard..Class*, %shadow.standard..CastException_methods* , %shadow.standard..String* }
+@shadow.standard..CastException_class = external constant %shadow.standard..Class
+@shadow.standard..CastException_methods = external constant %shadow.standard..CastException_methods
+@_parametersshadow.standard..CanSubtract_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..FloatingPoint_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..float_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %float (%float, %float)*, %double (%float, %double)*, %uint (%float)*, %float (%float)*, %int (%float, %float)*, %int (%float, %double)*, %float (%float, %shadow.standard..AddressMap*)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %boolean (%float, %float)*, %boolean (%float, %double)*, %float (%float)*, %uint (%float)*, %boolean (%float)*, %boolean (%float)*, %boolean (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float)*, %double (%float, %double)*, %float (%float, %float, %float)*, %float (%float)*, %float (%float, %int)*, %float (%float, %float)*, %uint (%float)*, %float (%float)*, %float (%float)*, %float (%float)*, %float (%float, %float)*, %double (%float, %double)*, %byte (%float)*, %code (%float)*, %double (%float)*, %float (%float)*, %int (%float)*, %long (%float)*, %short (%float)*, %shadow.standard..String* (%float)*, %shadow.standard..String* (%float, %int, %int, %int)*, %ubyte (%float)*, %uint (%float)*, %ulong (%float)*, %ushort (%float)* }
+%shadow.standard..float = type { %shadow.standard..Class*, %shadow.standard..float_methods* , %float }
+@shadow.standard..float_class = external constant %shadow.standard..Class
+@shadow.standard..float_methods = external constant %shadow.standard..float_methods
+@_parametersshadow.standard..CanEqual_L_boolean_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+%shadow.standard..boolean_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %boolean (%boolean, %shadow.standard..AddressMap*)*, %boolean (%boolean, %boolean)*, %boolean (%boolean)*, %shadow.standard..String* (%boolean)* }
+%shadow.standard..boolean = type { %shadow.standard..Class*, %shadow.standard..boolean_methods* , %boolean }
+@shadow.standard..boolean_class = external constant %shadow.standard..Class
+@shadow.standard..boolean_methods = external constant %shadow.standard..boolean_methods
+%shadow.standard..GenericClass_methods = type { %shadow.standard..GenericClass* (%shadow.standard..GenericClass*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %uint (%shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..Object* (%shadow.standard..Class*, %shadow.standard..Class*, %int)*, { %shadow.standard..Class**, [1 x %int] } (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*)*, %boolean (%shadow.standard..Class*, %shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)*, %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)* }
+%shadow.standard..GenericClass = type { %shadow.standard..Class*, %shadow.standard..GenericClass_methods* , %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, %int, %int, { %shadow.standard..Object**, [1 x %int] } }
+@shadow.standard..GenericClass_class = external constant %shadow.standard..Class
+@shadow.standard..GenericClass_methods = external constant %shadow.standard..GenericClass_methods
+@_parametersshadow.standard..CanIndex_L_int_byte_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..ClassSet.Node_methods = type { %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %int (%shadow.standard..ClassSet.Node*)*, %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*)*, void (%shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node*)*, %shadow.standard..Class* (%shadow.standard..ClassSet.Node*)* }
+%shadow.standard..ClassSet.Node = type { %shadow.standard..Class*, %shadow.standard..ClassSet.Node_methods* , %shadow.standard..ClassSet*, %shadow.standard..ClassSet.Node*, %shadow.standard..Class*, %int }
+%shadow.standard..code_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code)*, %code (%code, %code)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %uint)*, %code (%code, %int)*, %code (%code, %code)*, %int (%code, %code)*, %code (%code, %shadow.standard..AddressMap*)*, %code (%code, %code)*, %boolean (%code, %code)*, %uint (%code)*, %code (%code, %code)*, %code (%code, %code)*, %code (%code, %code)*, %byte (%code)*, %code (%code)*, %double (%code)*, %float (%code)*, %int (%code)*, %long (%code)*, %code (%code)*, %short (%code)*, %shadow.standard..String* (%code)*, %ubyte (%code)*, %uint (%code)*, %ulong (%code)*, %ushort (%code)*, %code (%code)* }
+%shadow.standard..code = type { %shadow.standard..Class*, %shadow.standard..code_methods* , %code }
+@shadow.standard..code_class = external constant %shadow.standard..Class
+@shadow.standard..code_methods = external constant %shadow.standard..code_methods
+@_parametersshadow.standard..CanDivide_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_byte_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..byte_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..byte_methods* @shadow.standard..byte_methods to %shadow.standard..Object*)]
+%shadow.standard..CanHash_methods = type { %uint (%shadow.standard..Object*)* }
+@shadow.standard..CanHash_class = external constant %shadow.standard..Class
+@_parametersshadow.standard..CanEqual_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+%shadow.standard..UnexpectedNullException_methods = type { %shadow.standard..UnexpectedNullException* (%shadow.standard..UnexpectedNullException*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Exception*)*, %shadow.standard..String* (%shadow.standard..Exception*)* }
+%shadow.standard..UnexpectedNullException = type { %shadow.standard..Class*, %shadow.standard..UnexpectedNullException_methods* , %shadow.standard..String* }
+@shadow.standard..UnexpectedNullException_class = external constant %shadow.standard..Class
+@shadow.standard..UnexpectedNullException_methods = external constant %shadow.standard..UnexpectedNullException_methods
+@_parametersshadow.standard..Number_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+%shadow.standard..double_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %int (%double, %double)*, %double (%double, %shadow.standard..AddressMap*)*, %double (%double)*, %double (%double, %double)*, %boolean (%double, %double)*, %double (%double)*, %uint (%double)*, %boolean (%double)*, %boolean (%double)*, %boolean (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %double (%double, %double)*, %double (%double, %double, %double)*, %double (%double)*, %double (%double, %int)*, %double (%double, %double)*, %ulong (%double)*, %double (%double)*, %double (%double)*, %double (%double)*, %double (%double, %double)*, %byte (%double)*, %code (%double)*, %double (%double)*, %float (%double)*, %int (%double)*, %long (%double)*, %short (%double)*, %shadow.standard..String* (%double)*, %shadow.standard..String* (%double, %int, %int, %int)*, %ubyte (%double)*, %uint (%double)*, %ulong (%double)*, %ushort (%double)* }
+%shadow.standard..double = type { %shadow.standard..Class*, %shadow.standard..double_methods* , %double }
+@shadow.standard..double_class = external constant %shadow.standard..Class
+@shadow.standard..double_methods = external constant %shadow.standard..double_methods
+@_parametersshadow.standard..CanModulus_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_long_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..long_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..long_methods* @shadow.standard..long_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanSubtract_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+%shadow.standard..AddressMap.Node_methods = type { %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %int (%shadow.standard..AddressMap.Node*)*, %ulong (%shadow.standard..AddressMap.Node*)*, %shadow.standard..AddressMap.Node* (%shadow.standard..AddressMap.Node*)*, void (%shadow.standard..AddressMap.Node*, %shadow.standard..AddressMap.Node*)*, %ulong (%shadow.standard..AddressMap.Node*)*, void (%shadow.standard..AddressMap.Node*, %ulong)* }
+%shadow.standard..AddressMap.Node = type { %shadow.standard..Class*, %shadow.standard..AddressMap.Node_methods* , %ulong, %ulong, %shadow.standard..AddressMap*, %shadow.standard..AddressMap.Node*, %int }
+@shadow.standard..AddressMap.Node_class = external constant %shadow.standard..Class
+@shadow.standard..AddressMap.Node_methods = external constant %shadow.standard..AddressMap.Node_methods
+%shadow.standard..byte_methods = type { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..AddressMap*)*, %shadow.standard..Class* (%shadow.standard..Object*)*, %shadow.standard..String* (%shadow.standard..Object*)*, %ubyte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %uint)*, %byte (%byte, %int)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %int (%byte, %byte)*, %int (%byte, %short)*, %int (%byte, %int)*, %int (%byte, %long)*, %int (%byte, %float)*, %int (%byte, %double)*, %byte (%byte, %shadow.standard..AddressMap*)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %boolean (%byte, %byte)*, %boolean (%byte, %short)*, %boolean (%byte, %int)*, %boolean (%byte, %long)*, %boolean (%byte, %float)*, %boolean (%byte, %double)*, %uint (%byte)*, %short (%byte)*, %double (%byte)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %short (%byte)*, %double (%byte, %int)*, %double (%byte, %double)*, %double (%byte)*, %double (%byte)*, %byte (%byte, %byte)*, %short (%byte, %short)*, %int (%byte, %int)*, %long (%byte, %long)*, %float (%byte, %float)*, %double (%byte, %double)*, %byte (%byte)*, %code (%byte)*, %double (%byte)*, %float (%byte)*, %int (%byte)*, %long (%byte)*, %short (%byte)*, %shadow.standard..String* (%byte)*, %shadow.standard..String* (%byte, %uint)*, %ubyte (%byte)*, %uint (%byte)*, %ulong (%byte)*, %ushort (%byte)*, %ubyte (%byte)*, %short (%byte)* }
+%shadow.standard..byte = type { %shadow.standard..Class*, %shadow.standard..byte_methods* , %byte }
+@shadow.standard..byte_class = external constant %shadow.standard..Class
+@shadow.standard..byte_methods = external constant %shadow.standard..byte_methods
+@_parametersshadow.standard..Number_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Integer_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Object_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Object_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Object_methods* @shadow.standard..Object_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Number_L_int_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..int_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..int_methods* @shadow.standard..int_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..boolean_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_short_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..short_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..short_methods* @shadow.standard..short_methods to %shadow.standard..Object*)]
+@_interfacesshadow.standard..Array_L_uint_R = linkonce unnamed_addr constant [3 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_uint_R_class to %shadow.standard..Class*)]
+@_parametersshadow.standard..Array_L_uint_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..uint_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..uint_methods* @shadow.standard..uint_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_float_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..float_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..float_methods* @shadow.standard..float_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanMultiply_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..Iterator_L_shadow.standard..Class_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanModulus_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanDivide_L_double_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..double_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..double_methods* @shadow.standard..double_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_shadow.standard..String_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..String_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..String_methods* @shadow.standard..String_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanAdd_L_ulong_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..ulong_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..ulong_methods* @shadow.standard..ulong_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanCompare_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanEqual_L_code_R = linkonce unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..code_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..code_methods* @shadow.standard..code_methods to %shadow.standard..Object*)]
+@_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R = linkonce unnamed_addr constant [4 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Array_methods* @shadow.standard..Array_methods to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class* @shadow.standard..Class_class to %shadow.standard..Object*), %shadow.standard..Object* bitcast (%shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object*)]
+%shadow.standard..MutableString = type opaque
+@shadow.standard..MutableString_class = external constant %shadow.standard..Class
+%shadow.standard..ubyte = type opaque
+@shadow.standard..ubyte_class = external constant %shadow.standard..Class
+%shadow.standard..ushort = type opaque
+@shadow.standard..ushort_class = external constant %shadow.standard..Class
+
+@shadow.standard..CanCompare_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string0, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -614837492
+@shadow.standard..CanSubtract_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string1, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1222229600
+@shadow.standard..Array_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string2, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -407173983
+@shadow.standard..CanNegate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string3, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 753619851
+@shadow.standard..CanAdd_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string4, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836769634
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string5, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -356994277
+@shadow.standard..CanIndexStore_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string6, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1175716053
+@shadow.standard..CanCompare_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string7, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1246610368
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string8, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1478687623
+@shadow.standard..CanNegate_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string9, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1925237618
+@shadow.standard..CanEqual_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string10, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 48481171
+@shadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string11, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1207185102
+@shadow.utility..Map_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string12, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.utility..Map_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -760734298
+@shadow.standard..CanIndexStoreNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string13, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStoreNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1989392176
+@shadow.standard..CanDivide_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string14, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1034961744
+@shadow.standard..CanAdd_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string15, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -817019807
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string16, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1714259853
+@shadow.standard..Integer_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string17, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1894811860
+@shadow.standard..CanEqual_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string18, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1860147665
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string19, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -450236901
+@shadow.standard..Number_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string20, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1056652252
+@shadow.standard..Array_L_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string21, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -856997366
+@shadow.standard..Array_L_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string22, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1660001233
+@shadow.standard..CanDivide_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string23, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 387068279
+@shadow.standard..CanIterateNullable_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string24, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterateNullable_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 324322837
+@shadow.standard..CanSubtract_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string25, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1312294938
+@shadow.standard..Number_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string26, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 116531371
+@shadow.standard..CanDivide_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string27, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 396365410
+@shadow.standard..Integer_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string28, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934090727
+@shadow.standard..Array_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string29, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 282446005
+@shadow.standard..Number_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string30, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 108274309
+@shadow.standard..CanAdd_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string31, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1818559871
+@shadow.standard..FloatingPoint_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string32, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1268440865
+@shadow.standard..Number_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string33, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1156664001
+@shadow.standard..CanModulus_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string34, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 533524849
+@shadow.standard..CanNegate_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string35, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -460689675
+@shadow.standard..CanAdd_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string36, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -909297233
+@shadow.standard..Number_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string37, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 96729419
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string38, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_uint_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1313792084
+@shadow.standard..CanIterate_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string39, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -939151936
+@shadow.standard..CanMultiply_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string40, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 430741970
+@shadow.standard..Integer_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string41, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1145821498
+@shadow.utility..Set_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string42, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.utility..Set_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1762726130
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string43, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_int_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1317833215
+@shadow.standard..CanIndexNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string44, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -907056733
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string45, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..AddressMap.Node_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -386520900
+@shadow.standard..CanCompare_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string46, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 633898395
+@shadow.standard..CanMultiply_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string47, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -456138204
+@shadow.standard..CanDivide_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string48, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 388509431
+@shadow.standard..ArrayNullable_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string49, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..ArrayNullable, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..ArrayNullable_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..ArrayNullable, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..ArrayNullable* getelementptr (%shadow.standard..ArrayNullable, %shadow.standard..ArrayNullable* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..ArrayNullable_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1972268323
+@shadow.standard..CanEqual_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string50, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1400431898
+@shadow.standard..CanNegate_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string51, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1822352705
+@shadow.standard..CanMultiply_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string52, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2065392905
+@shadow.standard..CanModulus_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string53, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073700442
+@shadow.standard..CanAdd_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string54, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1535796805
+@shadow.standard..Integer_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string55, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1934400433
+@shadow.standard..CanDivide_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string56, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1312539763
+@shadow.standard..Integer_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string57, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1887298000
+@shadow.standard..CanMultiply_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string58, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 385153856
+@shadow.standard..Number_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string59, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1191610294
+@shadow.standard..CanModulus_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string60, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2073060302
+@shadow.standard..CanModulus_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string61, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 925638247
+@shadow.standard..CanNegate_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string62, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -653316866
+@shadow.standard..CanAdd_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string63, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1515906886
+@shadow.standard..CanAdd_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string64, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1836302091
+@shadow.standard..CanNegate_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string65, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanNegate_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1814844271
+@shadow.standard..CanSubtract_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string66, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1221994147
+@shadow.standard..CanSubtract_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string67, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2027559012
+@shadow.standard..CanSubtract_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string68, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1229316306
+@shadow.standard..CanModulus_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string69, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2046954923
+@shadow.standard..CanEqual_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string70, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1625286646
+@shadow.standard..FloatingPoint_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string71, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..FloatingPoint_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1330823819
+@shadow.standard..CanIterate_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string72, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -83483672
+@shadow.standard..CanSubtract_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string73, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1700420710
+@shadow.standard..CanAdd_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string74, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1844633863
+@shadow.standard..CanEqual_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string75, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1452006581
+@shadow.standard..CanCompare_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string76, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618062714
+@shadow.standard..CanEqual_L_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string77, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_boolean_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2050364089
+@shadow.standard..CanSubtract_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string78, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1522204523
+@shadow.standard..CanIterate_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string79, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -130211660
+@shadow.standard..CanDivide_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string80, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 369394583
+@shadow.standard..CanIndex_L_int_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string81, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_int_byte_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1839169429
+@shadow.standard..CanMultiply_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string82, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -560223045
+@shadow.standard..Integer_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string83, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1404790284
+@shadow.standard..CanCompare_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string84, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 625289059
+@shadow.standard..CanMultiply_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string85, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -413863579
+@shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string86, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 1677740281
+@shadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string87, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1561686997
+@shadow.standard..CanDivide_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string88, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -574662442
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string89, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_uint_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1603494223
+@shadow.standard..CanMultiply_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string90, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 373706103
+@shadow.standard..CanEqual_L_byte_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string91, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_byte_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1641538990
+@shadow.standard..CanEqual_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string92, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1049214073
+@shadow.standard..CanIndexNullable_L_ulong_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string93, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexNullable_L_ulong_ulong_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash 2075850646
+@shadow.standard..CanSubtract_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string94, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1237327183
+@shadow.standard..CanEqual_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string95, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -609179077
+@shadow.standard..Number_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string96, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -979033887
+@shadow.standard..CanModulus_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string97, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 2056213396
+@shadow.standard..CanEqual_L_long_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string98, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_long_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1632054308
+@shadow.standard..CanSubtract_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string99, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanSubtract_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1700025363
+@shadow.standard..CanIterate_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string100, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -272017585
+@shadow.standard..Number_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string101, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 97003609
+@shadow.standard..CanModulus_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string102, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -2118940081
+@shadow.standard..Integer_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string103, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Integer_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1465779911
+@shadow.standard..CanCompare_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string104, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1842819854
+@shadow.standard..CanIterate_L_shadow.standard..Object_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string105, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Object_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -191803297
+@shadow.standard..CanMultiply_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string106, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 190299513
+@shadow.standard..Number_L_int_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string107, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Number_L_int_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1577330257
+@shadow.standard..CanIterate_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string108, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIterate_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 892994620
+@shadow.standard..CanModulus_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string109, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 884966679
+@shadow.standard..CanDivide_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string110, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -666082561
+@shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string111, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndex_L_shadow.standard..Class_boolean_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -828200708
+@shadow.standard..CanCompare_L_short_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string112, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_short_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -548843634
+@shadow.standard..Array_L_uint_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string113, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr ([3 x %shadow.standard..Object*], [3 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 3] }, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([3 x %shadow.standard..Class*], [3 x %shadow.standard..Class*]* @_interfacesshadow.standard..Array_L_uint_R, i32 0, i32 0), [1 x %int] [%int 3] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..Array, i32 0, i32 0), [1 x %int] [%int 2] }, %int 4, %int ptrtoint (%shadow.standard..Array* getelementptr (%shadow.standard..Array, %shadow.standard..Array* null, i32 1) to i32), { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Array_L_uint_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 936913500
+@shadow.standard..CanCompare_L_float_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string114, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_float_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1220137894
+@shadow.standard..CanMultiply_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string115, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanMultiply_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 377281404
+@shadow.standard..Iterator_L_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string116, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..Iterator_L_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 313292701
+@shadow.standard..CanModulus_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string117, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanModulus_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1008311064
+@shadow.standard..CanDivide_L_double_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string118, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanDivide_L_double_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 1162400057
+@shadow.standard..CanCompare_L_shadow.standard..String_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string119, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_shadow.standard..String_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -581885714
+@shadow.standard..CanAdd_L_ulong_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string120, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanAdd_L_ulong_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -900569825
+@shadow.standard..CanCompare_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string121, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanCompare_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash 618608567
+@shadow.standard..CanEqual_L_code_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string122, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_parametersshadow.standard..CanEqual_L_code_R, i32 0, i32 0), [1 x %int] [%int 2] } } ; hash -1640586727
+@shadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R_class = weak_odr unnamed_addr constant  %shadow.standard..GenericClass { %shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods, %shadow.standard..String* @_string123, %shadow.standard..Class* null, { %shadow.standard..Object**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %shadow.standard..Class**, [1 x %int] }  zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 4, %int -1, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([4 x %shadow.standard..Object*], [4 x %shadow.standard..Object*]* @_parametersshadow.standard..CanIndexStore_L_shadow.standard..Array_L_int_R_shadow.standard..Class_R, i32 0, i32 0), [1 x %int] [%int 4] } } ; hash -1437515273
+
+@int_A1_class = weak_odr unnamed_addr constant  %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string124, %shadow.standard..Class* @shadow.standard..int_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([2 x %shadow.standard..Object*], [2 x %shadow.standard..Object*]* @_genericArraysint_A1, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %shadow.standard..Class**, [1 x %int] } zeroinitializer, { %int*, [1 x %int] } zeroinitializer, %int 8, %int 1 } ; hash 95386055
+
+@_genericArraysint_A1 = private unnamed_addr constant [2 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast (%shadow.standard..GenericClass* @shadow.standard..Array_L_int_R_class to %shadow.standard..Object*), %shadow.standard..Object* null]
+declare i32 @__shadow_personality_v0(...)
+declare void @__shadow_throw(%shadow.standard..Object*) noreturn
+declare %shadow.standard..Exception* @__shadow_catch(i8* nocapture) nounwind
+declare i32 @llvm.eh.typeid.for(i8*) nounwind readnone
+declare void @llvm.memcpy.p0i8.p0i8.i32(i8*, i8*, i32, i32, i1)
+declare void @__arrayStore(%shadow.standard..Object**, %int, %shadow.standard..Object*, %shadow.standard..Class*)
+declare %shadow.standard..Object* @__arrayLoad(%shadow.standard..Object**, %int, %shadow.standard..Class*, %shadow.standard..Object*, %boolean)
+declare void @free(i8*) nounwind
+declare void @__shadow_addRoot(i8**) nounwind
+declare noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class*, %shadow.standard..Object_methods*, %int)
+
+; shadow:standard@ClassSet
+
+; 0: class (Class)
+; 1: _methods
+; 2: fixedClasses (shadow:standard@Class[])
+; 3: table (shadow:standard@ClassSet:Node[])
+; 4: fixedHashes (int[])
+; 5: fixedSeeds (uint[])
+; 6: loadFactor (float)
+; 7: modifications (int)
+; 8: size (int)
+; 9: threshold (int)
+
+@shadow.standard..ClassSet_CDEFAULT_INITIAL_CAPACITY = constant %int 16
+@shadow.standard..ClassSet_CMAXIMUM_CAPACITY = constant %int 1073741824
+@shadow.standard..ClassSet_CDEFAULT_LOAD_FACTOR = constant %float 0x3fe8000000000000
+@_class0 = private unnamed_addr constant { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* } { %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..ClassSet_Mindex_shadow.standard..Class_W_shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R }
+@_class1 = private unnamed_addr constant { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* } { { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_Miterator }
+@_class2 = private unnamed_addr constant { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* } { void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* @shadow.standard..ClassSet_Mindex_shadow.standard..Class_boolean_W_shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R }
+@_class7 = private unnamed_addr constant { %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %boolean (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* } { %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Madd_shadow.standard..Class, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)* @shadow.standard..ClassSet_Mclear_W_shadow.utility..Set_L_shadow.standard..Class_R, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Mcontains_shadow.standard..Class, %boolean (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_MisEmpty, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Mremove_shadow.standard..Class, %int (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_Msize }
+@_interfaceDatashadow.standard..ClassSet = unnamed_addr constant [8 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %shadow.standard..Object* (%shadow.standard..Object*, %shadow.standard..Object*)* }* @_class0 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ void (%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)* }* @_class2 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* }* @_class1 to %shadow.standard..Object*), %shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, { %shadow.utility..Set_methods*, %shadow.standard..Object* } (%shadow.standard..Object*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %boolean (%shadow.standard..ClassSet*)*, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)*, %int (%shadow.standard..ClassSet*)* }* @_class7 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..ClassSet = private unnamed_addr constant [8 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..CanIterate_L_shadow.standard..Class_R_class to %shadow.standard..Class*), %shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.utility..Set_L_shadow.standard..Class_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..ClassSet = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..ClassSet_class]
+@_layoutshadow.standard..ClassSet = unnamed_addr constant [4 x %int] [%int ptrtoint ({ %shadow.standard..Class**, [1 x %int] }* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 0, i32 2) to %int), %int ptrtoint ({ %shadow.standard..ClassSet.Node**, [1 x %int] }* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 0, i32 3) to %int), %int ptrtoint ({ %int*, [1 x %int] }* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 0, i32 4) to %int), %int ptrtoint ({ %uint*, [1 x %int] }* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 0, i32 5) to %int)]
+@shadow.standard..ClassSet_methods = constant %shadow.standard..ClassSet_methods { %shadow.standard..ClassSet* (%shadow.standard..ClassSet*, %shadow.standard..AddressMap*)* @shadow.standard..ClassSet_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Madd_shadow.standard..Class, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)* @shadow.standard..ClassSet_MaddArray_shadow.standard..String_shadow.standard..Class_int, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1, %shadow.standard..ClassSet* (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_Mclear, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Mcontains_shadow.standard..Class, %shadow.standard..Class* (%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int)* @shadow.standard..ClassSet_MfindArray_shadow.standard..String_shadow.standard..Class_int, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] })* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1, %shadow.standard..GenericClass* (%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean)* @shadow.standard..ClassSet_MgetGenericArray_shadow.standard..String_shadow.standard..Object_A1_boolean, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Mindex_shadow.standard..Class, void (%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean)* @shadow.standard..ClassSet_Mindex_shadow.standard..Class_boolean, %boolean (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_MisEmpty, { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_Miterator, %boolean (%shadow.standard..ClassSet*, %shadow.standard..Class*)* @shadow.standard..ClassSet_Mremove_shadow.standard..Class, %int (%shadow.standard..ClassSet*)* @shadow.standard..ClassSet_Msize }
+@shadow.standard..ClassSet_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string125, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([8 x %shadow.standard..Object*], [8 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..ClassSet, i32 0, i32 0), [1 x %int] [%int 8] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..ClassSet, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([8 x %shadow.standard..Class*], [8 x %shadow.standard..Class*]* @_interfacesshadow.standard..ClassSet, i32 0, i32 0), [1 x %int] [%int 8] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([4 x %int], [4 x %int]* @_layoutshadow.standard..ClassSet, i32 0, i32 0), [1 x %int] [%int 4] }, %int 0, %int ptrtoint (%shadow.standard..ClassSet* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 1) to i32) }
+
+; shadow:standard@ClassSet:Node
+
+; 0: class (Class)
+; 1: _methods
+; 2: _outer (shadow:standard@ClassSet)
+; 3: next (shadow:standard@ClassSet:Node)
+; 4: value (shadow:standard@Class)
+; 5: hash (int)
+
+@_interfaceDatashadow.standard..ClassSet.Node = unnamed_addr constant [0 x %shadow.standard..Object*] []
+@_interfacesshadow.standard..ClassSet.Node = private unnamed_addr constant [0 x %shadow.standard..Class*] []
+@_displayshadow.standard..ClassSet.Node = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..ClassSet.Node_class]
+@_layoutshadow.standard..ClassSet.Node = unnamed_addr constant [3 x %int] [%int ptrtoint (%shadow.standard..ClassSet** getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 0, i32 2) to %int), %int ptrtoint (%shadow.standard..ClassSet.Node** getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 0, i32 3) to %int), %int ptrtoint (%shadow.standard..Class** getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 0, i32 4) to %int)]
+@shadow.standard..ClassSet.Node_methods = constant %shadow.standard..ClassSet.Node_methods { %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*, %shadow.standard..AddressMap*)* @shadow.standard..ClassSet.Node_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %int (%shadow.standard..ClassSet.Node*)* @shadow.standard..ClassSet.Node_Mhash, %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.Node*)* @shadow.standard..ClassSet.Node_Mnext, void (%shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node*)* @shadow.standard..ClassSet.Node_Mnext_shadow.standard..ClassSet.Node, %shadow.standard..Class* (%shadow.standard..ClassSet.Node*)* @shadow.standard..ClassSet.Node_Mvalue }
+@shadow.standard..ClassSet.Node_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string126, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([0 x %shadow.standard..Object*], [0 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..ClassSet.Node, i32 0, i32 0), [1 x %int] [%int 0] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..ClassSet.Node, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([0 x %shadow.standard..Class*], [0 x %shadow.standard..Class*]* @_interfacesshadow.standard..ClassSet.Node, i32 0, i32 0), [1 x %int] [%int 0] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([3 x %int], [3 x %int]* @_layoutshadow.standard..ClassSet.Node, i32 0, i32 0), [1 x %int] [%int 3] }, %int 0, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32) }
+
+; shadow:standard@ClassSet:ClassSetIterator
+
+; 0: class (Class)
+; 1: _methods
+; 2: _outer (shadow:standard@ClassSet)
+; 3: current (shadow:standard@ClassSet:Node)
+; 4: expectedModifications (int)
+; 5: fixedIndex (int)
+; 6: index (int)
+
+@_class8 = private unnamed_addr constant { %boolean (%shadow.standard..ClassSet.ClassSetIterator*)*, %shadow.standard..Class* (%shadow.standard..ClassSet.ClassSetIterator*)* } { %boolean (%shadow.standard..ClassSet.ClassSetIterator*)* @shadow.standard..ClassSet.ClassSetIterator_MhasNext, %shadow.standard..Class* (%shadow.standard..ClassSet.ClassSetIterator*)* @shadow.standard..ClassSet.ClassSetIterator_Mnext }
+@_interfaceDatashadow.standard..ClassSet.ClassSetIterator = unnamed_addr constant [1 x %shadow.standard..Object*] [%shadow.standard..Object* bitcast ({ %boolean (%shadow.standard..ClassSet.ClassSetIterator*)*, %shadow.standard..Class* (%shadow.standard..ClassSet.ClassSetIterator*)* }* @_class8 to %shadow.standard..Object*)]
+@_interfacesshadow.standard..ClassSet.ClassSetIterator = private unnamed_addr constant [1 x %shadow.standard..Class*] [%shadow.standard..Class* bitcast (%shadow.standard..GenericClass* @shadow.standard..Iterator_L_shadow.standard..Class_R_class to %shadow.standard..Class*)]
+@_displayshadow.standard..ClassSet.ClassSetIterator = private unnamed_addr constant [2 x %shadow.standard..Class*] [%shadow.standard..Class* @shadow.standard..Object_class, %shadow.standard..Class* @shadow.standard..ClassSet.ClassSetIterator_class]
+@_layoutshadow.standard..ClassSet.ClassSetIterator = unnamed_addr constant [2 x %int] [%int ptrtoint (%shadow.standard..ClassSet** getelementptr (%shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* null, i32 0, i32 2) to %int), %int ptrtoint (%shadow.standard..ClassSet.Node** getelementptr (%shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* null, i32 0, i32 3) to %int)]
+@shadow.standard..ClassSet.ClassSetIterator_methods = constant %shadow.standard..ClassSet.ClassSetIterator_methods { %shadow.standard..ClassSet.ClassSetIterator* (%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..AddressMap*)* @shadow.standard..ClassSet.ClassSetIterator_Mcopy_shadow.standard..AddressMap, %shadow.standard..Class* (%shadow.standard..Object*)* @shadow.standard..Object_MgetClass, %shadow.standard..String* (%shadow.standard..Object*)* @shadow.standard..Object_MtoString, %boolean (%shadow.standard..ClassSet.ClassSetIterator*)* @shadow.standard..ClassSet.ClassSetIterator_MhasNext, %shadow.standard..ClassSet.Node* (%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.Node*)* @shadow.standard..ClassSet.ClassSetIterator_Mnext_shadow.standard..ClassSet.Node, %shadow.standard..Class* (%shadow.standard..ClassSet.ClassSetIterator*)* @shadow.standard..ClassSet.ClassSetIterator_Mnext }
+@shadow.standard..ClassSet.ClassSetIterator_class = constant %shadow.standard..Class { %shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Class_methods* @shadow.standard..Class_methods, %shadow.standard..String* @_string127, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Object**, [1 x %int] } { %shadow.standard..Object** getelementptr inbounds ([1 x %shadow.standard..Object*], [1 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..ClassSet.ClassSetIterator, i32 0, i32 0), [1 x %int] [%int 1] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([2 x %shadow.standard..Class*], [2 x %shadow.standard..Class*]* @_displayshadow.standard..ClassSet.ClassSetIterator, i32 0, i32 0), [1 x %int] [%int 2] }, { %shadow.standard..Class**, [1 x %int] } { %shadow.standard..Class** getelementptr inbounds ([1 x %shadow.standard..Class*], [1 x %shadow.standard..Class*]* @_interfacesshadow.standard..ClassSet.ClassSetIterator, i32 0, i32 0), [1 x %int] [%int 1] }, { %int*, [1 x %int] } { %int* getelementptr inbounds ([2 x %int], [2 x %int]* @_layoutshadow.standard..ClassSet.ClassSetIterator, i32 0, i32 0), [1 x %int] [%int 2] }, %int 0, %int ptrtoint (%shadow.standard..ClassSet.ClassSetIterator* getelementptr (%shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* null, i32 1) to i32) }
+
+define %int @shadow.standard..ClassSet_McountFixed(%shadow.standard..ClassSet*) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    br label %_label9
+_label8:
+    %2 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %2, i32 0, i32 2
+    %4 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %3
+    %5 = bitcast %int %i.14 to %uint
+    %6 = extractvalue { %shadow.standard..Class**, [1 x %int] } %4, 1, 0
+    %7 = bitcast %int %6 to %uint
+    %8 = icmp ult %uint %5, %7
+    br %boolean %8, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %9 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %10 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %9, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %11 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %10, %int %i.14)
+    %12 = bitcast %shadow.standard..IndexOutOfBoundsException* %11 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %12) noreturn
+    unreachable
+_label5:
+    %13 = extractvalue { %shadow.standard..Class**, [1 x %int] } %4, 0
+    %14 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %13, %int %i.14
+    %15 = load %shadow.standard..Class*, %shadow.standard..Class** %14
+    %16 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %17 = icmp eq %shadow.standard..Class* %15, %16
+    %18 = xor %boolean -1, %17
+    br %boolean %18, label %_label6, label %_label7
+_label6:
+    %count.5 = add %int %count.19, 1
+    br label %_label7
+_label7:
+    %count.21 = phi %int [ %count.5, %_label6 ],[ %count.19, %_label5 ]
+    br label %_label2
+_label2:
+    %i.4 = add %int %i.14, 1
+    br label %_label9
+_label9:
+    %count.19 = phi %int [ %count.21, %_label2 ],[ 0, %_label0 ]
+    %i.14 = phi %int [ %i.4, %_label2 ],[ 0, %_label0 ]
+    %19 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %20 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %19, i32 0, i32 2
+    %21 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %20
+    %22 = extractvalue { %shadow.standard..Class**, [1 x %int] } %21, 1, 0
+    %23 = icmp slt %int %i.14, %22
+    br %boolean %23, label %_label8, label %_label1
+_label1:
+    ret %int %count.19
+}
+
+define %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet*, %int) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %3, i32 0, i32 2
+    %5 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %4
+    %6 = extractvalue { %shadow.standard..Class**, [1 x %int] } %5, 1, 0
+    %7 = icmp eq %int %6, 0
+    br %boolean %7, label %_label2, label %_label3
+_label2:
+    %8 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    ret %shadow.standard..Class* %8
+_label3:
+    %9 = bitcast %int %1 to %uint
+    %10 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %11 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %10, i32 0, i32 5
+    %12 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %11
+    %13 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %14 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %13, i32 0, i32 5
+    %15 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %14
+    %16 = extractvalue { %uint*, [1 x %int] } %15, 1, 0
+    %17 = sub %int %16, 1
+    %18 = and %int %1, %17
+    %19 = bitcast %int %18 to %uint
+    %20 = extractvalue { %uint*, [1 x %int] } %12, 1, 0
+    %21 = bitcast %int %20 to %uint
+    %22 = icmp ult %uint %19, %21
+    br %boolean %22, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %23 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %24 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %23, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %25 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %24, %int %18)
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException* %25 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %26) noreturn
+    unreachable
+_label6:
+    %27 = extractvalue { %uint*, [1 x %int] } %12, 0
+    %28 = getelementptr inbounds %uint, %uint* %27, %int %18
+    %29 = load %uint, %uint* %28
+    %30 = xor %uint %9, %29
+    %mixed.3 = mul %uint %30, 2654435761
+    %31 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %mixed.3, %int 16)
+    %32 = xor %uint %mixed.3, %31
+    %33 = bitcast %uint %32 to %int
+    %34 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %35 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %34, i32 0, i32 2
+    %36 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %35
+    %37 = extractvalue { %shadow.standard..Class**, [1 x %int] } %36, 1, 0
+    %38 = sub %int %37, 1
+    %slot.4 = and %int %33, %38
+    %39 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %40 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %39, i32 0, i32 4
+    %41 = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %40
+    %42 = bitcast %int %slot.4 to %uint
+    %43 = extractvalue { %int*, [1 x %int] } %41, 1, 0
+    %44 = bitcast %int %43 to %uint
+    %45 = icmp ult %uint %42, %44
+    br %boolean %45, label %_label8, label %_label7
+_label8:
+    br label %_label9
+_label7:
+    %46 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %47 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %46, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %48 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %47, %int %slot.4)
+    %49 = bitcast %shadow.standard..IndexOutOfBoundsException* %48 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %49) noreturn
+    unreachable
+_label9:
+    %50 = extractvalue { %int*, [1 x %int] } %41, 0
+    %51 = getelementptr inbounds %int, %int* %50, %int %slot.4
+    %52 = load %int, %int* %51
+    %53 = icmp eq %int %52, %1
+    br %boolean %53, label %_label14, label %_label15
+_label14:
+    %54 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %55 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %54, i32 0, i32 2
+    %56 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %55
+    %57 = bitcast %int %slot.4 to %uint
+    %58 = extractvalue { %shadow.standard..Class**, [1 x %int] } %56, 1, 0
+    %59 = bitcast %int %58 to %uint
+    %60 = icmp ult %uint %57, %59
+    br %boolean %60, label %_label11, label %_label10
+_label11:
+    br label %_label12
+_label10:
+    %61 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %62 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %61, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %63 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %62, %int %slot.4)
+    %64 = bitcast %shadow.standard..IndexOutOfBoundsException* %63 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %64) noreturn
+    unreachable
+_label12:
+    %65 = extractvalue { %shadow.standard..Class**, [1 x %int] } %56, 0
+    %66 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %65, %int %slot.4
+    %67 = load %shadow.standard..Class*, %shadow.standard..Class** %66
+    ret %shadow.standard..Class* %67
+_label15:
+    %68 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    ret %shadow.standard..Class* %68
+}
+
+declare { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyClassArray(%shadow.standard..ClassSet*)
+
+declare { %shadow.standard..Object**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyObjectArray(%shadow.standard..ClassSet*)
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate(%shadow.standard..Object* returned) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    store %shadow.standard..ClassSet* %this.0, %shadow.standard..ClassSet** %this
+    %2 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %3 = bitcast %shadow.standard..ClassSet* %2 to %shadow.standard..Object*
+    %4 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int(%shadow.standard..Object* %3, %int 16)
+    %5 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %6 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    ret %shadow.standard..ClassSet* %6
+}
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int(%shadow.standard..Object* returned, %int) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    store %shadow.standard..ClassSet* %this.0, %shadow.standard..ClassSet** %this
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = bitcast %shadow.standard..ClassSet* %3 to %shadow.standard..Object*
+    %5 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_float(%shadow.standard..Object* %4, %int %1, %float 0x3fe8000000000000)
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    ret %shadow.standard..ClassSet* %7
+}
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_float(%shadow.standard..Object* returned, %int, %float) {
+    %_temp1 = alloca { %shadow.standard..Class**, [1 x %int] }
+    %this = alloca %shadow.standard..ClassSet*
+    %_temp3 = alloca { %int*, [1 x %int] }
+    %_temp4 = alloca { %uint*, [1 x %int] }
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    store %shadow.standard..ClassSet* %this.0, %shadow.standard..ClassSet** %this
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %5 = bitcast %shadow.standard..ClassSet* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %5)
+    %7 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %8 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %7, i32 0, i32 8
+    store %int 0, %int* %8
+    %9 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %10 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %13 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %12, i32 0, i32 7
+    store %int 0, %int* %13
+    %14 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    br label %_label2
+_label3:
+    %_temp.5 = call %int @shadow.standard..int_MbitShiftLeft_int(%int %capacity.13, %int 1)
+    br label %_label2
+_label2:
+    %loadFactor.21 = phi %float [ %loadFactor.21, %_label3 ],[ %2, %_label0 ]
+    %initialCapacity.14 = phi %int [ %initialCapacity.14, %_label3 ],[ %1, %_label0 ]
+    %capacity.13 = phi %int [ %_temp.5, %_label3 ],[ 1, %_label0 ]
+    %17 = icmp slt %int %capacity.13, %initialCapacity.14
+    br %boolean %17, label %_label3, label %_label1
+_label1:
+    %18 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %19 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %int %capacity.13)
+    %20 = bitcast %shadow.standard..Object* %19 to %shadow.standard..ClassSet.Node**
+    %21 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } zeroinitializer, %shadow.standard..ClassSet.Node** %20, 0
+    %22 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %21, %int %capacity.13, 1, 0
+    %23 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %18, i32 0, i32 3
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %22, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %23
+    %24 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %25 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %24, i32 0, i32 6
+    store %float %loadFactor.21, %float* %25
+    %26 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %27 = call %float @shadow.standard..int_Mmultiply_float(%int %capacity.13, %float %loadFactor.21)
+    %28 = fptosi %float %27 to %int
+    %29 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %26, i32 0, i32 9
+    store %int %28, %int* %29
+    %30 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %31 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Class_class, %int 0)
+    %32 = bitcast %shadow.standard..Object* %31 to %shadow.standard..Class**
+    %33 = insertvalue { %shadow.standard..Class**, [1 x %int] } zeroinitializer, %shadow.standard..Class** %32, 0
+    %34 = insertvalue { %shadow.standard..Class**, [1 x %int] } %33, %int 0, 1, 0
+    %35 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %36 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %35, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %37 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %36)
+    %38 = extractvalue { %shadow.standard..Class**, [1 x %int] } %34, 1, 0
+    %39 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Class_class, %int %38)
+    %40 = bitcast %shadow.standard..Object* %39 to %shadow.standard..Class**
+    %41 = insertvalue { %shadow.standard..Class**, [1 x %int] } zeroinitializer, %shadow.standard..Class** %40, 0
+    %_temp1.7 = insertvalue { %shadow.standard..Class**, [1 x %int] } %41, %int %38, 1, 0
+    store { %shadow.standard..Class**, [1 x %int] } %_temp1.7, { %shadow.standard..Class**, [1 x %int] }* %_temp1
+    %42 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %_temp1
+    br label %_label5
+_label5:
+    %_temp2.23 = phi %int [ -1, %_label1 ],[ %_temp2.9, %_label7 ],[ %_temp2.9, %_label6 ]
+    %_temp2.9 = add %int %_temp2.23, 1
+    %43 = icmp slt %int %_temp2.9, %38
+    br %boolean %43, label %_label6, label %_label4
+_label6:
+    %44 = extractvalue { %shadow.standard..Class**, [1 x %int] } %34, 0
+    %45 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %44, %int %_temp2.9
+    %46 = load %shadow.standard..Class*, %shadow.standard..Class** %45
+    %47 = icmp eq %shadow.standard..Class* %46, null
+    br %boolean %47, label %_label5, label %_label7
+_label7:
+    %48 = call %shadow.standard..Class* @shadow.standard..Class_Mcopy_shadow.standard..AddressMap(%shadow.standard..Class* %46, %shadow.standard..AddressMap* %37)
+    %49 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %_temp1
+    %50 = extractvalue { %shadow.standard..Class**, [1 x %int] } %49, 0
+    %51 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %50, %int %_temp2.9
+    store %shadow.standard..Class* %48, %shadow.standard..Class** %51
+    br label %_label5
+_label4:
+    %52 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %30, i32 0, i32 2
+    store { %shadow.standard..Class**, [1 x %int] } %42, { %shadow.standard..Class**, [1 x %int] }* %52
+    %53 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %54 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..int_class, %int 0)
+    %55 = bitcast %shadow.standard..Object* %54 to %int*
+    %56 = insertvalue { %int*, [1 x %int] } zeroinitializer, %int* %55, 0
+    %57 = insertvalue { %int*, [1 x %int] } %56, %int 0, 1, 0
+    %58 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %59 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %58, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %60 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %59)
+    %61 = extractvalue { %int*, [1 x %int] } %57, 1, 0
+    %62 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..int_class, %int %61)
+    %63 = bitcast %shadow.standard..Object* %62 to %int*
+    %64 = insertvalue { %int*, [1 x %int] } zeroinitializer, %int* %63, 0
+    %_temp3.10 = insertvalue { %int*, [1 x %int] } %64, %int %61, 1, 0
+    store { %int*, [1 x %int] } %_temp3.10, { %int*, [1 x %int] }* %_temp3
+    %65 = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %_temp3
+    %66 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..int_class)
+    %67 = mul %int %66, %61
+    %68 = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %_temp3
+    %69 = extractvalue { %int*, [1 x %int] } %68, 0
+    %70 = extractvalue { %int*, [1 x %int] } %57, 0
+    %71 = bitcast %int* %69 to i8*
+    %72 = bitcast %int* %70 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %71, i8* %72, i32 %67, i32 1, i1 0)
+    br label %_label8
+_label8:
+    %73 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %53, i32 0, i32 4
+    store { %int*, [1 x %int] } %65, { %int*, [1 x %int] }* %73
+    %74 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %75 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int 0)
+    %76 = bitcast %shadow.standard..Object* %75 to %uint*
+    %77 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %76, 0
+    %78 = insertvalue { %uint*, [1 x %int] } %77, %int 0, 1, 0
+    %79 = bitcast %shadow.standard..AddressMap_methods* @shadow.standard..AddressMap_methods to %shadow.standard..Object_methods*
+    %80 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..AddressMap_class, %shadow.standard..Object_methods* %79, %int ptrtoint (%shadow.standard..AddressMap* getelementptr (%shadow.standard..AddressMap, %shadow.standard..AddressMap* null, i32 1) to i32))
+    %81 = call %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* %80)
+    %82 = extractvalue { %uint*, [1 x %int] } %78, 1, 0
+    %83 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..uint_class, %int %82)
+    %84 = bitcast %shadow.standard..Object* %83 to %uint*
+    %85 = insertvalue { %uint*, [1 x %int] } zeroinitializer, %uint* %84, 0
+    %_temp4.11 = insertvalue { %uint*, [1 x %int] } %85, %int %82, 1, 0
+    store { %uint*, [1 x %int] } %_temp4.11, { %uint*, [1 x %int] }* %_temp4
+    %86 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp4
+    %87 = call %int @shadow.standard..Class_Mwidth(%shadow.standard..Class* @shadow.standard..uint_class)
+    %88 = mul %int %87, %82
+    %89 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %_temp4
+    %90 = extractvalue { %uint*, [1 x %int] } %89, 0
+    %91 = extractvalue { %uint*, [1 x %int] } %78, 0
+    %92 = bitcast %uint* %90 to i8*
+    %93 = bitcast %uint* %91 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %92, i8* %93, i32 %88, i32 1, i1 0)
+    br label %_label9
+_label9:
+    %94 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %74, i32 0, i32 5
+    store { %uint*, [1 x %int] } %86, { %uint*, [1 x %int] }* %94
+    %95 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %96 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    ret %shadow.standard..ClassSet* %96
+}
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_shadow.standard..Class_A1_int_A1_uint_A1(%shadow.standard..Object* returned, %int, { %shadow.standard..Class**, [1 x %int] }, { %int*, [1 x %int] }, { %uint*, [1 x %int] }) {
+    %seeds = alloca { %uint*, [1 x %int] }
+    %classes = alloca { %shadow.standard..Class**, [1 x %int] }
+    %this = alloca %shadow.standard..ClassSet*
+    %hashes = alloca { %int*, [1 x %int] }
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    store %shadow.standard..ClassSet* %this.0, %shadow.standard..ClassSet** %this
+    store { %shadow.standard..Class**, [1 x %int] } %2, { %shadow.standard..Class**, [1 x %int] }* %classes
+    store { %int*, [1 x %int] } %3, { %int*, [1 x %int] }* %hashes
+    store { %uint*, [1 x %int] } %4, { %uint*, [1 x %int] }* %seeds
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = bitcast %shadow.standard..ClassSet* %6 to %shadow.standard..Object*
+    %8 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcreate_int_float(%shadow.standard..Object* %7, %int %1, %float 0x3fe8000000000000)
+    %9 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %10 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %classes
+    %11 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %9, i32 0, i32 2
+    store { %shadow.standard..Class**, [1 x %int] } %10, { %shadow.standard..Class**, [1 x %int] }* %11
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %13 = load { %int*, [1 x %int] }, { %int*, [1 x %int] }* %hashes
+    %14 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %12, i32 0, i32 4
+    store { %int*, [1 x %int] } %13, { %int*, [1 x %int] }* %14
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = load { %uint*, [1 x %int] }, { %uint*, [1 x %int] }* %seeds
+    %17 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 5
+    store { %uint*, [1 x %int] } %16, { %uint*, [1 x %int] }* %17
+    %18 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %19 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %20 = call %int @shadow.standard..ClassSet_McountFixed(%shadow.standard..ClassSet* %19)
+    %21 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %18, i32 0, i32 8
+    store %int %20, %int* %21
+    %22 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %23 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet*
+    ret %shadow.standard..ClassSet* %23
+}
+
+declare { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MmakeClassArray_shadow.standard..Class_shadow.standard..Class_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..Class*, %shadow.standard..Class*)
+
+define %boolean @shadow.standard..ClassSet_MisGeneric_shadow.standard..GenericClass_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet*, %shadow.standard..GenericClass*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }) {
+    %other = alloca %shadow.standard..GenericClass*
+    %name = alloca %shadow.standard..String*
+    %parameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..GenericClass* %1, %shadow.standard..GenericClass** %other
+    store %shadow.standard..String* %2, %shadow.standard..String** %name
+    store { %shadow.standard..Object**, [1 x %int] } %3, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %5 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %other
+    %6 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %5, i32 0, i32 1
+    %7 = load %shadow.standard..GenericClass_methods*, %shadow.standard..GenericClass_methods** %6
+    %8 = getelementptr inbounds %shadow.standard..GenericClass_methods, %shadow.standard..GenericClass_methods* %7, i32 0, i32 23
+    %9 = load { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)** %8
+    %10 = call { %shadow.standard..Object**, [1 x %int] } %9(%shadow.standard..GenericClass* %5)
+    %11 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 1, 0
+    %12 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %13 = extractvalue { %shadow.standard..Object**, [1 x %int] } %12, 1, 0
+    %14 = icmp eq %int %11, %13
+    %15 = xor %boolean -1, %14
+    br %boolean %15, label %_label2, label %_label3
+_label2:
+    ret %boolean false
+_label3:
+    br label %_label15
+_label14:
+    br label %_label5
+_label5:
+    %i.9 = add %int %i.16, 2
+    br label %_label15
+_label15:
+    %i.16 = phi %int [ %i.9, %_label5 ],[ 0, %_label3 ]
+    %16 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %17 = extractvalue { %shadow.standard..Object**, [1 x %int] } %16, 1, 0
+    %_temp.7 = icmp slt %int %i.16, %17
+    br %boolean %_temp.7, label %_label13, label %_label12
+_label13:
+    %18 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %19 = bitcast %int %i.16 to %uint
+    %20 = extractvalue { %shadow.standard..Object**, [1 x %int] } %18, 1, 0
+    %21 = bitcast %int %20 to %uint
+    %22 = icmp ult %uint %19, %21
+    br %boolean %22, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %23 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %24 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %23, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %25 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %24, %int %i.16)
+    %26 = bitcast %shadow.standard..IndexOutOfBoundsException* %25 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %26) noreturn
+    unreachable
+_label8:
+    %27 = extractvalue { %shadow.standard..Object**, [1 x %int] } %18, 0
+    %28 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %27, %int %i.16
+    %29 = load %shadow.standard..Object*, %shadow.standard..Object** %28
+    %30 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %other
+    %31 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %30, i32 0, i32 1
+    %32 = load %shadow.standard..GenericClass_methods*, %shadow.standard..GenericClass_methods** %31
+    %33 = getelementptr inbounds %shadow.standard..GenericClass_methods, %shadow.standard..GenericClass_methods* %32, i32 0, i32 23
+    %34 = load { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)*, { %shadow.standard..Object**, [1 x %int] } (%shadow.standard..GenericClass*)** %33
+    %35 = call { %shadow.standard..Object**, [1 x %int] } %34(%shadow.standard..GenericClass* %30)
+    %36 = bitcast %int %i.16 to %uint
+    %37 = extractvalue { %shadow.standard..Object**, [1 x %int] } %35, 1, 0
+    %38 = bitcast %int %37 to %uint
+    %39 = icmp ult %uint %36, %38
+    br %boolean %39, label %_label10, label %_label9
+_label10:
+    br label %_label11
+_label9:
+    %40 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %41 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %40, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %42 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %41, %int %i.16)
+    %43 = bitcast %shadow.standard..IndexOutOfBoundsException* %42 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %43) noreturn
+    unreachable
+_label11:
+    %44 = extractvalue { %shadow.standard..Object**, [1 x %int] } %35, 0
+    %45 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %44, %int %i.16
+    %46 = load %shadow.standard..Object*, %shadow.standard..Object** %45
+    %_temp.8 = icmp eq %shadow.standard..Object* %29, %46
+    br label %_label12
+_label12:
+    %_temp.42 = phi %boolean [ %_temp.7, %_label15 ],[ %_temp.8, %_label11 ]
+    br %boolean %_temp.42, label %_label14, label %_label4
+_label4:
+    %47 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %48 = extractvalue { %shadow.standard..Object**, [1 x %int] } %47, 1, 0
+    %_temp2.11 = icmp sge %int %i.16, %48
+    br %boolean %_temp2.11, label %_label17, label %_label16
+_label17:
+    %49 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %50 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %other
+    %51 = bitcast %shadow.standard..GenericClass* %50 to %shadow.standard..Class*
+    %52 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %51, i32 0, i32 1
+    %53 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %52
+    %54 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %53, i32 0, i32 18
+    %55 = load %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*)** %54
+    %56 = call %shadow.standard..String* %55(%shadow.standard..Class* %51)
+    %_temp1.10 = call %boolean @shadow.standard..String_Mequal_shadow.standard..String(%shadow.standard..String* %49, %shadow.standard..String* %56)
+    br label %_label16
+_label16:
+    %_temp2.59 = phi %boolean [ %_temp1.10, %_label17 ],[ %_temp2.11, %_label4 ]
+    ret %boolean %_temp2.59
+}
+
+declare %shadow.standard..Class* @shadow.standard..ClassSet_MgetIntArrayClass(%shadow.standard..ClassSet*)
+
+define { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet*, %shadow.standard..String*, %int) {
+    %value = alloca %shadow.standard..String*
+    br label %_label0
+_label0:
+    store %shadow.standard..String* %1, %shadow.standard..String** %value
+    %4 = load %shadow.standard..String*, %shadow.standard..String** %value
+    %temp.4 = call %uint @shadow.standard..String_Mhash(%shadow.standard..String* %4)
+    %5 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.4, %int 20)
+    %6 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.4, %int 12)
+    %7 = xor %uint %5, %6
+    %temp.5 = xor %uint %temp.4, %7
+    %8 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.5, %int 7)
+    %9 = xor %uint %temp.5, %8
+    %10 = call %uint @shadow.standard..uint_MbitShiftRight_int(%uint %temp.5, %int 4)
+    %11 = xor %uint %9, %10
+    %hash.6 = bitcast %uint %11 to %int
+    %12 = sub %int %2, 1
+    %13 = and %int %hash.6, %12
+    %14 = insertvalue { %int, %int } undef, %int %13, 0
+    %15 = insertvalue { %int, %int } %14, %int %hash.6, 1
+    ret { %int, %int } %15
+}
+
+define void @shadow.standard..ClassSet_Mresize_int(%shadow.standard..ClassSet*, %int) {
+    %node = alloca %shadow.standard..ClassSet.Node*
+    %this = alloca %shadow.standard..ClassSet*
+    %newTable = alloca { %shadow.standard..ClassSet.Node**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %3, i32 0, i32 3
+    %5 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %4
+    %6 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %5, 1, 0
+    %7 = icmp eq %int %6, 1073741824
+    br %boolean %7, label %_label2, label %_label3
+_label2:
+    %8 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %9 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %8, i32 0, i32 9
+    store %int 2147483647, %int* %9
+    ret void
+_label3:
+    %10 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %int %1)
+    %11 = bitcast %shadow.standard..Object* %10 to %shadow.standard..ClassSet.Node**
+    %12 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } zeroinitializer, %shadow.standard..ClassSet.Node** %11, 0
+    %newTable.3 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %12, %int %1, 1, 0
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %newTable.3, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %newTable
+    br label %_label23
+_label22:
+    %13 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %14 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %13, i32 0, i32 3
+    %15 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %14
+    %16 = bitcast %int %i.31 to %uint
+    %17 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %15, 1, 0
+    %18 = bitcast %int %17 to %uint
+    %19 = icmp ult %uint %16, %18
+    br %boolean %19, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %20 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %21 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %20, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %22 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %21, %int %i.31)
+    %23 = bitcast %shadow.standard..IndexOutOfBoundsException* %22 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %23) noreturn
+    unreachable
+_label10:
+    %24 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %15, 0
+    %25 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %24, %int %i.31
+    %26 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %25
+    %27 = icmp eq %shadow.standard..ClassSet.Node* %26, null
+    br %boolean %27, label %_label7, label %_label11
+_label11:
+    %node.8 = bitcast %shadow.standard..ClassSet.Node* %26 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %node.8, %shadow.standard..ClassSet.Node** %node
+    br label %_label13
+_label21:
+    %28 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %29 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %node
+    %30 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %29)
+    %31 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %30, i32 0, i32 1
+    %32 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %31
+    %33 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %32, i32 0, i32 18
+    %34 = load %shadow.standard..String* (%shadow.standard..Class*)*, %shadow.standard..String* (%shadow.standard..Class*)** %33
+    %35 = call %shadow.standard..String* %34(%shadow.standard..Class* %30)
+    %36 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %28, %shadow.standard..String* %35, %int %newCapacity.35)
+    %index.9 = extractvalue { %int, %int } %36, 0
+    %hash.10 = extractvalue { %int, %int } %36, 1
+    %37 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %newTable
+    %38 = bitcast %int %index.9 to %uint
+    %39 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br %boolean %41, label %_label15, label %_label14
+_label15:
+    br label %_label16
+_label14:
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %43 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %42, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %44 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %43, %int %index.9)
+    %45 = bitcast %shadow.standard..IndexOutOfBoundsException* %44 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %45) noreturn
+    unreachable
+_label16:
+    %46 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %node
+    %47 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %46)
+    %48 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %newTable
+    %49 = bitcast %int %index.9 to %uint
+    %50 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %48, 1, 0
+    %51 = bitcast %int %50 to %uint
+    %52 = icmp ult %uint %49, %51
+    br label %_label18
+_label18:
+    br label %_label19
+_label19:
+    %53 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %48, 0
+    %54 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %53, %int %index.9
+    %55 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %54
+    %56 = bitcast %shadow.standard..ClassSet.Node_methods* @shadow.standard..ClassSet.Node_methods to %shadow.standard..Object_methods*
+    %57 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %shadow.standard..Object_methods* %56, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32))
+    %58 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %59 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* %57, %shadow.standard..ClassSet* %58, %int %hash.10, %shadow.standard..Class* %47, %shadow.standard..ClassSet.Node* %55)
+    %60 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %37, 0
+    %61 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %60, %int %index.9
+    store %shadow.standard..ClassSet.Node* %59, %shadow.standard..ClassSet.Node** %61
+    %62 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %node
+    %63 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %62)
+    %64 = icmp eq %shadow.standard..ClassSet.Node* %63, null
+    br %boolean %64, label %_label7, label %_label20
+_label20:
+    %node.11 = bitcast %shadow.standard..ClassSet.Node* %63 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %node.11, %shadow.standard..ClassSet.Node** %node
+    br label %_label13
+_label13:
+    %i.80 = phi %int [ %i.31, %_label11 ],[ %i.80, %_label20 ]
+    %newCapacity.35 = phi %int [ %newCapacity.45, %_label11 ],[ %newCapacity.35, %_label20 ]
+    br label %_label21
+_label7:
+    %i.74 = phi %int [ %i.80, %_label19 ],[ %i.31, %_label10 ]
+    %newCapacity.48 = phi %int [ %newCapacity.35, %_label19 ],[ %newCapacity.45, %_label10 ]
+    br label %_label6
+_label6:
+    br label %_label5
+_label5:
+    %i.7 = add %int %i.74, 1
+    br label %_label23
+_label23:
+    %newCapacity.45 = phi %int [ %newCapacity.48, %_label5 ],[ %1, %_label3 ]
+    %i.31 = phi %int [ %i.7, %_label5 ],[ 0, %_label3 ]
+    %65 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %66 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %65, i32 0, i32 3
+    %67 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %66
+    %68 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %67, 1, 0
+    %69 = icmp slt %int %i.31, %68
+    br %boolean %69, label %_label22, label %_label4
+_label4:
+    %70 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %71 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %newTable
+    %72 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %70, i32 0, i32 3
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %71, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %72
+    %73 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %74 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %75 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %74, i32 0, i32 6
+    %76 = load %float, %float* %75
+    %77 = call %float @shadow.standard..int_Mmultiply_float(%int %newCapacity.45, %float %76)
+    %78 = fptosi %float %77 to %int
+    %79 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %73, i32 0, i32 9
+    store %int %78, %int* %79
+    ret void
+}
+
+define %boolean @shadow.standard..ClassSet_MisArray_shadow.standard..Class_shadow.standard..Class_int(%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..Class*, %int) {
+    %other = alloca %shadow.standard..Class*
+    %base = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %other
+    store %shadow.standard..Class* %2, %shadow.standard..Class** %base
+    %5 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %6 = call %int @shadow.standard..Class_Msize(%shadow.standard..Class* %5)
+    %_temp.5 = icmp eq %int %6, %3
+    br %boolean %_temp.5, label %_label2, label %_label1
+_label2:
+    %7 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %8 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %7, i32 0, i32 1
+    %9 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %8
+    %10 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %9, i32 0, i32 19
+    %11 = load %shadow.standard..Class* (%shadow.standard..Class*)*, %shadow.standard..Class* (%shadow.standard..Class*)** %10
+    %12 = call %shadow.standard..Class* %11(%shadow.standard..Class* %7)
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %_temp.6 = icmp eq %shadow.standard..Class* %12, %13
+    br %boolean %_temp.6, label %_label3, label %_label1
+_label3:
+    %14 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %15 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %14, i32 0, i32 1
+    %16 = load %shadow.standard..Class_methods*, %shadow.standard..Class_methods** %15
+    %17 = getelementptr inbounds %shadow.standard..Class_methods, %shadow.standard..Class_methods* %16, i32 0, i32 5
+    %18 = load %int (%shadow.standard..Class*)*, %int (%shadow.standard..Class*)** %17
+    %19 = call %int %18(%shadow.standard..Class* %14)
+    %20 = and %int %19, 8
+    %21 = icmp eq %int %20, 0
+    %_temp.7 = xor %boolean -1, %21
+    br label %_label1
+_label1:
+    %_temp.11 = phi %boolean [ %_temp.5, %_label0 ],[ %_temp.6, %_label2 ],[ %_temp.7, %_label3 ]
+    ret %boolean %_temp.11
+}
+
+declare { %shadow.standard..Object**, [1 x %int] } @shadow.standard..ClassSet_MmakeObjectArray_shadow.standard..Object_shadow.standard..Object_shadow.standard..Object_shadow.standard..Object(%shadow.standard..ClassSet*, %shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*)
+
+define private %shadow.standard..Object* @shadow.standard..ClassSet_Mindex_shadow.standard..Class_W_shadow.standard..CanIndex_L_shadow.standard..Class_boolean_R(%shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    %3 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %4 = bitcast %shadow.standard..Object* %3 to %shadow.standard..ClassSet*
+    %5 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %6 = bitcast %shadow.standard..Object* %5 to %shadow.standard..Class*
+    %7 = call %boolean @shadow.standard..ClassSet_Mindex_shadow.standard..Class(%shadow.standard..ClassSet* %4, %shadow.standard..Class* %6)
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..boolean_class, %shadow.standard..Object_methods* bitcast(%shadow.standard..boolean_methods* @shadow.standard..boolean_methods to %shadow.standard..Object_methods*), %int ptrtoint (%shadow.standard..boolean* getelementptr (%shadow.standard..boolean, %shadow.standard..boolean* null, i32 1) to i32))
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..boolean*
+    %10 = getelementptr inbounds %shadow.standard..boolean, %shadow.standard..boolean* %9, i32 0, i32 2
+    store %boolean %7, %boolean* %10
+    %11 = bitcast %shadow.standard..boolean* %9 to %shadow.standard..Object*
+    ret %shadow.standard..Object* %11
+}
+
+define private void @shadow.standard..ClassSet_Mindex_shadow.standard..Class_boolean_W_shadow.standard..CanIndexStore_L_shadow.standard..Class_boolean_R(%shadow.standard..Object*, %shadow.standard..Object*, %shadow.standard..Object*) unnamed_addr {
+    %this = alloca %shadow.standard..Object*
+    %value = alloca %shadow.standard..Object*
+    %key = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    store %shadow.standard..Object* %1, %shadow.standard..Object** %key
+    store %shadow.standard..Object* %2, %shadow.standard..Object** %value
+    %4 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %5 = bitcast %shadow.standard..Object* %4 to %shadow.standard..ClassSet*
+    %6 = load %shadow.standard..Object*, %shadow.standard..Object** %key
+    %7 = bitcast %shadow.standard..Object* %6 to %shadow.standard..Class*
+    %8 = load %shadow.standard..Object*, %shadow.standard..Object** %value
+    %9 = bitcast %shadow.standard..Object* %8 to %shadow.standard..boolean*
+    %10 = getelementptr inbounds %shadow.standard..boolean, %shadow.standard..boolean* %9, i32 0, i32 2
+    %11 = load %boolean, %boolean* %10
+    call void @shadow.standard..ClassSet_Mindex_shadow.standard..Class_boolean(%shadow.standard..ClassSet* %5, %shadow.standard..Class* %7, %boolean %11)
+    ret void
+}
+
+define private { %shadow.utility..Set_methods*, %shadow.standard..Object* } @shadow.standard..ClassSet_Mclear_W_shadow.utility..Set_L_shadow.standard..Class_R(%shadow.standard..Object*) unnamed_addr {
+    %_temp = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..Object*
+    br label %_label0
+_label0:
+    store %shadow.standard..Object* %0, %shadow.standard..Object** %this
+    %2 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %3 = bitcast %shadow.standard..Object* %2 to %shadow.standard..ClassSet*
+    %4 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mclear(%shadow.standard..ClassSet* %3)
+    %5 = bitcast %shadow.standard..ClassSet* %4 to %shadow.standard..Object*
+    %6 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %5)
+    %7 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Object_class, %int 2)
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..Object**
+    %9 = insertvalue { %shadow.standard..Object**, [1 x %int] } zeroinitializer, %shadow.standard..Object** %8, 0
+    %10 = insertvalue { %shadow.standard..Object**, [1 x %int] } %9, %int 2, 1, 0
+    %11 = load %shadow.standard..Object*, %shadow.standard..Object** %this
+    %12 = getelementptr inbounds %shadow.standard..Object, %shadow.standard..Object* %11, i32 0, i32 0
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %12
+    %14 = bitcast %shadow.standard..Class* %13 to %shadow.standard..GenericClass*
+    %15 = getelementptr inbounds %shadow.standard..GenericClass, %shadow.standard..GenericClass* %14, i32 0, i32 10
+    %16 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %15
+    %17 = extractvalue { %shadow.standard..Object**, [1 x %int] } %16, 0
+    %18 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %17, %int 0
+    %19 = load %shadow.standard..Object*, %shadow.standard..Object** %18
+    %20 = bitcast %shadow.standard..Object* %19 to %shadow.standard..Class*
+    %21 = extractvalue { %shadow.standard..Object**, [1 x %int] } %16, 0
+    %22 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %21, %int 1
+    %23 = load %shadow.standard..Object*, %shadow.standard..Object** %22
+    %24 = bitcast %shadow.standard..Class* %20 to %shadow.standard..Object*
+    %25 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %26 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %25, %int 0
+    store %shadow.standard..Object* %24, %shadow.standard..Object** %26
+    %27 = extractvalue { %shadow.standard..Object**, [1 x %int] } %10, 0
+    %28 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %27, %int 1
+    store %shadow.standard..Object* %23, %shadow.standard..Object** %28
+    %29 = call %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class* null, %shadow.standard..String* @_string128, { %shadow.standard..Object**, [1 x %int] } %10, %int 0, %int 2)
+    %30 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** @_genericSet
+    %31 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %30, %shadow.standard..String* %29, { %shadow.standard..Object**, [1 x %int] } %10)
+    %32 = icmp eq %shadow.standard..GenericClass* %31, null
+    br %boolean %32, label %_label1, label %_label2
+_label1:
+    %33 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..Class_class, %int 0)
+    %34 = bitcast %shadow.standard..Object* %33 to %shadow.standard..Class**
+    %35 = insertvalue { %shadow.standard..Class**, [1 x %int] } zeroinitializer, %shadow.standard..Class** %34, 0
+    %36 = insertvalue { %shadow.standard..Class**, [1 x %int] } %35, %int 0, 1, 0
+    %37 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %30, %shadow.standard..Class* @shadow.utility..Set_class, %shadow.standard..String* %29, %shadow.standard..Class* null, { %shadow.standard..Class**, [1 x %int] } %36, { %shadow.standard..Object**, [1 x %int] } %10)
+    %_temp.2 = bitcast %shadow.standard..GenericClass* %37 to %shadow.standard..Class*
+    store %shadow.standard..Class* %_temp.2, %shadow.standard..Class** %_temp
+    br label %_label3
+_label2:
+    %_temp.3 = bitcast %shadow.standard..GenericClass* %31 to %shadow.standard..Class*
+    store %shadow.standard..Class* %_temp.3, %shadow.standard..Class** %_temp
+    br label %_label3
+_label3:
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %_temp
+    %39 = call %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int(%shadow.standard..Class* %6, %shadow.standard..Class* %38, %int -612137689)
+    %40 = bitcast %shadow.standard..Object* %39 to %shadow.utility..Set_methods*
+    %41 = insertvalue { %shadow.utility..Set_methods*, %shadow.standard..Object* } undef, %shadow.utility..Set_methods* %40, 0
+    %42 = bitcast %shadow.standard..ClassSet* %4 to %shadow.standard..Object*
+    %43 = insertvalue { %shadow.utility..Set_methods*, %shadow.standard..Object* } %41, %shadow.standard..Object* %42, 1
+    ret { %shadow.utility..Set_methods*, %shadow.standard..Object* } %43
+}
+
+define %boolean @shadow.standard..ClassSet_Madd_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %this = alloca %shadow.standard..ClassSet*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %value
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %5 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %4)
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    %8 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %7
+    %9 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %8, 1, 0
+    %10 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %3, %shadow.standard..String* %5, %int %9)
+    %index.5 = extractvalue { %int, %int } %10, 0
+    %hash.6 = extractvalue { %int, %int } %10, 1
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = call %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet* %11, %int %hash.6)
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %14 = icmp eq %shadow.standard..Class* %12, %13
+    br %boolean %14, label %_label2, label %_label3
+_label2:
+    ret %boolean false
+_label3:
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 3
+    %17 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %16
+    %18 = bitcast %int %index.5 to %uint
+    %19 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 1, 0
+    %20 = bitcast %int %19 to %uint
+    %21 = icmp ult %uint %18, %20
+    br %boolean %21, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %22 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %24 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %23, %int %index.5)
+    %25 = bitcast %shadow.standard..IndexOutOfBoundsException* %24 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %25) noreturn
+    unreachable
+_label8:
+    %26 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 0
+    %27 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %26, %int %index.5
+    %28 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %27
+    %29 = icmp eq %shadow.standard..ClassSet.Node* %28, null
+    br %boolean %29, label %_label5, label %_label9
+_label9:
+    %current.7 = bitcast %shadow.standard..ClassSet.Node* %28 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.7, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label15:
+    %30 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %31 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %30)
+    %32 = icmp eq %shadow.standard..ClassSet.Node* %31, null
+    br %boolean %32, label %_label5, label %_label14
+_label14:
+    %current.10 = bitcast %shadow.standard..ClassSet.Node* %31 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.10, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label11:
+    %index.51 = phi %int [ %index.51, %_label14 ],[ %index.5, %_label9 ]
+    %hash.17 = phi %int [ %hash.17, %_label14 ],[ %hash.6, %_label9 ]
+    %33 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %34 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %33)
+    %35 = icmp eq %int %34, %hash.17
+    %_temp.8 = xor %boolean -1, %35
+    br %boolean %_temp.8, label %_label13, label %_label12
+_label13:
+    %36 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %37 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %36)
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %39 = icmp eq %shadow.standard..Class* %37, %38
+    %_temp.9 = xor %boolean -1, %39
+    br label %_label12
+_label12:
+    %_temp.35 = phi %boolean [ %_temp.9, %_label13 ],[ %_temp.8, %_label11 ]
+    br %boolean %_temp.35, label %_label15, label %_label10
+_label10:
+    ret %boolean false
+_label5:
+    %hash.56 = phi %int [ %hash.17, %_label15 ],[ %hash.6, %_label8 ]
+    %index.45 = phi %int [ %index.51, %_label15 ],[ %index.5, %_label8 ]
+    %40 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %41 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %40, i32 0, i32 3
+    %42 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %41
+    %43 = bitcast %int %index.45 to %uint
+    %44 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %42, 1, 0
+    %45 = bitcast %int %44 to %uint
+    %46 = icmp ult %uint %43, %45
+    br %boolean %46, label %_label18, label %_label17
+_label18:
+    br label %_label19
+_label17:
+    %47 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %48 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %47, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %49 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %48, %int %index.45)
+    %50 = bitcast %shadow.standard..IndexOutOfBoundsException* %49 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %50) noreturn
+    unreachable
+_label19:
+    %51 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %52 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %53 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %52, i32 0, i32 3
+    %54 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %53
+    %55 = bitcast %int %index.45 to %uint
+    %56 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %54, 1, 0
+    %57 = bitcast %int %56 to %uint
+    %58 = icmp ult %uint %55, %57
+    br %boolean %58, label %_label21, label %_label20
+_label21:
+    br label %_label22
+_label20:
+    %59 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %60 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %59, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %61 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %60, %int %index.45)
+    %62 = bitcast %shadow.standard..IndexOutOfBoundsException* %61 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %62) noreturn
+    unreachable
+_label22:
+    %63 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %54, 0
+    %64 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %63, %int %index.45
+    %65 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %64
+    %66 = bitcast %shadow.standard..ClassSet.Node_methods* @shadow.standard..ClassSet.Node_methods to %shadow.standard..Object_methods*
+    %67 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %shadow.standard..Object_methods* %66, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32))
+    %68 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %69 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* %67, %shadow.standard..ClassSet* %68, %int %hash.56, %shadow.standard..Class* %51, %shadow.standard..ClassSet.Node* %65)
+    %70 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %42, 0
+    %71 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %70, %int %index.45
+    store %shadow.standard..ClassSet.Node* %69, %shadow.standard..ClassSet.Node** %71
+    %72 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %73 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %72, i32 0, i32 7
+    %74 = load %int, %int* %73
+    %75 = add %int %74, 1
+    %76 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %72, i32 0, i32 7
+    store %int %75, %int* %76
+    %77 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %78 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %77, i32 0, i32 8
+    %79 = load %int, %int* %78
+    %80 = add %int %79, 1
+    %81 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %77, i32 0, i32 8
+    store %int %80, %int* %81
+    %82 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %83 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %82, i32 0, i32 8
+    %84 = load %int, %int* %83
+    %85 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %86 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %85, i32 0, i32 9
+    %87 = load %int, %int* %86
+    %88 = icmp sgt %int %84, %87
+    br %boolean %88, label %_label23, label %_label24
+_label23:
+    %89 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %90 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %91 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %90, i32 0, i32 3
+    %92 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %91
+    %93 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %92, 1, 0
+    %94 = mul %int 2, %93
+    call void @shadow.standard..ClassSet_Mresize_int(%shadow.standard..ClassSet* %89, %int %94)
+    br label %_label24
+_label24:
+    ret %boolean true
+}
+
+define %shadow.standard..Class* @shadow.standard..ClassSet_MaddArray_shadow.standard..String_shadow.standard..Class_int(%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int) {
+    %interfaces = alloca { %shadow.standard..Class**, [1 x %int] }
+    %data = alloca { %shadow.standard..Object**, [1 x %int] }
+    %this = alloca %shadow.standard..ClassSet*
+    %name = alloca %shadow.standard..String*
+    %newArray = alloca %shadow.standard..Class*
+    %base = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %name
+    store %shadow.standard..Class* %2, %shadow.standard..Class** %base
+    %5 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %interfaces.5 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyClassArray(%shadow.standard..ClassSet* %5)
+    store { %shadow.standard..Class**, [1 x %int] } %interfaces.5, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %data.6 = call { %shadow.standard..Object**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyObjectArray(%shadow.standard..ClassSet* %6)
+    store { %shadow.standard..Object**, [1 x %int] } %data.6, { %shadow.standard..Object**, [1 x %int] }* %data
+    %7 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %8 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %9 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %10 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %data
+    %11 = bitcast %shadow.standard..Class_methods* @shadow.standard..Class_methods to %shadow.standard..Object_methods*
+    %12 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..Class_class, %shadow.standard..Object_methods* %11, %int ptrtoint (%shadow.standard..Class* getelementptr (%shadow.standard..Class, %shadow.standard..Class* null, i32 1) to i32))
+    %newArray.7 = call %shadow.standard..Class* @shadow.standard..Class_Mcreate_shadow.standard..String_int_int_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* %12, %shadow.standard..String* %7, %int 8, %int %3, %shadow.standard..Class* %8, { %shadow.standard..Class**, [1 x %int] } %9, { %shadow.standard..Object**, [1 x %int] } %10)
+    store %shadow.standard..Class* %newArray.7, %shadow.standard..Class** %newArray
+    %13 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %14 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 3
+    %17 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %16
+    %18 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 1, 0
+    %19 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %13, %shadow.standard..String* %14, %int %18)
+    %index.10 = extractvalue { %int, %int } %19, 0
+    %hash.11 = extractvalue { %int, %int } %19, 1
+    %20 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %21 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %20, i32 0, i32 3
+    %22 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %21
+    %23 = bitcast %int %index.10 to %uint
+    %24 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %22, 1, 0
+    %25 = bitcast %int %24 to %uint
+    %26 = icmp ult %uint %23, %25
+    br %boolean %26, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %27 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %28 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %27, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %29 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %28, %int %index.10)
+    %30 = bitcast %shadow.standard..IndexOutOfBoundsException* %29 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %30) noreturn
+    unreachable
+_label3:
+    %31 = load %shadow.standard..Class*, %shadow.standard..Class** %newArray
+    %32 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %33 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %32, i32 0, i32 3
+    %34 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %33
+    %35 = bitcast %int %index.10 to %uint
+    %36 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %34, 1, 0
+    %37 = bitcast %int %36 to %uint
+    %38 = icmp ult %uint %35, %37
+    br %boolean %38, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %39 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %40 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %39, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %41 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %40, %int %index.10)
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException* %41 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %42) noreturn
+    unreachable
+_label6:
+    %43 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %34, 0
+    %44 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %43, %int %index.10
+    %45 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %44
+    %46 = bitcast %shadow.standard..ClassSet.Node_methods* @shadow.standard..ClassSet.Node_methods to %shadow.standard..Object_methods*
+    %47 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %shadow.standard..Object_methods* %46, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32))
+    %48 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %49 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* %47, %shadow.standard..ClassSet* %48, %int %hash.11, %shadow.standard..Class* %31, %shadow.standard..ClassSet.Node* %45)
+    %50 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %22, 0
+    %51 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %50, %int %index.10
+    store %shadow.standard..ClassSet.Node* %49, %shadow.standard..ClassSet.Node** %51
+    %52 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %53 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %52, i32 0, i32 7
+    %54 = load %int, %int* %53
+    %55 = add %int %54, 1
+    %56 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %52, i32 0, i32 7
+    store %int %55, %int* %56
+    %57 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %58 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %57, i32 0, i32 8
+    %59 = load %int, %int* %58
+    %60 = add %int %59, 1
+    %61 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %57, i32 0, i32 8
+    store %int %60, %int* %61
+    %62 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %63 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %62, i32 0, i32 8
+    %64 = load %int, %int* %63
+    %65 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %66 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %65, i32 0, i32 9
+    %67 = load %int, %int* %66
+    %68 = icmp sgt %int %64, %67
+    br %boolean %68, label %_label7, label %_label8
+_label7:
+    %69 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %70 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %71 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %70, i32 0, i32 3
+    %72 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %71
+    %73 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %72, 1, 0
+    %74 = mul %int 2, %73
+    call void @shadow.standard..ClassSet_Mresize_int(%shadow.standard..ClassSet* %69, %int %74)
+    br label %_label8
+_label8:
+    %75 = load %shadow.standard..Class*, %shadow.standard..Class** %newArray
+    ret %shadow.standard..Class* %75
+}
+
+define %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet*, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }) {
+    %parent = alloca %shadow.standard..Class*
+    %interfaces = alloca { %shadow.standard..Class**, [1 x %int] }
+    %name = alloca %shadow.standard..String*
+    %this = alloca %shadow.standard..ClassSet*
+    %raw = alloca %shadow.standard..Class*
+    %newGeneric = alloca %shadow.standard..GenericClass*
+    %parameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %raw
+    store %shadow.standard..String* %2, %shadow.standard..String** %name
+    store %shadow.standard..Class* %3, %shadow.standard..Class** %parent
+    store { %shadow.standard..Class**, [1 x %int] } %4, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    store { %shadow.standard..Object**, [1 x %int] } %5, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %7 = load %shadow.standard..Class*, %shadow.standard..Class** %raw
+    %8 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %9 = load %shadow.standard..Class*, %shadow.standard..Class** %parent
+    %10 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %interfaces
+    %11 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %12 = bitcast %shadow.standard..GenericClass_methods* @shadow.standard..GenericClass_methods to %shadow.standard..Object_methods*
+    %13 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..GenericClass_class, %shadow.standard..Object_methods* %12, %int ptrtoint (%shadow.standard..GenericClass* getelementptr (%shadow.standard..GenericClass, %shadow.standard..GenericClass* null, i32 1) to i32))
+    %newGeneric.7 = call %shadow.standard..GenericClass* @shadow.standard..GenericClass_Mcreate_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* %13, %shadow.standard..Class* %7, %shadow.standard..String* %8, %shadow.standard..Class* %9, { %shadow.standard..Class**, [1 x %int] } %10, { %shadow.standard..Object**, [1 x %int] } %11)
+    store %shadow.standard..GenericClass* %newGeneric.7, %shadow.standard..GenericClass** %newGeneric
+    %14 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %15 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %16 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %17 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %16, i32 0, i32 3
+    %18 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %17
+    %19 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %18, 1, 0
+    %20 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %14, %shadow.standard..String* %15, %int %19)
+    %index.10 = extractvalue { %int, %int } %20, 0
+    %hash.11 = extractvalue { %int, %int } %20, 1
+    %21 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %22 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %21, i32 0, i32 3
+    %23 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %22
+    %24 = bitcast %int %index.10 to %uint
+    %25 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %23, 1, 0
+    %26 = bitcast %int %25 to %uint
+    %27 = icmp ult %uint %24, %26
+    br %boolean %27, label %_label2, label %_label1
+_label2:
+    br label %_label3
+_label1:
+    %28 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %29 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %28, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %30 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %29, %int %index.10)
+    %31 = bitcast %shadow.standard..IndexOutOfBoundsException* %30 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %31) noreturn
+    unreachable
+_label3:
+    %32 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %newGeneric
+    %33 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %34 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %33, i32 0, i32 3
+    %35 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %34
+    %36 = bitcast %int %index.10 to %uint
+    %37 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %35, 1, 0
+    %38 = bitcast %int %37 to %uint
+    %39 = icmp ult %uint %36, %38
+    br %boolean %39, label %_label5, label %_label4
+_label5:
+    br label %_label6
+_label4:
+    %40 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %41 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %40, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %42 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %41, %int %index.10)
+    %43 = bitcast %shadow.standard..IndexOutOfBoundsException* %42 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %43) noreturn
+    unreachable
+_label6:
+    %44 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %35, 0
+    %45 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %44, %int %index.10
+    %46 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %45
+    %47 = bitcast %shadow.standard..ClassSet.Node_methods* @shadow.standard..ClassSet.Node_methods to %shadow.standard..Object_methods*
+    %48 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %shadow.standard..Object_methods* %47, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32))
+    %49 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %50 = bitcast %shadow.standard..GenericClass* %32 to %shadow.standard..Class*
+    %51 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* %48, %shadow.standard..ClassSet* %49, %int %hash.11, %shadow.standard..Class* %50, %shadow.standard..ClassSet.Node* %46)
+    %52 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %23, 0
+    %53 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %52, %int %index.10
+    store %shadow.standard..ClassSet.Node* %51, %shadow.standard..ClassSet.Node** %53
+    %54 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %55 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %54, i32 0, i32 7
+    %56 = load %int, %int* %55
+    %57 = add %int %56, 1
+    %58 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %54, i32 0, i32 7
+    store %int %57, %int* %58
+    %59 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %60 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %59, i32 0, i32 8
+    %61 = load %int, %int* %60
+    %62 = add %int %61, 1
+    %63 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %59, i32 0, i32 8
+    store %int %62, %int* %63
+    %64 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %65 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %64, i32 0, i32 8
+    %66 = load %int, %int* %65
+    %67 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %68 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %67, i32 0, i32 9
+    %69 = load %int, %int* %68
+    %70 = icmp sgt %int %66, %69
+    br %boolean %70, label %_label7, label %_label8
+_label7:
+    %71 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %72 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %73 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %72, i32 0, i32 3
+    %74 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %73
+    %75 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %74, 1, 0
+    %76 = mul %int 2, %75
+    call void @shadow.standard..ClassSet_Mresize_int(%shadow.standard..ClassSet* %71, %int %76)
+    br label %_label8
+_label8:
+    %77 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %newGeneric
+    ret %shadow.standard..GenericClass* %77
+}
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mclear(%shadow.standard..ClassSet*) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %2 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = call %int @shadow.standard..ClassSet_McountFixed(%shadow.standard..ClassSet* %3)
+    %5 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %2, i32 0, i32 8
+    store %int %4, %int* %5
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %int 16)
+    %8 = bitcast %shadow.standard..Object* %7 to %shadow.standard..ClassSet.Node**
+    %9 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } zeroinitializer, %shadow.standard..ClassSet.Node** %8, 0
+    %10 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %9, %int 16, 1, 0
+    %11 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %10, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %11
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %13 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %14 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %13, i32 0, i32 3
+    %15 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %14
+    %16 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %15, 1, 0
+    %17 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %18 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %17, i32 0, i32 6
+    %19 = load %float, %float* %18
+    %20 = call %float @shadow.standard..int_Mmultiply_float(%int %16, %float %19)
+    %21 = fptosi %float %20 to %int
+    %22 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %12, i32 0, i32 9
+    store %int %21, %int* %22
+    %23 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %24 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %23, i32 0, i32 7
+    %25 = load %int, %int* %24
+    %26 = add %int %25, 1
+    %27 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %23, i32 0, i32 7
+    store %int %26, %int* %27
+    %28 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    ret %shadow.standard..ClassSet* %28
+}
+
+define %boolean @shadow.standard..ClassSet_Mcontains_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %this = alloca %shadow.standard..ClassSet*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %value
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %5 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %4)
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    %8 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %7
+    %9 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %8, 1, 0
+    %10 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %3, %shadow.standard..String* %5, %int %9)
+    %index.5 = extractvalue { %int, %int } %10, 0
+    %hash.6 = extractvalue { %int, %int } %10, 1
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = call %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet* %11, %int %hash.6)
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %14 = icmp eq %shadow.standard..Class* %12, %13
+    br %boolean %14, label %_label2, label %_label3
+_label2:
+    ret %boolean true
+_label3:
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 3
+    %17 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %16
+    %18 = bitcast %int %index.5 to %uint
+    %19 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 1, 0
+    %20 = bitcast %int %19 to %uint
+    %21 = icmp ult %uint %18, %20
+    br %boolean %21, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %22 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %24 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %23, %int %index.5)
+    %25 = bitcast %shadow.standard..IndexOutOfBoundsException* %24 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %25) noreturn
+    unreachable
+_label8:
+    %26 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 0
+    %27 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %26, %int %index.5
+    %28 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %27
+    %29 = icmp eq %shadow.standard..ClassSet.Node* %28, null
+    br %boolean %29, label %_label5, label %_label9
+_label9:
+    %current.7 = bitcast %shadow.standard..ClassSet.Node* %28 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.7, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label15:
+    %30 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %31 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %30)
+    %32 = icmp eq %shadow.standard..ClassSet.Node* %31, null
+    br %boolean %32, label %_label5, label %_label14
+_label14:
+    %current.10 = bitcast %shadow.standard..ClassSet.Node* %31 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.10, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label11:
+    %hash.17 = phi %int [ %hash.6, %_label9 ],[ %hash.17, %_label14 ]
+    %33 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %34 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %33)
+    %35 = icmp eq %int %34, %hash.17
+    %_temp.8 = xor %boolean -1, %35
+    br %boolean %_temp.8, label %_label13, label %_label12
+_label13:
+    %36 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %37 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %36)
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %39 = icmp eq %shadow.standard..Class* %37, %38
+    %_temp.9 = xor %boolean -1, %39
+    br label %_label12
+_label12:
+    %_temp.35 = phi %boolean [ %_temp.9, %_label13 ],[ %_temp.8, %_label11 ]
+    br %boolean %_temp.35, label %_label15, label %_label10
+_label10:
+    ret %boolean true
+_label5:
+    ret %boolean false
+}
+
+define %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %_temp = alloca { %shadow.standard..ClassSet.Node**, [1 x %int] }
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = ptrtoint %shadow.standard..ClassSet* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..ClassSet_methods* @shadow.standard..ClassSet_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..ClassSet* getelementptr (%shadow.standard..ClassSet, %shadow.standard..ClassSet* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..ClassSet_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..ClassSet* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..ClassSet*
+    %15 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %3, i32 0, i32 3
+    %16 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %15
+    %17 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %16, 1, 0
+    %18 = call noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %int %17)
+    %19 = bitcast %shadow.standard..Object* %18 to %shadow.standard..ClassSet.Node**
+    %20 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } zeroinitializer, %shadow.standard..ClassSet.Node** %19, 0
+    %_temp.3 = insertvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %20, %int %17, 1, 0
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %_temp.3, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %_temp
+    %21 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %_temp
+    br label %_label6
+_label6:
+    %_temp1.6 = phi %int [ %_temp1.5, %_label8 ],[ %_temp1.5, %_label7 ],[ -1, %_label1 ]
+    %_temp1.5 = add %int %_temp1.6, 1
+    %22 = icmp slt %int %_temp1.5, %17
+    br %boolean %22, label %_label7, label %_label5
+_label7:
+    %23 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %16, 0
+    %24 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %23, %int %_temp1.5
+    %25 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %24
+    %26 = icmp eq %shadow.standard..ClassSet.Node* %25, null
+    br %boolean %26, label %_label6, label %_label8
+_label8:
+    %27 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet.Node* %25, %shadow.standard..AddressMap* %5)
+    %28 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %_temp
+    %29 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %28, 0
+    %30 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %29, %int %_temp1.5
+    store %shadow.standard..ClassSet.Node* %27, %shadow.standard..ClassSet.Node** %30
+    br label %_label6
+_label5:
+    %31 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %14, i32 0, i32 3
+    store { %shadow.standard..ClassSet.Node**, [1 x %int] } %21, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %31
+    br label %_label4
+_label4:
+    ret %shadow.standard..ClassSet* %14
+_label2:
+    %32 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %33 = bitcast %shadow.standard..ulong* %32 to %shadow.standard..ulong*
+    %34 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %33, i32 0, i32 2
+    %35 = load %ulong, %ulong* %34
+    %36 = inttoptr %ulong %35 to %shadow.standard..ClassSet*
+    ret %shadow.standard..ClassSet* %36
+}
+
+define %shadow.standard..Class* @shadow.standard..ClassSet_MfindArray_shadow.standard..String_shadow.standard..Class_int(%shadow.standard..ClassSet*, %shadow.standard..String*, %shadow.standard..Class*, %int) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %other = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..ClassSet*
+    %name = alloca %shadow.standard..String*
+    %fixed = alloca %shadow.standard..Class*
+    %base = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %name
+    store %shadow.standard..Class* %2, %shadow.standard..Class** %base
+    %5 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %6 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %7 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %8 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %7, i32 0, i32 3
+    %9 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %8
+    %10 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %9, 1, 0
+    %11 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %5, %shadow.standard..String* %6, %int %10)
+    %index.7 = extractvalue { %int, %int } %11, 0
+    %hash.8 = extractvalue { %int, %int } %11, 1
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %13 = call %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet* %12, %int %hash.8)
+    %14 = icmp eq %shadow.standard..Class* %13, null
+    br %boolean %14, label %_label2, label %_label3
+_label3:
+    %fixed.9 = bitcast %shadow.standard..Class* %13 to %shadow.standard..Class*
+    store %shadow.standard..Class* %fixed.9, %shadow.standard..Class** %fixed
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = load %shadow.standard..Class*, %shadow.standard..Class** %fixed
+    %17 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %18 = call %boolean @shadow.standard..ClassSet_MisArray_shadow.standard..Class_shadow.standard..Class_int(%shadow.standard..ClassSet* %15, %shadow.standard..Class* %16, %shadow.standard..Class* %17, %int %3)
+    br %boolean %18, label %_label5, label %_label6
+_label5:
+    %19 = load %shadow.standard..Class*, %shadow.standard..Class** %fixed
+    ret %shadow.standard..Class* %19
+_label6:
+    br label %_label1
+_label2:
+    br label %_label1
+_label1:
+    %20 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %21 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %20, i32 0, i32 3
+    %22 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %21
+    %23 = bitcast %int %index.7 to %uint
+    %24 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %22, 1, 0
+    %25 = bitcast %int %24 to %uint
+    %26 = icmp ult %uint %23, %25
+    br %boolean %26, label %_label10, label %_label9
+_label10:
+    br label %_label11
+_label9:
+    %27 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %28 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %27, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %29 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %28, %int %index.7)
+    %30 = bitcast %shadow.standard..IndexOutOfBoundsException* %29 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %30) noreturn
+    unreachable
+_label11:
+    %31 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %22, 0
+    %32 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %31, %int %index.7
+    %33 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %32
+    %34 = icmp eq %shadow.standard..ClassSet.Node* %33, null
+    br %boolean %34, label %_label8, label %_label12
+_label12:
+    %current.10 = bitcast %shadow.standard..ClassSet.Node* %33 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.10, %shadow.standard..ClassSet.Node** %current
+    br label %_label14
+_label21:
+    %35 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %36 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %35)
+    %37 = icmp eq %int %36, %hash.27
+    br %boolean %37, label %_label18, label %_label19
+_label18:
+    %38 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %other.11 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %38)
+    store %shadow.standard..Class* %other.11, %shadow.standard..Class** %other
+    %39 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %40 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    %41 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %42 = call %boolean @shadow.standard..ClassSet_MisArray_shadow.standard..Class_shadow.standard..Class_int(%shadow.standard..ClassSet* %39, %shadow.standard..Class* %40, %shadow.standard..Class* %41, %int %dimensions.63)
+    br %boolean %42, label %_label16, label %_label17
+_label16:
+    %43 = load %shadow.standard..Class*, %shadow.standard..Class** %other
+    ret %shadow.standard..Class* %43
+_label17:
+    br label %_label19
+_label19:
+    %44 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %45 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %44)
+    %46 = icmp eq %shadow.standard..ClassSet.Node* %45, null
+    br %boolean %46, label %_label8, label %_label20
+_label20:
+    %current.12 = bitcast %shadow.standard..ClassSet.Node* %45 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.12, %shadow.standard..ClassSet.Node** %current
+    br label %_label14
+_label14:
+    %dimensions.63 = phi %int [ %3, %_label12 ],[ %dimensions.63, %_label20 ]
+    %hash.27 = phi %int [ %hash.8, %_label12 ],[ %hash.27, %_label20 ]
+    br label %_label21
+_label8:
+    br label %_label7
+_label7:
+    %47 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    ret %shadow.standard..Class* %47
+}
+
+define %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %other = alloca %shadow.standard..GenericClass*
+    %this = alloca %shadow.standard..ClassSet*
+    %name = alloca %shadow.standard..String*
+    %fixed = alloca %shadow.standard..GenericClass*
+    %parameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %name
+    store { %shadow.standard..Object**, [1 x %int] } %2, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %5 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    %8 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %7
+    %9 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %8, 1, 0
+    %10 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %4, %shadow.standard..String* %5, %int %9)
+    %index.6 = extractvalue { %int, %int } %10, 0
+    %hash.7 = extractvalue { %int, %int } %10, 1
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = call %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet* %11, %int %hash.7)
+    %13 = icmp eq %shadow.standard..Class* %12, null
+    br %boolean %13, label %_label2, label %_label3
+_label3:
+    %14 = bitcast %shadow.standard..Class* %12 to %shadow.standard..Class*
+    %15 = bitcast %shadow.standard..Class* %14 to %shadow.standard..Object*
+    %16 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %15)
+    %17 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %16, i32 0, i32 5
+    %18 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %17
+    %19 = extractvalue { %shadow.standard..Class**, [1 x %int] } %18, 1, 0
+    %20 = icmp slt %int 2, %19
+    br %boolean %20, label %_label4, label %_label6
+_label4:
+    %21 = extractvalue { %shadow.standard..Class**, [1 x %int] } %18, 0
+    %22 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %21, %int 2
+    %23 = load %shadow.standard..Class*, %shadow.standard..Class** %22
+    %24 = icmp eq %shadow.standard..Class* %23, @shadow.standard..GenericClass_class
+    br %boolean %24, label %_label5, label %_label6
+_label5:
+    br label %_label7
+_label6:
+    %_temp.9 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %16, %shadow.standard..Class* @shadow.standard..GenericClass_class)
+    br label %_label7
+_label7:
+    %_temp.16 = phi %boolean [ true, %_label5 ],[ %_temp.9, %_label6 ]
+    br %boolean %_temp.16, label %_label9, label %_label8
+_label8:
+    %25 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %26 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %25, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %27 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %26, %shadow.standard..Class* %16, %shadow.standard..Class* @shadow.standard..GenericClass_class)
+    %28 = bitcast %shadow.standard..CastException* %27 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %28) noreturn
+    unreachable
+_label9:
+    %fixed.10 = bitcast %shadow.standard..Class* %14 to %shadow.standard..GenericClass*
+    store %shadow.standard..GenericClass* %fixed.10, %shadow.standard..GenericClass** %fixed
+    %29 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %30 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %fixed
+    %31 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %32 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %33 = call %boolean @shadow.standard..ClassSet_MisGeneric_shadow.standard..GenericClass_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %29, %shadow.standard..GenericClass* %30, %shadow.standard..String* %31, { %shadow.standard..Object**, [1 x %int] } %32)
+    br %boolean %33, label %_label11, label %_label12
+_label11:
+    %34 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %fixed
+    ret %shadow.standard..GenericClass* %34
+_label12:
+    br label %_label1
+_label2:
+    br label %_label1
+_label1:
+    %35 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %36 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %35, i32 0, i32 3
+    %37 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %36
+    %38 = bitcast %int %index.6 to %uint
+    %39 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %37, 1, 0
+    %40 = bitcast %int %39 to %uint
+    %41 = icmp ult %uint %38, %40
+    br %boolean %41, label %_label16, label %_label15
+_label16:
+    br label %_label17
+_label15:
+    %42 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %43 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %42, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %44 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %43, %int %index.6)
+    %45 = bitcast %shadow.standard..IndexOutOfBoundsException* %44 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %45) noreturn
+    unreachable
+_label17:
+    %46 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %37, 0
+    %47 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %46, %int %index.6
+    %48 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %47
+    %49 = icmp eq %shadow.standard..ClassSet.Node* %48, null
+    br %boolean %49, label %_label14, label %_label18
+_label18:
+    %current.11 = bitcast %shadow.standard..ClassSet.Node* %48 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.11, %shadow.standard..ClassSet.Node** %current
+    br label %_label20
+_label33:
+    %50 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %51 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %50)
+    %52 = icmp eq %int %51, %hash.51
+    br %boolean %52, label %_label30, label %_label31
+_label30:
+    %53 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %54 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %53)
+    %55 = bitcast %shadow.standard..Class* %54 to %shadow.standard..Object*
+    %56 = call %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object* %55)
+    %57 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* %56, i32 0, i32 5
+    %58 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %57
+    %59 = extractvalue { %shadow.standard..Class**, [1 x %int] } %58, 1, 0
+    %60 = icmp slt %int 2, %59
+    br %boolean %60, label %_label21, label %_label23
+_label21:
+    %61 = extractvalue { %shadow.standard..Class**, [1 x %int] } %58, 0
+    %62 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %61, %int 2
+    %63 = load %shadow.standard..Class*, %shadow.standard..Class** %62
+    %64 = icmp eq %shadow.standard..Class* %63, @shadow.standard..GenericClass_class
+    br %boolean %64, label %_label22, label %_label23
+_label22:
+    br label %_label24
+_label23:
+    %_temp1.13 = call %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class* %56, %shadow.standard..Class* @shadow.standard..GenericClass_class)
+    br label %_label24
+_label24:
+    %_temp1.74 = phi %boolean [ %_temp1.13, %_label23 ],[ true, %_label22 ]
+    br %boolean %_temp1.74, label %_label26, label %_label25
+_label25:
+    %65 = bitcast %shadow.standard..CastException_methods* @shadow.standard..CastException_methods to %shadow.standard..Object_methods*
+    %66 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..CastException_class, %shadow.standard..Object_methods* %65, %int ptrtoint (%shadow.standard..CastException* getelementptr (%shadow.standard..CastException, %shadow.standard..CastException* null, i32 1) to i32))
+    %67 = call %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* %66, %shadow.standard..Class* %56, %shadow.standard..Class* @shadow.standard..GenericClass_class)
+    %68 = bitcast %shadow.standard..CastException* %67 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %68) noreturn
+    unreachable
+_label26:
+    %other.14 = bitcast %shadow.standard..Class* %54 to %shadow.standard..GenericClass*
+    store %shadow.standard..GenericClass* %other.14, %shadow.standard..GenericClass** %other
+    %69 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %70 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %other
+    %71 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %72 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %73 = call %boolean @shadow.standard..ClassSet_MisGeneric_shadow.standard..GenericClass_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %69, %shadow.standard..GenericClass* %70, %shadow.standard..String* %71, { %shadow.standard..Object**, [1 x %int] } %72)
+    br %boolean %73, label %_label28, label %_label29
+_label28:
+    %74 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %other
+    ret %shadow.standard..GenericClass* %74
+_label29:
+    br label %_label31
+_label31:
+    %75 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %76 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %75)
+    %77 = icmp eq %shadow.standard..ClassSet.Node* %76, null
+    br %boolean %77, label %_label14, label %_label32
+_label32:
+    %current.15 = bitcast %shadow.standard..ClassSet.Node* %76 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.15, %shadow.standard..ClassSet.Node** %current
+    br label %_label20
+_label20:
+    %hash.51 = phi %int [ %hash.51, %_label32 ],[ %hash.7, %_label18 ]
+    br label %_label33
+_label14:
+    br label %_label13
+_label13:
+    %78 = bitcast %shadow.standard..Object* null to %shadow.standard..GenericClass*
+    ret %shadow.standard..GenericClass* %78
+}
+
+define %shadow.standard..GenericClass* @shadow.standard..ClassSet_MgetGenericArray_shadow.standard..String_shadow.standard..Object_A1_boolean(%shadow.standard..ClassSet*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %boolean) {
+    %canIterateName = alloca %shadow.standard..String*
+    %canIndexStoreName = alloca %shadow.standard..String*
+    %this = alloca %shadow.standard..ClassSet*
+    %name = alloca %shadow.standard..String*
+    %canIndexParameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    %canIterate = alloca %shadow.standard..GenericClass*
+    %canIndexName = alloca %shadow.standard..String*
+    %canIndex = alloca %shadow.standard..GenericClass*
+    %parameters = alloca { %shadow.standard..Object**, [1 x %int] }
+    %canIndexStore = alloca %shadow.standard..GenericClass*
+    %base = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..String* %1, %shadow.standard..String** %name
+    store { %shadow.standard..Object**, [1 x %int] } %2, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %5 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %6 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %7 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %8 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %5, %shadow.standard..String* %6, { %shadow.standard..Object**, [1 x %int] } %7)
+    %9 = icmp eq %shadow.standard..GenericClass* %8, null
+    br %boolean %9, label %_label2, label %_label3
+_label3:
+    %10 = bitcast %shadow.standard..GenericClass* %8 to %shadow.standard..GenericClass*
+    ret %shadow.standard..GenericClass* %10
+_label2:
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %13 = call %shadow.standard..Class* @shadow.standard..ClassSet_MgetIntArrayClass(%shadow.standard..ClassSet* %12)
+    %14 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %15 = extractvalue { %shadow.standard..Object**, [1 x %int] } %14, 1, 0
+    %16 = bitcast %int %15 to %uint
+    %17 = icmp ult %uint 0, %16
+    br %boolean %17, label %_label6, label %_label5
+_label6:
+    br label %_label7
+_label5:
+    %18 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %20 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %19, %int 0)
+    %21 = bitcast %shadow.standard..IndexOutOfBoundsException* %20 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %21) noreturn
+    unreachable
+_label7:
+    %22 = extractvalue { %shadow.standard..Object**, [1 x %int] } %14, 0
+    %23 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %22, %int 0
+    %24 = load %shadow.standard..Object*, %shadow.standard..Object** %23
+    %25 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %26 = extractvalue { %shadow.standard..Object**, [1 x %int] } %25, 1, 0
+    %27 = bitcast %int %26 to %uint
+    %28 = icmp ult %uint 1, %27
+    br %boolean %28, label %_label9, label %_label8
+_label9:
+    br label %_label10
+_label8:
+    %29 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %30 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %29, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %31 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %30, %int 1)
+    %32 = bitcast %shadow.standard..IndexOutOfBoundsException* %31 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %32) noreturn
+    unreachable
+_label10:
+    %33 = extractvalue { %shadow.standard..Object**, [1 x %int] } %25, 0
+    %34 = getelementptr inbounds %shadow.standard..Object*, %shadow.standard..Object** %33, %int 1
+    %35 = load %shadow.standard..Object*, %shadow.standard..Object** %34
+    %36 = bitcast %shadow.standard..Class* %13 to %shadow.standard..Object*
+    %37 = bitcast %shadow.standard..Object* null to %shadow.standard..Object*
+    %canIndexParameters.5 = call { %shadow.standard..Object**, [1 x %int] } @shadow.standard..ClassSet_MmakeObjectArray_shadow.standard..Object_shadow.standard..Object_shadow.standard..Object_shadow.standard..Object(%shadow.standard..ClassSet* %11, %shadow.standard..Object* %36, %shadow.standard..Object* %37, %shadow.standard..Object* %24, %shadow.standard..Object* %35)
+    store { %shadow.standard..Object**, [1 x %int] } %canIndexParameters.5, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    store %shadow.standard..Class* undef, %shadow.standard..Class** %base
+    store %shadow.standard..String* undef, %shadow.standard..String** %canIndexName
+    br %boolean %3, label %_label11, label %_label12
+_label11:
+    store %shadow.standard..Class* @shadow.standard..CanIndexNullable_class, %shadow.standard..Class** %base
+    br label %_label13
+_label12:
+    store %shadow.standard..Class* @shadow.standard..CanIndex_class, %shadow.standard..Class** %base
+    br label %_label13
+_label13:
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %39 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %40 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %39)
+    %41 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %canIndexName.10 = call %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class* %38, %shadow.standard..String* %40, { %shadow.standard..Object**, [1 x %int] } %41, %int 0, %int 4)
+    store %shadow.standard..String* %canIndexName.10, %shadow.standard..String** %canIndexName
+    %42 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %43 = load %shadow.standard..String*, %shadow.standard..String** %canIndexName
+    %44 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %canIndex.11 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %42, %shadow.standard..String* %43, { %shadow.standard..Object**, [1 x %int] } %44)
+    store %shadow.standard..GenericClass* %canIndex.11, %shadow.standard..GenericClass** %canIndex
+    %45 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIndex
+    %46 = bitcast %shadow.standard..Object* null to %shadow.standard..GenericClass*
+    %47 = icmp eq %shadow.standard..GenericClass* %45, %46
+    br %boolean %47, label %_label14, label %_label15
+_label14:
+    %48 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %49 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %50 = load %shadow.standard..String*, %shadow.standard..String** %canIndexName
+    %51 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %52 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyClassArray(%shadow.standard..ClassSet* %51)
+    %53 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %54 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %canIndex.12 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %48, %shadow.standard..Class* %49, %shadow.standard..String* %50, %shadow.standard..Class* %54, { %shadow.standard..Class**, [1 x %int] } %52, { %shadow.standard..Object**, [1 x %int] } %53)
+    store %shadow.standard..GenericClass* %canIndex.12, %shadow.standard..GenericClass** %canIndex
+    br label %_label15
+_label15:
+    store %shadow.standard..String* undef, %shadow.standard..String** %canIndexStoreName
+    br %boolean %3, label %_label16, label %_label17
+_label16:
+    store %shadow.standard..Class* @shadow.standard..CanIndexStoreNullable_class, %shadow.standard..Class** %base
+    br label %_label18
+_label17:
+    store %shadow.standard..Class* @shadow.standard..CanIndexStore_class, %shadow.standard..Class** %base
+    br label %_label18
+_label18:
+    %55 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %56 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %57 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %56)
+    %58 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %canIndexStoreName.16 = call %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class* %55, %shadow.standard..String* %57, { %shadow.standard..Object**, [1 x %int] } %58, %int 0, %int 4)
+    store %shadow.standard..String* %canIndexStoreName.16, %shadow.standard..String** %canIndexStoreName
+    %59 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %60 = load %shadow.standard..String*, %shadow.standard..String** %canIndexStoreName
+    %61 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %canIndexStore.17 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %59, %shadow.standard..String* %60, { %shadow.standard..Object**, [1 x %int] } %61)
+    store %shadow.standard..GenericClass* %canIndexStore.17, %shadow.standard..GenericClass** %canIndexStore
+    %62 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIndexStore
+    %63 = bitcast %shadow.standard..Object* null to %shadow.standard..GenericClass*
+    %64 = icmp eq %shadow.standard..GenericClass* %62, %63
+    br %boolean %64, label %_label19, label %_label20
+_label19:
+    %65 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %66 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %67 = load %shadow.standard..String*, %shadow.standard..String** %canIndexStoreName
+    %68 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %69 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyClassArray(%shadow.standard..ClassSet* %68)
+    %70 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %canIndexParameters
+    %71 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %canIndexStore.18 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %65, %shadow.standard..Class* %66, %shadow.standard..String* %67, %shadow.standard..Class* %71, { %shadow.standard..Class**, [1 x %int] } %69, { %shadow.standard..Object**, [1 x %int] } %70)
+    store %shadow.standard..GenericClass* %canIndexStore.18, %shadow.standard..GenericClass** %canIndexStore
+    br label %_label20
+_label20:
+    store %shadow.standard..String* undef, %shadow.standard..String** %canIterateName
+    br %boolean %3, label %_label21, label %_label22
+_label21:
+    store %shadow.standard..Class* @shadow.standard..CanIterateNullable_class, %shadow.standard..Class** %base
+    br label %_label23
+_label22:
+    store %shadow.standard..Class* @shadow.standard..CanIterate_class, %shadow.standard..Class** %base
+    br label %_label23
+_label23:
+    %72 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %73 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %74 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %73)
+    %75 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %canIterateName.22 = call %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class* %72, %shadow.standard..String* %74, { %shadow.standard..Object**, [1 x %int] } %75, %int 0, %int 2)
+    store %shadow.standard..String* %canIterateName.22, %shadow.standard..String** %canIterateName
+    %76 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %77 = load %shadow.standard..String*, %shadow.standard..String** %canIterateName
+    %78 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %canIterate.23 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MfindGeneric_shadow.standard..String_shadow.standard..Object_A1(%shadow.standard..ClassSet* %76, %shadow.standard..String* %77, { %shadow.standard..Object**, [1 x %int] } %78)
+    store %shadow.standard..GenericClass* %canIterate.23, %shadow.standard..GenericClass** %canIterate
+    %79 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIterate
+    %80 = bitcast %shadow.standard..Object* null to %shadow.standard..GenericClass*
+    %81 = icmp eq %shadow.standard..GenericClass* %79, %80
+    br %boolean %81, label %_label24, label %_label25
+_label24:
+    %82 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %83 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %84 = load %shadow.standard..String*, %shadow.standard..String** %canIterateName
+    %85 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %86 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MgetEmptyClassArray(%shadow.standard..ClassSet* %85)
+    %87 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %88 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %canIterate.24 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %82, %shadow.standard..Class* %83, %shadow.standard..String* %84, %shadow.standard..Class* %88, { %shadow.standard..Class**, [1 x %int] } %86, { %shadow.standard..Object**, [1 x %int] } %87)
+    store %shadow.standard..GenericClass* %canIterate.24, %shadow.standard..GenericClass** %canIterate
+    br label %_label25
+_label25:
+    br %boolean %3, label %_label26, label %_label27
+_label26:
+    store %shadow.standard..Class* @shadow.standard..ArrayNullable_class, %shadow.standard..Class** %base
+    br label %_label28
+_label27:
+    store %shadow.standard..Class* @shadow.standard..Array_class, %shadow.standard..Class** %base
+    br label %_label28
+_label28:
+    %89 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %90 = load %shadow.standard..Class*, %shadow.standard..Class** %base
+    %91 = load %shadow.standard..String*, %shadow.standard..String** %name
+    %92 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %93 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIndex
+    %94 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIndexStore
+    %95 = load %shadow.standard..GenericClass*, %shadow.standard..GenericClass** %canIterate
+    %96 = bitcast %shadow.standard..GenericClass* %93 to %shadow.standard..Class*
+    %97 = bitcast %shadow.standard..GenericClass* %94 to %shadow.standard..Class*
+    %98 = bitcast %shadow.standard..GenericClass* %95 to %shadow.standard..Class*
+    %99 = call { %shadow.standard..Class**, [1 x %int] } @shadow.standard..ClassSet_MmakeClassArray_shadow.standard..Class_shadow.standard..Class_shadow.standard..Class(%shadow.standard..ClassSet* %92, %shadow.standard..Class* %96, %shadow.standard..Class* %97, %shadow.standard..Class* %98)
+    %100 = load { %shadow.standard..Object**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] }* %parameters
+    %101 = call %shadow.standard..GenericClass* @shadow.standard..ClassSet_MaddGeneric_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..ClassSet* %89, %shadow.standard..Class* %90, %shadow.standard..String* %91, %shadow.standard..Class* @shadow.standard..Object_class, { %shadow.standard..Class**, [1 x %int] } %99, { %shadow.standard..Object**, [1 x %int] } %100)
+    ret %shadow.standard..GenericClass* %101
+}
+
+define %boolean @shadow.standard..ClassSet_Mindex_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %this = alloca %shadow.standard..ClassSet*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %value
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %5 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %4)
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    %8 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %7
+    %9 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %8, 1, 0
+    %10 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %3, %shadow.standard..String* %5, %int %9)
+    %index.5 = extractvalue { %int, %int } %10, 0
+    %hash.6 = extractvalue { %int, %int } %10, 1
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = call %shadow.standard..Class* @shadow.standard..ClassSet_MfindFixed_int(%shadow.standard..ClassSet* %11, %int %hash.6)
+    %13 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %14 = icmp eq %shadow.standard..Class* %12, %13
+    br %boolean %14, label %_label2, label %_label3
+_label2:
+    ret %boolean true
+_label3:
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 3
+    %17 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %16
+    %18 = bitcast %int %index.5 to %uint
+    %19 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 1, 0
+    %20 = bitcast %int %19 to %uint
+    %21 = icmp ult %uint %18, %20
+    br %boolean %21, label %_label7, label %_label6
+_label7:
+    br label %_label8
+_label6:
+    %22 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %24 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %23, %int %index.5)
+    %25 = bitcast %shadow.standard..IndexOutOfBoundsException* %24 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %25) noreturn
+    unreachable
+_label8:
+    %26 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %17, 0
+    %27 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %26, %int %index.5
+    %28 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %27
+    %29 = icmp eq %shadow.standard..ClassSet.Node* %28, null
+    br %boolean %29, label %_label5, label %_label9
+_label9:
+    %current.7 = bitcast %shadow.standard..ClassSet.Node* %28 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.7, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label15:
+    %30 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %31 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %30)
+    %32 = icmp eq %shadow.standard..ClassSet.Node* %31, null
+    br %boolean %32, label %_label5, label %_label14
+_label14:
+    %current.10 = bitcast %shadow.standard..ClassSet.Node* %31 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.10, %shadow.standard..ClassSet.Node** %current
+    br label %_label11
+_label11:
+    %hash.17 = phi %int [ %hash.17, %_label14 ],[ %hash.6, %_label9 ]
+    %33 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %34 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %33)
+    %35 = icmp eq %int %34, %hash.17
+    %_temp.8 = xor %boolean -1, %35
+    br %boolean %_temp.8, label %_label13, label %_label12
+_label13:
+    %36 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %37 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %36)
+    %38 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %39 = icmp eq %shadow.standard..Class* %37, %38
+    %_temp.9 = xor %boolean -1, %39
+    br label %_label12
+_label12:
+    %_temp.35 = phi %boolean [ %_temp.8, %_label11 ],[ %_temp.9, %_label13 ]
+    br %boolean %_temp.35, label %_label15, label %_label10
+_label10:
+    ret %boolean true
+_label5:
+    br label %_label4
+_label4:
+    ret %boolean false
+}
+
+define void @shadow.standard..ClassSet_Mindex_shadow.standard..Class_boolean(%shadow.standard..ClassSet*, %shadow.standard..Class*, %boolean) {
+    %this = alloca %shadow.standard..ClassSet*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %value
+    br %boolean %2, label %_label1, label %_label2
+_label1:
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %5 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %6 = call %boolean @shadow.standard..ClassSet_Madd_shadow.standard..Class(%shadow.standard..ClassSet* %4, %shadow.standard..Class* %5)
+    br label %_label3
+_label2:
+    %7 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %8 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %9 = call %boolean @shadow.standard..ClassSet_Mremove_shadow.standard..Class(%shadow.standard..ClassSet* %7, %shadow.standard..Class* %8)
+    br label %_label3
+_label3:
+    ret void
+}
+
+define %boolean @shadow.standard..ClassSet_MisEmpty(%shadow.standard..ClassSet*) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %2 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    %5 = icmp eq %int %4, 0
+    ret %boolean %5
+}
+
+define { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } @shadow.standard..ClassSet_Miterator(%shadow.standard..ClassSet*) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %2 = bitcast %shadow.standard..ClassSet.ClassSetIterator_methods* @shadow.standard..ClassSet.ClassSetIterator_methods to %shadow.standard..Object_methods*
+    %3 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.ClassSetIterator_class, %shadow.standard..Object_methods* %2, %int ptrtoint (%shadow.standard..ClassSet.ClassSetIterator* getelementptr (%shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* null, i32 1) to i32))
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %5 = call %shadow.standard..ClassSet.ClassSetIterator* @shadow.standard..ClassSet.ClassSetIterator_Mcreate(%shadow.standard..Object* %3, %shadow.standard..ClassSet* %4)
+    %6 = load %shadow.standard..Object*, %shadow.standard..Object** getelementptr inbounds ([1 x %shadow.standard..Object*], [1 x %shadow.standard..Object*]* @_interfaceDatashadow.standard..ClassSet.ClassSetIterator, i32 0, i32 0)
+    %7 = bitcast %shadow.standard..Object* %6 to %shadow.standard..Iterator_methods*
+    %8 = insertvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } undef, %shadow.standard..Iterator_methods* %7, 0
+    %9 = bitcast %shadow.standard..ClassSet.ClassSetIterator* %5 to %shadow.standard..Object*
+    %10 = insertvalue { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %8, %shadow.standard..Object* %9, 1
+    ret { %shadow.standard..Iterator_methods*, %shadow.standard..Object* } %10
+}
+
+define %boolean @shadow.standard..ClassSet_Mremove_shadow.standard..Class(%shadow.standard..ClassSet*, %shadow.standard..Class*) {
+    %current = alloca %shadow.standard..ClassSet.Node*
+    %last = alloca %shadow.standard..ClassSet.Node*
+    %this = alloca %shadow.standard..ClassSet*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    store %shadow.standard..Class* %1, %shadow.standard..Class** %value
+    %3 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %5 = call %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class* %4)
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %6, i32 0, i32 3
+    %8 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %7
+    %9 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %8, 1, 0
+    %10 = call { %int, %int } @shadow.standard..ClassSet_MfindIndex_shadow.standard..String_int(%shadow.standard..ClassSet* %3, %shadow.standard..String* %5, %int %9)
+    %index.5 = extractvalue { %int, %int } %10, 0
+    %hash.6 = extractvalue { %int, %int } %10, 1
+    %last.7 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %last.7, %shadow.standard..ClassSet.Node** %last
+    %11 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %12 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %11, i32 0, i32 3
+    %13 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %12
+    %14 = bitcast %int %index.5 to %uint
+    %15 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %13, 1, 0
+    %16 = bitcast %int %15 to %uint
+    %17 = icmp ult %uint %14, %16
+    br %boolean %17, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %18 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %19 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %18, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %20 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %19, %int %index.5)
+    %21 = bitcast %shadow.standard..IndexOutOfBoundsException* %20 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %21) noreturn
+    unreachable
+_label5:
+    %22 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %13, 0
+    %23 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %22, %int %index.5
+    %24 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %23
+    %25 = icmp eq %shadow.standard..ClassSet.Node* %24, null
+    br %boolean %25, label %_label2, label %_label6
+_label6:
+    %current.8 = bitcast %shadow.standard..ClassSet.Node* %24 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %current.8, %shadow.standard..ClassSet.Node** %current
+    br label %_label8
+_label12:
+    %last.11 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %26 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %27 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %26)
+    %28 = icmp eq %shadow.standard..ClassSet.Node* %27, null
+    br %boolean %28, label %_label2, label %_label11
+_label11:
+    %current.12 = bitcast %shadow.standard..ClassSet.Node* %27 to %shadow.standard..ClassSet.Node*
+    %29 = insertvalue { %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node* } undef, %shadow.standard..ClassSet.Node* %last.11, 0
+    %30 = insertvalue { %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node* } %29, %shadow.standard..ClassSet.Node* %current.12, 1
+    store %shadow.standard..ClassSet.Node* %last.11, %shadow.standard..ClassSet.Node** %last
+    store %shadow.standard..ClassSet.Node* %current.12, %shadow.standard..ClassSet.Node** %current
+    br label %_label8
+_label8:
+    %index.56 = phi %int [ %index.5, %_label6 ],[ %index.56, %_label11 ]
+    %hash.17 = phi %int [ %hash.6, %_label6 ],[ %hash.17, %_label11 ]
+    %31 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %32 = call %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node* %31)
+    %33 = icmp eq %int %32, %hash.17
+    %_temp.9 = xor %boolean -1, %33
+    br %boolean %_temp.9, label %_label10, label %_label9
+_label10:
+    %34 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %35 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %34)
+    %36 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %37 = icmp eq %shadow.standard..Class* %35, %36
+    %_temp.10 = xor %boolean -1, %37
+    br label %_label9
+_label9:
+    %_temp.33 = phi %boolean [ %_temp.10, %_label10 ],[ %_temp.9, %_label8 ]
+    br %boolean %_temp.33, label %_label12, label %_label7
+_label7:
+    %38 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %last
+    %39 = icmp eq %shadow.standard..ClassSet.Node* %38, null
+    br %boolean %39, label %_label14, label %_label15
+_label15:
+    %40 = bitcast %shadow.standard..ClassSet.Node* %38 to %shadow.standard..ClassSet.Node*
+    %41 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %42 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %41)
+    call void @shadow.standard..ClassSet.Node_Mnext_shadow.standard..ClassSet.Node(%shadow.standard..ClassSet.Node* %40, %shadow.standard..ClassSet.Node* %42)
+    br label %_label13
+_label14:
+    %43 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %44 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %43, i32 0, i32 3
+    %45 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %44
+    %46 = bitcast %int %index.56 to %uint
+    %47 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %45, 1, 0
+    %48 = bitcast %int %47 to %uint
+    %49 = icmp ult %uint %46, %48
+    br %boolean %49, label %_label17, label %_label16
+_label17:
+    br label %_label18
+_label16:
+    %50 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %51 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %50, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %52 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %51, %int %index.56)
+    %53 = bitcast %shadow.standard..IndexOutOfBoundsException* %52 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %53) noreturn
+    unreachable
+_label18:
+    %54 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %current
+    %55 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %54)
+    %56 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %45, 0
+    %57 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %56, %int %index.56
+    store %shadow.standard..ClassSet.Node* %55, %shadow.standard..ClassSet.Node** %57
+    br label %_label13
+_label13:
+    %58 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %59 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %58, i32 0, i32 7
+    %60 = load %int, %int* %59
+    %61 = add %int %60, 1
+    %62 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %58, i32 0, i32 7
+    store %int %61, %int* %62
+    ret %boolean true
+_label2:
+    ret %boolean false
+}
+
+define %int @shadow.standard..ClassSet_Msize(%shadow.standard..ClassSet*) {
+    %this = alloca %shadow.standard..ClassSet*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet* %0, %shadow.standard..ClassSet** %this
+    %2 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %2, i32 0, i32 8
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class(%shadow.standard..Object* returned, %shadow.standard..ClassSet*, %int, %shadow.standard..Class*) {
+    %_outer = alloca %shadow.standard..ClassSet*
+    %this = alloca %shadow.standard..ClassSet.Node*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %this.0, %shadow.standard..ClassSet.Node** %this
+    store %shadow.standard..ClassSet* %1, %shadow.standard..ClassSet** %_outer
+    store %shadow.standard..Class* %3, %shadow.standard..Class** %value
+    %5 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %6 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %_outer
+    %7 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %5, i32 0, i32 2
+    store %shadow.standard..ClassSet* %6, %shadow.standard..ClassSet** %7
+    %8 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %9 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %_outer
+    %10 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %11 = bitcast %shadow.standard..ClassSet.Node* %8 to %shadow.standard..Object*
+    %12 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    %13 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* %11, %shadow.standard..ClassSet* %9, %int %2, %shadow.standard..Class* %10, %shadow.standard..ClassSet.Node* %12)
+    %14 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %15 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.Node*
+    ret %shadow.standard..ClassSet.Node* %15
+}
+
+define %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcreate_int_shadow.standard..Class_shadow.standard..ClassSet.Node(%shadow.standard..Object* returned, %shadow.standard..ClassSet*, %int, %shadow.standard..Class*, %shadow.standard..ClassSet.Node*) {
+    %_outer = alloca %shadow.standard..ClassSet*
+    %this = alloca %shadow.standard..ClassSet.Node*
+    %after = alloca %shadow.standard..ClassSet.Node*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.Node*
+    store %shadow.standard..ClassSet.Node* %this.0, %shadow.standard..ClassSet.Node** %this
+    store %shadow.standard..ClassSet* %1, %shadow.standard..ClassSet** %_outer
+    store %shadow.standard..Class* %3, %shadow.standard..Class** %value
+    store %shadow.standard..ClassSet.Node* %4, %shadow.standard..ClassSet.Node** %after
+    %6 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %7 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %_outer
+    %8 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %6, i32 0, i32 2
+    store %shadow.standard..ClassSet* %7, %shadow.standard..ClassSet** %8
+    %9 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %10 = bitcast %shadow.standard..ClassSet.Node* %9 to %shadow.standard..Object*
+    %11 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %10)
+    %12 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %13 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %14 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %15 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %15, i32 0, i32 5
+    store %int %2, %int* %16
+    %17 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %18 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    %19 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %17, i32 0, i32 4
+    store %shadow.standard..Class* %18, %shadow.standard..Class** %19
+    %20 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %21 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %after
+    %22 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %20, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %21, %shadow.standard..ClassSet.Node** %22
+    %23 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %24 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.Node*
+    ret %shadow.standard..ClassSet.Node* %24
+}
+
+define %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet.Node*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.Node* %0, %shadow.standard..ClassSet.Node** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %4 = ptrtoint %shadow.standard..ClassSet.Node* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..ClassSet.Node_methods* @shadow.standard..ClassSet.Node_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.Node_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..ClassSet.Node* getelementptr (%shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..ClassSet.Node_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..ClassSet.Node* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..ClassSet.Node*
+    %15 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %3, i32 0, i32 2
+    %16 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %15
+    %17 = icmp eq %shadow.standard..ClassSet* %16, null
+    br %boolean %17, label %_label4, label %_label3
+_label3:
+    %18 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet* %16, %shadow.standard..AddressMap* %5)
+    %19 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %14, i32 0, i32 2
+    store %shadow.standard..ClassSet* %18, %shadow.standard..ClassSet** %19
+    br label %_label4
+_label4:
+    %20 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %3, i32 0, i32 3
+    %21 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %20
+    %22 = icmp eq %shadow.standard..ClassSet.Node* %21, null
+    br %boolean %22, label %_label6, label %_label5
+_label5:
+    %23 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet.Node* %21, %shadow.standard..AddressMap* %5)
+    %24 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %14, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %23, %shadow.standard..ClassSet.Node** %24
+    br label %_label6
+_label6:
+    ret %shadow.standard..ClassSet.Node* %14
+_label2:
+    %25 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %26 = bitcast %shadow.standard..ulong* %25 to %shadow.standard..ulong*
+    %27 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %26, i32 0, i32 2
+    %28 = load %ulong, %ulong* %27
+    %29 = inttoptr %ulong %28 to %shadow.standard..ClassSet.Node*
+    ret %shadow.standard..ClassSet.Node* %29
+}
+
+define %int @shadow.standard..ClassSet.Node_Mhash(%shadow.standard..ClassSet.Node*) {
+    %this = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.Node* %0, %shadow.standard..ClassSet.Node** %this
+    %2 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %2, i32 0, i32 5
+    %4 = load %int, %int* %3
+    ret %int %4
+}
+
+define %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node*) {
+    %this = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.Node* %0, %shadow.standard..ClassSet.Node** %this
+    %2 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %2, i32 0, i32 3
+    %4 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %3
+    ret %shadow.standard..ClassSet.Node* %4
+}
+
+define void @shadow.standard..ClassSet.Node_Mnext_shadow.standard..ClassSet.Node(%shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node*) {
+    %this = alloca %shadow.standard..ClassSet.Node*
+    %value = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.Node* %0, %shadow.standard..ClassSet.Node** %this
+    store %shadow.standard..ClassSet.Node* %1, %shadow.standard..ClassSet.Node** %value
+    %3 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %4 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %value
+    %5 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %3, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %4, %shadow.standard..ClassSet.Node** %5
+    ret void
+}
+
+define %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node*) {
+    %this = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.Node* %0, %shadow.standard..ClassSet.Node** %this
+    %2 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet.Node, %shadow.standard..ClassSet.Node* %2, i32 0, i32 4
+    %4 = load %shadow.standard..Class*, %shadow.standard..Class** %3
+    ret %shadow.standard..Class* %4
+}
+
+define %shadow.standard..ClassSet.ClassSetIterator* @shadow.standard..ClassSet.ClassSetIterator_Mcreate(%shadow.standard..Object* returned, %shadow.standard..ClassSet*) {
+    %_outer = alloca %shadow.standard..ClassSet*
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    br label %_label0
+_label0:
+    %this.0 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.ClassSetIterator*
+    store %shadow.standard..ClassSet.ClassSetIterator* %this.0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    store %shadow.standard..ClassSet* %1, %shadow.standard..ClassSet** %_outer
+    %3 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %_outer
+    %5 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %3, i32 0, i32 2
+    store %shadow.standard..ClassSet* %4, %shadow.standard..ClassSet** %5
+    %6 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %7 = bitcast %shadow.standard..ClassSet.ClassSetIterator* %6 to %shadow.standard..Object*
+    %8 = call %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* %7)
+    %9 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %10 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %9, i32 0, i32 6
+    store %int 0, %int* %10
+    %11 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %12 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %11, i32 0, i32 5
+    store %int 0, %int* %12
+    %13 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %14 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %15 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %15, i32 0, i32 2
+    %17 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %16
+    %18 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %17, i32 0, i32 7
+    %19 = load %int, %int* %18
+    %20 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %14, i32 0, i32 4
+    store %int %19, %int* %20
+    %21 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    call void @shadow.standard..ClassSet.ClassSetIterator_MskipEmptyFixed(%shadow.standard..ClassSet.ClassSetIterator* %21)
+    %22 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %23 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %24 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    %25 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.ClassSetIterator_Mnext_shadow.standard..ClassSet.Node(%shadow.standard..ClassSet.ClassSetIterator* %23, %shadow.standard..ClassSet.Node* %24)
+    %26 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %22, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %25, %shadow.standard..ClassSet.Node** %26
+    %27 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %28 = bitcast %shadow.standard..Object* %0 to %shadow.standard..ClassSet.ClassSetIterator*
+    ret %shadow.standard..ClassSet.ClassSetIterator* %28
+}
+
+define void @shadow.standard..ClassSet.ClassSetIterator_MskipEmptyFixed(%shadow.standard..ClassSet.ClassSetIterator*) {
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    br label %_label2
+_label8:
+    %2 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %2, i32 0, i32 5
+    %4 = load %int, %int* %3
+    %5 = add %int %4, 1
+    %6 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %2, i32 0, i32 5
+    store %int %5, %int* %6
+    br label %_label2
+_label2:
+    %7 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %8 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %7, i32 0, i32 5
+    %9 = load %int, %int* %8
+    %10 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %11 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %10, i32 0, i32 2
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %11
+    %13 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %12, i32 0, i32 2
+    %14 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %13
+    %15 = extractvalue { %shadow.standard..Class**, [1 x %int] } %14, 1, 0
+    %_temp.2 = icmp slt %int %9, %15
+    br %boolean %_temp.2, label %_label7, label %_label6
+_label7:
+    %16 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %17 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %16, i32 0, i32 2
+    %18 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %17
+    %19 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %18, i32 0, i32 2
+    %20 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %19
+    %21 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %22 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %21, i32 0, i32 5
+    %23 = load %int, %int* %22
+    %24 = bitcast %int %23 to %uint
+    %25 = extractvalue { %shadow.standard..Class**, [1 x %int] } %20, 1, 0
+    %26 = bitcast %int %25 to %uint
+    %27 = icmp ult %uint %24, %26
+    br %boolean %27, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %28 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %29 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %28, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %30 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %29, %int %23)
+    %31 = bitcast %shadow.standard..IndexOutOfBoundsException* %30 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %31) noreturn
+    unreachable
+_label5:
+    %32 = extractvalue { %shadow.standard..Class**, [1 x %int] } %20, 0
+    %33 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %32, %int %23
+    %34 = load %shadow.standard..Class*, %shadow.standard..Class** %33
+    %35 = bitcast %shadow.standard..Object* null to %shadow.standard..Class*
+    %_temp.3 = icmp eq %shadow.standard..Class* %34, %35
+    br label %_label6
+_label6:
+    %_temp.10 = phi %boolean [ %_temp.2, %_label2 ],[ %_temp.3, %_label5 ]
+    br %boolean %_temp.10, label %_label8, label %_label1
+_label1:
+    ret void
+}
+
+define void @shadow.standard..ClassSet.ClassSetIterator_McheckForModifications(%shadow.standard..ClassSet.ClassSetIterator*) {
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %2 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %3 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %2, i32 0, i32 2
+    %4 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %3
+    %5 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %4, i32 0, i32 7
+    %6 = load %int, %int* %5
+    %7 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %8 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %7, i32 0, i32 4
+    %9 = load %int, %int* %8
+    %10 = icmp eq %int %6, %9
+    %11 = xor %boolean -1, %10
+    br %boolean %11, label %_label2, label %_label3
+_label2:
+    %12 = bitcast %shadow.utility..IllegalModificationException_methods* @shadow.utility..IllegalModificationException_methods to %shadow.standard..Object_methods*
+    %13 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.utility..IllegalModificationException_class, %shadow.standard..Object_methods* %12, %int ptrtoint (%shadow.utility..IllegalModificationException* getelementptr (%shadow.utility..IllegalModificationException, %shadow.utility..IllegalModificationException* null, i32 1) to i32))
+    %14 = call %shadow.utility..IllegalModificationException* @shadow.utility..IllegalModificationException_Mcreate(%shadow.standard..Object* %13)
+    %15 = bitcast %shadow.utility..IllegalModificationException* %14 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %15) noreturn
+    unreachable
+_label3:
+    ret void
+}
+
+define %shadow.standard..ClassSet.ClassSetIterator* @shadow.standard..ClassSet.ClassSetIterator_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..AddressMap*) {
+    %addresses = alloca %shadow.standard..AddressMap*
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    store %shadow.standard..AddressMap* %1, %shadow.standard..AddressMap** %addresses
+    %3 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %4 = ptrtoint %shadow.standard..ClassSet.ClassSetIterator* %3 to %ulong
+    %5 = load %shadow.standard..AddressMap*, %shadow.standard..AddressMap** %addresses
+    %6 = call %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    br %boolean %6, label %_label2, label %_label1
+_label1:
+    %7 = bitcast %shadow.standard..ClassSet.ClassSetIterator_methods* @shadow.standard..ClassSet.ClassSetIterator_methods to %shadow.standard..Object_methods*
+    %8 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..ClassSet.ClassSetIterator_class, %shadow.standard..Object_methods* %7, %int ptrtoint (%shadow.standard..ClassSet.ClassSetIterator* getelementptr (%shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* null, i32 1) to i32))
+    %9 = ptrtoint %shadow.standard..Object* %8 to %ulong
+    call void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap* %5, %ulong %4, %ulong %9)
+    %10 = getelementptr inbounds %shadow.standard..Class, %shadow.standard..Class* @shadow.standard..ClassSet.ClassSetIterator_class, i32 0, i32 9
+    %11 = load %int, %int* %10
+    %12 = bitcast %shadow.standard..Object* %8 to i8*
+    %13 = bitcast %shadow.standard..ClassSet.ClassSetIterator* %3 to i8*
+    call void @llvm.memcpy.p0i8.p0i8.i32(i8* %12, i8* %13, i32 %11, i32 1, i1 0)
+    %14 = bitcast %shadow.standard..Object* %8 to %shadow.standard..ClassSet.ClassSetIterator*
+    %15 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %3, i32 0, i32 2
+    %16 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %15
+    %17 = icmp eq %shadow.standard..ClassSet* %16, null
+    br %boolean %17, label %_label4, label %_label3
+_label3:
+    %18 = call %shadow.standard..ClassSet* @shadow.standard..ClassSet_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet* %16, %shadow.standard..AddressMap* %5)
+    %19 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %14, i32 0, i32 2
+    store %shadow.standard..ClassSet* %18, %shadow.standard..ClassSet** %19
+    br label %_label4
+_label4:
+    %20 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %3, i32 0, i32 3
+    %21 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %20
+    %22 = icmp eq %shadow.standard..ClassSet.Node* %21, null
+    br %boolean %22, label %_label6, label %_label5
+_label5:
+    %23 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mcopy_shadow.standard..AddressMap(%shadow.standard..ClassSet.Node* %21, %shadow.standard..AddressMap* %5)
+    %24 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %14, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %23, %shadow.standard..ClassSet.Node** %24
+    br label %_label6
+_label6:
+    ret %shadow.standard..ClassSet.ClassSetIterator* %14
+_label2:
+    %25 = call %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap* %5, %ulong %4)
+    %26 = bitcast %shadow.standard..ulong* %25 to %shadow.standard..ulong*
+    %27 = getelementptr inbounds %shadow.standard..ulong, %shadow.standard..ulong* %26, i32 0, i32 2
+    %28 = load %ulong, %ulong* %27
+    %29 = inttoptr %ulong %28 to %shadow.standard..ClassSet.ClassSetIterator*
+    ret %shadow.standard..ClassSet.ClassSetIterator* %29
+}
+
+define %boolean @shadow.standard..ClassSet.ClassSetIterator_MhasNext(%shadow.standard..ClassSet.ClassSetIterator*) {
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %2 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    call void @shadow.standard..ClassSet.ClassSetIterator_McheckForModifications(%shadow.standard..ClassSet.ClassSetIterator* %2)
+    %3 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %4 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %3, i32 0, i32 5
+    %5 = load %int, %int* %4
+    %6 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %6, i32 0, i32 2
+    %8 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %7
+    %9 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %8, i32 0, i32 2
+    %10 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %9
+    %11 = extractvalue { %shadow.standard..Class**, [1 x %int] } %10, 1, 0
+    %_temp.2 = icmp slt %int %5, %11
+    br %boolean %_temp.2, label %_label1, label %_label2
+_label2:
+    %12 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %13 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %12, i32 0, i32 3
+    %14 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %13
+    %15 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    %16 = icmp eq %shadow.standard..ClassSet.Node* %14, %15
+    %_temp.3 = xor %boolean -1, %16
+    br label %_label1
+_label1:
+    %_temp.5 = phi %boolean [ %_temp.3, %_label2 ],[ %_temp.2, %_label0 ]
+    ret %boolean %_temp.5
+}
+
+define %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.ClassSetIterator_Mnext_shadow.standard..ClassSet.Node(%shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.Node*) {
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    %position = alloca %shadow.standard..ClassSet.Node*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    store %shadow.standard..ClassSet.Node* %1, %shadow.standard..ClassSet.Node** %position
+    %3 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %position
+    %4 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    %5 = icmp eq %shadow.standard..ClassSet.Node* %3, %4
+    %6 = xor %boolean -1, %5
+    br %boolean %6, label %_label4, label %_label5
+_label4:
+    %7 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %position
+    %8 = icmp eq %shadow.standard..ClassSet.Node* %7, null
+    br %boolean %8, label %_label2, label %_label3
+_label3:
+    %9 = bitcast %shadow.standard..ClassSet.Node* %7 to %shadow.standard..ClassSet.Node*
+    %position.3 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.Node_Mnext(%shadow.standard..ClassSet.Node* %9)
+    store %shadow.standard..ClassSet.Node* %position.3, %shadow.standard..ClassSet.Node** %position
+    br label %_label5
+_label5:
+    br label %_label1
+_label2:
+    br label %_label1
+_label1:
+    br label %_label7
+_label13:
+    %10 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %11 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %10, i32 0, i32 2
+    %12 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %11
+    %13 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %12, i32 0, i32 3
+    %14 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %13
+    %15 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %16 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %15, i32 0, i32 6
+    %17 = load %int, %int* %16
+    %18 = bitcast %int %17 to %uint
+    %19 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %14, 1, 0
+    %20 = bitcast %int %19 to %uint
+    %21 = icmp ult %uint %18, %20
+    br %boolean %21, label %_label11, label %_label10
+_label11:
+    br label %_label12
+_label10:
+    %22 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %23 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %22, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %24 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %23, %int %17)
+    %25 = bitcast %shadow.standard..IndexOutOfBoundsException* %24 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %25) noreturn
+    unreachable
+_label12:
+    %26 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %14, 0
+    %27 = getelementptr inbounds %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %26, %int %17
+    %position.6 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %27
+    store %shadow.standard..ClassSet.Node* %position.6, %shadow.standard..ClassSet.Node** %position
+    %28 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %29 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %28, i32 0, i32 6
+    %30 = load %int, %int* %29
+    %31 = add %int %30, 1
+    %32 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %28, i32 0, i32 6
+    store %int %31, %int* %32
+    br label %_label7
+_label7:
+    %33 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %position
+    %34 = bitcast %shadow.standard..Object* null to %shadow.standard..ClassSet.Node*
+    %_temp.4 = icmp eq %shadow.standard..ClassSet.Node* %33, %34
+    br %boolean %_temp.4, label %_label9, label %_label8
+_label9:
+    %35 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %36 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %35, i32 0, i32 6
+    %37 = load %int, %int* %36
+    %38 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %39 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %38, i32 0, i32 2
+    %40 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %39
+    %41 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %40, i32 0, i32 3
+    %42 = load { %shadow.standard..ClassSet.Node**, [1 x %int] }, { %shadow.standard..ClassSet.Node**, [1 x %int] }* %41
+    %43 = extractvalue { %shadow.standard..ClassSet.Node**, [1 x %int] } %42, 1, 0
+    %_temp.5 = icmp slt %int %37, %43
+    br label %_label8
+_label8:
+    %_temp.23 = phi %boolean [ %_temp.5, %_label9 ],[ %_temp.4, %_label7 ]
+    br %boolean %_temp.23, label %_label13, label %_label6
+_label6:
+    %44 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %position
+    ret %shadow.standard..ClassSet.Node* %44
+}
+
+define %shadow.standard..Class* @shadow.standard..ClassSet.ClassSetIterator_Mnext(%shadow.standard..ClassSet.ClassSetIterator*) {
+    %value1 = alloca %shadow.standard..Class*
+    %this = alloca %shadow.standard..ClassSet.ClassSetIterator*
+    %value = alloca %shadow.standard..Class*
+    br label %_label0
+_label0:
+    store %shadow.standard..ClassSet.ClassSetIterator* %0, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %2 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    call void @shadow.standard..ClassSet.ClassSetIterator_McheckForModifications(%shadow.standard..ClassSet.ClassSetIterator* %2)
+    %3 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %4 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %3, i32 0, i32 5
+    %5 = load %int, %int* %4
+    %6 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %7 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %6, i32 0, i32 2
+    %8 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %7
+    %9 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %8, i32 0, i32 2
+    %10 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %9
+    %11 = extractvalue { %shadow.standard..Class**, [1 x %int] } %10, 1, 0
+    %12 = icmp slt %int %5, %11
+    br %boolean %12, label %_label8, label %_label9
+_label8:
+    %13 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %14 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %13, i32 0, i32 2
+    %15 = load %shadow.standard..ClassSet*, %shadow.standard..ClassSet** %14
+    %16 = getelementptr inbounds %shadow.standard..ClassSet, %shadow.standard..ClassSet* %15, i32 0, i32 2
+    %17 = load { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Class**, [1 x %int] }* %16
+    %18 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %19 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %18, i32 0, i32 5
+    %20 = load %int, %int* %19
+    %21 = bitcast %int %20 to %uint
+    %22 = extractvalue { %shadow.standard..Class**, [1 x %int] } %17, 1, 0
+    %23 = bitcast %int %22 to %uint
+    %24 = icmp ult %uint %21, %23
+    br %boolean %24, label %_label4, label %_label3
+_label4:
+    br label %_label5
+_label3:
+    %25 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %26 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %25, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %27 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* %26, %int %20)
+    %28 = bitcast %shadow.standard..IndexOutOfBoundsException* %27 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %28) noreturn
+    unreachable
+_label5:
+    %29 = extractvalue { %shadow.standard..Class**, [1 x %int] } %17, 0
+    %30 = getelementptr inbounds %shadow.standard..Class*, %shadow.standard..Class** %29, %int %20
+    %31 = load %shadow.standard..Class*, %shadow.standard..Class** %30
+    %32 = icmp eq %shadow.standard..Class* %31, null
+    br %boolean %32, label %_label2, label %_label6
+_label6:
+    %value.2 = bitcast %shadow.standard..Class* %31 to %shadow.standard..Class*
+    store %shadow.standard..Class* %value.2, %shadow.standard..Class** %value
+    %33 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %34 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %33, i32 0, i32 5
+    %35 = load %int, %int* %34
+    %36 = add %int %35, 1
+    %37 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %33, i32 0, i32 5
+    store %int %36, %int* %37
+    %38 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    call void @shadow.standard..ClassSet.ClassSetIterator_MskipEmptyFixed(%shadow.standard..ClassSet.ClassSetIterator* %38)
+    %39 = load %shadow.standard..Class*, %shadow.standard..Class** %value
+    ret %shadow.standard..Class* %39
+_label9:
+    store %shadow.standard..Class* undef, %shadow.standard..Class** %value1
+    %40 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %41 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %42 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %41, i32 0, i32 3
+    %43 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %42
+    %44 = icmp eq %shadow.standard..ClassSet.Node* %43, null
+    br %boolean %44, label %_label2, label %_label10
+_label10:
+    %45 = bitcast %shadow.standard..ClassSet.Node* %43 to %shadow.standard..ClassSet.Node*
+    %value1.4 = call %shadow.standard..Class* @shadow.standard..ClassSet.Node_Mvalue(%shadow.standard..ClassSet.Node* %45)
+    %46 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %47 = load %shadow.standard..ClassSet.ClassSetIterator*, %shadow.standard..ClassSet.ClassSetIterator** %this
+    %48 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %47, i32 0, i32 3
+    %49 = load %shadow.standard..ClassSet.Node*, %shadow.standard..ClassSet.Node** %48
+    %50 = call %shadow.standard..ClassSet.Node* @shadow.standard..ClassSet.ClassSetIterator_Mnext_shadow.standard..ClassSet.Node(%shadow.standard..ClassSet.ClassSetIterator* %46, %shadow.standard..ClassSet.Node* %49)
+    %51 = insertvalue { %shadow.standard..Class*, %shadow.standard..ClassSet.Node* } undef, %shadow.standard..Class* %value1.4, 0
+    %52 = insertvalue { %shadow.standard..Class*, %shadow.standard..ClassSet.Node* } %51, %shadow.standard..ClassSet.Node* %50, 1
+    store %shadow.standard..Class* %value1.4, %shadow.standard..Class** %value1
+    %53 = getelementptr inbounds %shadow.standard..ClassSet.ClassSetIterator, %shadow.standard..ClassSet.ClassSetIterator* %40, i32 0, i32 3
+    store %shadow.standard..ClassSet.Node* %50, %shadow.standard..ClassSet.Node** %53
+    %54 = load %shadow.standard..Class*, %shadow.standard..Class** %value1
+    ret %shadow.standard..Class* %54
+_label2:
+    %55 = bitcast %shadow.standard..IndexOutOfBoundsException_methods* @shadow.standard..IndexOutOfBoundsException_methods to %shadow.standard..Object_methods*
+    %56 = call noalias %shadow.standard..Object* @__shadow_allocateObject(%shadow.standard..Class* @shadow.standard..IndexOutOfBoundsException_class, %shadow.standard..Object_methods* %55, %int ptrtoint (%shadow.standard..IndexOutOfBoundsException* getelementptr (%shadow.standard..IndexOutOfBoundsException, %shadow.standard..IndexOutOfBoundsException* null, i32 1) to i32))
+    %57 = call %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate(%shadow.standard..Object* %56)
+    %58 = bitcast %shadow.standard..IndexOutOfBoundsException* %57 to %shadow.standard..Object*
+    call void @__shadow_throw(%shadow.standard..Object* %58) noreturn
+    unreachable
+}
+
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate(%shadow.standard..Class*, %shadow.standard..Object_methods*)
+declare noalias %shadow.standard..Object* @shadow.standard..Class_Mallocate_int(%shadow.standard..Class*, %int)
+declare %shadow.standard..Array* @shadow.standard..Array_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+declare %shadow.standard..ArrayNullable* @shadow.standard..ArrayNullable_Mcreate_int_A1_shadow.standard..Object(%shadow.standard..Object*, { %int*, [1 x %int] }, %shadow.standard..Object*)
+
+@_genericSet = external global %shadow.standard..ClassSet*
+@_arraySet = external global %shadow.standard..ClassSet*
+
+
+
+declare %boolean @shadow.standard..Class_MisSubtype_shadow.standard..Class(%shadow.standard..Class*, %shadow.standard..Class*)
+declare %float @shadow.standard..int_Mmultiply_float(%int, %float)
+declare %shadow.standard..Class* @shadow.standard..Object_MgetClass(%shadow.standard..Object*)
+declare %shadow.standard..CastException* @shadow.standard..CastException_Mcreate_shadow.standard..Class_shadow.standard..Class(%shadow.standard..Object* returned, %shadow.standard..Class*, %shadow.standard..Class*)
+declare %shadow.utility..IllegalModificationException* @shadow.utility..IllegalModificationException_Mcreate(%shadow.standard..Object* returned)
+declare %shadow.standard..String* @shadow.standard..Class_MtoString(%shadow.standard..Class*)
+declare %shadow.standard..GenericClass* @shadow.standard..GenericClass_Mcreate_shadow.standard..Class_shadow.standard..String_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* returned, %shadow.standard..Class*, %shadow.standard..String*, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })
+declare %int @shadow.standard..Class_Msize(%shadow.standard..Class*)
+declare %shadow.standard..Class* @shadow.standard..Class_Mcopy_shadow.standard..AddressMap(%shadow.standard..Class*, %shadow.standard..AddressMap*)
+declare %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate_int(%shadow.standard..Object* returned, %int)
+declare %boolean @shadow.standard..String_Mequal_shadow.standard..String(%shadow.standard..String*, %shadow.standard..String*)
+declare %shadow.standard..Object* @shadow.standard..Class_MinterfaceData_shadow.standard..Class_int(%shadow.standard..Class*, %shadow.standard..Class*, %int)
+declare void @shadow.standard..AddressMap_Mindex_ulong_ulong(%shadow.standard..AddressMap*, %ulong, %ulong)
+declare %shadow.standard..ulong* @shadow.standard..AddressMap_Mindex_ulong(%shadow.standard..AddressMap*, %ulong)
+declare %uint @shadow.standard..String_Mhash(%shadow.standard..String*)
+declare %shadow.standard..String* @shadow.standard..Class_MmakeName_shadow.standard..String_shadow.standard..Object_A1_int_int(%shadow.standard..Class*, %shadow.standard..String*, { %shadow.standard..Object**, [1 x %int] }, %int, %int)
+declare %shadow.standard..IndexOutOfBoundsException* @shadow.standard..IndexOutOfBoundsException_Mcreate(%shadow.standard..Object* returned)
+declare %uint @shadow.standard..uint_MbitShiftRight_int(%uint, %int)
+declare %shadow.standard..String* @shadow.standard..Object_MtoString(%shadow.standard..Object*)
+declare %int @shadow.standard..int_MbitShiftLeft_int(%int, %int)
+declare %shadow.standard..Class* @shadow.standard..Class_Mcreate_shadow.standard..String_int_int_shadow.standard..Class_shadow.standard..Class_A1_shadow.standard..Object_A1(%shadow.standard..Object* returned, %shadow.standard..String*, %int, %int, %shadow.standard..Class*, { %shadow.standard..Class**, [1 x %int] }, { %shadow.standard..Object**, [1 x %int] })
+declare %shadow.standard..AddressMap* @shadow.standard..AddressMap_Mcreate(%shadow.standard..Object* returned)
+declare %int @shadow.standard..Class_Mwidth(%shadow.standard..Class*)
+declare %boolean @shadow.standard..AddressMap_McontainsKey_ulong(%shadow.standard..AddressMap*, %ulong)
+declare %shadow.standard..Object* @shadow.standard..Object_Mcreate(%shadow.standard..Object* returned)
+
+@_array0 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<ulong>"
+@_string0 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array0, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array1 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<code>"
+@_string1 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array1, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array2 = private unnamed_addr constant [26 x %ubyte] c"shadow:standard@Array<int>"
+@_string2 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([26 x %byte], [26 x %byte]* @_array2, i32 0, i32 0), [1 x %int] [%int 26] }, %boolean true }
+@_array3 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanNegate<int>"
+@_string3 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array3, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array4 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<code>"
+@_string4 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array4, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array5 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@Object>"
+@_string5 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array5, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array6 = private unnamed_addr constant [42 x %ubyte] c"shadow:standard@CanIndexStore<ulong,ulong>"
+@_string6 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([42 x %byte], [42 x %byte]* @_array6, i32 0, i32 0), [1 x %int] [%int 42] }, %boolean true }
+@_array7 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanCompare<int>"
+@_string7 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array7, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array8 = private unnamed_addr constant [63 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@AddressMap:Node>"
+@_string8 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([63 x %byte], [63 x %byte]* @_array8, i32 0, i32 0), [1 x %int] [%int 63] }, %boolean true }
+@_array9 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanNegate<double>"
+@_string9 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array9, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array10 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanEqual<double>"
+@_string10 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array10, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array11 = private unnamed_addr constant [59 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@AddressMap:Node>"
+@_string11 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([59 x %byte], [59 x %byte]* @_array11, i32 0, i32 0), [1 x %int] [%int 59] }, %boolean true }
+@_array12 = private unnamed_addr constant [31 x %ubyte] c"shadow:utility@Map<ulong,ulong>"
+@_string12 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array12, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array13 = private unnamed_addr constant [66 x %ubyte] c"shadow:standard@CanIndexStoreNullable<int[],shadow:standard@Class>"
+@_string13 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([66 x %byte], [66 x %byte]* @_array13, i32 0, i32 0), [1 x %int] [%int 66] }, %boolean true }
+@_array14 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanDivide<int>"
+@_string14 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array14, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array15 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@CanAdd<int>"
+@_string15 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array15, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array16 = private unnamed_addr constant [40 x %ubyte] c"shadow:standard@CanIndexStore<int[],int>"
+@_string16 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([40 x %byte], [40 x %byte]* @_array16, i32 0, i32 0), [1 x %int] [%int 40] }, %boolean true }
+@_array17 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<long>"
+@_string17 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array17, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array18 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanEqual<int>"
+@_string18 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array18, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array19 = private unnamed_addr constant [59 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@Object>"
+@_string19 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([59 x %byte], [59 x %byte]* @_array19, i32 0, i32 0), [1 x %int] [%int 59] }, %boolean true }
+@_array20 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<ulong>"
+@_string20 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array20, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array21 = private unnamed_addr constant [54 x %ubyte] c"shadow:standard@Array<shadow:standard@AddressMap:Node>"
+@_string21 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([54 x %byte], [54 x %byte]* @_array21, i32 0, i32 0), [1 x %int] [%int 54] }, %boolean true }
+@_array22 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@Array<shadow:standard@Object>"
+@_string22 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array22, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array23 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<byte>"
+@_string23 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array23, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array24 = private unnamed_addr constant [57 x %ubyte] c"shadow:standard@CanIterateNullable<shadow:standard@Class>"
+@_string24 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([57 x %byte], [57 x %byte]* @_array24, i32 0, i32 0), [1 x %int] [%int 57] }, %boolean true }
+@_array25 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<float>"
+@_string25 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array25, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array26 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<uint>"
+@_string26 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array26, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array27 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<long>"
+@_string27 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array27, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array28 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<byte>"
+@_string28 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array28, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array29 = private unnamed_addr constant [44 x %ubyte] c"shadow:standard@Array<shadow:standard@Class>"
+@_string29 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([44 x %byte], [44 x %byte]* @_array29, i32 0, i32 0), [1 x %int] [%int 44] }, %boolean true }
+@_array30 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<long>"
+@_string30 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array30, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array31 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<uint>"
+@_string31 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array31, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array32 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@FloatingPoint<float>"
+@_string32 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array32, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array33 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Number<double>"
+@_string33 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array33, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array34 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<float>"
+@_string34 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array34, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array35 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<short>"
+@_string35 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array35, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array36 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<short>"
+@_string36 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array36, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array37 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<byte>"
+@_string37 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array37, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array38 = private unnamed_addr constant [36 x %ubyte] c"shadow:standard@CanIndex<int[],uint>"
+@_string38 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([36 x %byte], [36 x %byte]* @_array38, i32 0, i32 0), [1 x %int] [%int 36] }, %boolean true }
+@_array39 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanIterate<int>"
+@_string39 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array39, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array40 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<uint>"
+@_string40 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array40, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array41 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Integer<int>"
+@_string41 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array41, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array42 = private unnamed_addr constant [41 x %ubyte] c"shadow:utility@Set<shadow:standard@Class>"
+@_string42 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array42, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array43 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanIndex<int[],int>"
+@_string43 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array43, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array44 = private unnamed_addr constant [61 x %ubyte] c"shadow:standard@CanIndexNullable<int[],shadow:standard@Class>"
+@_string44 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([61 x %byte], [61 x %byte]* @_array44, i32 0, i32 0), [1 x %int] [%int 61] }, %boolean true }
+@_array45 = private unnamed_addr constant [68 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@AddressMap:Node>"
+@_string45 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([68 x %byte], [68 x %byte]* @_array45, i32 0, i32 0), [1 x %int] [%int 68] }, %boolean true }
+@_array46 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<uint>"
+@_string46 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array46, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array47 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<ulong>"
+@_string47 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array47, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array48 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<code>"
+@_string48 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array48, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array49 = private unnamed_addr constant [52 x %ubyte] c"shadow:standard@ArrayNullable<shadow:standard@Class>"
+@_string49 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([52 x %byte], [52 x %byte]* @_array49, i32 0, i32 0), [1 x %int] [%int 52] }, %boolean true }
+@_array50 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<ulong>"
+@_string50 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array50, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array51 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<long>"
+@_string51 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array51, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array52 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanMultiply<int>"
+@_string52 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array52, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array53 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<code>"
+@_string53 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array53, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array54 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanAdd<double>"
+@_string54 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array54, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array55 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<code>"
+@_string55 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array55, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array56 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<float>"
+@_string56 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array56, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array57 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Integer<uint>"
+@_string57 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array57, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array58 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<long>"
+@_string58 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array58, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array59 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<float>"
+@_string59 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array59, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array60 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<byte>"
+@_string60 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array60, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array61 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<short>"
+@_string61 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array61, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array62 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanNegate<float>"
+@_string62 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array62, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array63 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<float>"
+@_string63 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array63, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array64 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<byte>"
+@_string64 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array64, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array65 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanNegate<byte>"
+@_string65 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array65, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array66 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<byte>"
+@_string66 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array66, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array67 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanSubtract<int>"
+@_string67 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array67, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array68 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<long>"
+@_string68 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array68, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array69 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<long>"
+@_string69 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array69, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array70 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<uint>"
+@_string70 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array70, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array71 = private unnamed_addr constant [37 x %ubyte] c"shadow:standard@FloatingPoint<double>"
+@_string71 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([37 x %byte], [37 x %byte]* @_array71, i32 0, i32 0), [1 x %int] [%int 37] }, %boolean true }
+@_array72 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<code>"
+@_string72 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array72, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array73 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<ulong>"
+@_string73 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array73, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array74 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@CanAdd<long>"
+@_string74 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array74, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array75 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<short>"
+@_string75 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array75, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array76 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<byte>"
+@_string76 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array76, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array77 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanEqual<boolean>"
+@_string77 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array77, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array78 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanSubtract<short>"
+@_string78 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array78, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array79 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanIterate<uint>"
+@_string79 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array79, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array80 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanDivide<uint>"
+@_string80 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array80, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array81 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanIndex<int,byte>"
+@_string81 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array81, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array82 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<float>"
+@_string82 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array82, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array83 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<ulong>"
+@_string83 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array83, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array84 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<long>"
+@_string84 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array84, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array85 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanMultiply<short>"
+@_string85 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array85, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array86 = private unnamed_addr constant [60 x %ubyte] c"shadow:standard@CanIndexStore<shadow:standard@Class,boolean>"
+@_string86 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([60 x %byte], [60 x %byte]* @_array86, i32 0, i32 0), [1 x %int] [%int 60] }, %boolean true }
+@_array87 = private unnamed_addr constant [53 x %ubyte] c"shadow:standard@CanIndex<int[],shadow:standard@Class>"
+@_string87 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([53 x %byte], [53 x %byte]* @_array87, i32 0, i32 0), [1 x %int] [%int 53] }, %boolean true }
+@_array88 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<short>"
+@_string88 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array88, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array89 = private unnamed_addr constant [41 x %ubyte] c"shadow:standard@CanIndexStore<int[],uint>"
+@_string89 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([41 x %byte], [41 x %byte]* @_array89, i32 0, i32 0), [1 x %int] [%int 41] }, %boolean true }
+@_array90 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<byte>"
+@_string90 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array90, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array91 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<byte>"
+@_string91 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array91, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array92 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanEqual<float>"
+@_string92 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array92, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array93 = private unnamed_addr constant [45 x %ubyte] c"shadow:standard@CanIndexNullable<ulong,ulong>"
+@_string93 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([45 x %byte], [45 x %byte]* @_array93, i32 0, i32 0), [1 x %int] [%int 45] }, %boolean true }
+@_array94 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanSubtract<uint>"
+@_string94 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array94, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array95 = private unnamed_addr constant [48 x %ubyte] c"shadow:standard@CanEqual<shadow:standard@String>"
+@_string95 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([48 x %byte], [48 x %byte]* @_array95, i32 0, i32 0), [1 x %int] [%int 48] }, %boolean true }
+@_array96 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@Number<short>"
+@_string96 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array96, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array97 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanModulus<uint>"
+@_string97 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array97, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array98 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<long>"
+@_string98 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array98, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array99 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanSubtract<double>"
+@_string99 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array99, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array100 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanIterate<ulong>"
+@_string100 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array100, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array101 = private unnamed_addr constant [28 x %ubyte] c"shadow:standard@Number<code>"
+@_string101 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([28 x %byte], [28 x %byte]* @_array101, i32 0, i32 0), [1 x %int] [%int 28] }, %boolean true }
+@_array102 = private unnamed_addr constant [31 x %ubyte] c"shadow:standard@CanModulus<int>"
+@_string102 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([31 x %byte], [31 x %byte]* @_array102, i32 0, i32 0), [1 x %int] [%int 31] }, %boolean true }
+@_array103 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@Integer<short>"
+@_string103 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array103, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array104 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanCompare<double>"
+@_string104 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array104, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array105 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Object>"
+@_string105 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array105, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array106 = private unnamed_addr constant [35 x %ubyte] c"shadow:standard@CanMultiply<double>"
+@_string106 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([35 x %byte], [35 x %byte]* @_array106, i32 0, i32 0), [1 x %int] [%int 35] }, %boolean true }
+@_array107 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Number<int>"
+@_string107 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array107, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array108 = private unnamed_addr constant [49 x %ubyte] c"shadow:standard@CanIterate<shadow:standard@Class>"
+@_string108 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([49 x %byte], [49 x %byte]* @_array108, i32 0, i32 0), [1 x %int] [%int 49] }, %boolean true }
+@_array109 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanModulus<ulong>"
+@_string109 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array109, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array110 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanDivide<ulong>"
+@_string110 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array110, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array111 = private unnamed_addr constant [55 x %ubyte] c"shadow:standard@CanIndex<shadow:standard@Class,boolean>"
+@_string111 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([55 x %byte], [55 x %byte]* @_array111, i32 0, i32 0), [1 x %int] [%int 55] }, %boolean true }
+@_array112 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<short>"
+@_string112 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array112, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array113 = private unnamed_addr constant [27 x %ubyte] c"shadow:standard@Array<uint>"
+@_string113 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([27 x %byte], [27 x %byte]* @_array113, i32 0, i32 0), [1 x %int] [%int 27] }, %boolean true }
+@_array114 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanCompare<float>"
+@_string114 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array114, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array115 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanMultiply<code>"
+@_string115 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array115, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array116 = private unnamed_addr constant [47 x %ubyte] c"shadow:standard@Iterator<shadow:standard@Class>"
+@_string116 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([47 x %byte], [47 x %byte]* @_array116, i32 0, i32 0), [1 x %int] [%int 47] }, %boolean true }
+@_array117 = private unnamed_addr constant [34 x %ubyte] c"shadow:standard@CanModulus<double>"
+@_string117 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([34 x %byte], [34 x %byte]* @_array117, i32 0, i32 0), [1 x %int] [%int 34] }, %boolean true }
+@_array118 = private unnamed_addr constant [33 x %ubyte] c"shadow:standard@CanDivide<double>"
+@_string118 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([33 x %byte], [33 x %byte]* @_array118, i32 0, i32 0), [1 x %int] [%int 33] }, %boolean true }
+@_array119 = private unnamed_addr constant [50 x %ubyte] c"shadow:standard@CanCompare<shadow:standard@String>"
+@_string119 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([50 x %byte], [50 x %byte]* @_array119, i32 0, i32 0), [1 x %int] [%int 50] }, %boolean true }
+@_array120 = private unnamed_addr constant [29 x %ubyte] c"shadow:standard@CanAdd<ulong>"
+@_string120 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([29 x %byte], [29 x %byte]* @_array120, i32 0, i32 0), [1 x %int] [%int 29] }, %boolean true }
+@_array121 = private unnamed_addr constant [32 x %ubyte] c"shadow:standard@CanCompare<code>"
+@_string121 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([32 x %byte], [32 x %byte]* @_array121, i32 0, i32 0), [1 x %int] [%int 32] }, %boolean true }
+@_array122 = private unnamed_addr constant [30 x %ubyte] c"shadow:standard@CanEqual<code>"
+@_string122 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([30 x %byte], [30 x %byte]* @_array122, i32 0, i32 0), [1 x %int] [%int 30] }, %boolean true }
+@_array123 = private unnamed_addr constant [58 x %ubyte] c"shadow:standard@CanIndexStore<int[],shadow:standard@Class>"
+@_string123 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([58 x %byte], [58 x %byte]* @_array123, i32 0, i32 0), [1 x %int] [%int 58] }, %boolean true }
+@_array124 = private unnamed_addr constant [5 x %ubyte] c"int[]"
+@_string124 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([5 x %byte], [5 x %byte]* @_array124, i32 0, i32 0), [1 x %int] [%int 5] }, %boolean true }
+@_array125 = private unnamed_addr constant [24 x %ubyte] c"shadow:standard@ClassSet"
+@_string125 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([24 x %byte], [24 x %byte]* @_array125, i32 0, i32 0), [1 x %int] [%int 24] }, %boolean true }
+@_array126 = private unnamed_addr constant [13 x %ubyte] c"ClassSet:Node"
+@_string126 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([13 x %byte], [13 x %byte]* @_array126, i32 0, i32 0), [1 x %int] [%int 13] }, %boolean true }
+@_array127 = private unnamed_addr constant [25 x %ubyte] c"ClassSet:ClassSetIterator"
+@_string127 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([25 x %byte], [25 x %byte]* @_array127, i32 0, i32 0), [1 x %int] [%int 25] }, %boolean true }
+@_array128 = private unnamed_addr constant [18 x %ubyte] c"shadow:utility@Set"
+@_string128 = private unnamed_addr constant %shadow.standard..String { %shadow.standard..Class* @shadow.standard..String_class, %shadow.standard..String_methods* @shadow.standard..String_methods, { %byte*, [1 x %int] } { %byte* getelementptr inbounds ([18 x %byte], [18 x %byte]* @_array128, i32 0, i32 0), [1 x %int] [%int 18] }, %boolean true }